@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.benchmark;
+
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import com.authlete.common.web.BasicCredentials;
+import com.authlete.common.web.BearerToken;
+import com.authlete.common.web.DpopToken;
+
+
+/**
+ * Benchmarks of parsers of the {@code Authorization} header.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CredentialsBenchmark
+{
+    private static final String TOKEN = "wr5wSCbW1HGq1qdOAPlQ8ieTo0ZrSlM6R2GVmXQj0yM";
+
+    private final String mBearer = "Bearer " + TOKEN;
+    private final String mDpop = "DPoP " + TOKEN;
+    private final String mBasic = new BasicCredentials("my-client-id", "my-client-secret").format();
+
+
+    @Benchmark
+    public String bearerToken()
+    {
+        return BearerToken.parse(mBearer);
+    }
+
+
+    @Benchmark
+    public String dpopToken()
+    {
+        return DpopToken.parse(mDpop);
+    }
+
+
+    @Benchmark
+    public BasicCredentials basicCredentials()
+    {
+        return BasicCredentials.parse(mBasic);
+    }
+}
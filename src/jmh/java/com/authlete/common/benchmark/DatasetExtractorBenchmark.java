@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.benchmark;
+
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import com.authlete.common.ida.DatasetExtractor;
+import com.google.gson.Gson;
+
+
+/**
+ * Benchmarks of {@link DatasetExtractor#extract(Map, Map)} with the
+ * example dataset used by the unit tests.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DatasetExtractorBenchmark
+{
+    private static final String DATASET =
+            "/ekyc-ida/examples/response/evidence_with_assurance_details.json";
+
+    private static final String SIMPLE_REQUEST =
+            "{\"verification\":{\"trust_framework\":null},\"claims\":{\"given_name\":null}}";
+
+    private static final String EVIDENCE_REQUEST =
+            "{\"verification\":{\"trust_framework\":{\"value\":\"uk_tfida\"}," +
+            "\"assurance_level\":null,\"assurance_process\":{\"assurance_details\":[{" +
+            "\"assurance_type\":null,\"evidence_ref\":[{\"txn\":null}]}]}," +
+            "\"evidence\":[{\"type\":{\"value\":\"document\"},\"check_details\":[{\"check_method\":null}]," +
+            "\"document_details\":{\"type\":null,\"document_number\":null}}]}," +
+            "\"claims\":{\"given_name\":null,\"family_name\":null,\"birthdate\":null}}";
+
+
+    private final DatasetExtractor mExtractor =
+            new DatasetExtractor(OffsetDateTime.of(2022, 4, 1, 0, 0, 0, 0, ZoneOffset.UTC));
+    private Map<String, Object> mDataset;
+    private Map<String, Object> mSimpleRequest;
+    private Map<String, Object> mEvidenceRequest;
+
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() throws IOException
+    {
+        Gson gson = new Gson();
+
+        try (InputStream in = getClass().getResourceAsStream(DATASET);
+             Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8))
+        {
+            Map<String, Object> map = gson.fromJson(reader, Map.class);
+            mDataset = (Map<String, Object>)map.get("verified_claims");
+        }
+
+        mSimpleRequest   = gson.fromJson(SIMPLE_REQUEST, Map.class);
+        mEvidenceRequest = gson.fromJson(EVIDENCE_REQUEST, Map.class);
+    }
+
+
+    @Benchmark
+    public Map<String, Object> extractSimple()
+    {
+        return mExtractor.extract(mSimpleRequest, mDataset);
+    }
+
+
+    @Benchmark
+    public Map<String, Object> extractEvidence()
+    {
+        return mExtractor.extract(mEvidenceRequest, mDataset);
+    }
+}
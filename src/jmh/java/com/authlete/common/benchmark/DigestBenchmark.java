@@ -0,0 +1,58 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.benchmark;
+
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import com.authlete.common.util.digest.Digest;
+
+
+/**
+ * Benchmarks of {@link Digest}, including {@link Digest#updateJson(String)}
+ * which is implemented by {@code JsonDigestUpdater}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DigestBenchmark
+{
+    @Benchmark
+    public String updateString()
+    {
+        return Digest.getInstanceSHA256().update(JsonBenchmark.SERVICE_JSON).digestAsString();
+    }
+
+
+    @Benchmark
+    public String updateJson() throws IOException
+    {
+        return Digest.getInstanceSHA256().updateJson(JsonBenchmark.SERVICE_JSON).digestAsString();
+    }
+
+
+    @Benchmark
+    public String updateJsonNested() throws IOException
+    {
+        return Digest.getInstanceSHA256().updateJson(JsonBenchmark.GRANT_JSON).digestAsString();
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.benchmark;
+
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import com.authlete.common.types.ClientAuthMethod;
+import com.authlete.common.types.GrantType;
+import com.authlete.common.types.JWSAlg;
+import com.authlete.common.types.Prompt;
+import com.authlete.common.types.ResponseType;
+import com.authlete.common.types.SubjectType;
+
+
+/**
+ * Benchmarks of the {@code parse} methods of enums in the {@code types}
+ * package, which are called for every request parameter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EnumParseBenchmark
+{
+    // Non-constant fields prevent constant folding.
+    private String mGrantType = "urn:ietf:params:oauth:grant-type:device_code";
+    private String mClientAuthMethod = "private_key_jwt";
+    private String mJwsAlg = "ES256";
+    private String mResponseType = "code id_token";
+    private String mPrompt = "consent";
+    private String mSubjectType = "pairwise";
+    private String mUnknown = "unknown";
+
+
+    @Benchmark
+    public GrantType grantType()
+    {
+        return GrantType.parse(mGrantType);
+    }
+
+
+    @Benchmark
+    public ClientAuthMethod clientAuthMethod()
+    {
+        return ClientAuthMethod.parse(mClientAuthMethod);
+    }
+
+
+    @Benchmark
+    public JWSAlg jwsAlg()
+    {
+        return JWSAlg.parse(mJwsAlg);
+    }
+
+
+    @Benchmark
+    public ResponseType responseType()
+    {
+        return ResponseType.parse(mResponseType);
+    }
+
+
+    @Benchmark
+    public void misc(Blackhole blackhole)
+    {
+        blackhole.consume(Prompt.parse(mPrompt));
+        blackhole.consume(SubjectType.parse(mSubjectType));
+        blackhole.consume(GrantType.parse(mUnknown));
+    }
+}
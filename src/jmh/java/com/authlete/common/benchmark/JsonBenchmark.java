@@ -0,0 +1,152 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.benchmark;
+
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import com.authlete.common.dto.AuthzDetails;
+import com.authlete.common.dto.Client;
+import com.authlete.common.dto.Grant;
+import com.authlete.common.dto.Service;
+import com.authlete.common.util.GsonJsonCodec;
+import com.authlete.common.util.JacksonJsonCodec;
+import com.authlete.common.util.Utils;
+
+
+/**
+ * Benchmarks of {@link Utils#toJson(Object)} and {@link
+ * Utils#fromJson(String, Class)} with each {@link
+ * com.authlete.common.util.JsonCodec JsonCodec}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JsonBenchmark
+{
+    static final String SERVICE_JSON =
+            "{\"serviceName\":\"My Service\",\"issuer\":\"https://as.example.com\"," +
+            "\"supportedScopes\":[{\"name\":\"openid\",\"defaultEntry\":true}," +
+            "{\"name\":\"profile\",\"description\":\"Profile\"},{\"name\":\"email\"}]," +
+            "\"supportedResponseTypes\":[\"CODE\",\"CODE_ID_TOKEN\"]," +
+            "\"supportedGrantTypes\":[\"AUTHORIZATION_CODE\",\"REFRESH_TOKEN\",\"CLIENT_CREDENTIALS\"]," +
+            "\"supportedClaims\":[\"sub\",\"name\",\"given_name\",\"family_name\",\"email\"]," +
+            "\"accessTokenDuration\":3600," +
+            "\"attributes\":[{\"key\":\"tenant\",\"value\":\"a\"},{\"key\":\"region\",\"value\":\"eu\"}]}";
+
+    static final String CLIENT_JSON =
+            "{\"developer\":\"dev\",\"clientId\":1234567890,\"clientName\":\"My Client\"," +
+            "\"redirectUris\":[\"https://client.example.com/cb\",\"https://client.example.com/cb2\"]," +
+            "\"responseTypes\":[\"CODE\"],\"grantTypes\":[\"AUTHORIZATION_CODE\",\"REFRESH_TOKEN\"]," +
+            "\"tokenAuthMethod\":\"PRIVATE_KEY_JWT\"," +
+            "\"attributes\":[{\"key\":\"tier\",\"value\":\"gold\"}]}";
+
+    static final String AUTHZ_DETAILS_JSON =
+            "{\"elements\":[{\"type\":\"payment_initiation\"," +
+            "\"locations\":[\"https://example.com/payments\"]," +
+            "\"actions\":[\"initiate\",\"status\",\"cancel\"]," +
+            "\"otherFields\":\"{\\\"instructedAmount\\\":{\\\"currency\\\":\\\"EUR\\\",\\\"amount\\\":\\\"123.50\\\"}}\"}," +
+            "{\"type\":\"account_information\",\"actions\":[\"list_accounts\",\"read_balances\"]}]}";
+
+    static final String GRANT_JSON =
+            "{\"scopes\":[{\"scope\":\"openid\"},{\"scope\":\"payment\",\"resource\":[\"https://rs.example.com\"]}]," +
+            "\"claims\":[\"given_name\",\"family_name\"]," +
+            "\"authorizationDetails\":" + AUTHZ_DETAILS_JSON + "}";
+
+
+    @Param({ "gson", "jackson" })
+    public String codec;
+
+    private Service mService;
+    private Client mClient;
+    private AuthzDetails mAuthzDetails;
+    private Grant mGrant;
+
+
+    @Setup
+    public void setup()
+    {
+        Utils.setJsonCodec("jackson".equals(codec) ? new JacksonJsonCodec() : new GsonJsonCodec());
+
+        mService      = Utils.fromJson(SERVICE_JSON, Service.class);
+        mClient       = Utils.fromJson(CLIENT_JSON, Client.class);
+        mAuthzDetails = Utils.fromJson(AUTHZ_DETAILS_JSON, AuthzDetails.class);
+        mGrant        = Utils.fromJson(GRANT_JSON, Grant.class);
+    }
+
+
+    @Benchmark
+    public String serviceToJson()
+    {
+        return Utils.toJson(mService);
+    }
+
+
+    @Benchmark
+    public Service serviceFromJson()
+    {
+        return Utils.fromJson(SERVICE_JSON, Service.class);
+    }
+
+
+    @Benchmark
+    public String clientToJson()
+    {
+        return Utils.toJson(mClient);
+    }
+
+
+    @Benchmark
+    public Client clientFromJson()
+    {
+        return Utils.fromJson(CLIENT_JSON, Client.class);
+    }
+
+
+    @Benchmark
+    public String authzDetailsToJson()
+    {
+        return Utils.toJson(mAuthzDetails);
+    }
+
+
+    @Benchmark
+    public AuthzDetails authzDetailsFromJson()
+    {
+        return Utils.fromJson(AUTHZ_DETAILS_JSON, AuthzDetails.class);
+    }
+
+
+    @Benchmark
+    public String grantToJson()
+    {
+        return Utils.toJson(mGrant);
+    }
+
+
+    @Benchmark
+    public Grant grantFromJson()
+    {
+        return Utils.fromJson(GRANT_JSON, Grant.class);
+    }
+}
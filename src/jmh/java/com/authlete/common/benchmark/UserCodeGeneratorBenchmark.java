@@ -0,0 +1,54 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.benchmark;
+
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import com.authlete.common.types.UserCodeCharset;
+import com.authlete.common.util.UserCodeGenerator;
+
+
+/**
+ * Benchmarks of {@link UserCodeGenerator#generate()}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserCodeGeneratorBenchmark
+{
+    private final UserCodeGenerator mBase20 = new UserCodeGenerator(UserCodeCharset.BASE20, 8);
+    private final UserCodeGenerator mNumeric = new UserCodeGenerator(UserCodeCharset.NUMERIC, 9);
+
+
+    @Benchmark
+    public String base20()
+    {
+        return mBase20.generate();
+    }
+
+
+    @Benchmark
+    public String numeric()
+    {
+        return mNumeric.generate();
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/**
+ * JMH benchmarks of hot paths of this library.
+ *
+ * <p>
+ * The benchmarks are built and run by the {@code jmh} Maven profile.
+ * </p>
+ *
+ * <pre>
+ * mvn -P jmh test-compile exec:exec
+ * mvn -P jmh test-compile exec:exec -Djmh.args="-f 1 JsonBenchmark"
+ * </pre>
+ *
+ * <p>
+ * Results are written in JSON to {@code target/jmh-results-{version}.json}.
+ * Keep the file of each release to compare results across releases, e.g.
+ * with <a href="https://jmh.morethan.io/">JMH Visualizer</a>.
+ * </p>
+ */
+package com.authlete.common.benchmark;
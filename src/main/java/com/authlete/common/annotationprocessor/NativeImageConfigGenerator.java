@@ -0,0 +1,236 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.annotationprocessor;
+
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+import org.reflections.Reflections;
+import org.reflections.scanners.SubTypesScanner;
+import com.authlete.common.util.FieldTypeAdapterFactory;
+import com.google.gson.GsonBuilder;
+
+
+/**
+ * This class generates the reflection configuration of
+ * <a href="https://www.graalvm.org/latest/reference-manual/native-image/metadata/">GraalVM
+ * Native Image</a> for the classes which are converted to and from JSON.
+ * <p>
+ * Jackson binds DTOs through their declared fields and creates them by their
+ * no-argument constructors, and so does Gson for the classes which {@link
+ * TypeAdapterGenerator} has not generated an adapter for. Native images can
+ * do this only for classes registered for reflection, so this program
+ * registers all the classes in the {@link #PACKAGE_NAME} package and all the
+ * classes of this library which are reachable from their fields, including
+ * enums. The factory of the generated adapters is registered too, because
+ * {@link com.authlete.common.util.FieldTypeAdapterFactory#load(String)
+ * FieldTypeAdapterFactory.load(String)} looks it up by name.
+ * </p>
+ * <p>
+ * The configuration is written into {@code META-INF/native-image} of the
+ * artifact, where the {@code native-image} tool finds it automatically.
+ * </p>
+ *
+ * @since 4.47
+ */
+public class NativeImageConfigGenerator
+{
+    private static final Logger LOGGER = Logger.getLogger(NativeImageConfigGenerator.class.getName());
+
+    private static final String PACKAGE_NAME = "com.authlete.common.dto";
+
+    /**
+     * Classes in this package are followed when their fields are scanned.
+     */
+    private static final String LIBRARY_PACKAGE_PREFIX = "com.authlete.common.";
+
+    /**
+     * The file where the configuration is written to.
+     */
+    private static final String OUTPUT_FILE =
+            "target/classes/META-INF/native-image/com.authlete/authlete-java-common/reflect-config.json";
+
+
+    private NativeImageConfigGenerator()
+    {
+    }
+
+
+    /**
+     * Collect the given classes and the classes of this library which are
+     * reachable from their non-static fields, in the order of class names.
+     *
+     * @param roots the classes to start with
+     * @return the classes which need to be registered for reflection
+     */
+    static Collection<Class<?>> collect(Collection<Class<?>> roots)
+    {
+        Map<String, Class<?>> classes = new TreeMap<>();
+        Deque<Type> queue = new ArrayDeque<>(roots);
+
+        while (!queue.isEmpty())
+        {
+            Type type = queue.poll();
+
+            if (type instanceof ParameterizedType)
+            {
+                // e.g. List<Pair>, Map<String, Object>
+                for (Type argument : ((ParameterizedType)type).getActualTypeArguments())
+                {
+                    queue.add(argument);
+                }
+
+                continue;
+            }
+
+            if (type instanceof GenericArrayType)
+            {
+                queue.add(((GenericArrayType)type).getGenericComponentType());
+                continue;
+            }
+
+            if (!(type instanceof Class))
+            {
+                // Type variables and wildcards are not followed.
+                continue;
+            }
+
+            Class<?> clazz = (Class<?>)type;
+
+            while (clazz.isArray())
+            {
+                clazz = clazz.getComponentType();
+            }
+
+            if (!isTarget(clazz) || classes.containsKey(clazz.getName()))
+            {
+                continue;
+            }
+
+            classes.put(clazz.getName(), clazz);
+
+            if (clazz.getSuperclass() != null)
+            {
+                queue.add(clazz.getSuperclass());
+            }
+
+            for (Field field : clazz.getDeclaredFields())
+            {
+                if (!Modifier.isStatic(field.getModifiers()))
+                {
+                    queue.add(field.getGenericType());
+                }
+            }
+        }
+
+        return classes.values();
+    }
+
+
+    private static boolean isTarget(Class<?> clazz)
+    {
+        return clazz.getName().startsWith(LIBRARY_PACKAGE_PREFIX)
+                && !clazz.isInterface()
+                && !clazz.isAnonymousClass()
+                && !clazz.isSynthetic();
+    }
+
+
+    /**
+     * Build the entries of {@code reflect-config.json} for the given classes.
+     *
+     * @param classes the classes to register for reflection
+     * @return the entries of the configuration
+     */
+    static List<Map<String, Object>> buildConfig(Collection<Class<?>> classes)
+    {
+        List<Map<String, Object>> entries = new ArrayList<>();
+
+        for (Class<?> clazz : classes)
+        {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("name", clazz.getName());
+            entry.put("allDeclaredFields", true);
+            entry.put("allDeclaredConstructors", true);
+
+            if (clazz.isEnum())
+            {
+                // Enum constants are looked up by their names.
+                entry.put("allPublicMethods", true);
+            }
+
+            entries.add(entry);
+        }
+
+        return entries;
+    }
+
+
+    /**
+     * This program is run during the "process-classes" maven step.
+     * <p>
+     * This program writes the reflection configuration of the classes in the
+     * {@link NativeImageConfigGenerator#PACKAGE_NAME} package and the classes
+     * reachable from them into {@link #OUTPUT_FILE}.
+     * </p>
+     */
+    public static void main(String[] args) throws IOException
+    {
+        Reflections reflections = new Reflections(PACKAGE_NAME, new SubTypesScanner(false));
+        Set<Class<?>> roots = reflections.getSubTypesOf(Object.class);
+
+        List<Class<?>> classes = new ArrayList<>(collect(new ArrayList<>(roots)));
+
+        try
+        {
+            classes.add(Class.forName(PACKAGE_NAME + "." + FieldTypeAdapterFactory.GENERATED_CLASS_NAME));
+        }
+        catch (ClassNotFoundException e)
+        {
+            LOGGER.warning("The type adapters have not been generated.");
+        }
+
+        LOGGER.info(String.format("Registering %d class(es) reachable from package %s to %s",
+                classes.size(), PACKAGE_NAME, OUTPUT_FILE));
+
+        File file = new File(OUTPUT_FILE);
+        Files.createDirectories(file.getParentFile().toPath());
+
+        try (Writer writer = new OutputStreamWriter(Files.newOutputStream(file.toPath()), StandardCharsets.UTF_8))
+        {
+            new GsonBuilder().setPrettyPrinting().create().toJson(buildConfig(classes), writer);
+        }
+    }
+}
@@ -0,0 +1,706 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.annotationprocessor;
+
+
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+import org.reflections.Reflections;
+import org.reflections.scanners.SubTypesScanner;
+import com.authlete.common.util.FieldTypeAdapterFactory;
+import javassist.CannotCompileException;
+import javassist.ClassPool;
+import javassist.CtClass;
+import javassist.CtMethod;
+import javassist.CtNewConstructor;
+import javassist.CtNewMethod;
+import javassist.NotFoundException;
+import javassist.bytecode.AccessFlag;
+import javassist.bytecode.ClassFile;
+
+
+/**
+ * This class generates Gson type adapters for the classes which are converted
+ * to and from JSON, so that Gson does not have to bind them by reflection.
+ * <p>
+ * The private fields of a DTO class can be accessed only by the class itself.
+ * This program therefore adds two static methods to each DTO class, one
+ * writing the fields of the class and one reading a field by its name, and
+ * generates a subclass of {@link FieldTypeAdapterFactory} in the package of
+ * the DTO classes, which creates the instances and calls those methods.
+ * </p>
+ * <p>
+ * A class is skipped, and left to the reflective adapter of Gson, when the
+ * generated code cannot access it or its fields, for example when it has no
+ * non-private no-argument constructor, when it has final fields, or when
+ * its superclasses are in another package.
+ * </p>
+ *
+ * @since 4.47
+ */
+public class TypeAdapterGenerator
+{
+    private static final Logger LOGGER = Logger.getLogger(TypeAdapterGenerator.class.getName());
+
+    private static final String PACKAGE_NAME = "com.authlete.common.dto";
+
+    /**
+     * The class directory where the updated bytecode classes will be written to.
+     */
+    private static final String OUTPUT_CLASS_DIRECTORY = "target/classes";
+
+    /**
+     * The name of the method added to each class to write its fields.
+     */
+    static final String WRITE_METHOD = "gson$write";
+
+    /**
+     * The name of the method added to each class to read one of its fields.
+     */
+    static final String READ_METHOD = "gson$read";
+
+    private static final String FIELDS_CLASS = FieldTypeAdapterFactory.Fields.class.getName();
+
+    private static final String WRITER_CLASS = "com.google.gson.stream.JsonWriter";
+
+    private static final String READER_CLASS = "com.google.gson.stream.JsonReader";
+
+    private static final String TYPE_CLASS = "java.lang.reflect.Type";
+
+    private static final String TYPE_TOKEN_CLASS = "com.google.gson.reflect.TypeToken";
+
+    private static final String WRITE_PARAMETERS = WRITER_CLASS + " out, " + FIELDS_CLASS + " f, int offset";
+
+    private static final String READ_PARAMETERS =
+            "java.lang.String name, " + READER_CLASS + " in, " + FIELDS_CLASS + " f, int offset";
+
+    /**
+     * The maximum number of fields read or written by one method.
+     */
+    static final int CHUNK_SIZE = 32;
+
+
+    private TypeAdapterGenerator()
+    {
+    }
+
+
+    /**
+     * Get the fields which Gson binds, in the order Gson writes them, that
+     * is, the fields of the class before the fields of its superclasses.
+     *
+     * @param clazz the class
+     * @return the fields
+     */
+    static List<Field> boundFields(Class<?> clazz)
+    {
+        List<Field> fields = new ArrayList<>();
+
+        for (Class<?> c = clazz; c != Object.class; c = c.getSuperclass())
+        {
+            for (Field field : c.getDeclaredFields())
+            {
+                int modifiers = field.getModifiers();
+
+                if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers) && !field.isSynthetic())
+                {
+                    fields.add(field);
+                }
+            }
+        }
+
+        return fields;
+    }
+
+
+    /**
+     * Determine whether an adapter can be generated for the class.
+     *
+     * @param clazz the class
+     * @return {@code true} if the generated code can create instances of the
+     *         class and access all of its fields
+     */
+    static boolean isSupported(Class<?> clazz)
+    {
+        if (clazz.isInterface() || clazz.isEnum() || clazz.isArray() || clazz.isPrimitive()
+                || clazz.isAnonymousClass() || clazz.isLocalClass() || clazz.isSynthetic())
+        {
+            return false;
+        }
+
+        int modifiers = clazz.getModifiers();
+
+        // Gson does not convert inner classes.
+        if (Modifier.isAbstract(modifiers) || Modifier.isPrivate(modifiers)
+                || (clazz.isMemberClass() && !Modifier.isStatic(modifiers)))
+        {
+            return false;
+        }
+
+        try
+        {
+            Constructor<?> constructor = clazz.getDeclaredConstructor();
+
+            if (Modifier.isPrivate(constructor.getModifiers()))
+            {
+                return false;
+            }
+        }
+        catch (NoSuchMethodException e)
+        {
+            return false;
+        }
+
+        // The methods added to the superclasses must be accessible.
+        for (Class<?> c = clazz.getSuperclass(); c != Object.class; c = c.getSuperclass())
+        {
+            if (!c.getPackage().equals(clazz.getPackage()))
+            {
+                return false;
+            }
+        }
+
+        Set<String> names = new HashSet<>();
+
+        for (Field field : boundFields(clazz))
+        {
+            // Gson fails for a class declaring the same name twice.
+            if (!names.add(field.getName()) || Modifier.isFinal(field.getModifiers()))
+            {
+                return false;
+            }
+
+            if (!isInline(field.getType()) && typeExpression(field.getGenericType(), clazz.getPackage()) == null)
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Types whose values the generated code reads and writes by itself.
+     */
+    private static boolean isInline(Class<?> type)
+    {
+        return type == boolean.class || type == int.class || type == long.class || type == String.class;
+    }
+
+
+    /**
+     * Build the source of an expression evaluating to the type.
+     *
+     * @return the source, or {@code null} if the type cannot be expressed
+     */
+    static String typeExpression(Type type, Package pkg)
+    {
+        if (type instanceof Class)
+        {
+            Class<?> clazz = (Class<?>)type;
+
+            if (clazz.isPrimitive())
+            {
+                return wrapperOf(clazz).getName() + ".TYPE";
+            }
+
+            Class<?> component = clazz;
+
+            while (component.isArray())
+            {
+                component = component.getComponentType();
+            }
+
+            if (!component.isPrimitive() && !isAccessible(component, pkg))
+            {
+                return null;
+            }
+
+            return clazz.getTypeName() + ".class";
+        }
+
+        if (type instanceof ParameterizedType)
+        {
+            // e.g. Map<String, List<String>>
+            ParameterizedType parameterized = (ParameterizedType)type;
+            StringBuilder source = new StringBuilder();
+
+            String raw = typeExpression(parameterized.getRawType(), pkg);
+
+            if (raw == null)
+            {
+                return null;
+            }
+
+            source.append(TYPE_TOKEN_CLASS).append(".getParameterized(").append(raw)
+                  .append(", new ").append(TYPE_CLASS).append("[] {");
+
+            Type[] arguments = parameterized.getActualTypeArguments();
+
+            for (int i = 0; i < arguments.length; i++)
+            {
+                String argument = typeExpression(arguments[i], pkg);
+
+                if (argument == null)
+                {
+                    return null;
+                }
+
+                source.append(i == 0 ? " " : ", ").append(argument);
+            }
+
+            return source.append(" }).getType()").toString();
+        }
+
+        if (type instanceof GenericArrayType)
+        {
+            String component = typeExpression(((GenericArrayType)type).getGenericComponentType(), pkg);
+
+            return (component == null) ? null
+                    : TYPE_TOKEN_CLASS + ".getArray(" + component + ").getType()";
+        }
+
+        // Type variables and wildcards are not supported.
+        return null;
+    }
+
+
+    private static boolean isAccessible(Class<?> clazz, Package pkg)
+    {
+        for (Class<?> c = clazz; c != null; c = c.getEnclosingClass())
+        {
+            int modifiers = c.getModifiers();
+
+            if (Modifier.isPrivate(modifiers)
+                    || (!Modifier.isPublic(modifiers) && !pkg.equals(c.getPackage())))
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+
+    private static Class<?> wrapperOf(Class<?> primitive)
+    {
+        if (primitive == boolean.class) return Boolean.class;
+        if (primitive == byte.class)    return Byte.class;
+        if (primitive == char.class)    return Character.class;
+        if (primitive == short.class)   return Short.class;
+        if (primitive == int.class)     return Integer.class;
+        if (primitive == long.class)    return Long.class;
+        if (primitive == float.class)   return Float.class;
+        return Double.class;
+    }
+
+
+    /**
+     * Build the sources of the static methods which write the fields declared
+     * by the class, and then let its superclass write its own fields. The
+     * fields are written by methods of {@link #CHUNK_SIZE} fields each,
+     * because the JIT compiler does not compile huge methods.
+     *
+     * @return the sources, the method called by the others last
+     */
+    static List<String> writeMethods(Class<?> clazz)
+    {
+        List<Field> fields = declaredFields(clazz);
+        List<String> methods = new ArrayList<>();
+        StringBuilder entry = new StringBuilder(signature("void", WRITE_METHOD, clazz, WRITE_PARAMETERS));
+
+        for (int start = 0; start < fields.size(); start += CHUNK_SIZE)
+        {
+            String chunk = WRITE_METHOD + "$" + (start / CHUNK_SIZE);
+            StringBuilder source = new StringBuilder(signature("void", chunk, clazz, WRITE_PARAMETERS));
+
+            for (int i = start; i < Math.min(start + CHUNK_SIZE, fields.size()); i++)
+            {
+                source.append(writeStatement(clazz, fields.get(i), i));
+            }
+
+            methods.add(source.append("}").toString());
+            entry.append(chunk).append("(o, out, f, offset);");
+        }
+
+        if (clazz.getSuperclass() != Object.class)
+        {
+            entry.append(clazz.getSuperclass().getTypeName()).append(".").append(WRITE_METHOD)
+                 .append("(o, out, f, offset + ").append(fields.size()).append(");");
+        }
+
+        methods.add(entry.append("}").toString());
+
+        return methods;
+    }
+
+
+    private static String writeStatement(Class<?> clazz, Field field, int index)
+    {
+        Class<?> type = field.getType();
+        String value = "o." + field.getName();
+        String writeName = "out.name(\"" + field.getName() + "\");";
+
+        if (type == boolean.class || type == String.class)
+        {
+            return writeName + "out.value(" + value + ");";
+        }
+
+        if (type == int.class || type == long.class)
+        {
+            return writeName + "out.value((long)" + value + ");";
+        }
+
+        if (type.isPrimitive())
+        {
+            return writeName + "f.write(out, offset + " + index + ", "
+                 + wrapperOf(type).getName() + ".valueOf(" + value + "));";
+        }
+
+        String statement = writeName + "f.write(out, offset + " + index + ", " + value + ");";
+
+        // Gson does not write a field referring to the object itself.
+        return type.isAssignableFrom(clazz) ? "if (" + value + " != o) {" + statement + "}" : statement;
+    }
+
+
+    /**
+     * Build the sources of the static methods which read the field of the
+     * given name, or let the superclass read it. Like the fields written,
+     * the fields read are split into methods of {@link #CHUNK_SIZE} fields.
+     *
+     * @return the sources, the method called by the others last
+     */
+    static List<String> readMethods(Class<?> clazz)
+    {
+        List<Field> fields = declaredFields(clazz);
+        List<String> methods = new ArrayList<>();
+        StringBuilder entry = new StringBuilder(signature("boolean", READ_METHOD, clazz, READ_PARAMETERS));
+
+        for (int start = 0; start < fields.size(); start += CHUNK_SIZE)
+        {
+            String chunk = READ_METHOD + "$" + (start / CHUNK_SIZE);
+            StringBuilder source = new StringBuilder(signature("boolean", chunk, clazz, READ_PARAMETERS));
+
+            // Look up the field by the hash code of its name first.
+            Map<Integer, List<Integer>> buckets = new TreeMap<>();
+
+            for (int i = start; i < Math.min(start + CHUNK_SIZE, fields.size()); i++)
+            {
+                buckets.computeIfAbsent(fields.get(i).getName().hashCode(), k -> new ArrayList<>()).add(i);
+            }
+
+            source.append("switch (name.hashCode()) {");
+
+            for (Map.Entry<Integer, List<Integer>> bucket : buckets.entrySet())
+            {
+                source.append("case ").append(bucket.getKey()).append(":");
+
+                for (int i : bucket.getValue())
+                {
+                    Field field = fields.get(i);
+
+                    source.append("if (name.equals(\"").append(field.getName()).append("\")) {")
+                          .append(readStatement(field, i)).append("return true; }");
+                }
+
+                source.append("break;");
+            }
+
+            methods.add(source.append("} return false; }").toString());
+            entry.append("if (").append(chunk).append("(o, name, in, f, offset)) return true;");
+        }
+
+        if (clazz.getSuperclass() != Object.class)
+        {
+            entry.append("return ").append(clazz.getSuperclass().getTypeName()).append(".")
+                 .append(READ_METHOD).append("(o, name, in, f, offset + ").append(fields.size()).append(");");
+        }
+        else
+        {
+            entry.append("return false;");
+        }
+
+        methods.add(entry.append("}").toString());
+
+        return methods;
+    }
+
+
+    private static String signature(String returnType, String name, Class<?> clazz, String parameters)
+    {
+        return "static " + returnType + " " + name + "(" + clazz.getTypeName() + " o, "
+             + parameters + ") throws java.io.IOException {";
+    }
+
+
+    private static String readStatement(Field field, int index)
+    {
+        Class<?> type = field.getType();
+        String target = "o." + field.getName() + " = ";
+
+        if (type == String.class)
+        {
+            return target + FIELDS_CLASS + ".readString(in);";
+        }
+
+        if (type == boolean.class || type == int.class || type == long.class)
+        {
+            // A JSON null leaves a field of a primitive type unchanged.
+            String reader = (type == boolean.class) ? "readBoolean" : (type == int.class) ? "readInt" : "readLong";
+
+            return "if (!" + FIELDS_CLASS + ".nextNull(in)) " + target + FIELDS_CLASS + "." + reader + "(in);";
+        }
+
+        if (type.isPrimitive())
+        {
+            String wrapper = wrapperOf(type).getName();
+
+            return "java.lang.Object v = f.read(in, offset + " + index + ");"
+                 + "if (v != null) " + target + "((" + wrapper + ")v)." + type.getName() + "Value();";
+        }
+
+        return target + "(" + type.getTypeName() + ")f.read(in, offset + " + index + ");";
+    }
+
+
+    /**
+     * The bound fields declared by the class itself.
+     */
+    private static List<Field> declaredFields(Class<?> clazz)
+    {
+        List<Field> fields = new ArrayList<>();
+
+        for (Field field : boundFields(clazz))
+        {
+            if (field.getDeclaringClass() == clazz)
+            {
+                fields.add(field);
+            }
+        }
+
+        return fields;
+    }
+
+
+    private static int depth(Class<?> clazz)
+    {
+        int depth = 0;
+
+        for (Class<?> c = clazz; c != null; c = c.getSuperclass())
+        {
+            depth++;
+        }
+
+        return depth;
+    }
+
+
+    /**
+     * Add the methods to the class file, replacing the ones added by an
+     * earlier build.
+     */
+    private static void addMethods(ClassPool pool, Class<?> clazz, String outputDirectory)
+            throws NotFoundException, CannotCompileException, IOException
+    {
+        CtClass ctClass = pool.get(clazz.getName());
+
+        if (ctClass.isFrozen())
+        {
+            ctClass.defrost();
+        }
+
+        for (CtMethod existing : ctClass.getDeclaredMethods())
+        {
+            if (existing.getName().startsWith(WRITE_METHOD) || existing.getName().startsWith(READ_METHOD))
+            {
+                ctClass.removeMethod(existing);
+            }
+        }
+
+        List<String> sources = new ArrayList<>(writeMethods(clazz));
+        sources.addAll(readMethods(clazz));
+
+        for (String source : sources)
+        {
+            CtMethod method = CtNewMethod.make(source, ctClass);
+
+            // Package-private and hidden from the compiler.
+            method.getMethodInfo().setAccessFlags(AccessFlag.STATIC | AccessFlag.SYNTHETIC);
+            ctClass.addMethod(method);
+        }
+
+        ctClass.writeFile(outputDirectory);
+    }
+
+
+    /**
+     * Build the source of the subclass of {@link FieldTypeAdapterFactory}
+     * generated for the classes, as a list of its methods.
+     */
+    static List<String> factoryMethods(List<Class<?>> classes)
+    {
+        StringBuilder indexOf      = new StringBuilder("protected int indexOf(java.lang.Class k) {");
+        StringBuilder fieldTypes   = new StringBuilder("protected " + TYPE_CLASS + "[] fieldTypes(int id) { switch (id) {");
+        StringBuilder newInstance  = new StringBuilder("protected java.lang.Object newInstance(int id) { switch (id) {");
+        StringBuilder writeFields  = new StringBuilder("protected void writeFields(int id, java.lang.Object o, ")
+                .append(WRITER_CLASS).append(" out, ").append(FIELDS_CLASS).append(" f) throws java.io.IOException { switch (id) {");
+        StringBuilder readField    = new StringBuilder("protected boolean readField(int id, java.lang.Object o, java.lang.String name, ")
+                .append(READER_CLASS).append(" in, ").append(FIELDS_CLASS).append(" f) throws java.io.IOException { switch (id) {");
+
+        for (int id = 0; id < classes.size(); id++)
+        {
+            Class<?> clazz = classes.get(id);
+            String name = clazz.getTypeName();
+
+            indexOf.append("if (k == ").append(name).append(".class) return ").append(id).append(";");
+
+            List<Field> fields = boundFields(clazz);
+
+            fieldTypes.append("case ").append(id).append(": return new ").append(TYPE_CLASS);
+
+            if (fields.isEmpty())
+            {
+                // The compiler does not accept an empty array initializer.
+                fieldTypes.append("[0];");
+            }
+            else
+            {
+                fieldTypes.append("[] {");
+
+                for (int i = 0; i < fields.size(); i++)
+                {
+                    Field field = fields.get(i);
+
+                    fieldTypes.append(i == 0 ? " " : ", ").append(isInline(field.getType())
+                            ? "null" : typeExpression(field.getGenericType(), clazz.getPackage()));
+                }
+
+                fieldTypes.append(" };");
+            }
+
+            newInstance.append("case ").append(id).append(": return new ").append(name).append("();");
+
+            writeFields.append("case ").append(id).append(": ").append(name).append(".").append(WRITE_METHOD)
+                       .append("((").append(name).append(")o, out, f, 0); return;");
+
+            readField.append("case ").append(id).append(": return ").append(name).append(".").append(READ_METHOD)
+                     .append("((").append(name).append(")o, name, in, f, 0);");
+        }
+
+        List<String> methods = new ArrayList<>();
+        methods.add(indexOf.append("return -1; }").toString());
+        methods.add(fieldTypes.append("} return null; }").toString());
+        methods.add(newInstance.append("} return null; }").toString());
+        methods.add(writeFields.append("} }").toString());
+        methods.add(readField.append("} return false; }").toString());
+
+        return methods;
+    }
+
+
+    /**
+     * Generate the factory class of the package, and add the methods it
+     * calls to the classes.
+     */
+    private static void generate(ClassPool pool, String packageName, List<Class<?>> classes, String outputDirectory)
+            throws NotFoundException, CannotCompileException, IOException
+    {
+        // A class calls the methods of its superclass, which therefore have
+        // to be added first.
+        List<Class<?>> sorted = new ArrayList<>(classes);
+        sorted.sort(Comparator.comparingInt(TypeAdapterGenerator::depth));
+
+        for (Class<?> clazz : sorted)
+        {
+            addMethods(pool, clazz, outputDirectory);
+        }
+
+        String name = packageName + "." + FieldTypeAdapterFactory.GENERATED_CLASS_NAME;
+        CtClass factory = pool.getOrNull(name);
+
+        if (factory != null)
+        {
+            factory.detach();
+        }
+
+        factory = pool.makeClass(name, pool.get(FieldTypeAdapterFactory.class.getName()));
+        factory.getClassFile().setMajorVersion(ClassFile.JAVA_8);
+        factory.addConstructor(CtNewConstructor.defaultConstructor(factory));
+
+        for (String method : factoryMethods(classes))
+        {
+            factory.addMethod(CtNewMethod.make(method, factory));
+        }
+
+        factory.writeFile(outputDirectory);
+
+        LOGGER.info(String.format("Generated %s with type adapters for %d class(es)", name, classes.size()));
+    }
+
+
+    /**
+     * This program is run during the "process-classes" maven step, after
+     * {@link JsonSetterAnnotationProcessor}.
+     * <p>
+     * This program generates the factory of the type adapters for the
+     * supported classes in the {@link TypeAdapterGenerator#PACKAGE_NAME}
+     * package.
+     * </p>
+     */
+    public static void main(String[] args) throws CannotCompileException, IOException, NotFoundException
+    {
+        Reflections reflections = new Reflections(PACKAGE_NAME, new SubTypesScanner(false));
+        Set<Class<?>> roots = reflections.getSubTypesOf(Object.class);
+
+        // The same classes as the ones registered for reflection, except
+        // those in other packages, which the factory cannot access.
+        List<Class<?>> classes = new ArrayList<>();
+
+        for (Class<?> clazz : NativeImageConfigGenerator.collect(new ArrayList<>(roots)))
+        {
+            if (!clazz.getPackage().getName().equals(PACKAGE_NAME) || clazz.isEnum())
+            {
+                continue;
+            }
+
+            if (isSupported(clazz))
+            {
+                classes.add(clazz);
+            }
+            else
+            {
+                LOGGER.info(String.format("Skipping %s, which is left to the reflective adapter", clazz.getName()));
+            }
+        }
+
+        generate(ClassPool.getDefault(), PACKAGE_NAME, classes, OUTPUT_CLASS_DIRECTORY);
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+/**
+ * Details of an Authlete API call, which are passed to {@link
+ * ApiCallListener}.
+ *
+ * <p>
+ * Times are in nanoseconds. When a call is retried, the phase times and
+ * the byte counts are those of the last attempt while the total time
+ * covers all the attempts including backoff delays.
+ * </p>
+ *
+ * @since 4.47
+ */
+public class ApiCallEvent
+{
+    /**
+     * The outcome of an API call.
+     */
+    public enum Outcome
+    {
+        /**
+         * The API returned a successful response.
+         */
+        SUCCESS,
+
+
+        /**
+         * The API returned a 4xx response.
+         */
+        CLIENT_ERROR,
+
+
+        /**
+         * The API returned a 5xx response.
+         */
+        SERVER_ERROR,
+
+
+        /**
+         * The call failed without a response, e.g. by a connection error,
+         * or the response could not be processed.
+         */
+        ERROR,
+
+
+        /**
+         * The call was rejected by a circuit breaker or a bulkhead without
+         * being sent.
+         */
+        REJECTED,
+    }
+
+
+    private final String mMethod;
+    private final String mPathTemplate;
+    int statusCode;
+    Outcome outcome;
+    int attempts;
+    long requestBytes = -1;
+    long responseBytes = -1;
+    long totalTime;
+    long connectTime = -1;
+    long waitTime = -1;
+    long processTime = -1;
+    Throwable failure;
+
+
+    ApiCallEvent(String method, String pathTemplate)
+    {
+        mMethod       = method;
+        mPathTemplate = pathTemplate;
+    }
+
+
+    /**
+     * Get the HTTP method.
+     *
+     * @return
+     *         The HTTP method such as {@code "GET"}.
+     */
+    public String getMethod()
+    {
+        return mMethod;
+    }
+
+
+    /**
+     * Get the path template of the API, in which IDs and other variable
+     * segments are replaced with <code>{}</code>.
+     *
+     * @return
+     *         The path template such as <code>"/api/{}/auth/userinfo"</code>.
+     */
+    public String getPathTemplate()
+    {
+        return mPathTemplate;
+    }
+
+
+    /**
+     * Get the HTTP status code of the response.
+     *
+     * @return
+     *         The HTTP status code. 0 if no response was received.
+     */
+    public int getStatusCode()
+    {
+        return statusCode;
+    }
+
+
+    /**
+     * Get the outcome of the call.
+     *
+     * @return
+     *         The outcome.
+     */
+    public Outcome getOutcome()
+    {
+        return outcome;
+    }
+
+
+    /**
+     * Get the number of times the request was sent.
+     *
+     * @return
+     *         The number of attempts. 0 if the call was rejected before
+     *         sending the request.
+     */
+    public int getAttempts()
+    {
+        return attempts;
+    }
+
+
+    /**
+     * Get the size of the request body sent by the last attempt.
+     *
+     * @return
+     *         The number of bytes. -1 if not known.
+     */
+    public long getRequestBytes()
+    {
+        return requestBytes;
+    }
+
+
+    /**
+     * Get the size of the response body read from the connection. When
+     * the response is compressed, this is the compressed size.
+     *
+     * @return
+     *         The number of bytes. -1 if no response was received.
+     */
+    public long getResponseBytes()
+    {
+        return responseBytes;
+    }
+
+
+    /**
+     * Get the total time of the call.
+     *
+     * @return
+     *         The total time in nanoseconds.
+     */
+    public long getTotalTime()
+    {
+        return totalTime;
+    }
+
+
+    /**
+     * Get the time spent to establish the connection. Whether this time
+     * is measured depends on the {@link HttpTransport} implementation.
+     *
+     * @return
+     *         The connect time in nanoseconds. -1 if not measured.
+     *
+     * @see HttpTransportResponse#getConnectTime()
+     */
+    public long getConnectTime()
+    {
+        return connectTime;
+    }
+
+
+    /**
+     * Get the time from sending the request until the status line and
+     * the headers of the response were received, excluding the connect
+     * time.
+     *
+     * @return
+     *         The wait time in nanoseconds. -1 if no response was
+     *         received.
+     */
+    public long getWaitTime()
+    {
+        return waitTime;
+    }
+
+
+    /**
+     * Get the time spent to read the response body and convert it into
+     * the response object.
+     *
+     * @return
+     *         The processing time in nanoseconds. -1 if no response was
+     *         processed.
+     */
+    public long getProcessTime()
+    {
+        return processTime;
+    }
+
+
+    /**
+     * Get the exception thrown by the call.
+     *
+     * @return
+     *         The exception. {@code null} if the call did not throw one.
+     */
+    public Throwable getFailure()
+    {
+        return failure;
+    }
+}
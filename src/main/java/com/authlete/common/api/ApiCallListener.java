@@ -0,0 +1,45 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+/**
+ * Listener of Authlete API calls.
+ *
+ * <p>
+ * A listener set by {@link Settings#setApiCallListener(ApiCallListener)}
+ * is notified of every API call made by the {@link AuthleteApi}
+ * implementations included in this library, including calls which are
+ * rejected by a circuit breaker or a bulkhead. The listener is called
+ * synchronously by the thread which made the API call, so it should
+ * return quickly. Exceptions thrown by the listener are ignored.
+ * </p>
+ *
+ * @since 4.47
+ *
+ * @see ApiCallMetrics
+ */
+@FunctionalInterface
+public interface ApiCallListener
+{
+    /**
+     * Called when an API call has completed, successfully or not.
+     *
+     * @param event
+     *         The details of the API call.
+     */
+    void onApiCall(ApiCallEvent event);
+}
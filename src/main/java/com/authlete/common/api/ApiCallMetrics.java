@@ -0,0 +1,267 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+
+/**
+ * An {@link ApiCallListener} which aggregates statistics of API calls per
+ * API, i.e. per pair of HTTP method and path template.
+ *
+ * <p>
+ * Latencies are recorded into log-linear histograms, so percentiles are
+ * available with a small relative error and a fixed memory footprint.
+ * Statistics can be read by {@link #getStatistics()} or through JMX after
+ * {@link #register(String)} is called.
+ * </p>
+ *
+ * <pre style="border: 1px solid black; padding: 0.5em; margin: 0.5em;">
+ * ApiCallMetrics metrics = new ApiCallMetrics();
+ * api.{@link AuthleteApi#getSettings() getSettings()}.{@link
+ * Settings#setApiCallListener(ApiCallListener) setApiCallListener}(metrics);
+ *
+ * <span style="color: green;">// com.authlete.common.api:type=ApiCallMetrics,name=authlete</span>
+ * metrics.register("authlete");
+ * </pre>
+ *
+ * @since 4.47
+ */
+public class ApiCallMetrics implements ApiCallListener, ApiCallMetricsMXBean
+{
+    private static final double NANOS_PER_MILLI = 1000000.0;
+
+
+    private static class Endpoint
+    {
+        final String method;
+        final String pathTemplate;
+        final LatencyHistogram totalTimes = new LatencyHistogram();
+        final LongAdder errors = new LongAdder();
+        final ConcurrentMap<Integer, LongAdder> statusCodes = new ConcurrentHashMap<>();
+        final LongAdder connectTime = new LongAdder();
+        final LongAdder connectCount = new LongAdder();
+        final LongAdder waitTime = new LongAdder();
+        final LongAdder waitCount = new LongAdder();
+        final LongAdder processTime = new LongAdder();
+        final LongAdder processCount = new LongAdder();
+        final LongAdder requestBytes = new LongAdder();
+        final LongAdder responseBytes = new LongAdder();
+
+
+        Endpoint(String method, String pathTemplate)
+        {
+            this.method       = method;
+            this.pathTemplate = pathTemplate;
+        }
+
+
+        void record(ApiCallEvent event)
+        {
+            totalTimes.record(event.getTotalTime());
+
+            if (event.getOutcome() != ApiCallEvent.Outcome.SUCCESS)
+            {
+                errors.increment();
+            }
+
+            if (event.getStatusCode() != 0)
+            {
+                statusCodes.computeIfAbsent(event.getStatusCode(), k -> new LongAdder()).increment();
+            }
+
+            add(connectTime, connectCount, event.getConnectTime());
+            add(waitTime, waitCount, event.getWaitTime());
+            add(processTime, processCount, event.getProcessTime());
+
+            requestBytes.add(Math.max(0, event.getRequestBytes()));
+            responseBytes.add(Math.max(0, event.getResponseBytes()));
+        }
+
+
+        private static void add(LongAdder sum, LongAdder count, long time)
+        {
+            // Negative values mean that the time was not measured.
+            if (time >= 0)
+            {
+                sum.add(time);
+                count.increment();
+            }
+        }
+
+
+        ApiCallStatistics snapshot()
+        {
+            Map<Integer, Long> counts = new TreeMap<>();
+
+            for (Map.Entry<Integer, LongAdder> entry : statusCodes.entrySet())
+            {
+                counts.put(entry.getKey(), entry.getValue().sum());
+            }
+
+            return new ApiCallStatistics(
+                    method, pathTemplate, totalTimes.count(), errors.sum(), counts,
+                    totalTimes.mean() / NANOS_PER_MILLI,
+                    totalTimes.percentile(50) / NANOS_PER_MILLI,
+                    totalTimes.percentile(90) / NANOS_PER_MILLI,
+                    totalTimes.percentile(99) / NANOS_PER_MILLI,
+                    totalTimes.max() / NANOS_PER_MILLI,
+                    mean(connectTime, connectCount),
+                    mean(waitTime, waitCount),
+                    mean(processTime, processCount),
+                    requestBytes.sum(), responseBytes.sum());
+        }
+
+
+        private static double mean(LongAdder sum, LongAdder count)
+        {
+            long n = count.sum();
+
+            return (n == 0) ? 0 : sum.sum() / NANOS_PER_MILLI / n;
+        }
+    }
+
+
+    private final ConcurrentMap<String, Endpoint> mEndpoints = new ConcurrentHashMap<>();
+    private ObjectName mObjectName;
+
+
+    @Override
+    public void onApiCall(ApiCallEvent event)
+    {
+        String key = event.getPathTemplate() + " " + event.getMethod();
+
+        Endpoint endpoint = mEndpoints.get(key);
+
+        if (endpoint == null)
+        {
+            endpoint = mEndpoints.computeIfAbsent(
+                    key, k -> new Endpoint(event.getMethod(), event.getPathTemplate()));
+        }
+
+        endpoint.record(event);
+    }
+
+
+    @Override
+    public long getTotalCount()
+    {
+        long total = 0;
+
+        for (Endpoint endpoint : mEndpoints.values())
+        {
+            total += endpoint.totalTimes.count();
+        }
+
+        return total;
+    }
+
+
+    @Override
+    public List<ApiCallStatistics> getStatistics()
+    {
+        List<ApiCallStatistics> list = new ArrayList<>();
+
+        for (Endpoint endpoint : new TreeMap<>(mEndpoints).values())
+        {
+            list.add(endpoint.snapshot());
+        }
+
+        return list;
+    }
+
+
+    @Override
+    public void reset()
+    {
+        mEndpoints.clear();
+    }
+
+
+    /**
+     * Register this instance to the platform MBean server with the object
+     * name {@code com.authlete.common.api:type=ApiCallMetrics,name={name}}.
+     *
+     * @param name
+     *         The value of the {@code name} key of the object name, which
+     *         distinguishes multiple instances.
+     *
+     * @return
+     *         The object name.
+     *
+     * @throws IllegalStateException
+     *         Failed to register this instance.
+     */
+    public synchronized ObjectName register(String name)
+    {
+        if (name == null)
+        {
+            throw new IllegalArgumentException("name is null.");
+        }
+
+        try
+        {
+            ObjectName objectName = new ObjectName(
+                    "com.authlete.common.api:type=ApiCallMetrics,name=" + ObjectName.quote(name));
+
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+            mObjectName = objectName;
+
+            return objectName;
+        }
+        catch (JMException e)
+        {
+            throw new IllegalStateException("Failed to register the MBean.", e);
+        }
+    }
+
+
+    /**
+     * Unregister this instance from the platform MBean server. This method
+     * does nothing if this instance has not been registered.
+     */
+    public synchronized void unregister()
+    {
+        if (mObjectName == null)
+        {
+            return;
+        }
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        try
+        {
+            server.unregisterMBean(mObjectName);
+        }
+        catch (JMException e)
+        {
+            // Already unregistered.
+        }
+
+        mObjectName = null;
+    }
+}
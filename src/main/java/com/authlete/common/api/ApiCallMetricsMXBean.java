@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+import java.util.List;
+
+
+/**
+ * The JMX view of {@link ApiCallMetrics}.
+ *
+ * @since 4.47
+ */
+public interface ApiCallMetricsMXBean
+{
+    /**
+     * Get the total number of API calls.
+     *
+     * @return
+     *         The total number of API calls.
+     */
+    long getTotalCount();
+
+
+    /**
+     * Get the statistics of each API.
+     *
+     * @return
+     *         The statistics of APIs which have been called, sorted by
+     *         the path templates and the HTTP methods.
+     */
+    List<ApiCallStatistics> getStatistics();
+
+
+    /**
+     * Clear the collected statistics.
+     */
+    void reset();
+}
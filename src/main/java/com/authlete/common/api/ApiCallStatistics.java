@@ -0,0 +1,256 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+import java.util.Map;
+
+
+/**
+ * A snapshot of statistics of calls of an Authlete API, which is
+ * collected by {@link ApiCallMetrics}.
+ *
+ * <p>
+ * Times are in milliseconds.
+ * </p>
+ *
+ * @since 4.47
+ */
+public class ApiCallStatistics
+{
+    private final String method;
+    private final String pathTemplate;
+    private final long count;
+    private final long errorCount;
+    private final Map<Integer, Long> statusCodeCounts;
+    private final double meanTime;
+    private final double p50Time;
+    private final double p90Time;
+    private final double p99Time;
+    private final double maxTime;
+    private final double meanConnectTime;
+    private final double meanWaitTime;
+    private final double meanProcessTime;
+    private final long requestBytes;
+    private final long responseBytes;
+
+
+    ApiCallStatistics(
+            String method, String pathTemplate, long count, long errorCount,
+            Map<Integer, Long> statusCodeCounts, double meanTime, double p50Time,
+            double p90Time, double p99Time, double maxTime, double meanConnectTime,
+            double meanWaitTime, double meanProcessTime, long requestBytes, long responseBytes)
+    {
+        this.method           = method;
+        this.pathTemplate     = pathTemplate;
+        this.count            = count;
+        this.errorCount       = errorCount;
+        this.statusCodeCounts = statusCodeCounts;
+        this.meanTime         = meanTime;
+        this.p50Time          = p50Time;
+        this.p90Time          = p90Time;
+        this.p99Time          = p99Time;
+        this.maxTime          = maxTime;
+        this.meanConnectTime  = meanConnectTime;
+        this.meanWaitTime     = meanWaitTime;
+        this.meanProcessTime  = meanProcessTime;
+        this.requestBytes     = requestBytes;
+        this.responseBytes    = responseBytes;
+    }
+
+
+    /**
+     * Get the HTTP method.
+     *
+     * @return
+     *         The HTTP method.
+     */
+    public String getMethod()
+    {
+        return method;
+    }
+
+
+    /**
+     * Get the path template of the API.
+     *
+     * @return
+     *         The path template such as <code>"/api/{}/auth/userinfo"</code>.
+     */
+    public String getPathTemplate()
+    {
+        return pathTemplate;
+    }
+
+
+    /**
+     * Get the number of calls.
+     *
+     * @return
+     *         The number of calls.
+     */
+    public long getCount()
+    {
+        return count;
+    }
+
+
+    /**
+     * Get the number of calls whose outcome was not {@link
+     * ApiCallEvent.Outcome#SUCCESS SUCCESS}.
+     *
+     * @return
+     *         The number of failed calls.
+     */
+    public long getErrorCount()
+    {
+        return errorCount;
+    }
+
+
+    /**
+     * Get the number of responses per HTTP status code.
+     *
+     * @return
+     *         The number of responses keyed by HTTP status codes.
+     */
+    public Map<Integer, Long> getStatusCodeCounts()
+    {
+        return statusCodeCounts;
+    }
+
+
+    /**
+     * Get the mean of the total times.
+     *
+     * @return
+     *         The mean time in milliseconds.
+     */
+    public double getMeanTime()
+    {
+        return meanTime;
+    }
+
+
+    /**
+     * Get the median of the total times.
+     *
+     * @return
+     *         The 50th percentile in milliseconds.
+     */
+    public double getP50Time()
+    {
+        return p50Time;
+    }
+
+
+    /**
+     * Get the 90th percentile of the total times.
+     *
+     * @return
+     *         The 90th percentile in milliseconds.
+     */
+    public double getP90Time()
+    {
+        return p90Time;
+    }
+
+
+    /**
+     * Get the 99th percentile of the total times.
+     *
+     * @return
+     *         The 99th percentile in milliseconds.
+     */
+    public double getP99Time()
+    {
+        return p99Time;
+    }
+
+
+    /**
+     * Get the maximum of the total times.
+     *
+     * @return
+     *         The maximum time in milliseconds.
+     */
+    public double getMaxTime()
+    {
+        return maxTime;
+    }
+
+
+    /**
+     * Get the mean of the connect times of calls whose connect time was
+     * measured.
+     *
+     * @return
+     *         The mean connect time in milliseconds.
+     */
+    public double getMeanConnectTime()
+    {
+        return meanConnectTime;
+    }
+
+
+    /**
+     * Get the mean of the times until the response headers were received.
+     *
+     * @return
+     *         The mean wait time in milliseconds.
+     */
+    public double getMeanWaitTime()
+    {
+        return meanWaitTime;
+    }
+
+
+    /**
+     * Get the mean of the times spent to read and convert the response
+     * bodies.
+     *
+     * @return
+     *         The mean processing time in milliseconds.
+     */
+    public double getMeanProcessTime()
+    {
+        return meanProcessTime;
+    }
+
+
+    /**
+     * Get the total size of the request bodies.
+     *
+     * @return
+     *         The number of bytes.
+     */
+    public long getRequestBytes()
+    {
+        return requestBytes;
+    }
+
+
+    /**
+     * Get the total size of the response bodies.
+     *
+     * @return
+     *         The number of bytes.
+     */
+    public long getResponseBytes()
+    {
+        return responseBytes;
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+
+/**
+ * Circuit breakers and bulkheads of APIs, keyed by path templates, and
+ * the adaptive concurrency limiter shared by all the APIs.
+ *
+ * @see CircuitBreakerPolicy
+ * @see ConcurrencyLimitPolicy
+ * @see Settings#setMaxConcurrentCallsPerApi(int)
+ */
+class ApiGuard
+{
+    /**
+     * A call which has been admitted. {@link #exit(boolean)} has to be
+     * called exactly once when the call completes.
+     */
+    class Ticket
+    {
+        private final ConcurrencyLimiter mLimiter;
+        private final Bulkhead mBulkhead;
+        private final CircuitBreaker mBreaker;
+        private final CircuitBreaker.Permit mPermit;
+        private final long mStartedAt = System.nanoTime();
+
+
+        private Ticket(
+                ConcurrencyLimiter limiter, Bulkhead bulkhead,
+                CircuitBreaker breaker, CircuitBreaker.Permit permit)
+        {
+            mLimiter  = limiter;
+            mBulkhead = bulkhead;
+            mBreaker  = breaker;
+            mPermit   = permit;
+        }
+
+
+        /**
+         * Report the round-trip time of a request sent for the call.
+         */
+        void sample(long rtt)
+        {
+            if (mLimiter != null)
+            {
+                mLimiter.sample(rtt);
+            }
+        }
+
+
+        void exit(boolean failed)
+        {
+            long elapsed = System.nanoTime() - mStartedAt;
+
+            mBulkhead.release();
+
+            if (mLimiter != null)
+            {
+                mLimiter.release(failed);
+            }
+
+            if (mBreaker != null)
+            {
+                mBreaker.onComplete(mPermit, failed, elapsed);
+            }
+        }
+    }
+
+
+    private final ConcurrentMap<String, Bulkhead> mBulkheads = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, CircuitBreaker> mBreakers = new ConcurrentHashMap<>();
+    private volatile ConcurrencyLimiter mLimiter;
+
+
+    /**
+     * Admit a call of an API.
+     *
+     * @param queueing
+     *         {@code true} to let the call wait up to the maximum queue time
+     *         of the concurrency limit policy when the limit has been
+     *         reached. {@code false} for asynchronous calls, which must not
+     *         block the calling thread.
+     *
+     * @throws AuthleteApiConcurrencyLimitException
+     *         The adaptive limit of concurrent calls has been reached.
+     *
+     * @throws AuthleteApiBulkheadFullException
+     *         Too many calls of the API are in progress.
+     *
+     * @throws AuthleteApiCircuitOpenException
+     *         The circuit of the API is open.
+     */
+    Ticket enter(String pathTemplate, Settings settings, boolean queueing) throws AuthleteApiException
+    {
+        ConcurrencyLimiter limiter = concurrencyLimiter(settings.getConcurrencyLimitPolicy());
+
+        if (limiter != null && !(queueing ? limiter.acquire() : limiter.tryAcquire()))
+        {
+            int limit = limiter.limit();
+
+            throw new AuthleteApiConcurrencyLimitException(
+                    "The concurrency limit (" + limit + ") has been reached.", limit);
+        }
+
+        Bulkhead bulkhead = mBulkheads.computeIfAbsent(pathTemplate, k -> new Bulkhead());
+
+        if (!bulkhead.tryAcquire(settings.getMaxConcurrentCallsPerApi()))
+        {
+            cancel(limiter);
+
+            throw new AuthleteApiBulkheadFullException(
+                    "Too many concurrent calls of " + pathTemplate + ".", pathTemplate);
+        }
+
+        CircuitBreaker breaker = circuitBreaker(pathTemplate, settings.getCircuitBreakerPolicy());
+
+        if (breaker == null)
+        {
+            // Circuit breakers are disabled.
+            return new Ticket(limiter, bulkhead, null, null);
+        }
+
+        CircuitBreaker.Permit permit = breaker.tryAcquire();
+
+        if (permit == null)
+        {
+            bulkhead.release();
+            cancel(limiter);
+
+            throw new AuthleteApiCircuitOpenException(
+                    "The circuit of " + pathTemplate + " is open.", pathTemplate);
+        }
+
+        return new Ticket(limiter, bulkhead, breaker, permit);
+    }
+
+
+    private static void cancel(ConcurrencyLimiter limiter)
+    {
+        if (limiter != null)
+        {
+            limiter.cancel();
+        }
+    }
+
+
+    private ConcurrencyLimiter concurrencyLimiter(ConcurrencyLimitPolicy policy)
+    {
+        ConcurrencyLimiter limiter = mLimiter;
+
+        if (policy == null)
+        {
+            mLimiter = null;
+            return null;
+        }
+
+        if (limiter == null || limiter.policy() != policy)
+        {
+            synchronized (this)
+            {
+                limiter = mLimiter;
+
+                if (limiter == null || limiter.policy() != policy)
+                {
+                    // The policy has been replaced. Start over with the new policy.
+                    limiter = new ConcurrencyLimiter(policy);
+                    mLimiter = limiter;
+                }
+            }
+        }
+
+        return limiter;
+    }
+
+
+    int concurrencyLimit()
+    {
+        ConcurrencyLimiter limiter = mLimiter;
+
+        return (limiter == null) ? 0 : limiter.limit();
+    }
+
+
+    private CircuitBreaker circuitBreaker(String pathTemplate, CircuitBreakerPolicy policy)
+    {
+        if (policy == null)
+        {
+            mBreakers.clear();
+            return null;
+        }
+
+        CircuitBreaker breaker = mBreakers.get(pathTemplate);
+
+        if (breaker != null && breaker.policy() == policy)
+        {
+            return breaker;
+        }
+
+        // Concurrent callers agree on one breaker. An existing breaker is
+        // kept unless the policy has been replaced, in which case it
+        // starts over with the new policy.
+        return mBreakers.compute(pathTemplate, (key, current) ->
+                (current != null && current.policy() == policy) ? current : new CircuitBreaker(policy));
+    }
+
+
+    Map<String, CircuitBreakerState> circuitBreakerStates()
+    {
+        Map<String, CircuitBreakerState> states = new TreeMap<>();
+
+        for (Map.Entry<String, CircuitBreaker> e : mBreakers.entrySet())
+        {
+            states.put(e.getKey(), e.getValue().state());
+        }
+
+        return states;
+    }
+
+
+    Map<String, Integer> concurrentCalls()
+    {
+        Map<String, Integer> calls = new TreeMap<>();
+
+        for (Map.Entry<String, Bulkhead> e : mBulkheads.entrySet())
+        {
+            calls.put(e.getKey(), e.getValue().concurrentCalls());
+        }
+
+        return calls;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+/**
+ * Interceptor of Authlete API calls.
+ *
+ * <p>
+ * Interceptors set by {@link Settings#setApiInterceptors(java.util.List)}
+ * form an ordered chain around every API call made by the {@link
+ * AuthleteApi} implementations included in this library. Each interceptor
+ * can inspect and modify the call, e.g. add request headers for trace
+ * propagation, and then pass it to the next interceptor by {@link
+ * ApiInvocation#proceed()}. An interceptor can also short-circuit the call
+ * by returning a response object without calling {@code proceed()}, e.g.
+ * when the response is cached.
+ * </p>
+ *
+ * <pre style="border: 1px solid black; padding: 0.5em; margin: 0.5em;">
+ * api.{@link AuthleteApi#getSettings() getSettings()}.{@link
+ * Settings#addApiInterceptor(ApiInterceptor) addApiInterceptor}(invocation -&gt; {
+ *     invocation.{@link ApiInvocation#getHeaders() getHeaders()}.put("traceparent", currentTraceParent());
+ *     return invocation.{@link ApiInvocation#proceed() proceed()};
+ * });
+ * </pre>
+ *
+ * <p>
+ * Calls made by {@link AuthleteAsyncApi} pass through the chain too, on the
+ * thread which calls the method of {@code AuthleteAsyncApi}, so interceptors
+ * can read context bound to the thread, e.g. the current trace, in both
+ * cases. For such calls, {@link ApiInvocation#isAsynchronous()} returns
+ * {@code true} and {@code proceed()} returns a {@link
+ * java.util.concurrent.CompletionStage CompletionStage} of the response
+ * object without waiting for the response. An interceptor which returns the
+ * result of {@code proceed()} as it is, like the one above, works for both.
+ * An interceptor which inspects the response of an asynchronous call has to
+ * do so when the {@code CompletionStage} completes.
+ * </p>
+ *
+ * <p>
+ * The chain runs outside retries, circuit breakers and bulkheads, so one
+ * call of {@code proceed()} may send the request more than once, and a
+ * short-circuited call does not reach them at all.
+ * </p>
+ *
+ * @since 4.47
+ */
+@FunctionalInterface
+public interface ApiInterceptor
+{
+    /**
+     * Intercept an API call.
+     *
+     * @param invocation
+     *         The API call.
+     *
+     * @return
+     *         The response object. It must be an instance of {@link
+     *         ApiInvocation#getResponseClass()} or {@code null}. For an
+     *         {@linkplain ApiInvocation#isAsynchronous() asynchronous} call,
+     *         a {@link java.util.concurrent.CompletionStage CompletionStage}
+     *         of the response object may be returned instead.
+     *
+     * @throws AuthleteApiException
+     *         The API call failed.
+     */
+    Object intercept(ApiInvocation invocation) throws AuthleteApiException;
+}
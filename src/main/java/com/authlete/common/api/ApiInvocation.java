@@ -0,0 +1,280 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+
+
+/**
+ * An Authlete API call passed through the chain of {@link ApiInterceptor}s.
+ *
+ * <p>
+ * The request properties can be modified before {@link #proceed()} is
+ * called. The response properties are available after {@code proceed()}
+ * returns, or, for an {@linkplain #isAsynchronous() asynchronous} call,
+ * after the {@link CompletionStage} returned by {@code proceed()} completes.
+ * </p>
+ *
+ * @since 4.47
+ */
+public class ApiInvocation
+{
+    /**
+     * The call made after the last interceptor.
+     */
+    @FunctionalInterface
+    interface Terminal
+    {
+        Object call(ApiInvocation invocation) throws AuthleteApiException;
+    }
+
+
+    private final String mMethod;
+    private final String mPath;
+    private final String mPathTemplate;
+    private final Class<?> mResponseClass;
+    private final List<ApiInterceptor> mInterceptors;
+    private final boolean mAsynchronous;
+    private final Terminal mTerminal;
+    private final Map<String, String> mHeaders = new LinkedHashMap<>();
+    private Map<String, Object[]> mQueryParams;
+    private Object mRequestBody;
+    private int mIndex;
+    int statusCode;
+    Map<String, List<String>> responseHeaders;
+
+
+    ApiInvocation(
+            String method, String path, String pathTemplate, Map<String, Object[]> queryParams,
+            Object requestBody, Class<?> responseClass, Options options,
+            List<ApiInterceptor> interceptors, boolean asynchronous, Terminal terminal)
+    {
+        mMethod        = method;
+        mPath          = path;
+        mPathTemplate  = pathTemplate;
+        mQueryParams   = queryParams;
+        mRequestBody   = requestBody;
+        mResponseClass = responseClass;
+        mInterceptors  = interceptors;
+        mAsynchronous  = asynchronous;
+        mTerminal      = terminal;
+
+        if (options != null && options.getHeaders() != null)
+        {
+            mHeaders.putAll(options.getHeaders());
+        }
+    }
+
+
+    /**
+     * Get the HTTP method.
+     *
+     * @return
+     *         The HTTP method such as {@code "GET"}.
+     */
+    public String getMethod()
+    {
+        return mMethod;
+    }
+
+
+    /**
+     * Get the path of the API.
+     *
+     * @return
+     *         The path such as {@code "/api/21653835348762/auth/userinfo"}.
+     */
+    public String getPath()
+    {
+        return mPath;
+    }
+
+
+    /**
+     * Get the path template of the API, in which IDs and other variable
+     * segments are replaced with <code>{}</code>.
+     *
+     * @return
+     *         The path template such as <code>"/api/{}/auth/userinfo"</code>.
+     */
+    public String getPathTemplate()
+    {
+        return mPathTemplate;
+    }
+
+
+    /**
+     * Get the query parameters.
+     *
+     * @return
+     *         The query parameters. May be {@code null}.
+     */
+    public Map<String, Object[]> getQueryParams()
+    {
+        return mQueryParams;
+    }
+
+
+    /**
+     * Set the query parameters.
+     *
+     * @param queryParams
+     *         The query parameters.
+     *
+     * @return
+     *         {@code this} object.
+     */
+    public ApiInvocation setQueryParams(Map<String, Object[]> queryParams)
+    {
+        mQueryParams = queryParams;
+
+        return this;
+    }
+
+
+    /**
+     * Get the request body object, which is converted into JSON.
+     *
+     * @return
+     *         The request body object. {@code null} if the request has no
+     *         body.
+     */
+    public Object getRequestBody()
+    {
+        return mRequestBody;
+    }
+
+
+    /**
+     * Set the request body object.
+     *
+     * @param requestBody
+     *         The request body object.
+     *
+     * @return
+     *         {@code this} object.
+     */
+    public ApiInvocation setRequestBody(Object requestBody)
+    {
+        mRequestBody = requestBody;
+
+        return this;
+    }
+
+
+    /**
+     * Get the custom request headers. The returned map is mutable and
+     * initially contains the headers of the {@link Options} given to the
+     * API call. Reserved headers such as {@code Authorization} are ignored.
+     *
+     * @return
+     *         The custom request headers.
+     */
+    public Map<String, String> getHeaders()
+    {
+        return mHeaders;
+    }
+
+
+    /**
+     * Get the class of the response object.
+     *
+     * @return
+     *         The class of the response object. {@code null} if the API
+     *         returns no response object.
+     */
+    public Class<?> getResponseClass()
+    {
+        return mResponseClass;
+    }
+
+
+    /**
+     * Check whether the call is made asynchronously by {@link
+     * AuthleteAsyncApi}. If so, {@link #proceed()} returns a {@link
+     * CompletionStage} of the response object.
+     *
+     * @return
+     *         {@code true} if the call is asynchronous.
+     */
+    public boolean isAsynchronous()
+    {
+        return mAsynchronous;
+    }
+
+
+    /**
+     * Get the HTTP status code of the response.
+     *
+     * @return
+     *         The HTTP status code. 0 if no response has been received.
+     */
+    public int getStatusCode()
+    {
+        return statusCode;
+    }
+
+
+    /**
+     * Get the HTTP headers of the response.
+     *
+     * @return
+     *         The HTTP headers. {@code null} if no response has been
+     *         received.
+     */
+    public Map<String, List<String>> getResponseHeaders()
+    {
+        return responseHeaders;
+    }
+
+
+    /**
+     * Pass this call to the next interceptor, or make the API call if
+     * there are no more interceptors.
+     *
+     * @return
+     *         The response object, or a {@link CompletionStage} of it if the
+     *         call is {@linkplain #isAsynchronous() asynchronous}.
+     *
+     * @throws AuthleteApiException
+     *         The API call failed. An asynchronous call reports the failure
+     *         by the returned {@code CompletionStage} instead, unless it
+     *         could not be started.
+     */
+    public Object proceed() throws AuthleteApiException
+    {
+        if (mIndex >= mInterceptors.size())
+        {
+            return mTerminal.call(this);
+        }
+
+        ApiInterceptor interceptor = mInterceptors.get(mIndex++);
+
+        try
+        {
+            return interceptor.intercept(this);
+        }
+        finally
+        {
+            // Allow the interceptor to proceed again, e.g. to retry.
+            mIndex--;
+        }
+    }
+}
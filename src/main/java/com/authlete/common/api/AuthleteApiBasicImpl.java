@@ -17,23 +17,36 @@ package com.authlete.common.api;
 
 
 import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
 import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.UnsupportedEncodingException;
+import java.io.Writer;
+import java.net.ConnectException;
 import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLEncoder;
-import java.text.ParseException;
-import java.util.Date;
-import java.util.HashMap;
+import java.nio.charset.StandardCharsets;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.UUID;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
 import com.authlete.common.conf.AuthleteConfiguration;
 import com.authlete.common.dto.ApiResponse;
 import com.authlete.common.dto.ClientListResponse;
@@ -41,16 +54,7 @@ import com.authlete.common.dto.ServiceListResponse;
 import com.authlete.common.dto.TokenListResponse;
 import com.authlete.common.types.TokenStatus;
 import com.authlete.common.util.Utils;
-import com.nimbusds.jose.JOSEException;
-import com.nimbusds.jose.JOSEObjectType;
-import com.nimbusds.jose.JWSAlgorithm;
-import com.nimbusds.jose.JWSHeader;
-import com.nimbusds.jose.JWSObject;
-import com.nimbusds.jose.JWSSigner;
-import com.nimbusds.jose.crypto.factories.DefaultJWSSignerFactory;
-import com.nimbusds.jose.jwk.JWK;
-import com.nimbusds.jwt.JWTClaimsSet;
-import com.nimbusds.jwt.SignedJWT;
+import com.authlete.common.util.digest.Digest;
 
 
 public abstract class AuthleteApiBasicImpl implements AuthleteApi
@@ -106,16 +110,88 @@ public abstract class AuthleteApiBasicImpl implements AuthleteApi
 
     private class HttpHeader
     {
-        private static final String ACCEPT        = "Accept";
-        private static final String AUTHORIZATION = "Authorization";
-        private static final String CONTENT_TYPE  = "Content-Type";
+        private static final String ACCEPT           = "Accept";
+        private static final String ACCEPT_ENCODING  = "Accept-Encoding";
+        private static final String AUTHORIZATION    = "Authorization";
+        private static final String CONTENT_ENCODING = "Content-Encoding";
+        private static final String CONTENT_TYPE     = "Content-Type";
+        private static final String DPOP             = "DPoP";
+        private static final String RETRY_AFTER      = "Retry-After";
+    }
+
+
+    /** The transport used when {@link Settings#getHttpTransport()} returns null. */
+    private static final HttpTransport DEFAULT_TRANSPORT = new HttpUrlConnectionTransport();
+
+
+    /** The number of consecutive failures which eject one of multiple base URLs. */
+    private static final int ENDPOINT_FAILURE_THRESHOLD = 3;
+
+
+    /** The time in milliseconds until an ejected base URL is probed. */
+    private static final long ENDPOINT_EJECTION_TIME = 30000;
+
+
+    /** The path of the API used to probe an ejected base URL. */
+    private static final String PROBE_API_PATH = "/api/misc/echo";
+
+
+    /**
+     * An asynchronous call being prepared by {@link
+     * AuthleteApiBasicImpl#callAsync(Supplier, Class, Executor) callAsync}. The API
+     * call made by the synchronous method is recorded here instead of being
+     * performed.
+     */
+    private static class AsyncCall
+    {
+        /** Starts the recorded API call on the given executor. */
+        Function<Executor, CompletableFuture<Object>> starter;
+
+        /** The class of the response of the recorded API call. */
+        Class<?> responseClass;
+    }
+
+
+    /**
+     * The result of a coalesced call, shared with the calls which joined it.
+     */
+    private static class Coalesced
+    {
+        final Object response;
+        final int statusCode;
+        final Map<String, List<String>> responseHeaders;
+
+
+        Coalesced(Object response, ApiInvocation invocation)
+        {
+            this.response        = response;
+            this.statusCode      = (invocation == null) ? 0 : invocation.statusCode;
+            this.responseHeaders = (invocation == null) ? null : invocation.responseHeaders;
+        }
+
+
+        Object applyTo(ApiInvocation invocation)
+        {
+            if (invocation != null)
+            {
+                // Make the shared response visible to the interceptors.
+                invocation.statusCode      = statusCode;
+                invocation.responseHeaders = responseHeaders;
+            }
+
+            return response;
+        }
     }
 
 
     private final String mBaseUrl;
+    private final EndpointRouter mRouter;
     private final Settings mSettings;
-    private JWK mDpopJwk;
-    private JWSSigner mJwsSigner;
+    private DpopProofGenerator mDpopProofGenerator;
+    private final TokenBudget mRetryBudget = new TokenBudget();
+    private final ApiGuard mApiGuard = new ApiGuard();
+    private final SingleFlight mSingleFlight = new SingleFlight();
+    private final ThreadLocal<AsyncCall> mAsyncCall = new ThreadLocal<>();
 
 
     protected AuthleteApiBasicImpl(AuthleteConfiguration configuration)
@@ -124,7 +200,11 @@ public abstract class AuthleteApiBasicImpl implements AuthleteApi
         {
             throw new IllegalArgumentException("configuration is null.");
         }
-        mBaseUrl = configuration.getBaseUrl();
+        // The base URL may list multiple base URLs separated by commas.
+        List<String> baseUrls = EndpointRouter.parseBaseUrls(configuration.getBaseUrl());
+        mBaseUrl = baseUrls.get(0);
+        mRouter  = (baseUrls.size() < 2) ? null : new EndpointRouter(
+                baseUrls, ENDPOINT_FAILURE_THRESHOLD, ENDPOINT_EJECTION_TIME, this::probe, null);
         extractDpop(configuration); // this has to be done before the credentials calls
         mSettings = new Settings();
     }
@@ -134,19 +214,7 @@ public abstract class AuthleteApiBasicImpl implements AuthleteApi
     {
         if (configuration.getDpopKey() != null)
         {
-            try
-            {
-                mDpopJwk = JWK.parse(configuration.getDpopKey());
-                if (mDpopJwk.getAlgorithm() == null)
-                {
-                    throw new IllegalArgumentException("DPoP JWK must contain an 'alg' field.");
-                }
-                mJwsSigner = new DefaultJWSSignerFactory().createJWSSigner(mDpopJwk);
-            }
-            catch (ParseException | JOSEException e)
-            {
-                throw new IllegalArgumentException("DPoP JWK is not valid.");
-            }
+            mDpopProofGenerator = new DpopProofGenerator(configuration.getDpopKey());
         }
     }
 
@@ -158,7 +226,37 @@ public abstract class AuthleteApiBasicImpl implements AuthleteApi
             String auth, String path, Class<TResponse> responseClass, Map<String, Object[]> queryParams,
              Options options) throws AuthleteApiException
     {
-        return callApi(AuthleteApiBasicImpl.HttpMethod.GET, auth, path, queryParams, (Object)null, responseClass, options);
+        if (!mSettings.isRequestCoalescingEnabled())
+        {
+            return callApi(AuthleteApiBasicImpl.HttpMethod.GET, auth, path, queryParams, (Object)null, responseClass, options);
+        }
+
+        // Concurrent identical calls share one request and its result. The
+        // calls are coalesced after the interceptors, which may change them.
+        return callApiWith4xxHandling(AuthleteApiBasicImpl.HttpMethod.GET, auth, path, queryParams, (Object)null,
+                responseClass, options, NotFoundHandling.THROW_EXCEPTION, ClientErrorHandling.THROW_EXCEPTION, true);
+    }
+
+
+    /**
+     * Build a key which identifies a GET call. Calls with different
+     * credentials, parameters, response classes or additional headers
+     * must not share results.
+     */
+    private static String coalescingKey(
+            String auth, String path, Class<?> responseClass,
+            Map<String, Object[]> queryParams, Options options)
+    {
+        Map<String, Object[]> params =
+                (queryParams == null) ? null : new TreeMap<>(queryParams);
+        Map<String, String> headers =
+                (options == null || options.getHeaders() == null) ? null : new TreeMap<>(options.getHeaders());
+
+        // The digest avoids keeping the credentials in the key.
+        Object[] elements = {
+                auth, path, (responseClass == null) ? null : responseClass.getName(), params, headers };
+
+        return Digest.getInstanceSHA256().update(Utils.toJson(elements)).digestAsString();
     }
 
 
@@ -229,40 +327,249 @@ public abstract class AuthleteApiBasicImpl implements AuthleteApi
             Object requestBody, Class<TResponse> responseClass, Options options, 
             NotFoundHandling notFoundHandling, ClientErrorHandling clientErrorHandling) throws AuthleteApiException
     {
-        String dpopHeader = wrapWithDpop(method, path);
-        if (dpopHeader != null)
+        return callApiWith4xxHandling(method, auth, path, queryParams, requestBody, responseClass, options,
+                notFoundHandling, clientErrorHandling, false);
+    }
+
+
+    /**
+     * Call an API. If {@code coalescing} is true, the call shares one request
+     * and its result with identical concurrent calls.
+     */
+    private <TResponse> TResponse callApiWith4xxHandling(
+            AuthleteApiBasicImpl.HttpMethod method, String auth,
+            String path, Map<String, Object[]> queryParams,
+            Object requestBody, Class<TResponse> responseClass, Options options,
+            NotFoundHandling notFoundHandling, ClientErrorHandling clientErrorHandling,
+            boolean coalescing) throws AuthleteApiException
+    {
+        String pathTemplate = PathTemplates.of(path);
+        List<ApiInterceptor> interceptors = mSettings.getApiInterceptors();
+        AsyncCall async = mAsyncCall.get();
+
+        if (async != null)
         {
-            if (options == null)
+            if (async.starter != null)
             {
-                options = new Options();
+                throw new IllegalStateException("An asynchronous call can make only one API call.");
             }
-            Map<String, String> headers = options.getHeaders();
-            if (headers == null)
+
+            // Record the API call. It is started by callAsync().
+            async.responseClass = responseClass;
+            async.starter = executor -> interceptors.isEmpty()
+                    ? callOrJoinAsync(method, auth, path, pathTemplate, queryParams, requestBody,
+                            responseClass, options, notFoundHandling, clientErrorHandling, coalescing, null, executor)
+                    : interceptAsync(method, auth, path, pathTemplate, queryParams, requestBody,
+                            responseClass, options, notFoundHandling, clientErrorHandling, coalescing,
+                            interceptors, executor);
+
+            return null;
+        }
+
+        if (interceptors.isEmpty())
+        {
+            return callOrJoin(method, auth, path, pathTemplate, queryParams, requestBody,
+                    responseClass, options, notFoundHandling, clientErrorHandling, coalescing, null);
+        }
+
+        // Pass the call through the chain of interceptors.
+        ApiInvocation invocation = new ApiInvocation(
+                method.name(), path, pathTemplate, queryParams, requestBody, responseClass,
+                options, interceptors, false, inv -> callOrJoin(
+                        method, auth, path, pathTemplate, inv.getQueryParams(), inv.getRequestBody(),
+                        responseClass, copyOptions(options, inv.getHeaders()),
+                        notFoundHandling, clientErrorHandling, coalescing, inv));
+
+        Object response = invocation.proceed();
+
+        return (responseClass == null) ? null : responseClass.cast(response);
+    }
+
+
+    /**
+     * Pass an asynchronous call through the chain of interceptors. The chain
+     * runs on the calling thread, and {@code proceed()} of the last
+     * interceptor returns the future of the API call.
+     */
+    private CompletableFuture<Object> interceptAsync(
+            HttpMethod method, String auth, String path, String pathTemplate,
+            Map<String, Object[]> queryParams, Object requestBody, Class<?> responseClass,
+            Options options, NotFoundHandling notFoundHandling, ClientErrorHandling clientErrorHandling,
+            boolean coalescing, List<ApiInterceptor> interceptors, Executor executor)
+    {
+        ApiInvocation invocation = new ApiInvocation(
+                method.name(), path, pathTemplate, queryParams, requestBody, responseClass,
+                options, interceptors, true, inv -> callOrJoinAsync(
+                        method, auth, path, pathTemplate, inv.getQueryParams(), inv.getRequestBody(),
+                        responseClass, copyOptions(options, inv.getHeaders()),
+                        notFoundHandling, clientErrorHandling, coalescing, inv, executor));
+
+        Object response = invocation.proceed();
+
+        if (response instanceof CompletionStage)
+        {
+            return ((CompletionStage<?>)response).toCompletableFuture().thenApply(
+                    r -> (responseClass == null) ? null : responseClass.cast(r));
+        }
+
+        // An interceptor short-circuited the call.
+        return CompletableFuture.completedFuture(
+                (responseClass == null) ? null : responseClass.cast(response));
+    }
+
+
+    /**
+     * Make an API call after the interceptors, or join an identical call in
+     * flight if {@code coalescing} is true. The key is computed from the
+     * request as the interceptors have left it.
+     */
+    @SuppressWarnings("unchecked")
+    private <TResponse> TResponse callOrJoin(
+            HttpMethod method, String auth, String path, String pathTemplate,
+            Map<String, Object[]> queryParams, Object requestBody, Class<TResponse> responseClass,
+            Options options, NotFoundHandling notFoundHandling, ClientErrorHandling clientErrorHandling,
+            boolean coalescing, ApiInvocation invocation) throws AuthleteApiException
+    {
+        if (!coalescing)
+        {
+            return doCallApi(method, auth, path, pathTemplate, queryParams, requestBody,
+                    responseClass, options, notFoundHandling, clientErrorHandling, invocation);
+        }
+
+        // Each call waits for the shared result only until its own timeout.
+        Coalesced result = mSingleFlight.execute(
+                coalescingKey(auth, path, responseClass, queryParams, options), Deadline.of(options),
+                () -> new Coalesced(doCallApi(method, auth, path, pathTemplate, queryParams, requestBody,
+                        responseClass, options, notFoundHandling, clientErrorHandling, invocation), invocation));
+
+        return (TResponse)result.applyTo(invocation);
+    }
+
+
+    /**
+     * The asynchronous version of {@link #callOrJoin}.
+     */
+    private CompletableFuture<Object> callOrJoinAsync(
+            HttpMethod method, String auth, String path, String pathTemplate,
+            Map<String, Object[]> queryParams, Object requestBody, Class<?> responseClass,
+            Options options, NotFoundHandling notFoundHandling, ClientErrorHandling clientErrorHandling,
+            boolean coalescing, ApiInvocation invocation, Executor executor)
+    {
+        if (!coalescing)
+        {
+            return doCallApiAsync(method, auth, path, pathTemplate, queryParams, requestBody,
+                    responseClass, options, notFoundHandling, clientErrorHandling, invocation, executor);
+        }
+
+        CompletableFuture<Coalesced> result = mSingleFlight.executeAsync(
+                coalescingKey(auth, path, responseClass, queryParams, options), Deadline.of(options),
+                () -> doCallApiAsync(method, auth, path, pathTemplate, queryParams, requestBody,
+                        responseClass, options, notFoundHandling, clientErrorHandling, invocation, executor)
+                        .thenApply(response -> new Coalesced(response, invocation)));
+
+        return result.thenApply(r -> r.applyTo(invocation));
+    }
+
+
+    private static Options copyOptions(Options options, Map<String, String> headers)
+    {
+        return new Options()
+                .setHeaders(new LinkedHashMap<>(headers))
+                .setTimeout((options == null) ? 0 : options.getTimeout());
+    }
+
+
+    /**
+     * Make an API call after the interceptors.
+     */
+    private <TResponse> TResponse doCallApi(
+            HttpMethod method, String auth, String path, String pathTemplate,
+            Map<String, Object[]> queryParams, Object requestBody, Class<TResponse> responseClass,
+            Options options, NotFoundHandling notFoundHandling, ClientErrorHandling clientErrorHandling,
+            ApiInvocation invocation) throws AuthleteApiException
+    {
+        // The per-call timeout starts now, if any.
+        Deadline deadline = Deadline.of(options);
+
+        // Details of the call reported to the listener, if any.
+        ApiCallListener listener = mSettings.getApiCallListener();
+        ApiCallEvent event = (listener == null) ? null : new ApiCallEvent(method.name(), pathTemplate);
+        long startTime = System.nanoTime();
+
+        // Reject the call immediately if the API is overloaded or failing.
+        ApiGuard.Ticket ticket;
+
+        try
+        {
+            ticket = mApiGuard.enter(pathTemplate, mSettings, true);
+        }
+        catch (AuthleteApiException e)
+        {
+            if (event != null)
             {
-                headers = new HashMap<>();
-                options.setHeaders(headers);
+                event.outcome = ApiCallEvent.Outcome.REJECTED;
+                notifyListener(listener, event, startTime, e, null);
             }
-            headers.put("DPoP", dpopHeader);
+
+            throw e;
         }
-        
+
+        boolean failed = false;
+        Throwable failure = null;
+
         ConnectionContext ctx = null;
         try
         {
-            // Create a connection to the Authlete API.
-            ctx = createConnection(method, auth, mBaseUrl, path, queryParams, options, mSettings);
-            
-            // Communicate with the API and get a response
-            return communicate(ctx, requestBody, responseClass, notFoundHandling, clientErrorHandling);
+            // Build an HTTP request to the Authlete API.
+            HttpTransportRequest request = createRequest(
+                    method, auth, mBaseUrl, path, queryParams, requestBody, options, mSettings);
+
+            if (event != null)
+            {
+                countRequestBytes(request, event);
+            }
+
+            // Send the request and receive the response. The request may
+            // be sent more than once according to the retry policy.
+            ctx = executeWithRetry(method, path, request, event, deadline, ticket);
+
+            if (invocation != null)
+            {
+                // Make the response visible to the interceptors.
+                invocation.statusCode      = ctx.statusCode();
+                invocation.responseHeaders = ctx.headers();
+            }
+
+            // Process the response.
+            long processStart = System.nanoTime();
+
+            try
+            {
+                return communicate(ctx, responseClass, notFoundHandling, clientErrorHandling);
+            }
+            finally
+            {
+                if (event != null)
+                {
+                    event.processTime = System.nanoTime() - processStart;
+                }
+            }
         }
         catch (AuthleteApiException e)
         {
+            failed  = isServerFailure(e);
+            failure = e;
+
             // Re-throw AuthleteApiException as-is (it already has context)
             throw e;
         }
         catch (Throwable t)
         {
+            failed  = isServerFailure(t);
+            failure = createAuthleteApiException(t, ctx);
+
             // Wrap any other throwable with HTTP context
-            throw createAuthleteApiException(t, ctx);
+            throw (AuthleteApiException)failure;
         }
         finally
         {
@@ -271,154 +578,600 @@ public abstract class AuthleteApiBasicImpl implements AuthleteApi
             {
                 ctx.close();
             }
+
+            // Record the outcome for the circuit breaker.
+            ticket.exit(failed);
+
+            if (event != null)
+            {
+                notifyListener(listener, event, startTime, failure, ctx);
+            }
         }
     }
 
 
-    protected TokenListResponse callGetTokenList(
-            String auth, String path, String clientIdentifier, String subject, int start, int end, boolean rangeGiven, TokenStatus tokenStatus, Options options)
+    /**
+     * Make an API call asynchronously.
+     *
+     * <p>
+     * {@code call} has to call one API method of this instance, e.g.
+     * {@code () -> api.introspection(request)}. The method is invoked on the
+     * calling thread, but the HTTP exchange it would make is started
+     * asynchronously by {@link HttpTransport#executeAsync(HttpTransportRequest,
+     * Executor)} instead, and the returned future completes with the response
+     * of the API. No thread waits for the response unless the transport does.
+     * </p>
+     *
+     * <p>
+     * This works only if the method returns the response of the API as it
+     * is. Because the response is not available while the method runs, a
+     * method which converts the response, or which makes more than one API
+     * call, is detected and executed on the executor as a whole instead.
+     * Such a method is detected when it fails, when it returns a value,
+     * or when the class of the response of the API call it makes is not
+     * {@code responseClass}.
+     * </p>
+     *
+     * <p>
+     * {@link ApiInterceptor}s also run on the calling thread. Their {@code
+     * proceed()} returns the future of the API call.
+     * </p>
+     *
+     * @param call
+     *         A call of an API method of this instance.
+     *
+     * @param responseClass
+     *         The class of the response of the API, which the method returns.
+     *         {@code null} if the result of the method is not used.
+     *
+     * @param executor
+     *         The executor for blocking work, which is passed to the
+     *         transport.
+     *
+     * @return
+     *         A future of the response.
+     */
+    @SuppressWarnings("unchecked")
+    <TResponse> CompletableFuture<TResponse> callAsync(
+            Supplier<TResponse> call, Class<?> responseClass, Executor executor)
     {
-        Map<String, Object[]> queryParams = new LinkedHashMap<>();
+        AsyncCall async = new AsyncCall();
+        TResponse result = null;
+        Throwable failure = null;
 
-        if (clientIdentifier != null)
+        mAsyncCall.set(async);
+
+        try
         {
-            queryParams.put("clientIdentifier", new Object[]{ clientIdentifier });
+            result = call.get();
         }
-
-        if (subject != null)
+        catch (Throwable t)
         {
-            queryParams.put("subject", new Object[]{ subject });
+            failure = t;
         }
-
-        if (rangeGiven)
+        finally
         {
-            queryParams.put("start", new Object[]{ start });
-            queryParams.put("end",   new Object[]{ end   });
+            mAsyncCall.remove();
         }
 
-        queryParams.put("tokenStatus", new Object[]{ tokenStatus.toString() });
+        if (async.starter == null)
+        {
+            // The method did not make an API call.
+            return (failure != null) ? failedFuture(failure) : CompletableFuture.completedFuture(result);
+        }
 
-        return callApi(HttpMethod.GET, auth, path, queryParams, null, TokenListResponse.class, options);
-    }
+        if (failure != null || result != null || !isRecordedAsIs(async, responseClass))
+        {
+            // The method uses the response of the API, which is null while
+            // the call is recorded. Execute the whole method instead.
+            return CompletableFuture.supplyAsync(call, executor);
+        }
 
+        CompletableFuture<Object> future;
 
-    protected ServiceListResponse callGetServiceList(String auth, String path, int start, int end, boolean rangeGiven, Options options)
-    {
-        Map<String, Object[]> queryParams = new LinkedHashMap<>();
-        if (rangeGiven)
+        try
         {
-            queryParams.put("start", new Object[]{ start });
-            queryParams.put("end",   new Object[]{ end });
+            future = async.starter.apply(executor);
+        }
+        catch (Throwable t)
+        {
+            return failedFuture(t);
         }
 
-        return callApi(HttpMethod.GET, auth, path, queryParams, null, ServiceListResponse.class, options);
+        return (CompletableFuture<TResponse>)future;
     }
 
 
-    protected ClientListResponse callGetClientList(String auth, String path, String developer, int start, int end, boolean rangeGiven, Options options)
+    /**
+     * Check whether the response of the recorded call can be the result of
+     * the method as it is.
+     */
+    private static boolean isRecordedAsIs(AsyncCall async, Class<?> responseClass)
     {
-        Map<String, Object[]> queryParams = new LinkedHashMap<>();
-        if (developer != null)
-        {
-            queryParams.put("developer", new Object[]{ developer });
-        }
-        if (rangeGiven)
+        if (responseClass == null)
         {
-            queryParams.put("start", new Object[]{ start });
-            queryParams.put("end",   new Object[]{ end   });
+            // The result of the method is not used.
+            return true;
         }
 
-        return callApi(HttpMethod.GET, auth, path, queryParams, null, ClientListResponse.class, options);
+        return async.responseClass != null && responseClass.isAssignableFrom(async.responseClass);
     }
 
 
-    @SuppressWarnings("unchecked")
-    protected Map<String, String> callEcho(String path, Map<String, String> parameters, Options options)
+    private static <T> CompletableFuture<T> failedFuture(Throwable cause)
     {
-        // Convert single‐valued Map<String,String> into Map<String,Object[]> for callApi
-        Map<String, Object[]> queryParams = null;
-        if (parameters != null && !parameters.isEmpty())
-        {
-            queryParams = new LinkedHashMap<>();
-            for (Map.Entry<String, String> entry : parameters.entrySet())
-            {
-                queryParams.put(entry.getKey(), new Object[]{ entry.getValue() });
-            }
-        }
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(cause);
 
-        return callApi(HttpMethod.GET, null, path, queryParams, null, (Class<Map<String, String>>)(Class<?>)Map.class, options);
+        return future;
     }
 
 
-    private static ConnectionContext createConnection(
-            AuthleteApiBasicImpl.HttpMethod method, String auth,
-            String baseUrl, String path, Map<String, Object[]> queryParams, Options options,
-            Settings settings) throws AuthleteApiException
+    private static Throwable unwrap(Throwable t)
     {
-        try
-        {
-            // Open a connection to the Authlete API.
-            return openConnection(
-                    method, auth, baseUrl, path, queryParams, options, settings);
-        }
-        catch (Throwable cause)
-        {
-            // Failed to open a connection.
-            throw createAuthleteApiException(cause, null);
-        }
+        return (t instanceof CompletionException && t.getCause() != null) ? t.getCause() : t;
     }
 
 
-    private static ConnectionContext openConnection(
-            AuthleteApiBasicImpl.HttpMethod method, String auth, String baseUrl,
-            String path, Map<String, Object[]> queryParams, Options options,
-            Settings settings) throws IOException
+    /**
+     * The asynchronous version of {@link #doCallApi}.
+     */
+    private CompletableFuture<Object> doCallApiAsync(
+            HttpMethod method, String auth, String path, String pathTemplate,
+            Map<String, Object[]> queryParams, Object requestBody, Class<?> responseClass,
+            Options options, NotFoundHandling notFoundHandling, ClientErrorHandling clientErrorHandling,
+            ApiInvocation invocation, Executor executor)
     {
-        // URL of an Authlete API.
-        URL url = buildUrl(baseUrl, path, queryParams);
+        // The per-call timeout starts now, if any.
+        Deadline deadline = Deadline.of(options);
 
-        // Open a connection to the Authlete API.
-        HttpURLConnection con = (HttpURLConnection)url.openConnection();
+        // Details of the call reported to the listener, if any.
+        ApiCallListener listener = mSettings.getApiCallListener();
+        ApiCallEvent event = (listener == null) ? null : new ApiCallEvent(method.name(), pathTemplate);
+        long startTime = System.nanoTime();
 
-        // Set HTTP method.
-        con.setRequestMethod(method.name());
+        // Reject the call immediately if the API is overloaded or failing.
+        ApiGuard.Ticket ticket;
 
-        if (auth != null)
+        try
         {
-            // Set 'Authorization' HTTP header to access the Authlete API.
-            con.setRequestProperty(HttpHeader.AUTHORIZATION, auth);
+            // Asynchronous calls do not wait in the queue of the
+            // concurrency limiter, which would block the calling thread.
+            ticket = mApiGuard.enter(pathTemplate, mSettings, false);
         }
+        catch (AuthleteApiException e)
+        {
+            if (event != null)
+            {
+                event.outcome = ApiCallEvent.Outcome.REJECTED;
+                notifyListener(listener, event, startTime, e, null);
+            }
 
-        // Set 'Accept' HTTP header for a JSON response.
-        con.setRequestProperty(AuthleteApiBasicImpl.HttpHeader.ACCEPT, "application/json");
-
-        // Set custom request headers if needed.
-        setCustomRequestHeaders(con, options);
+            return failedFuture(e);
+        }
 
-        // Expect a response body.
-        con.setDoInput(true);
+        CompletableFuture<ConnectionContext> exchange;
 
-        // Set a connection timeout in milliseconds.
-        con.setConnectTimeout(settings.getConnectionTimeout());
+        try
+        {
+            // Build an HTTP request to the Authlete API.
+            HttpTransportRequest request = createRequest(
+                    method, auth, mBaseUrl, path, queryParams, requestBody, options, mSettings);
 
-        // Set a read timeout in milliseconds.
-        con.setReadTimeout(settings.getReadTimeout());
+            if (event != null)
+            {
+                countRequestBytes(request, event);
+            }
 
-        return new ConnectionContext(con);
-    }
+            // Send the request. The request may be sent more than once
+            // according to the retry policy.
+            exchange = executeWithRetryAsync(method, path, request, event, deadline, ticket, executor);
+        }
+        catch (Throwable t)
+        {
+            exchange = failedFuture(t);
+        }
 
+        CompletableFuture<Object> result = new CompletableFuture<>();
 
-    private static URL buildUrl(
-            String baseUrl, String path, Map<String, Object[]> queryParams) throws MalformedURLException
-    {
-        // {scheme}://{host}{path}
-        StringBuffer buf = new StringBuffer(baseUrl).append(path);
+        exchange.whenComplete((ctx, error) -> {
+            Object response = null;
+            boolean failed = false;
+            Throwable failure = null;
 
-        // ?key1=value1&key2=value2&...
-        appendQueryParams(buf, queryParams);
+            try
+            {
+                if (error != null)
+                {
+                    throw unwrap(error);
+                }
 
-        return new URL(buf.toString());
-    }
+                if (invocation != null)
+                {
+                    // Make the response visible to the interceptors.
+                    invocation.statusCode      = ctx.statusCode();
+                    invocation.responseHeaders = ctx.headers();
+                }
+
+                // Process the response.
+                long processStart = System.nanoTime();
+
+                try
+                {
+                    response = communicate(ctx, responseClass, notFoundHandling, clientErrorHandling);
+                }
+                finally
+                {
+                    if (event != null)
+                    {
+                        event.processTime = System.nanoTime() - processStart;
+                    }
+                }
+            }
+            catch (AuthleteApiException e)
+            {
+                failed  = isServerFailure(e);
+                failure = e;
+            }
+            catch (Throwable t)
+            {
+                failed  = isServerFailure(t);
+                failure = createAuthleteApiException(t, ctx);
+            }
+            finally
+            {
+                if (ctx != null)
+                {
+                    ctx.close();
+                }
+
+                // Record the outcome for the circuit breaker.
+                ticket.exit(failed);
+
+                if (event != null)
+                {
+                    notifyListener(listener, event, startTime, failure, ctx);
+                }
+            }
+
+            if (failure != null)
+            {
+                result.completeExceptionally(failure);
+            }
+            else
+            {
+                result.complete(response);
+            }
+        });
+
+        return result;
+    }
+
+
+    /**
+     * Count the bytes of the request body sent by each attempt.
+     */
+    private static void countRequestBytes(HttpTransportRequest request, ApiCallEvent event)
+    {
+        if (request.getBody() != null)
+        {
+            event.requestBytes = request.getBody().length;
+            return;
+        }
+
+        HttpTransportRequest.BodyWriter writer = request.getBodyWriter();
+
+        if (writer == null)
+        {
+            event.requestBytes = 0;
+            return;
+        }
+
+        request.setBodyWriter(out -> {
+            CountingOutputStream counter = new CountingOutputStream(out);
+            writer.writeTo(counter);
+            event.requestBytes = counter.count;
+        });
+    }
+
+
+    /**
+     * Complete the event and pass it to the listener.
+     */
+    private static void notifyListener(
+            ApiCallListener listener, ApiCallEvent event, long startTime,
+            Throwable failure, ConnectionContext ctx)
+    {
+        event.totalTime = System.nanoTime() - startTime;
+        event.failure   = failure;
+
+        if (ctx != null)
+        {
+            event.statusCode    = ctx.statusCode();
+            event.responseBytes = ctx.bodyBytes();
+        }
+        else if (failure instanceof AuthleteApiException)
+        {
+            event.statusCode = ((AuthleteApiException)failure).getStatusCode();
+        }
+
+        if (event.outcome == null)
+        {
+            event.outcome = (event.statusCode >= HttpURLConnection.HTTP_INTERNAL_ERROR) ? ApiCallEvent.Outcome.SERVER_ERROR
+                          : (event.statusCode >= HttpURLConnection.HTTP_BAD_REQUEST)    ? ApiCallEvent.Outcome.CLIENT_ERROR
+                          : (failure != null)                                            ? ApiCallEvent.Outcome.ERROR
+                          :                                                                ApiCallEvent.Outcome.SUCCESS;
+        }
+
+        try
+        {
+            listener.onApiCall(event);
+        }
+        catch (RuntimeException e)
+        {
+            // A broken listener must not break API calls.
+        }
+    }
+
+
+    /**
+     * Check whether an error indicates that the API is failing. Client
+     * errors (4xx) do not indicate that.
+     */
+    private static boolean isServerFailure(Throwable t)
+    {
+        if (t instanceof AuthleteApiException)
+        {
+            AuthleteApiException e = (AuthleteApiException)t;
+
+            return e.getStatusCode() >= HttpURLConnection.HTTP_INTERNAL_ERROR
+                    || (e.getStatusCode() == 0 && e.getCause() instanceof IOException);
+        }
+
+        return t instanceof IOException;
+    }
+
+
+    /**
+     * Get the states of the circuit breakers of APIs which have been called.
+     *
+     * @return
+     *         States of circuit breakers keyed by path templates such as
+     *         {@code "/api/{}/auth/userinfo"}. Empty if circuit breakers
+     *         are disabled.
+     *
+     * @since 4.47
+     *
+     * @see Settings#setCircuitBreakerPolicy(CircuitBreakerPolicy)
+     */
+    public Map<String, CircuitBreakerState> getCircuitBreakerStates()
+    {
+        return mApiGuard.circuitBreakerStates();
+    }
+
+
+    /**
+     * Get the current adaptive limit of concurrent calls.
+     *
+     * @return
+     *         The current limit. 0 if the limit is disabled or no API has
+     *         been called since it was enabled.
+     *
+     * @since 4.47
+     *
+     * @see Settings#setConcurrencyLimitPolicy(ConcurrencyLimitPolicy)
+     */
+    public int getConcurrencyLimit()
+    {
+        return mApiGuard.concurrencyLimit();
+    }
+
+
+    /**
+     * Get the availability of the base URLs.
+     *
+     * <p>
+     * When the base URL of the configuration lists multiple base URLs
+     * separated by commas, each call is routed to the base URL with the
+     * lowest latency at the moment. A base URL is ejected after 3
+     * consecutive failures (I/O errors or 5xx responses) and brought back
+     * when a probe by the {@code /api/misc/echo} API succeeds after 30
+     * seconds.
+     * </p>
+     *
+     * @return
+     *         {@code true} for each available base URL and {@code false}
+     *         for each ejected one, keyed by base URLs.
+     *
+     * @since 4.47
+     */
+    public Map<String, Boolean> getEndpointAvailability()
+    {
+        if (mRouter == null)
+        {
+            Map<String, Boolean> map = new LinkedHashMap<>();
+            map.put(mBaseUrl, true);
+
+            return map;
+        }
+
+        return mRouter.availability();
+    }
+
+
+    EndpointRouter router()
+    {
+        return mRouter;
+    }
+
+
+    /**
+     * Get the numbers of calls in progress of APIs which have been called.
+     *
+     * @return
+     *         Numbers of calls in progress keyed by path templates such as
+     *         {@code "/api/{}/auth/userinfo"}.
+     *
+     * @since 4.47
+     *
+     * @see Settings#setMaxConcurrentCallsPerApi(int)
+     */
+    public Map<String, Integer> getConcurrentCalls()
+    {
+        return mApiGuard.concurrentCalls();
+    }
+
+
+    protected TokenListResponse callGetTokenList(
+            String auth, String path, String clientIdentifier, String subject, int start, int end, boolean rangeGiven, TokenStatus tokenStatus, Options options)
+    {
+        Map<String, Object[]> queryParams = new LinkedHashMap<>();
+
+        if (clientIdentifier != null)
+        {
+            queryParams.put("clientIdentifier", new Object[]{ clientIdentifier });
+        }
+
+        if (subject != null)
+        {
+            queryParams.put("subject", new Object[]{ subject });
+        }
+
+        if (rangeGiven)
+        {
+            queryParams.put("start", new Object[]{ start });
+            queryParams.put("end",   new Object[]{ end   });
+        }
+
+        queryParams.put("tokenStatus", new Object[]{ tokenStatus.toString() });
+
+        return callApi(HttpMethod.GET, auth, path, queryParams, null, TokenListResponse.class, options);
+    }
+
+
+    protected ServiceListResponse callGetServiceList(String auth, String path, int start, int end, boolean rangeGiven, Options options)
+    {
+        Map<String, Object[]> queryParams = new LinkedHashMap<>();
+        if (rangeGiven)
+        {
+            queryParams.put("start", new Object[]{ start });
+            queryParams.put("end",   new Object[]{ end });
+        }
+
+        return callApi(HttpMethod.GET, auth, path, queryParams, null, ServiceListResponse.class, options);
+    }
+
+
+    protected ClientListResponse callGetClientList(String auth, String path, String developer, int start, int end, boolean rangeGiven, Options options)
+    {
+        Map<String, Object[]> queryParams = new LinkedHashMap<>();
+        if (developer != null)
+        {
+            queryParams.put("developer", new Object[]{ developer });
+        }
+        if (rangeGiven)
+        {
+            queryParams.put("start", new Object[]{ start });
+            queryParams.put("end",   new Object[]{ end   });
+        }
+
+        return callApi(HttpMethod.GET, auth, path, queryParams, null, ClientListResponse.class, options);
+    }
+
+
+    @SuppressWarnings("unchecked")
+    protected Map<String, String> callEcho(String path, Map<String, String> parameters, Options options)
+    {
+        // Convert single‐valued Map<String,String> into Map<String,Object[]> for callApi
+        Map<String, Object[]> queryParams = null;
+        if (parameters != null && !parameters.isEmpty())
+        {
+            queryParams = new LinkedHashMap<>();
+            for (Map.Entry<String, String> entry : parameters.entrySet())
+            {
+                queryParams.put(entry.getKey(), new Object[]{ entry.getValue() });
+            }
+        }
+
+        return callApi(HttpMethod.GET, null, path, queryParams, null, (Class<Map<String, String>>)(Class<?>)Map.class, options);
+    }
+
+
+    private static HttpTransportRequest createRequest(
+            AuthleteApiBasicImpl.HttpMethod method, String auth,
+            String baseUrl, String path, Map<String, Object[]> queryParams,
+            Object requestBody, Options options, Settings settings) throws AuthleteApiException
+    {
+        try
+        {
+            // Build an HTTP request to the Authlete API.
+            return buildRequest(
+                    method, auth, baseUrl, path, queryParams, requestBody, options, settings);
+        }
+        catch (Throwable cause)
+        {
+            // Failed to build a request.
+            throw createAuthleteApiException(cause, null);
+        }
+    }
+
+
+    private static HttpTransportRequest buildRequest(
+            AuthleteApiBasicImpl.HttpMethod method, String auth, String baseUrl,
+            String path, Map<String, Object[]> queryParams, Object requestBody,
+            Options options, Settings settings) throws IOException
+    {
+        HttpTransportRequest request = new HttpTransportRequest()
+                // Set HTTP method.
+                .setMethod(method.name())
+                // URL of an Authlete API.
+                .setUrl(buildUrl(baseUrl, path, queryParams))
+                // Set a connection timeout in milliseconds.
+                .setConnectionTimeout(settings.getConnectionTimeout())
+                // Set a read timeout in milliseconds.
+                .setReadTimeout(settings.getReadTimeout());
+
+        if (auth != null)
+        {
+            // Set 'Authorization' HTTP header to access the Authlete API.
+            request.setHeader(HttpHeader.AUTHORIZATION, auth);
+        }
+
+        // Set 'Accept' HTTP header for a JSON response.
+        request.setHeader(AuthleteApiBasicImpl.HttpHeader.ACCEPT, "application/json");
+
+        if (settings.isResponseCompressionEnabled())
+        {
+            // Ask for a compressed response. ConnectionContext decompresses
+            // the response body according to 'Content-Encoding'.
+            request.setHeader(AuthleteApiBasicImpl.HttpHeader.ACCEPT_ENCODING, "gzip, deflate");
+        }
+
+        // Set custom request headers if needed.
+        setCustomRequestHeaders(request, options);
+
+        // If the request has a request body.
+        if (requestBody != null)
+        {
+            // Set the request body.
+            setRequestBody(request, requestBody, settings);
+        }
+
+        return request;
+    }
+
+
+    private static URL buildUrl(
+            String baseUrl, String path, Map<String, Object[]> queryParams) throws MalformedURLException
+    {
+        // {scheme}://{host}{path}
+        StringBuffer buf = new StringBuffer(baseUrl).append(path);
+
+        // ?key1=value1&key2=value2&...
+        appendQueryParams(buf, queryParams);
+
+        return new URL(buf.toString());
+    }
 
 
     private static void appendQueryParams(StringBuffer buf, Map<String, Object[]> params)
@@ -475,197 +1228,674 @@ public abstract class AuthleteApiBasicImpl implements AuthleteApi
     }
 
 
-    private static String toQueryParamKey(String str)
+    private static String toQueryParamKey(String str)
+    {
+        if (str == null || str.length() == 0)
+        {
+            // Invalid key.
+            return null;
+        }
+
+        return urlEncode(str);
+    }
+
+
+    private static String toQueryParamValue(String str)
+    {
+        if (str == null || str.length() == 0)
+        {
+            return "";
+        }
+
+        return urlEncode(str);
+    }
+
+
+    private static String urlEncode(String str)
+    {
+        try
+        {
+            return URLEncoder.encode(str, UTF_8);
+        }
+        catch (UnsupportedEncodingException e)
+        {
+            // This never happens because UTF-8 is always supported.
+            return str;
+        }
+    }
+
+
+    private static void setCustomRequestHeaders(HttpTransportRequest request, Options options)
+    {
+        // Request options are not specified.
+        if (options == null)
+        {
+            return;
+        }
+
+        // Custom headers.
+        Map<String, String> headers = options.getHeaders();
+
+        if (headers == null)
+        {
+            return;
+        }
+
+        for (Entry<String, String> e : headers.entrySet())
+        {
+            // The key of the header.
+            String key = e.getKey();
+
+            // Some header keys are reserved.
+            if (isReservedRequestHeader(key))
+            {
+                continue;
+            }
+
+            request.setHeader(key, e.getValue());
+        }
+    }
+
+
+    private static boolean isReservedRequestHeader(String key)
+    {
+        return key.equalsIgnoreCase(AuthleteApiBasicImpl.HttpHeader.ACCEPT) ||
+                key.equalsIgnoreCase(HttpHeader.AUTHORIZATION) ||
+                key.equalsIgnoreCase(AuthleteApiBasicImpl.HttpHeader.CONTENT_TYPE);
+    }
+
+
+    private String wrapWithDpop(HttpMethod method, String baseUrl, String path) throws AuthleteApiException
+    {
+        if (mDpopProofGenerator == null)
+        {
+            // No DPoP configured → caller should skip setting a DPoP header
+            return null;
+        }
+
+        return mDpopProofGenerator.generate(method.name(), baseUrl + path,
+                mSettings.getDpopProofPoolSize(), mSettings.getDpopProofMaxAge());
+    }
+
+
+    /**
+     * Cap the timeouts of the request by the remaining time of the
+     * per-call timeout.
+     */
+    private void applyDeadline(HttpTransportRequest request, Deadline deadline) throws IOException
+    {
+        if (deadline == null)
+        {
+            return;
+        }
+
+        int remaining = deadline.check();
+
+        request.setConnectionTimeout(cap(mSettings.getConnectionTimeout(), remaining))
+               .setReadTimeout(cap(mSettings.getReadTimeout(), remaining))
+               .setTotalTimeout(remaining);
+    }
+
+
+    private static int cap(int timeout, int limit)
+    {
+        // 0 means an infinite timeout.
+        return (timeout <= 0 || limit < timeout) ? limit : timeout;
+    }
+
+
+    /**
+     * Check whether another attempt can be made after the delay before
+     * the per-call timeout expires.
+     */
+    private static boolean withinDeadline(Deadline deadline, long delay)
+    {
+        return deadline == null || delay < deadline.remaining();
+    }
+
+
+    private ConnectionContext executeWithRetry(
+            HttpMethod method, String path, HttpTransportRequest request,
+            ApiCallEvent event, Deadline deadline, ApiGuard.Ticket ticket) throws IOException
+    {
+        RetryPolicy policy = mSettings.getRetryPolicy();
+
+        if (policy == null)
+        {
+            // Retries are disabled.
+            return attempt(method, path, request, event, deadline, ticket);
+        }
+
+        // Whether the API call can be sent again safely.
+        boolean idempotent = policy.isIdempotent(method.name(), PathTemplates.of(path));
+
+        // Every API call adds a fraction of a token to the retry budget.
+        mRetryBudget.deposit(policy.getRetryBudgetRatio(), policy.getRetryBudgetCapacity());
+
+        for (int attempt = 1; ; attempt++)
+        {
+            ConnectionContext ctx;
+
+            try
+            {
+                ctx = attempt(method, path, request, event, deadline, ticket);
+            }
+            catch (IOException e)
+            {
+                long delay = retryDelay(policy, idempotent, attempt, deadline, e);
+
+                if (delay < 0)
+                {
+                    throw e;
+                }
+
+                backoff(delay);
+                continue;
+            }
+
+            long delay = retryDelay(policy, idempotent, attempt, deadline, ctx);
+
+            if (delay < 0)
+            {
+                return ctx;
+            }
+
+            // Discard the error response before retrying.
+            ctx.close();
+
+            backoff(delay);
+        }
+    }
+
+
+    /**
+     * The asynchronous version of {@link #executeWithRetry}. Retries are
+     * scheduled instead of sleeping.
+     */
+    private CompletableFuture<ConnectionContext> executeWithRetryAsync(
+            HttpMethod method, String path, HttpTransportRequest request,
+            ApiCallEvent event, Deadline deadline, ApiGuard.Ticket ticket, Executor executor)
+    {
+        RetryPolicy policy = mSettings.getRetryPolicy();
+
+        if (policy == null)
+        {
+            // Retries are disabled.
+            return attemptAsync(method, path, request, event, deadline, ticket, executor);
+        }
+
+        // Whether the API call can be sent again safely.
+        boolean idempotent = policy.isIdempotent(method.name(), PathTemplates.of(path));
+
+        // Every API call adds a fraction of a token to the retry budget.
+        mRetryBudget.deposit(policy.getRetryBudgetRatio(), policy.getRetryBudgetCapacity());
+
+        CompletableFuture<ConnectionContext> result = new CompletableFuture<>();
+
+        retryAsync(1, policy, idempotent, method, path, request, event, deadline, ticket, executor, result);
+
+        return result;
+    }
+
+
+    private void retryAsync(
+            int attempt, RetryPolicy policy, boolean idempotent,
+            HttpMethod method, String path, HttpTransportRequest request,
+            ApiCallEvent event, Deadline deadline, ApiGuard.Ticket ticket, Executor executor,
+            CompletableFuture<ConnectionContext> result)
+    {
+        attemptAsync(method, path, request, event, deadline, ticket, executor).whenComplete((ctx, error) -> {
+            long delay;
+
+            if (error != null)
+            {
+                Throwable cause = unwrap(error);
+
+                delay = (cause instanceof IOException)
+                      ? retryDelay(policy, idempotent, attempt, deadline, (IOException)cause) : -1;
+
+                if (delay < 0)
+                {
+                    result.completeExceptionally(cause);
+                    return;
+                }
+            }
+            else
+            {
+                delay = retryDelay(policy, idempotent, attempt, deadline, ctx);
+
+                if (delay < 0)
+                {
+                    result.complete(ctx);
+                    return;
+                }
+
+                // Discard the error response before retrying.
+                ctx.close();
+            }
+
+            try
+            {
+                // The next attempt is started on the executor because the
+                // scheduler thread must not do any work.
+                DefaultExecutors.scheduler().schedule(
+                        () -> executor.execute(() -> retryAsync(attempt + 1, policy, idempotent,
+                                method, path, request, event, deadline, ticket, executor, result)),
+                        delay, TimeUnit.MILLISECONDS);
+            }
+            catch (RuntimeException e)
+            {
+                // The task was rejected.
+                result.completeExceptionally(e);
+            }
+        });
+    }
+
+
+    /**
+     * Get the delay before retrying a request which failed with an I/O error.
+     *
+     * @return
+     *         The delay in milliseconds. -1 not to retry.
+     */
+    private long retryDelay(
+            RetryPolicy policy, boolean idempotent, int attempt, Deadline deadline, IOException e)
+    {
+        // A request which failed to connect has not reached the server.
+        // Other I/O errors may have occurred after the server processed
+        // the request.
+        long delay = policy.computeBackoff(attempt);
+
+        if (!(idempotent || e instanceof ConnectException)
+                || !withinDeadline(deadline, delay) || !canRetry(policy, attempt))
+        {
+            return -1;
+        }
+
+        return delay;
+    }
+
+
+    /**
+     * Get the delay before retrying a request which received the response.
+     *
+     * @return
+     *         The delay in milliseconds. -1 not to retry.
+     */
+    private long retryDelay(
+            RetryPolicy policy, boolean idempotent, int attempt, Deadline deadline, ConnectionContext ctx)
+    {
+        if (!idempotent || !policy.getRetryableStatusCodes().contains(ctx.statusCode()))
+        {
+            return -1;
+        }
+
+        // The minimum delay requested by the server.
+        long delay = Math.max(policy.computeBackoff(attempt), retryAfter(ctx));
+
+        // Give up if the server requests a longer delay than allowed.
+        if (delay > policy.getMaxBackoff()
+                || !withinDeadline(deadline, delay) || !canRetry(policy, attempt))
+        {
+            return -1;
+        }
+
+        return delay;
+    }
+
+
+    private boolean canRetry(RetryPolicy policy, int attempt)
+    {
+        return attempt < policy.getMaxAttempts() && mRetryBudget.withdraw(policy.getRetryBudgetCapacity());
+    }
+
+
+    private static long retryAfter(ConnectionContext ctx)
+    {
+        Map<String, List<String>> headers = ctx.headers();
+
+        if (headers == null)
+        {
+            return 0;
+        }
+
+        for (Entry<String, List<String>> e : headers.entrySet())
+        {
+            if (!HttpHeader.RETRY_AFTER.equalsIgnoreCase(e.getKey())
+                    || e.getValue() == null || e.getValue().isEmpty())
+            {
+                continue;
+            }
+
+            try
+            {
+                // Only the delay-seconds format is supported. An HTTP-date
+                // is ignored.
+                return Long.parseLong(e.getValue().get(0).trim()) * 1000;
+            }
+            catch (NumberFormatException ex)
+            {
+                return 0;
+            }
+        }
+
+        return 0;
+    }
+
+
+    private static void backoff(long delay) throws IOException
     {
-        if (str == null || str.length() == 0)
+        try
         {
-            // Invalid key.
-            return null;
+            Thread.sleep(delay);
         }
+        catch (InterruptedException e)
+        {
+            // Restore the interrupted status and stop retrying.
+            Thread.currentThread().interrupt();
 
-        return urlEncode(str);
+            throw new InterruptedIOException("Interrupted while waiting to retry.");
+        }
     }
 
 
-    private static String toQueryParamValue(String str)
+    /**
+     * Send the request once, to one of the base URLs if there are multiple.
+     */
+    private ConnectionContext attempt(
+            HttpMethod method, String path, HttpTransportRequest request,
+            ApiCallEvent event, Deadline deadline, ApiGuard.Ticket ticket) throws IOException
     {
-        if (str == null || str.length() == 0)
+        // Give the attempt the rest of the per-call timeout.
+        applyDeadline(request, deadline);
+
+        if (mRouter == null)
         {
-            return "";
+            // A DPoP proof cannot be reused, so a new one is generated
+            // for each attempt.
+            setDpopHeader(request, method, mBaseUrl, path);
+
+            return execute(request, event, ticket);
         }
 
-        return urlEncode(str);
-    }
+        // Route the request to the best base URL at the moment. A retry
+        // may go to another base URL than the previous attempt.
+        EndpointRouter.Endpoint endpoint = mRouter.select();
+        String query = request.getUrl().getQuery();
+        request.setUrl(new URL(endpoint.baseUrl() + path + ((query == null) ? "" : "?" + query)));
+        setDpopHeader(request, method, endpoint.baseUrl(), path);
 
+        long startTime = System.nanoTime();
+        boolean failed = true;
 
-    private static String urlEncode(String str)
-    {
         try
         {
-            return URLEncoder.encode(str, UTF_8);
+            ConnectionContext ctx = execute(request, event, ticket);
+            failed = ctx.statusCode() >= HttpURLConnection.HTTP_INTERNAL_ERROR;
+
+            return ctx;
         }
-        catch (UnsupportedEncodingException e)
+        finally
         {
-            // This never happens because UTF-8 is always supported.
-            return str;
+            mRouter.onComplete(endpoint, System.nanoTime() - startTime, failed);
         }
     }
 
 
-    private static void setCustomRequestHeaders(HttpURLConnection con, Options options)
+    /**
+     * The asynchronous version of {@link #attempt}.
+     */
+    private CompletableFuture<ConnectionContext> attemptAsync(
+            HttpMethod method, String path, HttpTransportRequest request,
+            ApiCallEvent event, Deadline deadline, ApiGuard.Ticket ticket, Executor executor)
     {
-        // Request options are not specified.
-        if (options == null)
+        EndpointRouter.Endpoint endpoint;
+
+        try
         {
-            return;
-        }
+            // Give the attempt the rest of the per-call timeout.
+            applyDeadline(request, deadline);
 
-        // Custom headers.
-        Map<String, String> headers = options.getHeaders();
+            if (mRouter == null)
+            {
+                setDpopHeader(request, method, mBaseUrl, path);
 
-        if (headers == null)
+                return executeAsync(request, event, ticket, executor);
+            }
+
+            // Route the request to the best base URL at the moment.
+            endpoint = mRouter.select();
+            String query = request.getUrl().getQuery();
+            request.setUrl(new URL(endpoint.baseUrl() + path + ((query == null) ? "" : "?" + query)));
+            setDpopHeader(request, method, endpoint.baseUrl(), path);
+        }
+        catch (Throwable t)
         {
-            return;
+            return failedFuture(t);
         }
 
-        for (Entry<String, String> e : headers.entrySet())
+        long startTime = System.nanoTime();
+
+        return executeAsync(request, event, ticket, executor).whenComplete((ctx, error) ->
+                mRouter.onComplete(endpoint, System.nanoTime() - startTime,
+                        error != null || ctx.statusCode() >= HttpURLConnection.HTTP_INTERNAL_ERROR));
+    }
+
+
+    /**
+     * Check whether the API at the base URL is available.
+     */
+    private boolean probe(String baseUrl)
+    {
+        ConnectionContext ctx = null;
+
+        try
         {
-            // The key of the header.
-            String key = e.getKey();
+            HttpTransportRequest request = createRequest(
+                    HttpMethod.GET, null, baseUrl, PROBE_API_PATH, null, null, null, mSettings);
 
-            // Some header keys are reserved.
-            if (isReservedRequestHeader(key))
+            ctx = execute(request, null, null);
+
+            return ctx.statusCode() == HttpURLConnection.HTTP_OK;
+        }
+        catch (Throwable t)
+        {
+            return false;
+        }
+        finally
+        {
+            if (ctx != null)
             {
-                continue;
+                ctx.close();
             }
+        }
+    }
+
+
+    private void setDpopHeader(HttpTransportRequest request, HttpMethod method, String baseUrl, String path)
+    {
+        String dpopHeader = wrapWithDpop(method, baseUrl, path);
 
-            con.setRequestProperty(key, e.getValue());
+        if (dpopHeader != null)
+        {
+            request.setHeader(HttpHeader.DPOP, dpopHeader);
         }
+
+        // A request renewed by the transport, e.g. for a revalidation in
+        // the background, gets its own proof and the default timeouts.
+        request.setRenewer(renewed -> {
+            renewed.setConnectionTimeout(mSettings.getConnectionTimeout())
+                   .setReadTimeout(mSettings.getReadTimeout());
+            setDpopHeader(renewed, method, baseUrl, path);
+        });
     }
 
 
-    private static boolean isReservedRequestHeader(String key)
+    private HttpTransport transport()
     {
-        return key.equalsIgnoreCase(AuthleteApiBasicImpl.HttpHeader.ACCEPT) ||
-                key.equalsIgnoreCase(HttpHeader.AUTHORIZATION) ||
-                key.equalsIgnoreCase(AuthleteApiBasicImpl.HttpHeader.CONTENT_TYPE);
+        HttpTransport transport = mSettings.getHttpTransport();
+
+        // Use the default transport if none is set.
+        return (transport != null) ? transport : DEFAULT_TRANSPORT;
     }
 
 
-    private String wrapWithDpop(HttpMethod method, String path) throws AuthleteApiException
+    private ConnectionContext execute(
+            HttpTransportRequest request, ApiCallEvent event, ApiGuard.Ticket ticket) throws IOException
     {
-        if (mDpopJwk == null)
+        HttpTransport transport = transport();
+
+        if (event != null)
         {
-            // No DPoP configured → caller should skip setting a DPoP header
-            return null;
+            event.attempts++;
+            event.connectTime = -1;
+            event.waitTime    = -1;
         }
 
-        String htu = mBaseUrl + path;
-        JWSHeader header = new JWSHeader.Builder(JWSAlgorithm.RS256)
-                .type(new JOSEObjectType("dpop+jwt"))
-                .jwk(mDpopJwk)
-                .build();
+        long sendStart = System.nanoTime();
 
-        JWTClaimsSet claims = new JWTClaimsSet.Builder()
-                .claim("htm", method.name())
-                .claim("htu", htu)
-                .jwtID(UUID.randomUUID().toString())
-                .issueTime(new Date())
-                .build();
+        // Send the request and receive the response.
+        HttpTransportResponse response = transport.execute(request);
 
-        JWSObject dpop = new SignedJWT(header, claims);
-        try
+        onResponse(response, System.nanoTime() - sendStart, event, ticket);
+
+        return new ConnectionContext(response);
+    }
+
+
+    /**
+     * Record the round-trip time of a request which has received the
+     * response headers.
+     */
+    private static void onResponse(
+            HttpTransportResponse response, long rtt, ApiCallEvent event, ApiGuard.Ticket ticket)
+    {
+        if (ticket != null)
         {
-            dpop.sign(mJwsSigner);
+            // One sample for each request sent to the server.
+            ticket.sample(rtt);
         }
-        catch (JOSEException e)
+
+        if (event != null)
         {
-            // We'll rethrow as AuthleteApiException so that our caller can wrap it properly
-            throw new AuthleteApiException("Failed to sign DPoP token.", e);
+            long connectTime  = response.getConnectTime();
+            event.connectTime = connectTime;
+            event.waitTime    = rtt - Math.max(connectTime, 0);
         }
-
-        return dpop.serialize();
     }
 
 
-    @SuppressWarnings("unchecked")
-    private <TResponse> TResponse communicate(
-            ConnectionContext ctx, Object requestBody, Class<TResponse> responseClass) throws AuthleteApiException
+    /**
+     * The asynchronous version of {@link #execute(HttpTransportRequest, ApiCallEvent, ApiGuard.Ticket)}.
+     */
+    private CompletableFuture<ConnectionContext> executeAsync(
+            HttpTransportRequest request, ApiCallEvent event, ApiGuard.Ticket ticket, Executor executor)
     {
-        return communicate(ctx, requestBody, responseClass, NotFoundHandling.THROW_EXCEPTION);
-    }
+        if (event != null)
+        {
+            event.attempts++;
+            event.connectTime = -1;
+            event.waitTime    = -1;
+        }
 
+        long sendStart = System.nanoTime();
+        CompletableFuture<ConnectionContext> future = new CompletableFuture<>();
+        CompletionStage<HttpTransportResponse> stage;
 
-    @SuppressWarnings("unchecked")
-    private <TResponse> TResponse communicate(
-            ConnectionContext ctx, Object requestBody, Class<TResponse> responseClass, 
-            NotFoundHandling notFoundHandling) throws AuthleteApiException
-    {
-        return communicate(ctx, requestBody, responseClass, notFoundHandling, ClientErrorHandling.THROW_EXCEPTION);
+        try
+        {
+            // Send the request without waiting for the response.
+            stage = transport().executeAsync(request, executor);
+        }
+        catch (Throwable t)
+        {
+            return failedFuture(t);
+        }
+
+        stage.whenComplete((response, error) -> {
+            if (error != null)
+            {
+                future.completeExceptionally(unwrap(error));
+                return;
+            }
+
+            onResponse(response, System.nanoTime() - sendStart, event, ticket);
+
+            future.complete(new ConnectionContext(response));
+        });
+
+        return future;
     }
 
 
     @SuppressWarnings("unchecked")
     private <TResponse> TResponse communicate(
-            ConnectionContext ctx, Object requestBody, Class<TResponse> responseClass, 
+            ConnectionContext ctx, Class<TResponse> responseClass,
             NotFoundHandling notFoundHandling, ClientErrorHandling clientErrorHandling) throws AuthleteApiException
     {
-        // If the request has a request body.
-        if (requestBody != null)
-        {
-            // Write the request body.
-            writeRequestBody(ctx, requestBody);
-        }
-
         // Check HTTP status code: handle 404s and other 4xx based on strategy, treat 5xx as server errors.
-        try
+        int status = ctx.statusCode();
+        if (status >= HttpURLConnection.HTTP_BAD_REQUEST)
         {
-            int status = ctx.connection().getResponseCode();
-            if (responseClass != null && status >= HttpURLConnection.HTTP_BAD_REQUEST)
+            if (responseClass != null)
             {
                 // Special handling for 404 responses
                 if (status == HttpURLConnection.HTTP_NOT_FOUND)
                 {
                     return handle404Response(ctx, responseClass, notFoundHandling);
                 }
-                
+
                 // Handle other 4xx responses based on strategy
                 if (status >= 400 && status < 500)
                 {
                     return handle4xxResponse(ctx, responseClass, status, clientErrorHandling);
                 }
-                
-                // For 5xx errors, always throw exception
-                String errorBody = extractErrorData(ctx);
-                String statusMsg = extractStatusMessage(ctx.connection());
-                Map<String, List<String>> headers = ctx.connection().getHeaderFields();
-                throw new AuthleteApiException("HTTP " + status + " " + statusMsg,
-                        status, statusMsg, errorBody, headers);
             }
+
+            // For 5xx errors (and for any error when no response is expected), always throw exception
+            String errorBody = extractErrorData(ctx);
+            String statusMsg = ctx.statusMessage();
+            Map<String, List<String>> headers = ctx.headers();
+            throw new AuthleteApiException("HTTP " + status + " " + statusMsg,
+                    status, statusMsg, errorBody, headers);
         }
-        catch (IOException ioe)
+
+        if (responseClass == String.class || responseClass == null)
         {
-            // If we can't get status, fallback to normal flow
+            // Read the response body. No need to convert the type.
+            return (TResponse)readResponseBody(ctx);
         }
 
-        // Read the response body. (JSON is expected)
-        String responseBody = readResponseBody(ctx);
+        // Convert the JSON in the response body into an object.
+        return parseResponseBody(ctx, responseClass);
+    }
 
-        // If the response does not include any entity.
-        if (responseBody == null)
+
+    private static <TResponse> TResponse parseResponseBody(
+            ConnectionContext ctx, Class<TResponse> responseClass) throws AuthleteApiException
+    {
+        InputStream in;
+
+        try
         {
-            // No response body.
-            return null;
+            in = ctx.inputStream();
+        }
+        catch (Throwable cause)
+        {
+            // Failed to open the response body.
+            throw createAuthleteApiException(cause, ctx);
         }
 
-        if (responseClass == String.class || responseClass == null)
+        // If the response does not include any entity.
+        if (in == null)
         {
-            // No need to convert the type.
-            return (TResponse)responseBody;
+            // No response body.
+            return null;
         }
 
-        // Convert the JSON into an object.
-        return Utils.fromJson(responseBody, responseClass);
+        // Decode the JSON directly from the stream instead of copying the
+        // entire response body into a byte array and then into a string.
+        return Utils.fromJson(new InputStreamReader(in, StandardCharsets.UTF_8), responseClass);
     }
 
 
@@ -704,8 +1934,8 @@ public abstract class AuthleteApiBasicImpl implements AuthleteApi
         else
         {
             // THROW_EXCEPTION (default)
-            String statusMsg = extractStatusMessage(ctx.connection());
-            Map<String, List<String>> headers = ctx.connection().getHeaderFields();
+            String statusMsg = ctx.statusMessage();
+            Map<String, List<String>> headers = ctx.headers();
             String body       = extractErrorData(ctx);
             throw new AuthleteApiException(
                     "HTTP 404 " + statusMsg,
@@ -742,8 +1972,8 @@ public abstract class AuthleteApiBasicImpl implements AuthleteApi
                 }
             }
             // parsing not performed or failed → throw exception
-            String statusMsg = extractStatusMessage(ctx.connection());
-            Map<String, List<String>> headers = ctx.connection().getHeaderFields();
+            String statusMsg = ctx.statusMessage();
+            Map<String, List<String>> headers = ctx.headers();
             String body       = extractErrorData(ctx);
             throw new AuthleteApiException(
                     "HTTP " + status + " " + statusMsg,
@@ -772,8 +2002,8 @@ public abstract class AuthleteApiBasicImpl implements AuthleteApi
         // 3) THROW_EXCEPTION (default)
         else
         {
-            String statusMsg = extractStatusMessage(ctx.connection());
-            Map<String, List<String>> headers = ctx.connection().getHeaderFields();
+            String statusMsg = ctx.statusMessage();
+            Map<String, List<String>> headers = ctx.headers();
             String body       = extractErrorData(ctx);
             throw new AuthleteApiException(
                     "HTTP " + status + " " + statusMsg,
@@ -833,41 +2063,149 @@ public abstract class AuthleteApiBasicImpl implements AuthleteApi
     }
 
 
-    private static void writeRequestBody(ConnectionContext ctx, Object requestBody) throws AuthleteApiException
+    private static void setRequestBody(
+            HttpTransportRequest request, Object requestBody, Settings settings)
     {
         // Set 'Content-Type' to send JSON.
-        ctx.property(AuthleteApiBasicImpl.HttpHeader.CONTENT_TYPE, "application/json");
+        request.setHeader(AuthleteApiBasicImpl.HttpHeader.CONTENT_TYPE, "application/json");
 
-        // Use the connection as an output stream.
-        ctx.doOutput(true);
+        // Request bodies whose size is equal to or greater than the threshold
+        // are compressed. A negative threshold disables compression.
+        int threshold = settings.getRequestCompressionThreshold();
 
-        try
+        if (settings.isRequestBodyStreamingEnabled())
         {
-            // Write the request body.
-            writeContent(ctx, requestBody);
+            if (threshold < 0)
+            {
+                // Write the JSON directly into the connection.
+                request.setBodyWriter(out -> writeJson(requestBody, out));
+                return;
+            }
+
+            // The size of a streamed body is not known in advance, so
+            // it is always compressed when compression is enabled.
+            request.setHeader(AuthleteApiBasicImpl.HttpHeader.CONTENT_ENCODING, "gzip");
+            request.setBodyWriter(out -> writeGzippedJson(requestBody, out));
+            return;
         }
-        catch (Throwable cause)
+
+        // Convert the object to JSON.
+        String json = Utils.toJson(requestBody);
+
+        // Get the UTF-8 representation.
+        byte[] bytes = getBytesUTF8(json);
+
+        if (0 <= threshold && threshold <= bytes.length)
         {
-            // Failed to write the request body.
-            throw createAuthleteApiException(cause, ctx);
+            // Compress the request body.
+            request.setHeader(AuthleteApiBasicImpl.HttpHeader.CONTENT_ENCODING, "gzip");
+            bytes = gzip(bytes);
         }
+
+        // Set the request body.
+        request.setBody(bytes);
     }
 
 
-    private static void writeContent(ConnectionContext ctx, Object requestBody) throws IOException
+    private static void writeGzippedJson(Object object, OutputStream out) throws IOException
     {
-        // Convert the object to JSON.
-        String json = Utils.toJson(requestBody);
+        // Closing the GZIP stream releases the native resources of the
+        // deflater, but the underlying stream must be left open.
+        OutputStream nonClosing = new NonClosingOutputStream(out);
+
+        try (GZIPOutputStream gzip = new GZIPOutputStream(nonClosing, 8192))
+        {
+            writeJson(object, gzip);
+        }
+    }
+
+
+    /**
+     * An output stream which counts the bytes written to the underlying
+     * stream, for the request body size reported to the listener.
+     */
+    private static class CountingOutputStream extends FilterOutputStream
+    {
+        long count;
+
+
+        CountingOutputStream(OutputStream out)
+        {
+            super(out);
+        }
+
+
+        @Override
+        public void write(int b) throws IOException
+        {
+            out.write(b);
+            count++;
+        }
+
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException
+        {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+
+
+    /**
+     * An output stream which does not close the underlying stream.
+     */
+    private static class NonClosingOutputStream extends FilterOutputStream
+    {
+        NonClosingOutputStream(OutputStream out)
+        {
+            super(out);
+        }
 
-        // Get the UTF-8 representation.
-        byte[] bytes = getBytesUTF8(json);
 
-        // Open the stream to send data to Authlete server.
-        OutputStream out = ctx.outputStream();
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException
+        {
+            out.write(b, off, len);
+        }
+
+
+        @Override
+        public void close() throws IOException
+        {
+            flush();
+        }
+    }
+
+
+    private static byte[] gzip(byte[] bytes)
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out))
+        {
+            gzip.write(bytes);
+        }
+        catch (IOException e)
+        {
+            // This never happens because no I/O is performed.
+            throw new IllegalStateException(e);
+        }
+
+        return out.toByteArray();
+    }
+
+
+    private static void writeJson(Object object, OutputStream out) throws IOException
+    {
+        // The stream is not closed here. It is owned by the transport.
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
 
-        // Write the request body.
-        out.write(bytes);
-        out.flush();
+        // Convert the object to JSON and write it as UTF-8. I/O errors on
+        // the connection are reported by the codec as they are.
+        Utils.getJsonCodec().toJson(object, writer);
+
+        writer.flush();
     }
 
 
@@ -903,8 +2241,16 @@ public abstract class AuthleteApiBasicImpl implements AuthleteApi
 
     private static String readContent(ConnectionContext ctx) throws IOException
     {
+        InputStream in = ctx.inputStream();
+
+        if (in == null)
+        {
+            // No response body.
+            return null;
+        }
+
         // Call readInputStream() with the stream, the expected length and charset.
-        return readInputStream(ctx.inputStream(), ctx.contentLength(), UTF_8);
+        return readInputStream(in, (int)ctx.contentLength(), UTF_8);
     }
 
 
@@ -962,106 +2308,42 @@ public abstract class AuthleteApiBasicImpl implements AuthleteApi
             return new AuthleteApiException(message, cause);
         }
 
-        HttpURLConnection con = ctx.connection();
-
-        if (con == null)
-        {
-            // Create an exception without HTTP response information.
-            return new AuthleteApiException(message, cause);
-        }
-
         // Collect information to build an AuthleteApiException instance.
 
         // HTTP status code. 0 if not available.
-        int statusCode = extractStatusCode(con);
+        int statusCode = Math.max(ctx.statusCode(), 0);
 
         // HTTP status message. null if not available.
-        String statusMessage = extractStatusMessage(con);
+        String statusMessage = ctx.statusMessage();
 
         // Response body.
         String responseBody = extractErrorData(ctx);
 
         // HTTP response headers.
-        Map<String, List<String>> headers = con.getHeaderFields();
+        Map<String, List<String>> headers = ctx.headers();
 
         // Build an AuthleteApiException instance with the collected information.
         return new AuthleteApiException(message, cause, statusCode, statusMessage, responseBody, headers);
     }
 
 
-    private static int extractStatusCode(HttpURLConnection con)
+    private static String extractErrorData(ConnectionContext ctx)
     {
-        int statusCode;
-
-        try
-        {
-            // Get the status code of the HTTP response.
-            statusCode = con.getResponseCode();
-        }
-        catch (Throwable cause)
-        {
-            // Failed to get the status code.
-            // Status code is not available.
-            return 0;
-        }
-
-        if (statusCode < 0)
+        // The response body can be read only once. Once it has been read,
+        // the cached copy is returned.
+        if (ctx.errorData() != null)
         {
-            // Status code is not available.
-            return 0;
+            return ctx.errorData();
         }
 
-        // The status code of the HTTP response.
-        return statusCode;
-    }
-
-
-    private static String extractStatusMessage(HttpURLConnection con)
-    {
         try
         {
-            // Get the status message of the HTTP response.
-            return con.getResponseMessage();
-        }
-        catch (Throwable cause)
-        {
-            // Failed to get the status message.
-            // Status message is not available.
-            return null;
-        }
-    }
-
-
-    private static String extractErrorData(ConnectionContext ctx)
-    {
-        // JavaDoc of HttpURLConnection.getErrorStream() says as follows.
-        //
-        //   Returns the error stream if the connection failed but the server
-        //   sent useful data nonetheless. The typical example is when an HTTP
-        //   server responds with a 404, which will cause a FileNotFoundException
-        //   to be thrown in connect, but the server sent an HTML help page with
-        //   suggestions as to what to do.
-        //
-        //   This method will not cause a connection to be initiated. If the
-        //   connection was not connected, or if the server did not have an
-        //   error while connecting or if the server had an error but no error
-        //   data was sent, this method will return null. This is the default.
-        //
+            // Read the response body, which may be an error response.
+            String data = readContent(ctx);
 
-        try
-        {
-            InputStream in = ctx.errorStream();
+            ctx.errorData(data);
 
-            if (in != null)
-            {
-                // Read data from the error stream.
-                return readInputStream(in, -1, UTF_8);
-            }
-            else
-            {
-                // Read the request body. Note that this may have already been tried.
-                return readContent(ctx);
-            }
+            return data;
         }
         catch (Throwable cause)
         {
@@ -1080,7 +2362,7 @@ public abstract class AuthleteApiBasicImpl implements AuthleteApi
 
     protected boolean isDpopEnabled()
     {
-        return mDpopJwk != null;
+        return mDpopProofGenerator != null;
     }
 
 
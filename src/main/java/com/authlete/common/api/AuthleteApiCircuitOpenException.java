@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+/**
+ * Exception thrown without calling an Authlete API because the circuit
+ * breaker of the API is open.
+ *
+ * <p>
+ * The status code of this exception is always 0 because no HTTP request
+ * has been sent.
+ * </p>
+ *
+ * @since 4.47
+ *
+ * @see CircuitBreakerPolicy
+ */
+public class AuthleteApiCircuitOpenException extends AuthleteApiException
+{
+    private static final long serialVersionUID = 1L;
+
+
+    /**
+     * The path template of the API.
+     */
+    private final String mPathTemplate;
+
+
+    /**
+     * Constructor.
+     *
+     * @param message
+     *         Error message.
+     *
+     * @param pathTemplate
+     *         The path template of the API, e.g. {@code "/api/{}/auth/userinfo"}.
+     */
+    public AuthleteApiCircuitOpenException(String message, String pathTemplate)
+    {
+        super(message);
+
+        mPathTemplate = pathTemplate;
+    }
+
+
+    /**
+     * Get the path template of the API.
+     *
+     * @return
+     *         The path template of the API, e.g. {@code "/api/{}/auth/userinfo"}.
+     */
+    public String getPathTemplate()
+    {
+        return mPathTemplate;
+    }
+}
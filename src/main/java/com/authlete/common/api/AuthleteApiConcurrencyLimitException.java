@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+/**
+ * Exception thrown without calling an Authlete API because the adaptive
+ * limit of concurrent calls has been reached.
+ *
+ * <p>
+ * The status code of this exception is always 0 because no HTTP request
+ * has been sent.
+ * </p>
+ *
+ * @since 4.47
+ *
+ * @see Settings#setConcurrencyLimitPolicy(ConcurrencyLimitPolicy)
+ */
+public class AuthleteApiConcurrencyLimitException extends AuthleteApiException
+{
+    private static final long serialVersionUID = 1L;
+
+
+    /**
+     * The concurrency limit when the call was rejected.
+     */
+    private final int mLimit;
+
+
+    /**
+     * Constructor.
+     *
+     * @param message
+     *         Error message.
+     *
+     * @param limit
+     *         The concurrency limit when the call was rejected.
+     */
+    public AuthleteApiConcurrencyLimitException(String message, int limit)
+    {
+        super(message);
+
+        mLimit = limit;
+    }
+
+
+    /**
+     * Get the concurrency limit when the call was rejected.
+     *
+     * @return
+     *         The concurrency limit.
+     */
+    public int getLimit()
+    {
+        return mLimit;
+    }
+}
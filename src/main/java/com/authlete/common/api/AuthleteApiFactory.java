@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2014-2022 Authlete, Inc.
+ * Copyright (C) 2014-2026 Authlete, Inc.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@ package com.authlete.common.api;
 
 
 import java.lang.reflect.Constructor;
+import java.util.concurrent.Executor;
 import com.authlete.common.conf.AuthleteApiVersion;
 import com.authlete.common.conf.AuthleteConfiguration;
 import com.authlete.common.conf.AuthletePropertiesConfiguration;
@@ -263,6 +264,90 @@ public class AuthleteApiFactory
     }
 
 
+    /**
+     * Create an instance of {@link AuthleteAsyncApi}.
+     *
+     * <p>
+     * This method is an alias of {@link #createAsync(AuthleteConfiguration, Executor)
+     * createAsync}{@code (configuration, null)}.
+     * </p>
+     *
+     * @param configuration
+     *         Authlete configuration.
+     *
+     * @return
+     *         An instance of {@link AuthleteAsyncApi}. If none of the known
+     *         classes that implement {@link AuthleteApi} interface was
+     *         successfully instantiated, {@code null} is returned.
+     *
+     * @since 4.47
+     */
+    public static AuthleteAsyncApi createAsync(AuthleteConfiguration configuration)
+    {
+        return createAsync(configuration, null);
+    }
+
+
+    /**
+     * Create an instance of {@link AuthleteAsyncApi}.
+     *
+     * <p>
+     * This method creates an {@link AuthleteApi} instance by {@link
+     * #create(AuthleteConfiguration)} and wraps it with {@link AuthleteAsyncApiImpl}.
+     * </p>
+     *
+     * @param configuration
+     *         Authlete configuration.
+     *
+     * @param executor
+     *         The executor on which API calls are executed. If {@code null}
+     *         is given, a shared pool of daemon threads is used.
+     *
+     * @return
+     *         An instance of {@link AuthleteAsyncApi}. If none of the known
+     *         classes that implement {@link AuthleteApi} interface was
+     *         successfully instantiated, {@code null} is returned.
+     *
+     * @since 4.47
+     */
+    public static AuthleteAsyncApi createAsync(AuthleteConfiguration configuration, Executor executor)
+    {
+        AuthleteApi api = create(configuration);
+
+        if (api == null)
+        {
+            return null;
+        }
+
+        return createAsync(api, executor);
+    }
+
+
+    /**
+     * Create an instance of {@link AuthleteAsyncApi} which delegates to the
+     * given {@link AuthleteApi} instance.
+     *
+     * @param api
+     *         The synchronous API to delegate to.
+     *
+     * @param executor
+     *         The executor on which API calls are executed. If {@code null}
+     *         is given, a shared pool of daemon threads is used.
+     *
+     * @return
+     *         An instance of {@link AuthleteAsyncApi}.
+     *
+     * @throws IllegalArgumentException
+     *         {@code api} is {@code null}.
+     *
+     * @since 4.47
+     */
+    public static AuthleteAsyncApi createAsync(AuthleteApi api, Executor executor)
+    {
+        return new AuthleteAsyncApiImpl(api, executor);
+    }
+
+
     /**
      * Get the default instance of {@link AuthleteApi}.
      *
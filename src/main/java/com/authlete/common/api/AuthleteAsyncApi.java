@@ -0,0 +1,2253 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import com.authlete.common.dto.AttestationChallengeRequest;
+import com.authlete.common.dto.AttestationChallengeResponse;
+import com.authlete.common.dto.AuthorizationFailRequest;
+import com.authlete.common.dto.AuthorizationFailResponse;
+import com.authlete.common.dto.AuthorizationIssueRequest;
+import com.authlete.common.dto.AuthorizationIssueResponse;
+import com.authlete.common.dto.AuthorizationRequest;
+import com.authlete.common.dto.AuthorizationResponse;
+import com.authlete.common.dto.AuthorizationTicketInfoRequest;
+import com.authlete.common.dto.AuthorizationTicketInfoResponse;
+import com.authlete.common.dto.AuthorizationTicketUpdateRequest;
+import com.authlete.common.dto.AuthorizationTicketUpdateResponse;
+import com.authlete.common.dto.AuthorizedClientListResponse;
+import com.authlete.common.dto.BackchannelAuthenticationCompleteRequest;
+import com.authlete.common.dto.BackchannelAuthenticationCompleteResponse;
+import com.authlete.common.dto.BackchannelAuthenticationFailRequest;
+import com.authlete.common.dto.BackchannelAuthenticationFailResponse;
+import com.authlete.common.dto.BackchannelAuthenticationIssueRequest;
+import com.authlete.common.dto.BackchannelAuthenticationIssueResponse;
+import com.authlete.common.dto.BackchannelAuthenticationRequest;
+import com.authlete.common.dto.BackchannelAuthenticationResponse;
+import com.authlete.common.dto.BackchannelLogoutTokenRequest;
+import com.authlete.common.dto.BackchannelLogoutTokenResponse;
+import com.authlete.common.dto.Client;
+import com.authlete.common.dto.ClientAuthorizationGetListRequest;
+import com.authlete.common.dto.ClientAuthorizationUpdateRequest;
+import com.authlete.common.dto.ClientListResponse;
+import com.authlete.common.dto.ClientRegistrationRequest;
+import com.authlete.common.dto.ClientRegistrationResponse;
+import com.authlete.common.dto.ClientSecretRefreshResponse;
+import com.authlete.common.dto.ClientSecretUpdateResponse;
+import com.authlete.common.dto.CredentialBatchIssueRequest;
+import com.authlete.common.dto.CredentialBatchIssueResponse;
+import com.authlete.common.dto.CredentialBatchParseRequest;
+import com.authlete.common.dto.CredentialBatchParseResponse;
+import com.authlete.common.dto.CredentialDeferredIssueRequest;
+import com.authlete.common.dto.CredentialDeferredIssueResponse;
+import com.authlete.common.dto.CredentialDeferredParseRequest;
+import com.authlete.common.dto.CredentialDeferredParseResponse;
+import com.authlete.common.dto.CredentialIssuerJwksRequest;
+import com.authlete.common.dto.CredentialIssuerJwksResponse;
+import com.authlete.common.dto.CredentialIssuerMetadataRequest;
+import com.authlete.common.dto.CredentialIssuerMetadataResponse;
+import com.authlete.common.dto.CredentialJwtIssuerMetadataRequest;
+import com.authlete.common.dto.CredentialJwtIssuerMetadataResponse;
+import com.authlete.common.dto.CredentialNonceRequest;
+import com.authlete.common.dto.CredentialNonceResponse;
+import com.authlete.common.dto.CredentialOfferCreateRequest;
+import com.authlete.common.dto.CredentialOfferCreateResponse;
+import com.authlete.common.dto.CredentialOfferInfoRequest;
+import com.authlete.common.dto.CredentialOfferInfoResponse;
+import com.authlete.common.dto.CredentialSingleIssueRequest;
+import com.authlete.common.dto.CredentialSingleIssueResponse;
+import com.authlete.common.dto.CredentialSingleParseRequest;
+import com.authlete.common.dto.CredentialSingleParseResponse;
+import com.authlete.common.dto.DeviceAuthorizationRequest;
+import com.authlete.common.dto.DeviceAuthorizationResponse;
+import com.authlete.common.dto.DeviceCompleteRequest;
+import com.authlete.common.dto.DeviceCompleteResponse;
+import com.authlete.common.dto.DeviceVerificationRequest;
+import com.authlete.common.dto.DeviceVerificationResponse;
+import com.authlete.common.dto.FederationConfigurationRequest;
+import com.authlete.common.dto.FederationConfigurationResponse;
+import com.authlete.common.dto.FederationRegistrationRequest;
+import com.authlete.common.dto.FederationRegistrationResponse;
+import com.authlete.common.dto.GMRequest;
+import com.authlete.common.dto.GMResponse;
+import com.authlete.common.dto.GrantedScopesGetResponse;
+import com.authlete.common.dto.HskCreateRequest;
+import com.authlete.common.dto.HskListResponse;
+import com.authlete.common.dto.HskResponse;
+import com.authlete.common.dto.IDTokenReissueRequest;
+import com.authlete.common.dto.IDTokenReissueResponse;
+import com.authlete.common.dto.IntrospectionRequest;
+import com.authlete.common.dto.IntrospectionResponse;
+import com.authlete.common.dto.JoseVerifyRequest;
+import com.authlete.common.dto.JoseVerifyResponse;
+import com.authlete.common.dto.NativeSsoLogoutRequest;
+import com.authlete.common.dto.NativeSsoLogoutResponse;
+import com.authlete.common.dto.NativeSsoRequest;
+import com.authlete.common.dto.NativeSsoResponse;
+import com.authlete.common.dto.PushedAuthReqRequest;
+import com.authlete.common.dto.PushedAuthReqResponse;
+import com.authlete.common.dto.RevocationRequest;
+import com.authlete.common.dto.RevocationResponse;
+import com.authlete.common.dto.Service;
+import com.authlete.common.dto.ServiceConfigurationRequest;
+import com.authlete.common.dto.ServiceListResponse;
+import com.authlete.common.dto.StandardIntrospectionRequest;
+import com.authlete.common.dto.StandardIntrospectionResponse;
+import com.authlete.common.dto.TokenCreateBatchResponse;
+import com.authlete.common.dto.TokenCreateBatchStatusResponse;
+import com.authlete.common.dto.TokenCreateRequest;
+import com.authlete.common.dto.TokenCreateResponse;
+import com.authlete.common.dto.TokenFailRequest;
+import com.authlete.common.dto.TokenFailResponse;
+import com.authlete.common.dto.TokenIssueRequest;
+import com.authlete.common.dto.TokenIssueResponse;
+import com.authlete.common.dto.TokenListResponse;
+import com.authlete.common.dto.TokenRequest;
+import com.authlete.common.dto.TokenResponse;
+import com.authlete.common.dto.TokenRevokeRequest;
+import com.authlete.common.dto.TokenRevokeResponse;
+import com.authlete.common.dto.TokenUpdateRequest;
+import com.authlete.common.dto.TokenUpdateResponse;
+import com.authlete.common.dto.UserInfoIssueRequest;
+import com.authlete.common.dto.UserInfoIssueResponse;
+import com.authlete.common.dto.UserInfoRequest;
+import com.authlete.common.dto.UserInfoResponse;
+import com.authlete.common.types.TokenStatus;
+
+
+/**
+ * Asynchronous variant of {@link AuthleteApi}.
+ *
+ * <p>
+ * Each method of this interface corresponds to the method of {@link AuthleteApi}
+ * with the same name and parameters, and returns a {@link CompletableFuture}
+ * instead of blocking the calling thread until the response from the Authlete
+ * API arrives. An error is reported by completing the future exceptionally
+ * with an {@link AuthleteApiException}.
+ * </p>
+ *
+ * <p>
+ * An instance can be created by {@link AuthleteApiFactory#createAsync(com.authlete.common.conf.AuthleteConfiguration)}
+ * or by {@link AuthleteApiFactory#createAsync(AuthleteApi, java.util.concurrent.Executor)}.
+ * </p>
+ *
+ * @since 4.47
+ *
+ * @see AuthleteAsyncApiImpl
+ */
+public interface AuthleteAsyncApi
+{
+    /**
+     * Get the synchronous API which this asynchronous API delegates to.
+     *
+     * @return
+     *         The synchronous API.
+     */
+    AuthleteApi getApi();
+
+
+    /**
+     * Get the settings of the underlying {@link AuthleteApi}.
+     *
+     * @return
+     *         The settings.
+     */
+    default Settings getSettings()
+    {
+        return getApi().getSettings();
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#authorization(AuthorizationRequest)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<AuthorizationResponse> authorization(AuthorizationRequest request)
+    {
+        return authorization(request, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#authorization(AuthorizationRequest, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<AuthorizationResponse> authorization(AuthorizationRequest request, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#authorizationFail(AuthorizationFailRequest)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<AuthorizationFailResponse> authorizationFail(AuthorizationFailRequest request)
+    {
+        return authorizationFail(request, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#authorizationFail(AuthorizationFailRequest, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<AuthorizationFailResponse> authorizationFail(AuthorizationFailRequest request, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#authorizationIssue(AuthorizationIssueRequest)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<AuthorizationIssueResponse> authorizationIssue(AuthorizationIssueRequest request)
+    {
+        return authorizationIssue(request, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#authorizationIssue(AuthorizationIssueRequest, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<AuthorizationIssueResponse> authorizationIssue(AuthorizationIssueRequest request, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#token(TokenRequest)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<TokenResponse> token(TokenRequest request)
+    {
+        return token(request, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#token(TokenRequest, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<TokenResponse> token(TokenRequest request, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#tokenCreate(TokenCreateRequest)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<TokenCreateResponse> tokenCreate(TokenCreateRequest request)
+    {
+        return tokenCreate(request, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#tokenCreate(TokenCreateRequest, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<TokenCreateResponse> tokenCreate(TokenCreateRequest request, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#tokenDelete(String)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<Void> tokenDelete(String token)
+    {
+        return tokenDelete(token, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#tokenDelete(String, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<Void> tokenDelete(String token, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#tokenFail(TokenFailRequest)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<TokenFailResponse> tokenFail(TokenFailRequest request)
+    {
+        return tokenFail(request, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#tokenFail(TokenFailRequest, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<TokenFailResponse> tokenFail(TokenFailRequest request, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#tokenIssue(TokenIssueRequest)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<TokenIssueResponse> tokenIssue(TokenIssueRequest request)
+    {
+        return tokenIssue(request, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#tokenIssue(TokenIssueRequest, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<TokenIssueResponse> tokenIssue(TokenIssueRequest request, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#tokenRevoke(TokenRevokeRequest)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<TokenRevokeResponse> tokenRevoke(TokenRevokeRequest request)
+    {
+        return tokenRevoke(request, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#tokenRevoke(TokenRevokeRequest, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<TokenRevokeResponse> tokenRevoke(TokenRevokeRequest request, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#tokenUpdate(TokenUpdateRequest)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<TokenUpdateResponse> tokenUpdate(TokenUpdateRequest request)
+    {
+        return tokenUpdate(request, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#tokenUpdate(TokenUpdateRequest, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<TokenUpdateResponse> tokenUpdate(TokenUpdateRequest request, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#getTokenList()}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<TokenListResponse> getTokenList()
+    {
+        return getTokenList((Options)null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#getTokenList(Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<TokenListResponse> getTokenList(Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#getTokenList(TokenStatus)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<TokenListResponse> getTokenList(TokenStatus tokenStatus)
+    {
+        return getTokenList(tokenStatus, (Options)null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#getTokenList(TokenStatus, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<TokenListResponse> getTokenList(TokenStatus tokenStatus, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#getTokenList(String, String)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<TokenListResponse> getTokenList(String clientIdentifier, String subject)
+    {
+        return getTokenList(clientIdentifier, subject, (Options)null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#getTokenList(String, String, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<TokenListResponse> getTokenList(String clientIdentifier, String subject, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#getTokenList(String, String, TokenStatus)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<TokenListResponse> getTokenList(String clientIdentifier, String subject, TokenStatus tokenStatus)
+    {
+        return getTokenList(clientIdentifier, subject, tokenStatus, (Options)null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#getTokenList(String, String, TokenStatus, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<TokenListResponse> getTokenList(String clientIdentifier, String subject, TokenStatus tokenStatus, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#getTokenList(int, int)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<TokenListResponse> getTokenList(int start, int end)
+    {
+        return getTokenList(start, end, (Options)null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#getTokenList(int, int, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<TokenListResponse> getTokenList(int start, int end, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#getTokenList(int, int, TokenStatus)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<TokenListResponse> getTokenList(int start, int end, TokenStatus tokenStatus)
+    {
+        return getTokenList(start, end, tokenStatus, (Options)null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#getTokenList(int, int, TokenStatus, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<TokenListResponse> getTokenList(int start, int end, TokenStatus tokenStatus, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#getTokenList(String, String, int, int)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<TokenListResponse> getTokenList(String clientIdentifier, String subject, int start, int end)
+    {
+        return getTokenList(clientIdentifier, subject, start, end, (Options)null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#getTokenList(String, String, int, int, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<TokenListResponse> getTokenList(String clientIdentifier, String subject, int start, int end, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#getTokenList(String, String, int, int, TokenStatus)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<TokenListResponse> getTokenList(String clientIdentifier, String subject, int start, int end, TokenStatus tokenStatus)
+    {
+        return getTokenList(clientIdentifier, subject, start, end, tokenStatus, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#getTokenList(String, String, int, int, TokenStatus, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<TokenListResponse> getTokenList(String clientIdentifier, String subject, int start, int end, TokenStatus tokenStatus, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#revocation(RevocationRequest)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<RevocationResponse> revocation(RevocationRequest request)
+    {
+        return revocation(request, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#revocation(RevocationRequest, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<RevocationResponse> revocation(RevocationRequest request, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#userinfo(UserInfoRequest)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<UserInfoResponse> userinfo(UserInfoRequest request)
+    {
+        return userinfo(request, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#userinfo(UserInfoRequest, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<UserInfoResponse> userinfo(UserInfoRequest request, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#userinfoIssue(UserInfoIssueRequest)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<UserInfoIssueResponse> userinfoIssue(UserInfoIssueRequest request)
+    {
+        return userinfoIssue(request, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#userinfoIssue(UserInfoIssueRequest, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<UserInfoIssueResponse> userinfoIssue(UserInfoIssueRequest request, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#introspection(IntrospectionRequest)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<IntrospectionResponse> introspection(IntrospectionRequest request)
+    {
+        return introspection(request, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#introspection(IntrospectionRequest, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<IntrospectionResponse> introspection(IntrospectionRequest request, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#standardIntrospection(StandardIntrospectionRequest)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<StandardIntrospectionResponse> standardIntrospection(StandardIntrospectionRequest request)
+    {
+        return standardIntrospection(request, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#standardIntrospection(StandardIntrospectionRequest, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<StandardIntrospectionResponse> standardIntrospection(StandardIntrospectionRequest request, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#createService(Service)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<Service> createService(Service service)
+    {
+        return createService(service, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#createService(Service, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<Service> createService(Service service, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#deleteService(long)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<Void> deleteService(long apiKey)
+    {
+        return deleteService(apiKey, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#deleteService(long, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<Void> deleteService(long apiKey, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#getService(long)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<Service> getService(long apiKey)
+    {
+        return getService(apiKey, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#getService(long, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<Service> getService(long apiKey, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#getServiceList()}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<ServiceListResponse> getServiceList()
+    {
+        return getServiceList(null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#getServiceList(Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<ServiceListResponse> getServiceList(Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#getServiceList(int, int)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<ServiceListResponse> getServiceList(int start, int end)
+    {
+        return getServiceList(start, end, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#getServiceList(int, int, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<ServiceListResponse> getServiceList(int start, int end, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#updateService(Service)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<Service> updateService(Service service)
+    {
+        return updateService(service, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#updateService(Service, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<Service> updateService(Service service, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#getServiceJwks()}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<String> getServiceJwks()
+    {
+        return getServiceJwks(null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#getServiceJwks(Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<String> getServiceJwks(Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#getServiceJwks(boolean, boolean)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<String> getServiceJwks(boolean pretty, boolean includePrivateKeys)
+    {
+        return getServiceJwks(pretty, includePrivateKeys, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#getServiceJwks(boolean, boolean, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<String> getServiceJwks(boolean pretty, boolean includePrivateKeys, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#getServiceConfiguration()}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<String> getServiceConfiguration()
+    {
+        return getServiceConfiguration((Options)null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#getServiceConfiguration(Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<String> getServiceConfiguration(Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#getServiceConfiguration(boolean)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<String> getServiceConfiguration(boolean pretty)
+    {
+        return getServiceConfiguration(pretty, (Options)null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#getServiceConfiguration(boolean, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<String> getServiceConfiguration(boolean pretty, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#getServiceConfiguration(ServiceConfigurationRequest)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<String> getServiceConfiguration(ServiceConfigurationRequest request)
+    {
+        return getServiceConfiguration(request, (Options)null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#getServiceConfiguration(ServiceConfigurationRequest, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<String> getServiceConfiguration(ServiceConfigurationRequest request, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#createClient(Client)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<Client> createClient(Client client)
+    {
+        return createClient(client, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#createClient(Client, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<Client> createClient(Client client, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#dynamicClientRegister(ClientRegistrationRequest)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<ClientRegistrationResponse> dynamicClientRegister(ClientRegistrationRequest request)
+    {
+        return dynamicClientRegister(request, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#dynamicClientRegister(ClientRegistrationRequest, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<ClientRegistrationResponse> dynamicClientRegister(ClientRegistrationRequest request, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#dynamicClientGet(ClientRegistrationRequest)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<ClientRegistrationResponse> dynamicClientGet(ClientRegistrationRequest request)
+    {
+        return dynamicClientGet(request, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#dynamicClientGet(ClientRegistrationRequest, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<ClientRegistrationResponse> dynamicClientGet(ClientRegistrationRequest request, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#dynamicClientUpdate(ClientRegistrationRequest)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<ClientRegistrationResponse> dynamicClientUpdate(ClientRegistrationRequest request)
+    {
+        return dynamicClientUpdate(request, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#dynamicClientUpdate(ClientRegistrationRequest, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<ClientRegistrationResponse> dynamicClientUpdate(ClientRegistrationRequest request, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#dynamicClientDelete(ClientRegistrationRequest)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<ClientRegistrationResponse> dynamicClientDelete(ClientRegistrationRequest request)
+    {
+        return dynamicClientDelete(request, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#dynamicClientDelete(ClientRegistrationRequest, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<ClientRegistrationResponse> dynamicClientDelete(ClientRegistrationRequest request, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#deleteClient(long)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<Void> deleteClient(long clientId)
+    {
+        return deleteClient(clientId, (Options)null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#deleteClient(long, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<Void> deleteClient(long clientId, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#deleteClient(String)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<Void> deleteClient(String clientId)
+    {
+        return deleteClient(clientId, (Options)null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#deleteClient(String, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<Void> deleteClient(String clientId, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#getClient(long)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<Client> getClient(long clientId)
+    {
+        return getClient(clientId, (Options)null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#getClient(long, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<Client> getClient(long clientId, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#getClient(String)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<Client> getClient(String clientId)
+    {
+        return getClient(clientId, (Options)null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#getClient(String, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<Client> getClient(String clientId, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#getClientList()}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<ClientListResponse> getClientList()
+    {
+        return getClientList((Options)null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#getClientList(Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<ClientListResponse> getClientList(Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#getClientList(String)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<ClientListResponse> getClientList(String developer)
+    {
+        return getClientList(developer, (Options)null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#getClientList(String, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<ClientListResponse> getClientList(String developer, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#getClientList(int, int)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<ClientListResponse> getClientList(int start, int end)
+    {
+        return getClientList(start, end, (Options)null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#getClientList(int, int, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<ClientListResponse> getClientList(int start, int end, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#getClientList(String, int, int)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<ClientListResponse> getClientList(String developer, int start, int end)
+    {
+        return getClientList(developer, start, end, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#getClientList(String, int, int, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<ClientListResponse> getClientList(String developer, int start, int end, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#updateClient(Client)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<Client> updateClient(Client client)
+    {
+        return updateClient(client, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#updateClient(Client, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<Client> updateClient(Client client, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#getRequestableScopes(long)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<String[]> getRequestableScopes(long clientId)
+    {
+        return getRequestableScopes(clientId, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#getRequestableScopes(long, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<String[]> getRequestableScopes(long clientId, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#setRequestableScopes(long, String[])}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<String[]> setRequestableScopes(long clientId, String[] scopes)
+    {
+        return setRequestableScopes(clientId, scopes, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#setRequestableScopes(long, String[], Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<String[]> setRequestableScopes(long clientId, String[] scopes, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#deleteRequestableScopes(long)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<Void> deleteRequestableScopes(long clientId)
+    {
+        return deleteRequestableScopes(clientId, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#deleteRequestableScopes(long, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<Void> deleteRequestableScopes(long clientId, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#getGrantedScopes(long, String)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<GrantedScopesGetResponse> getGrantedScopes(long clientId, String subject)
+    {
+        return getGrantedScopes(clientId, subject, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#getGrantedScopes(long, String, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<GrantedScopesGetResponse> getGrantedScopes(long clientId, String subject, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#deleteGrantedScopes(long, String)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<Void> deleteGrantedScopes(long clientId, String subject)
+    {
+        return deleteGrantedScopes(clientId, subject, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#deleteGrantedScopes(long, String, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<Void> deleteGrantedScopes(long clientId, String subject, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#deleteClientAuthorization(long, String)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<Void> deleteClientAuthorization(long clientId, String subject)
+    {
+        return deleteClientAuthorization(clientId, subject, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#deleteClientAuthorization(long, String, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<Void> deleteClientAuthorization(long clientId, String subject, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#getClientAuthorizationList(ClientAuthorizationGetListRequest)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<AuthorizedClientListResponse> getClientAuthorizationList(ClientAuthorizationGetListRequest request)
+    {
+        return getClientAuthorizationList(request, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#getClientAuthorizationList(ClientAuthorizationGetListRequest, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<AuthorizedClientListResponse> getClientAuthorizationList(ClientAuthorizationGetListRequest request, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#updateClientAuthorization(long, ClientAuthorizationUpdateRequest)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<Void> updateClientAuthorization(long clientId, ClientAuthorizationUpdateRequest request)
+    {
+        return updateClientAuthorization(clientId, request, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#updateClientAuthorization(long, ClientAuthorizationUpdateRequest, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<Void> updateClientAuthorization(long clientId, ClientAuthorizationUpdateRequest request, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#refreshClientSecret(long)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<ClientSecretRefreshResponse> refreshClientSecret(long clientId)
+    {
+        return refreshClientSecret(clientId, (Options)null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#refreshClientSecret(long, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<ClientSecretRefreshResponse> refreshClientSecret(long clientId, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#refreshClientSecret(String)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<ClientSecretRefreshResponse> refreshClientSecret(String clientIdentifier)
+    {
+        return refreshClientSecret(clientIdentifier, (Options)null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#refreshClientSecret(String, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<ClientSecretRefreshResponse> refreshClientSecret(String clientIdentifier, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#updateClientSecret(long, String)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<ClientSecretUpdateResponse> updateClientSecret(long clientId, String clientSecret)
+    {
+        return updateClientSecret(clientId, clientSecret, (Options)null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#updateClientSecret(long, String, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<ClientSecretUpdateResponse> updateClientSecret(long clientId, String clientSecret, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#updateClientSecret(String, String)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<ClientSecretUpdateResponse> updateClientSecret(String clientIdentifier, String clientSecret)
+    {
+        return updateClientSecret(clientIdentifier, clientSecret, (Options)null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#updateClientSecret(String, String, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<ClientSecretUpdateResponse> updateClientSecret(String clientIdentifier, String clientSecret, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#verifyJose(JoseVerifyRequest)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<JoseVerifyResponse> verifyJose(JoseVerifyRequest request)
+    {
+        return verifyJose(request, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#verifyJose(JoseVerifyRequest, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<JoseVerifyResponse> verifyJose(JoseVerifyRequest request, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#backchannelAuthentication(BackchannelAuthenticationRequest)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<BackchannelAuthenticationResponse> backchannelAuthentication(BackchannelAuthenticationRequest request)
+    {
+        return backchannelAuthentication(request, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#backchannelAuthentication(BackchannelAuthenticationRequest, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<BackchannelAuthenticationResponse> backchannelAuthentication(BackchannelAuthenticationRequest request, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#backchannelAuthenticationIssue(BackchannelAuthenticationIssueRequest)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<BackchannelAuthenticationIssueResponse> backchannelAuthenticationIssue(BackchannelAuthenticationIssueRequest request)
+    {
+        return backchannelAuthenticationIssue(request, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#backchannelAuthenticationIssue(BackchannelAuthenticationIssueRequest, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<BackchannelAuthenticationIssueResponse> backchannelAuthenticationIssue(BackchannelAuthenticationIssueRequest request, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#backchannelAuthenticationFail(BackchannelAuthenticationFailRequest)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<BackchannelAuthenticationFailResponse> backchannelAuthenticationFail(BackchannelAuthenticationFailRequest request)
+    {
+        return backchannelAuthenticationFail(request, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#backchannelAuthenticationFail(BackchannelAuthenticationFailRequest, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<BackchannelAuthenticationFailResponse> backchannelAuthenticationFail(BackchannelAuthenticationFailRequest request, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#backchannelAuthenticationComplete(BackchannelAuthenticationCompleteRequest)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<BackchannelAuthenticationCompleteResponse> backchannelAuthenticationComplete(BackchannelAuthenticationCompleteRequest request)
+    {
+        return backchannelAuthenticationComplete(request, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#backchannelAuthenticationComplete(BackchannelAuthenticationCompleteRequest, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<BackchannelAuthenticationCompleteResponse> backchannelAuthenticationComplete(BackchannelAuthenticationCompleteRequest request, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#deviceAuthorization(DeviceAuthorizationRequest)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<DeviceAuthorizationResponse> deviceAuthorization(DeviceAuthorizationRequest request)
+    {
+        return deviceAuthorization(request, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#deviceAuthorization(DeviceAuthorizationRequest, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<DeviceAuthorizationResponse> deviceAuthorization(DeviceAuthorizationRequest request, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#deviceComplete(DeviceCompleteRequest)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<DeviceCompleteResponse> deviceComplete(DeviceCompleteRequest request)
+    {
+        return deviceComplete(request, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#deviceComplete(DeviceCompleteRequest, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<DeviceCompleteResponse> deviceComplete(DeviceCompleteRequest request, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#deviceVerification(DeviceVerificationRequest)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<DeviceVerificationResponse> deviceVerification(DeviceVerificationRequest request)
+    {
+        return deviceVerification(request, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#deviceVerification(DeviceVerificationRequest, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<DeviceVerificationResponse> deviceVerification(DeviceVerificationRequest request, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#pushAuthorizationRequest(PushedAuthReqRequest)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<PushedAuthReqResponse> pushAuthorizationRequest(PushedAuthReqRequest request)
+    {
+        return pushAuthorizationRequest(request, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#pushAuthorizationRequest(PushedAuthReqRequest, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<PushedAuthReqResponse> pushAuthorizationRequest(PushedAuthReqRequest request, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#hskCreate(HskCreateRequest)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<HskResponse> hskCreate(HskCreateRequest request)
+    {
+        return hskCreate(request, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#hskCreate(HskCreateRequest, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<HskResponse> hskCreate(HskCreateRequest request, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#hskDelete(String)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<HskResponse> hskDelete(String handle)
+    {
+        return hskDelete(handle, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#hskDelete(String, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<HskResponse> hskDelete(String handle, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#hskGet(String)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<HskResponse> hskGet(String handle)
+    {
+        return hskGet(handle, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#hskGet(String, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<HskResponse> hskGet(String handle, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#hskGetList()}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<HskListResponse> hskGetList()
+    {
+        return hskGetList(null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#hskGetList(Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<HskListResponse> hskGetList(Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#echo(Map<String, String>)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<Map<String, String>> echo(Map<String, String> parameters)
+    {
+        return echo(parameters, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#echo(Map<String, String>, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<Map<String, String>> echo(Map<String, String> parameters, Options option);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#gm(GMRequest)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<GMResponse> gm(GMRequest request)
+    {
+        return gm(request, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#gm(GMRequest, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<GMResponse> gm(GMRequest request, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#updateClientLockFlag(String, boolean)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<Void> updateClientLockFlag(String clientIdentifier, boolean clientLocked)
+    {
+        return updateClientLockFlag(clientIdentifier, clientLocked, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#updateClientLockFlag(String, boolean, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<Void> updateClientLockFlag(String clientIdentifier, boolean clientLocked, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#federationConfiguration(FederationConfigurationRequest)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<FederationConfigurationResponse> federationConfiguration(FederationConfigurationRequest request)
+    {
+        return federationConfiguration(request, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#federationConfiguration(FederationConfigurationRequest, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<FederationConfigurationResponse> federationConfiguration(FederationConfigurationRequest request, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#federationRegistration(FederationRegistrationRequest)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<FederationRegistrationResponse> federationRegistration(FederationRegistrationRequest request)
+    {
+        return federationRegistration(request, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#federationRegistration(FederationRegistrationRequest, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<FederationRegistrationResponse> federationRegistration(FederationRegistrationRequest request, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#credentialIssuerMetadata(CredentialIssuerMetadataRequest)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<CredentialIssuerMetadataResponse> credentialIssuerMetadata(CredentialIssuerMetadataRequest request)
+    {
+        return credentialIssuerMetadata(request, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#credentialIssuerMetadata(CredentialIssuerMetadataRequest, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<CredentialIssuerMetadataResponse> credentialIssuerMetadata(CredentialIssuerMetadataRequest request, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#credentialJwtIssuerMetadata(CredentialJwtIssuerMetadataRequest)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<CredentialJwtIssuerMetadataResponse> credentialJwtIssuerMetadata(CredentialJwtIssuerMetadataRequest request)
+    {
+        return credentialJwtIssuerMetadata(request, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#credentialJwtIssuerMetadata(CredentialJwtIssuerMetadataRequest, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<CredentialJwtIssuerMetadataResponse> credentialJwtIssuerMetadata(CredentialJwtIssuerMetadataRequest request, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#credentialIssuerJwks(CredentialIssuerJwksRequest)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<CredentialIssuerJwksResponse> credentialIssuerJwks(CredentialIssuerJwksRequest request)
+    {
+        return credentialIssuerJwks(request, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#credentialIssuerJwks(CredentialIssuerJwksRequest, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<CredentialIssuerJwksResponse> credentialIssuerJwks(CredentialIssuerJwksRequest request, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#credentialOfferCreate(CredentialOfferCreateRequest)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<CredentialOfferCreateResponse> credentialOfferCreate(CredentialOfferCreateRequest request)
+    {
+        return credentialOfferCreate(request, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#credentialOfferCreate(CredentialOfferCreateRequest, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<CredentialOfferCreateResponse> credentialOfferCreate(CredentialOfferCreateRequest request, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#credentialOfferInfo(CredentialOfferInfoRequest)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<CredentialOfferInfoResponse> credentialOfferInfo(CredentialOfferInfoRequest request)
+    {
+        return credentialOfferInfo(request, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#credentialOfferInfo(CredentialOfferInfoRequest, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<CredentialOfferInfoResponse> credentialOfferInfo(CredentialOfferInfoRequest request, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#credentialSingleParse(CredentialSingleParseRequest)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<CredentialSingleParseResponse> credentialSingleParse(CredentialSingleParseRequest request)
+    {
+        return credentialSingleParse(request, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#credentialSingleParse(CredentialSingleParseRequest, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<CredentialSingleParseResponse> credentialSingleParse(CredentialSingleParseRequest request, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#credentialSingleIssue(CredentialSingleIssueRequest)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<CredentialSingleIssueResponse> credentialSingleIssue(CredentialSingleIssueRequest request)
+    {
+        return credentialSingleIssue(request, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#credentialSingleIssue(CredentialSingleIssueRequest, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<CredentialSingleIssueResponse> credentialSingleIssue(CredentialSingleIssueRequest request, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#credentialBatchParse(CredentialBatchParseRequest)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<CredentialBatchParseResponse> credentialBatchParse(CredentialBatchParseRequest request)
+    {
+        return credentialBatchParse(request, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#credentialBatchParse(CredentialBatchParseRequest, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<CredentialBatchParseResponse> credentialBatchParse(CredentialBatchParseRequest request, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#credentialBatchIssue(CredentialBatchIssueRequest)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<CredentialBatchIssueResponse> credentialBatchIssue(CredentialBatchIssueRequest request)
+    {
+        return credentialBatchIssue(request, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#credentialBatchIssue(CredentialBatchIssueRequest, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<CredentialBatchIssueResponse> credentialBatchIssue(CredentialBatchIssueRequest request, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#credentialDeferredParse(CredentialDeferredParseRequest)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<CredentialDeferredParseResponse> credentialDeferredParse(CredentialDeferredParseRequest request)
+    {
+        return credentialDeferredParse(request, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#credentialDeferredParse(CredentialDeferredParseRequest, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<CredentialDeferredParseResponse> credentialDeferredParse(CredentialDeferredParseRequest request, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#credentialDeferredIssue(CredentialDeferredIssueRequest)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<CredentialDeferredIssueResponse> credentialDeferredIssue(CredentialDeferredIssueRequest request)
+    {
+        return credentialDeferredIssue(request, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#credentialDeferredIssue(CredentialDeferredIssueRequest, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<CredentialDeferredIssueResponse> credentialDeferredIssue(CredentialDeferredIssueRequest request, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#credentialNonce(CredentialNonceRequest)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<CredentialNonceResponse> credentialNonce(CredentialNonceRequest request)
+    {
+        return credentialNonce(request, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#credentialNonce(CredentialNonceRequest, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<CredentialNonceResponse> credentialNonce(CredentialNonceRequest request, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#idTokenReissue(IDTokenReissueRequest)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<IDTokenReissueResponse> idTokenReissue(IDTokenReissueRequest request)
+    {
+        return idTokenReissue(request, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#idTokenReissue(IDTokenReissueRequest, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<IDTokenReissueResponse> idTokenReissue(IDTokenReissueRequest request, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#authorizationTicketInfo(AuthorizationTicketInfoRequest)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<AuthorizationTicketInfoResponse> authorizationTicketInfo(AuthorizationTicketInfoRequest request)
+    {
+        return authorizationTicketInfo(request, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#authorizationTicketInfo(AuthorizationTicketInfoRequest, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<AuthorizationTicketInfoResponse> authorizationTicketInfo(AuthorizationTicketInfoRequest request, Options opitons);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#authorizationTicketUpdate(AuthorizationTicketUpdateRequest)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<AuthorizationTicketUpdateResponse> authorizationTicketUpdate(AuthorizationTicketUpdateRequest request)
+    {
+        return authorizationTicketUpdate(request, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#authorizationTicketUpdate(AuthorizationTicketUpdateRequest, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<AuthorizationTicketUpdateResponse> authorizationTicketUpdate(AuthorizationTicketUpdateRequest request, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#tokenCreateBatch(TokenCreateRequest[], boolean)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<TokenCreateBatchResponse> tokenCreateBatch(TokenCreateRequest[] request, boolean dryRun)
+    {
+        return tokenCreateBatch(request, dryRun, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#tokenCreateBatch(TokenCreateRequest[], boolean, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<TokenCreateBatchResponse> tokenCreateBatch(TokenCreateRequest[] request, boolean dryRun, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#getTokenCreateBatchStatus(String)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<TokenCreateBatchStatusResponse> getTokenCreateBatchStatus(String requestId)
+    {
+        return getTokenCreateBatchStatus(requestId, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#getTokenCreateBatchStatus(String, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<TokenCreateBatchStatusResponse> getTokenCreateBatchStatus(String requestId, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#nativeSso(NativeSsoRequest)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<NativeSsoResponse> nativeSso(NativeSsoRequest request)
+    {
+        return nativeSso(request, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#nativeSso(NativeSsoRequest, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<NativeSsoResponse> nativeSso(NativeSsoRequest request, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#nativeSsoLogout(NativeSsoLogoutRequest)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<NativeSsoLogoutResponse> nativeSsoLogout(NativeSsoLogoutRequest request)
+    {
+        return nativeSsoLogout(request, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#nativeSsoLogout(NativeSsoLogoutRequest, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<NativeSsoLogoutResponse> nativeSsoLogout(NativeSsoLogoutRequest request, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#attestationChallenge(AttestationChallengeRequest)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<AttestationChallengeResponse> attestationChallenge(AttestationChallengeRequest request)
+    {
+        return attestationChallenge(request, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#attestationChallenge(AttestationChallengeRequest, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<AttestationChallengeResponse> attestationChallenge(AttestationChallengeRequest request, Options options);
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#backchannelLogoutToken(BackchannelLogoutTokenRequest)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    default CompletableFuture<BackchannelLogoutTokenResponse> backchannelLogoutToken(BackchannelLogoutTokenRequest request)
+    {
+        return backchannelLogoutToken(request, null);
+    }
+
+
+    /**
+     * Asynchronous version of {@link AuthleteApi#backchannelLogoutToken(BackchannelLogoutTokenRequest, Options)}.
+     *
+     * @return
+     *         A future which completes with the response from the API.
+     */
+    CompletableFuture<BackchannelLogoutTokenResponse> backchannelLogoutToken(BackchannelLogoutTokenRequest request, Options options);
+}
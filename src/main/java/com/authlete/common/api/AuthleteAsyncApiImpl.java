@@ -0,0 +1,943 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import com.authlete.common.dto.AttestationChallengeRequest;
+import com.authlete.common.dto.AttestationChallengeResponse;
+import com.authlete.common.dto.AuthorizationFailRequest;
+import com.authlete.common.dto.AuthorizationFailResponse;
+import com.authlete.common.dto.AuthorizationIssueRequest;
+import com.authlete.common.dto.AuthorizationIssueResponse;
+import com.authlete.common.dto.AuthorizationRequest;
+import com.authlete.common.dto.AuthorizationResponse;
+import com.authlete.common.dto.AuthorizationTicketInfoRequest;
+import com.authlete.common.dto.AuthorizationTicketInfoResponse;
+import com.authlete.common.dto.AuthorizationTicketUpdateRequest;
+import com.authlete.common.dto.AuthorizationTicketUpdateResponse;
+import com.authlete.common.dto.AuthorizedClientListResponse;
+import com.authlete.common.dto.BackchannelAuthenticationCompleteRequest;
+import com.authlete.common.dto.BackchannelAuthenticationCompleteResponse;
+import com.authlete.common.dto.BackchannelAuthenticationFailRequest;
+import com.authlete.common.dto.BackchannelAuthenticationFailResponse;
+import com.authlete.common.dto.BackchannelAuthenticationIssueRequest;
+import com.authlete.common.dto.BackchannelAuthenticationIssueResponse;
+import com.authlete.common.dto.BackchannelAuthenticationRequest;
+import com.authlete.common.dto.BackchannelAuthenticationResponse;
+import com.authlete.common.dto.BackchannelLogoutTokenRequest;
+import com.authlete.common.dto.BackchannelLogoutTokenResponse;
+import com.authlete.common.dto.Client;
+import com.authlete.common.dto.ClientAuthorizationGetListRequest;
+import com.authlete.common.dto.ClientAuthorizationUpdateRequest;
+import com.authlete.common.dto.ClientListResponse;
+import com.authlete.common.dto.ClientRegistrationRequest;
+import com.authlete.common.dto.ClientRegistrationResponse;
+import com.authlete.common.dto.ClientSecretRefreshResponse;
+import com.authlete.common.dto.ClientSecretUpdateResponse;
+import com.authlete.common.dto.CredentialBatchIssueRequest;
+import com.authlete.common.dto.CredentialBatchIssueResponse;
+import com.authlete.common.dto.CredentialBatchParseRequest;
+import com.authlete.common.dto.CredentialBatchParseResponse;
+import com.authlete.common.dto.CredentialDeferredIssueRequest;
+import com.authlete.common.dto.CredentialDeferredIssueResponse;
+import com.authlete.common.dto.CredentialDeferredParseRequest;
+import com.authlete.common.dto.CredentialDeferredParseResponse;
+import com.authlete.common.dto.CredentialIssuerJwksRequest;
+import com.authlete.common.dto.CredentialIssuerJwksResponse;
+import com.authlete.common.dto.CredentialIssuerMetadataRequest;
+import com.authlete.common.dto.CredentialIssuerMetadataResponse;
+import com.authlete.common.dto.CredentialJwtIssuerMetadataRequest;
+import com.authlete.common.dto.CredentialJwtIssuerMetadataResponse;
+import com.authlete.common.dto.CredentialNonceRequest;
+import com.authlete.common.dto.CredentialNonceResponse;
+import com.authlete.common.dto.CredentialOfferCreateRequest;
+import com.authlete.common.dto.CredentialOfferCreateResponse;
+import com.authlete.common.dto.CredentialOfferInfoRequest;
+import com.authlete.common.dto.CredentialOfferInfoResponse;
+import com.authlete.common.dto.CredentialSingleIssueRequest;
+import com.authlete.common.dto.CredentialSingleIssueResponse;
+import com.authlete.common.dto.CredentialSingleParseRequest;
+import com.authlete.common.dto.CredentialSingleParseResponse;
+import com.authlete.common.dto.DeviceAuthorizationRequest;
+import com.authlete.common.dto.DeviceAuthorizationResponse;
+import com.authlete.common.dto.DeviceCompleteRequest;
+import com.authlete.common.dto.DeviceCompleteResponse;
+import com.authlete.common.dto.DeviceVerificationRequest;
+import com.authlete.common.dto.DeviceVerificationResponse;
+import com.authlete.common.dto.FederationConfigurationRequest;
+import com.authlete.common.dto.FederationConfigurationResponse;
+import com.authlete.common.dto.FederationRegistrationRequest;
+import com.authlete.common.dto.FederationRegistrationResponse;
+import com.authlete.common.dto.GMRequest;
+import com.authlete.common.dto.GMResponse;
+import com.authlete.common.dto.GrantedScopesGetResponse;
+import com.authlete.common.dto.HskCreateRequest;
+import com.authlete.common.dto.HskListResponse;
+import com.authlete.common.dto.HskResponse;
+import com.authlete.common.dto.IDTokenReissueRequest;
+import com.authlete.common.dto.IDTokenReissueResponse;
+import com.authlete.common.dto.IntrospectionRequest;
+import com.authlete.common.dto.IntrospectionResponse;
+import com.authlete.common.dto.JoseVerifyRequest;
+import com.authlete.common.dto.JoseVerifyResponse;
+import com.authlete.common.dto.NativeSsoLogoutRequest;
+import com.authlete.common.dto.NativeSsoLogoutResponse;
+import com.authlete.common.dto.NativeSsoRequest;
+import com.authlete.common.dto.NativeSsoResponse;
+import com.authlete.common.dto.PushedAuthReqRequest;
+import com.authlete.common.dto.PushedAuthReqResponse;
+import com.authlete.common.dto.RevocationRequest;
+import com.authlete.common.dto.RevocationResponse;
+import com.authlete.common.dto.Service;
+import com.authlete.common.dto.ServiceConfigurationRequest;
+import com.authlete.common.dto.ServiceListResponse;
+import com.authlete.common.dto.StandardIntrospectionRequest;
+import com.authlete.common.dto.StandardIntrospectionResponse;
+import com.authlete.common.dto.TokenCreateBatchResponse;
+import com.authlete.common.dto.TokenCreateBatchStatusResponse;
+import com.authlete.common.dto.TokenCreateRequest;
+import com.authlete.common.dto.TokenCreateResponse;
+import com.authlete.common.dto.TokenFailRequest;
+import com.authlete.common.dto.TokenFailResponse;
+import com.authlete.common.dto.TokenIssueRequest;
+import com.authlete.common.dto.TokenIssueResponse;
+import com.authlete.common.dto.TokenListResponse;
+import com.authlete.common.dto.TokenRequest;
+import com.authlete.common.dto.TokenResponse;
+import com.authlete.common.dto.TokenRevokeRequest;
+import com.authlete.common.dto.TokenRevokeResponse;
+import com.authlete.common.dto.TokenUpdateRequest;
+import com.authlete.common.dto.TokenUpdateResponse;
+import com.authlete.common.dto.UserInfoIssueRequest;
+import com.authlete.common.dto.UserInfoIssueResponse;
+import com.authlete.common.dto.UserInfoRequest;
+import com.authlete.common.dto.UserInfoResponse;
+import com.authlete.common.types.TokenStatus;
+
+
+/**
+ * An implementation of {@link AuthleteAsyncApi} which delegates to an
+ * {@link AuthleteApi} instance.
+ *
+ * <p>
+ * When the delegate is one of the implementations in this package, the
+ * request of each API call is sent by {@link
+ * HttpTransport#executeAsync(HttpTransportRequest, Executor)
+ * HttpTransport.executeAsync()}, and no thread waits for the response
+ * unless the transport does. The {@link Executor} given to the constructor
+ * is passed to the transport for its blocking work and runs the next
+ * attempt of a retried call. {@link ApiInterceptor}s run on the calling
+ * thread. Methods of the delegate which convert the response of the API
+ * and calls to other {@link AuthleteApi} implementations are executed on
+ * the executor as a whole.
+ * </p>
+ *
+ * <p>
+ * When no executor is given, a pool of daemon threads shared in the JVM is
+ * used. The pool has an upper bound of threads, and tasks submitted while
+ * all of them are busy wait in its queue. Because {@link AuthleteApi}
+ * implementations and the default transport perform blocking I/O, the
+ * executor should not be the {@link
+ * java.util.concurrent.ForkJoinPool#commonPool() common pool}.
+ * </p>
+ *
+ * @since 4.47
+ */
+public class AuthleteAsyncApiImpl implements AuthleteAsyncApi
+{
+    private final AuthleteApi mApi;
+    private final Executor mExecutor;
+
+
+    /**
+     * Constructor with an {@link AuthleteApi} instance. API calls are
+     * executed on the shared default executor.
+     *
+     * @param api
+     *         The synchronous API to delegate to.
+     */
+    public AuthleteAsyncApiImpl(AuthleteApi api)
+    {
+        this(api, null);
+    }
+
+
+    /**
+     * Constructor with an {@link AuthleteApi} instance and an executor.
+     *
+     * @param api
+     *         The synchronous API to delegate to.
+     *
+     * @param executor
+     *         The executor on which API calls are executed. If {@code null}
+     *         is given, the shared default executor is used.
+     */
+    public AuthleteAsyncApiImpl(AuthleteApi api, Executor executor)
+    {
+        if (api == null)
+        {
+            throw new IllegalArgumentException("api is null.");
+        }
+
+        mApi      = api;
+        mExecutor = (executor != null) ? executor : DefaultExecutors.workers();
+    }
+
+
+    @Override
+    public AuthleteApi getApi()
+    {
+        return mApi;
+    }
+
+
+    /**
+     * Execute an API call asynchronously.
+     *
+     * @param responseClass
+     *         The class of the response of the API, which the method returns
+     *         as it is. {@code null} if the method returns nothing.
+     */
+    private <TResponse> CompletableFuture<TResponse> supply(Class<?> responseClass, Supplier<TResponse> call)
+    {
+        if (mApi instanceof AuthleteApiBasicImpl)
+        {
+            // Send the request by the asynchronous method of the transport.
+            return ((AuthleteApiBasicImpl)mApi).callAsync(call, responseClass, mExecutor);
+        }
+
+        return CompletableFuture.supplyAsync(call, mExecutor);
+    }
+
+
+    /**
+     * Execute an API call whose response is converted by the delegate
+     * asynchronously. The whole call is executed on the executor.
+     */
+    private <TResponse> CompletableFuture<TResponse> supplyConverted(Supplier<TResponse> call)
+    {
+        return CompletableFuture.supplyAsync(call, mExecutor);
+    }
+
+
+    /**
+     * Execute an API call which does not return a response asynchronously.
+     */
+    private CompletableFuture<Void> run(Runnable call)
+    {
+        return supply(null, () -> {
+            call.run();
+            return null;
+        }).thenApply(response -> null);
+    }
+
+
+    @Override
+    public CompletableFuture<AuthorizationResponse> authorization(AuthorizationRequest request, Options options)
+    {
+        return supply(AuthorizationResponse.class, () -> mApi.authorization(request, options));
+    }
+
+
+    @Override
+    public CompletableFuture<AuthorizationFailResponse> authorizationFail(AuthorizationFailRequest request, Options options)
+    {
+        return supply(AuthorizationFailResponse.class, () -> mApi.authorizationFail(request, options));
+    }
+
+
+    @Override
+    public CompletableFuture<AuthorizationIssueResponse> authorizationIssue(AuthorizationIssueRequest request, Options options)
+    {
+        return supply(AuthorizationIssueResponse.class, () -> mApi.authorizationIssue(request, options));
+    }
+
+
+    @Override
+    public CompletableFuture<TokenResponse> token(TokenRequest request, Options options)
+    {
+        return supply(TokenResponse.class, () -> mApi.token(request, options));
+    }
+
+
+    @Override
+    public CompletableFuture<TokenCreateResponse> tokenCreate(TokenCreateRequest request, Options options)
+    {
+        return supply(TokenCreateResponse.class, () -> mApi.tokenCreate(request, options));
+    }
+
+
+    @Override
+    public CompletableFuture<Void> tokenDelete(String token, Options options)
+    {
+        return run(() -> mApi.tokenDelete(token, options));
+    }
+
+
+    @Override
+    public CompletableFuture<TokenFailResponse> tokenFail(TokenFailRequest request, Options options)
+    {
+        return supply(TokenFailResponse.class, () -> mApi.tokenFail(request, options));
+    }
+
+
+    @Override
+    public CompletableFuture<TokenIssueResponse> tokenIssue(TokenIssueRequest request, Options options)
+    {
+        return supply(TokenIssueResponse.class, () -> mApi.tokenIssue(request, options));
+    }
+
+
+    @Override
+    public CompletableFuture<TokenRevokeResponse> tokenRevoke(TokenRevokeRequest request, Options options)
+    {
+        return supply(TokenRevokeResponse.class, () -> mApi.tokenRevoke(request, options));
+    }
+
+
+    @Override
+    public CompletableFuture<TokenUpdateResponse> tokenUpdate(TokenUpdateRequest request, Options options)
+    {
+        return supply(TokenUpdateResponse.class, () -> mApi.tokenUpdate(request, options));
+    }
+
+
+    @Override
+    public CompletableFuture<TokenListResponse> getTokenList(Options options)
+    {
+        return supply(TokenListResponse.class, () -> mApi.getTokenList(options));
+    }
+
+
+    @Override
+    public CompletableFuture<TokenListResponse> getTokenList(TokenStatus tokenStatus, Options options)
+    {
+        return supply(TokenListResponse.class, () -> mApi.getTokenList(tokenStatus, options));
+    }
+
+
+    @Override
+    public CompletableFuture<TokenListResponse> getTokenList(String clientIdentifier, String subject, Options options)
+    {
+        return supply(TokenListResponse.class, () -> mApi.getTokenList(clientIdentifier, subject, options));
+    }
+
+
+    @Override
+    public CompletableFuture<TokenListResponse> getTokenList(String clientIdentifier, String subject, TokenStatus tokenStatus, Options options)
+    {
+        return supply(TokenListResponse.class, () -> mApi.getTokenList(clientIdentifier, subject, tokenStatus, options));
+    }
+
+
+    @Override
+    public CompletableFuture<TokenListResponse> getTokenList(int start, int end, Options options)
+    {
+        return supply(TokenListResponse.class, () -> mApi.getTokenList(start, end, options));
+    }
+
+
+    @Override
+    public CompletableFuture<TokenListResponse> getTokenList(int start, int end, TokenStatus tokenStatus, Options options)
+    {
+        return supply(TokenListResponse.class, () -> mApi.getTokenList(start, end, tokenStatus, options));
+    }
+
+
+    @Override
+    public CompletableFuture<TokenListResponse> getTokenList(String clientIdentifier, String subject, int start, int end, Options options)
+    {
+        return supply(TokenListResponse.class, () -> mApi.getTokenList(clientIdentifier, subject, start, end, options));
+    }
+
+
+    @Override
+    public CompletableFuture<TokenListResponse> getTokenList(String clientIdentifier, String subject, int start, int end, TokenStatus tokenStatus, Options options)
+    {
+        return supply(TokenListResponse.class, () -> mApi.getTokenList(clientIdentifier, subject, start, end, tokenStatus, options));
+    }
+
+
+    @Override
+    public CompletableFuture<RevocationResponse> revocation(RevocationRequest request, Options options)
+    {
+        return supply(RevocationResponse.class, () -> mApi.revocation(request, options));
+    }
+
+
+    @Override
+    public CompletableFuture<UserInfoResponse> userinfo(UserInfoRequest request, Options options)
+    {
+        return supply(UserInfoResponse.class, () -> mApi.userinfo(request, options));
+    }
+
+
+    @Override
+    public CompletableFuture<UserInfoIssueResponse> userinfoIssue(UserInfoIssueRequest request, Options options)
+    {
+        return supply(UserInfoIssueResponse.class, () -> mApi.userinfoIssue(request, options));
+    }
+
+
+    @Override
+    public CompletableFuture<IntrospectionResponse> introspection(IntrospectionRequest request, Options options)
+    {
+        return supply(IntrospectionResponse.class, () -> mApi.introspection(request, options));
+    }
+
+
+    @Override
+    public CompletableFuture<StandardIntrospectionResponse> standardIntrospection(StandardIntrospectionRequest request, Options options)
+    {
+        return supply(StandardIntrospectionResponse.class, () -> mApi.standardIntrospection(request, options));
+    }
+
+
+    @Override
+    public CompletableFuture<Service> createService(Service service, Options options)
+    {
+        return supply(Service.class, () -> mApi.createService(service, options));
+    }
+
+
+    @Override
+    public CompletableFuture<Void> deleteService(long apiKey, Options options)
+    {
+        return run(() -> mApi.deleteService(apiKey, options));
+    }
+
+
+    @Override
+    public CompletableFuture<Service> getService(long apiKey, Options options)
+    {
+        return supply(Service.class, () -> mApi.getService(apiKey, options));
+    }
+
+
+    @Override
+    public CompletableFuture<ServiceListResponse> getServiceList(Options options)
+    {
+        return supply(ServiceListResponse.class, () -> mApi.getServiceList(options));
+    }
+
+
+    @Override
+    public CompletableFuture<ServiceListResponse> getServiceList(int start, int end, Options options)
+    {
+        return supply(ServiceListResponse.class, () -> mApi.getServiceList(start, end, options));
+    }
+
+
+    @Override
+    public CompletableFuture<Service> updateService(Service service, Options options)
+    {
+        return supply(Service.class, () -> mApi.updateService(service, options));
+    }
+
+
+    @Override
+    public CompletableFuture<String> getServiceJwks(Options options)
+    {
+        return supply(String.class, () -> mApi.getServiceJwks(options));
+    }
+
+
+    @Override
+    public CompletableFuture<String> getServiceJwks(boolean pretty, boolean includePrivateKeys, Options options)
+    {
+        return supply(String.class, () -> mApi.getServiceJwks(pretty, includePrivateKeys, options));
+    }
+
+
+    @Override
+    public CompletableFuture<String> getServiceConfiguration(Options options)
+    {
+        return supply(String.class, () -> mApi.getServiceConfiguration(options));
+    }
+
+
+    @Override
+    public CompletableFuture<String> getServiceConfiguration(boolean pretty, Options options)
+    {
+        return supply(String.class, () -> mApi.getServiceConfiguration(pretty, options));
+    }
+
+
+    @Override
+    public CompletableFuture<String> getServiceConfiguration(ServiceConfigurationRequest request, Options options)
+    {
+        return supply(String.class, () -> mApi.getServiceConfiguration(request, options));
+    }
+
+
+    @Override
+    public CompletableFuture<Client> createClient(Client client, Options options)
+    {
+        return supply(Client.class, () -> mApi.createClient(client, options));
+    }
+
+
+    @Override
+    public CompletableFuture<ClientRegistrationResponse> dynamicClientRegister(ClientRegistrationRequest request, Options options)
+    {
+        return supply(ClientRegistrationResponse.class, () -> mApi.dynamicClientRegister(request, options));
+    }
+
+
+    @Override
+    public CompletableFuture<ClientRegistrationResponse> dynamicClientGet(ClientRegistrationRequest request, Options options)
+    {
+        return supply(ClientRegistrationResponse.class, () -> mApi.dynamicClientGet(request, options));
+    }
+
+
+    @Override
+    public CompletableFuture<ClientRegistrationResponse> dynamicClientUpdate(ClientRegistrationRequest request, Options options)
+    {
+        return supply(ClientRegistrationResponse.class, () -> mApi.dynamicClientUpdate(request, options));
+    }
+
+
+    @Override
+    public CompletableFuture<ClientRegistrationResponse> dynamicClientDelete(ClientRegistrationRequest request, Options options)
+    {
+        return supply(ClientRegistrationResponse.class, () -> mApi.dynamicClientDelete(request, options));
+    }
+
+
+    @Override
+    public CompletableFuture<Void> deleteClient(long clientId, Options options)
+    {
+        return run(() -> mApi.deleteClient(clientId, options));
+    }
+
+
+    @Override
+    public CompletableFuture<Void> deleteClient(String clientId, Options options)
+    {
+        return run(() -> mApi.deleteClient(clientId, options));
+    }
+
+
+    @Override
+    public CompletableFuture<Client> getClient(long clientId, Options options)
+    {
+        return supply(Client.class, () -> mApi.getClient(clientId, options));
+    }
+
+
+    @Override
+    public CompletableFuture<Client> getClient(String clientId, Options options)
+    {
+        return supply(Client.class, () -> mApi.getClient(clientId, options));
+    }
+
+
+    @Override
+    public CompletableFuture<ClientListResponse> getClientList(Options options)
+    {
+        return supply(ClientListResponse.class, () -> mApi.getClientList(options));
+    }
+
+
+    @Override
+    public CompletableFuture<ClientListResponse> getClientList(String developer, Options options)
+    {
+        return supply(ClientListResponse.class, () -> mApi.getClientList(developer, options));
+    }
+
+
+    @Override
+    public CompletableFuture<ClientListResponse> getClientList(int start, int end, Options options)
+    {
+        return supply(ClientListResponse.class, () -> mApi.getClientList(start, end, options));
+    }
+
+
+    @Override
+    public CompletableFuture<ClientListResponse> getClientList(String developer, int start, int end, Options options)
+    {
+        return supply(ClientListResponse.class, () -> mApi.getClientList(developer, start, end, options));
+    }
+
+
+    @Override
+    public CompletableFuture<Client> updateClient(Client client, Options options)
+    {
+        return supply(Client.class, () -> mApi.updateClient(client, options));
+    }
+
+
+    @Override
+    public CompletableFuture<String[]> getRequestableScopes(long clientId, Options options)
+    {
+        return supplyConverted(() -> mApi.getRequestableScopes(clientId, options));
+    }
+
+
+    @Override
+    public CompletableFuture<String[]> setRequestableScopes(long clientId, String[] scopes, Options options)
+    {
+        return supplyConverted(() -> mApi.setRequestableScopes(clientId, scopes, options));
+    }
+
+
+    @Override
+    public CompletableFuture<Void> deleteRequestableScopes(long clientId, Options options)
+    {
+        return run(() -> mApi.deleteRequestableScopes(clientId, options));
+    }
+
+
+    @Override
+    public CompletableFuture<GrantedScopesGetResponse> getGrantedScopes(long clientId, String subject, Options options)
+    {
+        return supply(GrantedScopesGetResponse.class, () -> mApi.getGrantedScopes(clientId, subject, options));
+    }
+
+
+    @Override
+    public CompletableFuture<Void> deleteGrantedScopes(long clientId, String subject, Options options)
+    {
+        return run(() -> mApi.deleteGrantedScopes(clientId, subject, options));
+    }
+
+
+    @Override
+    public CompletableFuture<Void> deleteClientAuthorization(long clientId, String subject, Options options)
+    {
+        return run(() -> mApi.deleteClientAuthorization(clientId, subject, options));
+    }
+
+
+    @Override
+    public CompletableFuture<AuthorizedClientListResponse> getClientAuthorizationList(ClientAuthorizationGetListRequest request, Options options)
+    {
+        return supply(AuthorizedClientListResponse.class, () -> mApi.getClientAuthorizationList(request, options));
+    }
+
+
+    @Override
+    public CompletableFuture<Void> updateClientAuthorization(long clientId, ClientAuthorizationUpdateRequest request, Options options)
+    {
+        return run(() -> mApi.updateClientAuthorization(clientId, request, options));
+    }
+
+
+    @Override
+    public CompletableFuture<ClientSecretRefreshResponse> refreshClientSecret(long clientId, Options options)
+    {
+        return supply(ClientSecretRefreshResponse.class, () -> mApi.refreshClientSecret(clientId, options));
+    }
+
+
+    @Override
+    public CompletableFuture<ClientSecretRefreshResponse> refreshClientSecret(String clientIdentifier, Options options)
+    {
+        return supply(ClientSecretRefreshResponse.class, () -> mApi.refreshClientSecret(clientIdentifier, options));
+    }
+
+
+    @Override
+    public CompletableFuture<ClientSecretUpdateResponse> updateClientSecret(long clientId, String clientSecret, Options options)
+    {
+        return supply(ClientSecretUpdateResponse.class, () -> mApi.updateClientSecret(clientId, clientSecret, options));
+    }
+
+
+    @Override
+    public CompletableFuture<ClientSecretUpdateResponse> updateClientSecret(String clientIdentifier, String clientSecret, Options options)
+    {
+        return supply(ClientSecretUpdateResponse.class, () -> mApi.updateClientSecret(clientIdentifier, clientSecret, options));
+    }
+
+
+    @Override
+    public CompletableFuture<JoseVerifyResponse> verifyJose(JoseVerifyRequest request, Options options)
+    {
+        return supply(JoseVerifyResponse.class, () -> mApi.verifyJose(request, options));
+    }
+
+
+    @Override
+    public CompletableFuture<BackchannelAuthenticationResponse> backchannelAuthentication(BackchannelAuthenticationRequest request, Options options)
+    {
+        return supply(BackchannelAuthenticationResponse.class, () -> mApi.backchannelAuthentication(request, options));
+    }
+
+
+    @Override
+    public CompletableFuture<BackchannelAuthenticationIssueResponse> backchannelAuthenticationIssue(BackchannelAuthenticationIssueRequest request, Options options)
+    {
+        return supply(BackchannelAuthenticationIssueResponse.class, () -> mApi.backchannelAuthenticationIssue(request, options));
+    }
+
+
+    @Override
+    public CompletableFuture<BackchannelAuthenticationFailResponse> backchannelAuthenticationFail(BackchannelAuthenticationFailRequest request, Options options)
+    {
+        return supply(BackchannelAuthenticationFailResponse.class, () -> mApi.backchannelAuthenticationFail(request, options));
+    }
+
+
+    @Override
+    public CompletableFuture<BackchannelAuthenticationCompleteResponse> backchannelAuthenticationComplete(BackchannelAuthenticationCompleteRequest request, Options options)
+    {
+        return supply(BackchannelAuthenticationCompleteResponse.class, () -> mApi.backchannelAuthenticationComplete(request, options));
+    }
+
+
+    @Override
+    public CompletableFuture<DeviceAuthorizationResponse> deviceAuthorization(DeviceAuthorizationRequest request, Options options)
+    {
+        return supply(DeviceAuthorizationResponse.class, () -> mApi.deviceAuthorization(request, options));
+    }
+
+
+    @Override
+    public CompletableFuture<DeviceCompleteResponse> deviceComplete(DeviceCompleteRequest request, Options options)
+    {
+        return supply(DeviceCompleteResponse.class, () -> mApi.deviceComplete(request, options));
+    }
+
+
+    @Override
+    public CompletableFuture<DeviceVerificationResponse> deviceVerification(DeviceVerificationRequest request, Options options)
+    {
+        return supply(DeviceVerificationResponse.class, () -> mApi.deviceVerification(request, options));
+    }
+
+
+    @Override
+    public CompletableFuture<PushedAuthReqResponse> pushAuthorizationRequest(PushedAuthReqRequest request, Options options)
+    {
+        return supply(PushedAuthReqResponse.class, () -> mApi.pushAuthorizationRequest(request, options));
+    }
+
+
+    @Override
+    public CompletableFuture<HskResponse> hskCreate(HskCreateRequest request, Options options)
+    {
+        return supply(HskResponse.class, () -> mApi.hskCreate(request, options));
+    }
+
+
+    @Override
+    public CompletableFuture<HskResponse> hskDelete(String handle, Options options)
+    {
+        return supply(HskResponse.class, () -> mApi.hskDelete(handle, options));
+    }
+
+
+    @Override
+    public CompletableFuture<HskResponse> hskGet(String handle, Options options)
+    {
+        return supply(HskResponse.class, () -> mApi.hskGet(handle, options));
+    }
+
+
+    @Override
+    public CompletableFuture<HskListResponse> hskGetList(Options options)
+    {
+        return supply(HskListResponse.class, () -> mApi.hskGetList(options));
+    }
+
+
+    @Override
+    public CompletableFuture<Map<String, String>> echo(Map<String, String> parameters, Options option)
+    {
+        return supply(Map.class, () -> mApi.echo(parameters, option));
+    }
+
+
+    @Override
+    public CompletableFuture<GMResponse> gm(GMRequest request, Options options)
+    {
+        return supply(GMResponse.class, () -> mApi.gm(request, options));
+    }
+
+
+    @Override
+    public CompletableFuture<Void> updateClientLockFlag(String clientIdentifier, boolean clientLocked, Options options)
+    {
+        return run(() -> mApi.updateClientLockFlag(clientIdentifier, clientLocked, options));
+    }
+
+
+    @Override
+    public CompletableFuture<FederationConfigurationResponse> federationConfiguration(FederationConfigurationRequest request, Options options)
+    {
+        return supply(FederationConfigurationResponse.class, () -> mApi.federationConfiguration(request, options));
+    }
+
+
+    @Override
+    public CompletableFuture<FederationRegistrationResponse> federationRegistration(FederationRegistrationRequest request, Options options)
+    {
+        return supply(FederationRegistrationResponse.class, () -> mApi.federationRegistration(request, options));
+    }
+
+
+    @Override
+    public CompletableFuture<CredentialIssuerMetadataResponse> credentialIssuerMetadata(CredentialIssuerMetadataRequest request, Options options)
+    {
+        return supply(CredentialIssuerMetadataResponse.class, () -> mApi.credentialIssuerMetadata(request, options));
+    }
+
+
+    @Override
+    public CompletableFuture<CredentialJwtIssuerMetadataResponse> credentialJwtIssuerMetadata(CredentialJwtIssuerMetadataRequest request, Options options)
+    {
+        return supply(CredentialJwtIssuerMetadataResponse.class, () -> mApi.credentialJwtIssuerMetadata(request, options));
+    }
+
+
+    @Override
+    public CompletableFuture<CredentialIssuerJwksResponse> credentialIssuerJwks(CredentialIssuerJwksRequest request, Options options)
+    {
+        return supply(CredentialIssuerJwksResponse.class, () -> mApi.credentialIssuerJwks(request, options));
+    }
+
+
+    @Override
+    public CompletableFuture<CredentialOfferCreateResponse> credentialOfferCreate(CredentialOfferCreateRequest request, Options options)
+    {
+        return supply(CredentialOfferCreateResponse.class, () -> mApi.credentialOfferCreate(request, options));
+    }
+
+
+    @Override
+    public CompletableFuture<CredentialOfferInfoResponse> credentialOfferInfo(CredentialOfferInfoRequest request, Options options)
+    {
+        return supply(CredentialOfferInfoResponse.class, () -> mApi.credentialOfferInfo(request, options));
+    }
+
+
+    @Override
+    public CompletableFuture<CredentialSingleParseResponse> credentialSingleParse(CredentialSingleParseRequest request, Options options)
+    {
+        return supply(CredentialSingleParseResponse.class, () -> mApi.credentialSingleParse(request, options));
+    }
+
+
+    @Override
+    public CompletableFuture<CredentialSingleIssueResponse> credentialSingleIssue(CredentialSingleIssueRequest request, Options options)
+    {
+        return supply(CredentialSingleIssueResponse.class, () -> mApi.credentialSingleIssue(request, options));
+    }
+
+
+    @Override
+    public CompletableFuture<CredentialBatchParseResponse> credentialBatchParse(CredentialBatchParseRequest request, Options options)
+    {
+        return supply(CredentialBatchParseResponse.class, () -> mApi.credentialBatchParse(request, options));
+    }
+
+
+    @Override
+    public CompletableFuture<CredentialBatchIssueResponse> credentialBatchIssue(CredentialBatchIssueRequest request, Options options)
+    {
+        return supply(CredentialBatchIssueResponse.class, () -> mApi.credentialBatchIssue(request, options));
+    }
+
+
+    @Override
+    public CompletableFuture<CredentialDeferredParseResponse> credentialDeferredParse(CredentialDeferredParseRequest request, Options options)
+    {
+        return supply(CredentialDeferredParseResponse.class, () -> mApi.credentialDeferredParse(request, options));
+    }
+
+
+    @Override
+    public CompletableFuture<CredentialDeferredIssueResponse> credentialDeferredIssue(CredentialDeferredIssueRequest request, Options options)
+    {
+        return supply(CredentialDeferredIssueResponse.class, () -> mApi.credentialDeferredIssue(request, options));
+    }
+
+
+    @Override
+    public CompletableFuture<CredentialNonceResponse> credentialNonce(CredentialNonceRequest request, Options options)
+    {
+        return supply(CredentialNonceResponse.class, () -> mApi.credentialNonce(request, options));
+    }
+
+
+    @Override
+    public CompletableFuture<IDTokenReissueResponse> idTokenReissue(IDTokenReissueRequest request, Options options)
+    {
+        return supply(IDTokenReissueResponse.class, () -> mApi.idTokenReissue(request, options));
+    }
+
+
+    @Override
+    public CompletableFuture<AuthorizationTicketInfoResponse> authorizationTicketInfo(AuthorizationTicketInfoRequest request, Options opitons)
+    {
+        return supply(AuthorizationTicketInfoResponse.class, () -> mApi.authorizationTicketInfo(request, opitons));
+    }
+
+
+    @Override
+    public CompletableFuture<AuthorizationTicketUpdateResponse> authorizationTicketUpdate(AuthorizationTicketUpdateRequest request, Options options)
+    {
+        return supply(AuthorizationTicketUpdateResponse.class, () -> mApi.authorizationTicketUpdate(request, options));
+    }
+
+
+    @Override
+    public CompletableFuture<TokenCreateBatchResponse> tokenCreateBatch(TokenCreateRequest[] request, boolean dryRun, Options options)
+    {
+        return supply(TokenCreateBatchResponse.class, () -> mApi.tokenCreateBatch(request, dryRun, options));
+    }
+
+
+    @Override
+    public CompletableFuture<TokenCreateBatchStatusResponse> getTokenCreateBatchStatus(String requestId, Options options)
+    {
+        return supply(TokenCreateBatchStatusResponse.class, () -> mApi.getTokenCreateBatchStatus(requestId, options));
+    }
+
+
+    @Override
+    public CompletableFuture<NativeSsoResponse> nativeSso(NativeSsoRequest request, Options options)
+    {
+        return supply(NativeSsoResponse.class, () -> mApi.nativeSso(request, options));
+    }
+
+
+    @Override
+    public CompletableFuture<NativeSsoLogoutResponse> nativeSsoLogout(NativeSsoLogoutRequest request, Options options)
+    {
+        return supply(NativeSsoLogoutResponse.class, () -> mApi.nativeSsoLogout(request, options));
+    }
+
+
+    @Override
+    public CompletableFuture<AttestationChallengeResponse> attestationChallenge(AttestationChallengeRequest request, Options options)
+    {
+        return supply(AttestationChallengeResponse.class, () -> mApi.attestationChallenge(request, options));
+    }
+
+
+    @Override
+    public CompletableFuture<BackchannelLogoutTokenResponse> backchannelLogoutToken(BackchannelLogoutTokenRequest request, Options options)
+    {
+        return supply(BackchannelLogoutTokenResponse.class, () -> mApi.backchannelLogoutToken(request, options));
+    }
+}
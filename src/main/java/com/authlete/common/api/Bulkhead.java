@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * Limiter of the number of concurrent calls of an API.
+ *
+ * @see Settings#setMaxConcurrentCallsPerApi(int)
+ */
+class Bulkhead
+{
+    private final AtomicInteger mConcurrentCalls = new AtomicInteger();
+
+
+    /**
+     * Try to start a call.
+     *
+     * @param limit
+     *         The maximum number of concurrent calls. 0 means unlimited.
+     *
+     * @return
+     *         {@code true} if the call can be started. In that case,
+     *         {@link #release()} has to be called when the call completes.
+     */
+    boolean tryAcquire(int limit)
+    {
+        int calls = mConcurrentCalls.incrementAndGet();
+
+        if (0 < limit && limit < calls)
+        {
+            mConcurrentCalls.decrementAndGet();
+            return false;
+        }
+
+        return true;
+    }
+
+
+    void release()
+    {
+        mConcurrentCalls.decrementAndGet();
+    }
+
+
+    int concurrentCalls()
+    {
+        return mConcurrentCalls.get();
+    }
+}
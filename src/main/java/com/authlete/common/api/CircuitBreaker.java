@@ -0,0 +1,225 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Circuit breaker of an API.
+ *
+ * @see CircuitBreakerPolicy
+ */
+class CircuitBreaker
+{
+    /**
+     * Permission returned from {@link CircuitBreaker#tryAcquire()}. It
+     * remembers whether the call was permitted as a trial call so that
+     * outcomes of calls started in a previous state are not mixed up.
+     */
+    enum Permit
+    {
+        NORMAL,
+        TRIAL
+    }
+
+
+    private final CircuitBreakerPolicy mPolicy;
+
+    // Outcomes of recent calls in the closed state. true means failure.
+    private final boolean[] mWindow;
+    private int mWindowIndex;
+    private int mRecordedCalls;
+    private int mFailedCalls;
+
+    private CircuitBreakerState mState = CircuitBreakerState.CLOSED;
+    private long mOpenedAt;
+    private int mTrialCalls;
+    private int mSucceededTrialCalls;
+
+
+    CircuitBreaker(CircuitBreakerPolicy policy)
+    {
+        mPolicy = policy;
+        mWindow = new boolean[policy.getSlidingWindowSize()];
+    }
+
+
+    CircuitBreakerPolicy policy()
+    {
+        return mPolicy;
+    }
+
+
+    synchronized CircuitBreakerState state()
+    {
+        updateState();
+
+        return mState;
+    }
+
+
+    /**
+     * Ask for permission to call the API.
+     *
+     * @return
+     *         A permit, or {@code null} if the call is not permitted.
+     */
+    synchronized Permit tryAcquire()
+    {
+        updateState();
+
+        switch (mState)
+        {
+            case CLOSED:
+                return Permit.NORMAL;
+
+            case HALF_OPEN:
+                if (mTrialCalls >= mPolicy.getPermittedCallsInHalfOpenState())
+                {
+                    return null;
+                }
+                mTrialCalls++;
+                return Permit.TRIAL;
+
+            default:
+                return null;
+        }
+    }
+
+
+    /**
+     * Record the outcome of a call.
+     *
+     * @param permit
+     *         The permit returned from {@link #tryAcquire()}.
+     *
+     * @param failed
+     *         {@code true} if the call failed.
+     *
+     * @param elapsedNanos
+     *         The time taken by the call in nanoseconds.
+     */
+    synchronized void onComplete(Permit permit, boolean failed, long elapsedNanos)
+    {
+        long slow = mPolicy.getSlowCallDuration();
+
+        if (slow > 0 && TimeUnit.NANOSECONDS.toMillis(elapsedNanos) > slow)
+        {
+            // A slow call is regarded as failed.
+            failed = true;
+        }
+
+        if (permit == Permit.TRIAL)
+        {
+            onTrialComplete(failed);
+        }
+        else if (mState == CircuitBreakerState.CLOSED)
+        {
+            record(failed);
+        }
+
+        // Outcomes of normal calls which complete after the circuit has
+        // been opened are ignored.
+    }
+
+
+    private void onTrialComplete(boolean failed)
+    {
+        if (mState != CircuitBreakerState.HALF_OPEN)
+        {
+            return;
+        }
+
+        if (failed)
+        {
+            // The API has not recovered yet.
+            open();
+            return;
+        }
+
+        mSucceededTrialCalls++;
+
+        if (mSucceededTrialCalls >= mPolicy.getPermittedCallsInHalfOpenState())
+        {
+            // All the trial calls succeeded.
+            close();
+        }
+    }
+
+
+    private void record(boolean failed)
+    {
+        if (mRecordedCalls == mWindow.length)
+        {
+            // Remove the oldest outcome from the window.
+            if (mWindow[mWindowIndex])
+            {
+                mFailedCalls--;
+            }
+        }
+        else
+        {
+            mRecordedCalls++;
+        }
+
+        mWindow[mWindowIndex] = failed;
+        mWindowIndex = (mWindowIndex + 1) % mWindow.length;
+
+        if (failed)
+        {
+            mFailedCalls++;
+        }
+
+        int minimum = Math.min(mPolicy.getMinimumNumberOfCalls(), mWindow.length);
+
+        if (mRecordedCalls >= minimum &&
+            mFailedCalls >= mPolicy.getFailureRateThreshold() * mRecordedCalls)
+        {
+            open();
+        }
+    }
+
+
+    private void updateState()
+    {
+        if (mState == CircuitBreakerState.OPEN &&
+            System.nanoTime() - mOpenedAt >= TimeUnit.MILLISECONDS.toNanos(mPolicy.getOpenDuration()))
+        {
+            // Let trial calls through.
+            mState               = CircuitBreakerState.HALF_OPEN;
+            mTrialCalls          = 0;
+            mSucceededTrialCalls = 0;
+        }
+    }
+
+
+    private void open()
+    {
+        mState    = CircuitBreakerState.OPEN;
+        mOpenedAt = System.nanoTime();
+    }
+
+
+    private void close()
+    {
+        mState         = CircuitBreakerState.CLOSED;
+        mWindowIndex   = 0;
+        mRecordedCalls = 0;
+        mFailedCalls   = 0;
+    }
+}
@@ -0,0 +1,287 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+/**
+ * Policy of circuit breakers which stop calling a failing API.
+ *
+ * <p>
+ * A circuit breaker exists for each API (more precisely, for each path
+ * template of APIs, e.g. {@code "/api/{}/auth/userinfo"}). The outcome of
+ * the last {@link #getSlidingWindowSize()} calls of the API is recorded.
+ * A call fails when an I/O error occurs, when the response has a 5xx
+ * status code, or when the call takes longer than {@link
+ * #getSlowCallDuration()}. Once at least {@link #getMinimumNumberOfCalls()}
+ * calls have been recorded and the ratio of failed calls reaches {@link
+ * #getFailureRateThreshold()}, the circuit becomes {@linkplain
+ * CircuitBreakerState#OPEN open} and calls of the API fail immediately
+ * with {@link AuthleteApiCircuitOpenException} for {@link
+ * #getOpenDuration()} milliseconds. After that, the circuit becomes
+ * {@linkplain CircuitBreakerState#HALF_OPEN half-open} and lets {@link
+ * #getPermittedCallsInHalfOpenState()} trial calls through. The circuit
+ * is closed if all the trial calls succeed, and opened again otherwise.
+ * </p>
+ *
+ * @since 4.47
+ *
+ * @see Settings#setCircuitBreakerPolicy(CircuitBreakerPolicy)
+ */
+public class CircuitBreakerPolicy
+{
+    private double failureRateThreshold = 0.5;
+    private int slidingWindowSize = 20;
+    private int minimumNumberOfCalls = 10;
+    private long openDuration = 30000;
+    private int permittedCallsInHalfOpenState = 1;
+    private long slowCallDuration;
+
+
+    /**
+     * Get the ratio of failed calls which opens the circuit.
+     * The default value is 0.5.
+     *
+     * @return
+     *         The failure rate threshold between 0.0 and 1.0.
+     */
+    public double getFailureRateThreshold()
+    {
+        return failureRateThreshold;
+    }
+
+
+    /**
+     * Set the ratio of failed calls which opens the circuit.
+     *
+     * @param threshold
+     *         The failure rate threshold. Must be greater than 0.0 and
+     *         equal to or less than 1.0.
+     *
+     * @return
+     *         {@code this} object.
+     *
+     * @throws IllegalArgumentException
+     *         The given value is out of the range.
+     */
+    public CircuitBreakerPolicy setFailureRateThreshold(double threshold)
+    {
+        if (!(0.0 < threshold && threshold <= 1.0))
+        {
+            throw new IllegalArgumentException("threshold must be greater than 0.0 and equal to or less than 1.0.");
+        }
+
+        this.failureRateThreshold = threshold;
+
+        return this;
+    }
+
+
+    /**
+     * Get the number of recent calls whose outcome is recorded.
+     * The default value is 20.
+     *
+     * @return
+     *         The size of the sliding window.
+     */
+    public int getSlidingWindowSize()
+    {
+        return slidingWindowSize;
+    }
+
+
+    /**
+     * Set the number of recent calls whose outcome is recorded.
+     *
+     * @param size
+     *         The size of the sliding window. Must be 1 or greater.
+     *
+     * @return
+     *         {@code this} object.
+     *
+     * @throws IllegalArgumentException
+     *         The given value is less than 1.
+     */
+    public CircuitBreakerPolicy setSlidingWindowSize(int size)
+    {
+        if (size < 1)
+        {
+            throw new IllegalArgumentException("size must be 1 or greater.");
+        }
+
+        this.slidingWindowSize = size;
+
+        return this;
+    }
+
+
+    /**
+     * Get the number of calls which have to be recorded before the failure
+     * rate is evaluated. The default value is 10.
+     *
+     * @return
+     *         The minimum number of calls.
+     */
+    public int getMinimumNumberOfCalls()
+    {
+        return minimumNumberOfCalls;
+    }
+
+
+    /**
+     * Set the number of calls which have to be recorded before the failure
+     * rate is evaluated. Values larger than the size of the sliding window
+     * are treated as the size of the sliding window.
+     *
+     * @param calls
+     *         The minimum number of calls. Must be 1 or greater.
+     *
+     * @return
+     *         {@code this} object.
+     *
+     * @throws IllegalArgumentException
+     *         The given value is less than 1.
+     */
+    public CircuitBreakerPolicy setMinimumNumberOfCalls(int calls)
+    {
+        if (calls < 1)
+        {
+            throw new IllegalArgumentException("calls must be 1 or greater.");
+        }
+
+        this.minimumNumberOfCalls = calls;
+
+        return this;
+    }
+
+
+    /**
+     * Get the duration in milliseconds for which an open circuit rejects
+     * calls. The default value is 30000.
+     *
+     * @return
+     *         The open duration in milliseconds.
+     */
+    public long getOpenDuration()
+    {
+        return openDuration;
+    }
+
+
+    /**
+     * Set the duration in milliseconds for which an open circuit rejects
+     * calls.
+     *
+     * @param duration
+     *         The open duration in milliseconds.
+     *
+     * @return
+     *         {@code this} object.
+     *
+     * @throws IllegalArgumentException
+     *         The given value is negative.
+     */
+    public CircuitBreakerPolicy setOpenDuration(long duration)
+    {
+        if (duration < 0)
+        {
+            throw new IllegalArgumentException("duration cannot be negative.");
+        }
+
+        this.openDuration = duration;
+
+        return this;
+    }
+
+
+    /**
+     * Get the number of trial calls permitted in the half-open state.
+     * The default value is 1.
+     *
+     * @return
+     *         The number of trial calls.
+     */
+    public int getPermittedCallsInHalfOpenState()
+    {
+        return permittedCallsInHalfOpenState;
+    }
+
+
+    /**
+     * Set the number of trial calls permitted in the half-open state.
+     *
+     * @param calls
+     *         The number of trial calls. Must be 1 or greater.
+     *
+     * @return
+     *         {@code this} object.
+     *
+     * @throws IllegalArgumentException
+     *         The given value is less than 1.
+     */
+    public CircuitBreakerPolicy setPermittedCallsInHalfOpenState(int calls)
+    {
+        if (calls < 1)
+        {
+            throw new IllegalArgumentException("calls must be 1 or greater.");
+        }
+
+        this.permittedCallsInHalfOpenState = calls;
+
+        return this;
+    }
+
+
+    /**
+     * Get the duration in milliseconds above which a call is regarded as
+     * failed even if it succeeds. The default value is 0, which means that
+     * slow calls are not regarded as failed.
+     *
+     * @return
+     *         The slow call duration in milliseconds.
+     */
+    public long getSlowCallDuration()
+    {
+        return slowCallDuration;
+    }
+
+
+    /**
+     * Set the duration in milliseconds above which a call is regarded as
+     * failed even if it succeeds. A degraded API often becomes slow before
+     * it starts returning errors.
+     *
+     * @param duration
+     *         The slow call duration in milliseconds. 0 to disable the
+     *         detection of slow calls.
+     *
+     * @return
+     *         {@code this} object.
+     *
+     * @throws IllegalArgumentException
+     *         The given value is negative.
+     */
+    public CircuitBreakerPolicy setSlowCallDuration(long duration)
+    {
+        if (duration < 0)
+        {
+            throw new IllegalArgumentException("duration cannot be negative.");
+        }
+
+        this.slowCallDuration = duration;
+
+        return this;
+    }
+}
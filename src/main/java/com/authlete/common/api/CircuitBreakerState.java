@@ -0,0 +1,45 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+/**
+ * State of a circuit breaker.
+ *
+ * @since 4.47
+ *
+ * @see CircuitBreakerPolicy
+ */
+public enum CircuitBreakerState
+{
+    /**
+     * Calls are permitted and their outcome is recorded.
+     */
+    CLOSED,
+
+
+    /**
+     * Calls are rejected with {@link AuthleteApiCircuitOpenException}.
+     */
+    OPEN,
+
+
+    /**
+     * A limited number of trial calls are permitted to check whether
+     * the API has recovered.
+     */
+    HALF_OPEN
+}
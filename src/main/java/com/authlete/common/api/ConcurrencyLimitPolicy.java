@@ -0,0 +1,338 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+/**
+ * Policy of the adaptive limit of concurrent calls of Authlete APIs.
+ *
+ * <p>
+ * The limit caps the number of calls in flight per {@link AuthleteApi}
+ * instance, across all APIs. It starts at {@link #getInitialLimit()} and
+ * is adjusted after every call within the range between {@link
+ * #getMinLimit()} and {@link #getMaxLimit()}, in the style of the gradient
+ * algorithm of TCP congestion control: while the round-trip time of calls
+ * stays within {@link #getRttTolerance()} times its long-term average, the
+ * limit grows by about the square root of itself; as the round-trip time
+ * rises beyond it, the limit shrinks in proportion. In addition, the limit
+ * is multiplied by {@link #getBackoffRatio()} whenever a call fails with
+ * an I/O error or a 5xx response.
+ * </p>
+ *
+ * <p>
+ * A call beyond the limit waits up to {@link #getMaxQueueTime()}
+ * milliseconds for another call to complete, and then fails with {@link
+ * AuthleteApiConcurrencyLimitException} without sending a request. As a
+ * result, excess load is shed early instead of piling up connections to
+ * an overloaded server until they time out.
+ * </p>
+ *
+ * <p>
+ * Calls made by {@link AuthleteAsyncApi} do not wait. Waiting would park
+ * the thread which calls the method of {@code AuthleteAsyncApi}, so an
+ * asynchronous call beyond the limit fails at once, whatever the maximum
+ * queue time is. The returned future completes exceptionally with {@code
+ * AuthleteApiConcurrencyLimitException}.
+ * </p>
+ *
+ * @since 4.47
+ *
+ * @see Settings#setConcurrencyLimitPolicy(ConcurrencyLimitPolicy)
+ */
+public class ConcurrencyLimitPolicy
+{
+    private int initialLimit = 20;
+    private int minLimit = 1;
+    private int maxLimit = 200;
+    private long maxQueueTime;
+    private double rttTolerance = 2.0;
+    private double smoothing = 0.2;
+    private double backoffRatio = 0.9;
+
+
+    /**
+     * Get the initial limit. The default value is 20.
+     *
+     * @return
+     *         The initial limit.
+     */
+    public int getInitialLimit()
+    {
+        return initialLimit;
+    }
+
+
+    /**
+     * Set the initial limit. Values out of the range between the minimum
+     * limit and the maximum limit are clamped into the range.
+     *
+     * @param limit
+     *         The initial limit. Must be 1 or greater.
+     *
+     * @return
+     *         {@code this} object.
+     *
+     * @throws IllegalArgumentException
+     *         The given value is less than 1.
+     */
+    public ConcurrencyLimitPolicy setInitialLimit(int limit)
+    {
+        if (limit < 1)
+        {
+            throw new IllegalArgumentException("limit must be 1 or greater.");
+        }
+
+        this.initialLimit = limit;
+
+        return this;
+    }
+
+
+    /**
+     * Get the minimum limit. The default value is 1.
+     *
+     * @return
+     *         The minimum limit.
+     */
+    public int getMinLimit()
+    {
+        return minLimit;
+    }
+
+
+    /**
+     * Set the minimum limit.
+     *
+     * @param limit
+     *         The minimum limit. Must be 1 or greater.
+     *
+     * @return
+     *         {@code this} object.
+     *
+     * @throws IllegalArgumentException
+     *         The given value is less than 1.
+     */
+    public ConcurrencyLimitPolicy setMinLimit(int limit)
+    {
+        if (limit < 1)
+        {
+            throw new IllegalArgumentException("limit must be 1 or greater.");
+        }
+
+        this.minLimit = limit;
+
+        return this;
+    }
+
+
+    /**
+     * Get the maximum limit. The default value is 200.
+     *
+     * @return
+     *         The maximum limit.
+     */
+    public int getMaxLimit()
+    {
+        return maxLimit;
+    }
+
+
+    /**
+     * Set the maximum limit. Values smaller than the minimum limit are
+     * treated as the minimum limit.
+     *
+     * @param limit
+     *         The maximum limit. Must be 1 or greater.
+     *
+     * @return
+     *         {@code this} object.
+     *
+     * @throws IllegalArgumentException
+     *         The given value is less than 1.
+     */
+    public ConcurrencyLimitPolicy setMaxLimit(int limit)
+    {
+        if (limit < 1)
+        {
+            throw new IllegalArgumentException("limit must be 1 or greater.");
+        }
+
+        this.maxLimit = limit;
+
+        return this;
+    }
+
+
+    /**
+     * Get the maximum time in milliseconds for which a call beyond the
+     * limit waits for another call to complete. The default value is 0,
+     * which means that such a call fails immediately. Asynchronous calls
+     * never wait.
+     *
+     * @return
+     *         The maximum queue time in milliseconds.
+     */
+    public long getMaxQueueTime()
+    {
+        return maxQueueTime;
+    }
+
+
+    /**
+     * Set the maximum time in milliseconds for which a call beyond the
+     * limit waits for another call to complete.
+     *
+     * @param time
+     *         The maximum queue time in milliseconds. 0 means that calls
+     *         beyond the limit fail immediately.
+     *
+     * @return
+     *         {@code this} object.
+     *
+     * @throws IllegalArgumentException
+     *         The given value is negative.
+     */
+    public ConcurrencyLimitPolicy setMaxQueueTime(long time)
+    {
+        if (time < 0)
+        {
+            throw new IllegalArgumentException("time cannot be negative.");
+        }
+
+        this.maxQueueTime = time;
+
+        return this;
+    }
+
+
+    /**
+     * Get the ratio of the round-trip time to its long-term average up to
+     * which the limit is not reduced. The default value is 2.0.
+     *
+     * @return
+     *         The tolerance of round-trip times.
+     */
+    public double getRttTolerance()
+    {
+        return rttTolerance;
+    }
+
+
+    /**
+     * Set the ratio of the round-trip time to its long-term average up to
+     * which the limit is not reduced.
+     *
+     * @param tolerance
+     *         The tolerance of round-trip times. Must be 1.0 or greater.
+     *
+     * @return
+     *         {@code this} object.
+     *
+     * @throws IllegalArgumentException
+     *         The given value is less than 1.0.
+     */
+    public ConcurrencyLimitPolicy setRttTolerance(double tolerance)
+    {
+        if (!(tolerance >= 1.0))
+        {
+            throw new IllegalArgumentException("tolerance must be 1.0 or greater.");
+        }
+
+        this.rttTolerance = tolerance;
+
+        return this;
+    }
+
+
+    /**
+     * Get the weight of a new estimate when the limit is updated after a
+     * successful call. The default value is 0.2.
+     *
+     * @return
+     *         The smoothing factor between 0.0 and 1.0.
+     */
+    public double getSmoothing()
+    {
+        return smoothing;
+    }
+
+
+    /**
+     * Set the weight of a new estimate when the limit is updated after a
+     * successful call. Smaller values make the limit change more slowly.
+     *
+     * @param smoothing
+     *         The smoothing factor. Must be greater than 0.0 and equal to
+     *         or less than 1.0.
+     *
+     * @return
+     *         {@code this} object.
+     *
+     * @throws IllegalArgumentException
+     *         The given value is out of the range.
+     */
+    public ConcurrencyLimitPolicy setSmoothing(double smoothing)
+    {
+        if (!(0.0 < smoothing && smoothing <= 1.0))
+        {
+            throw new IllegalArgumentException("smoothing must be greater than 0.0 and equal to or less than 1.0.");
+        }
+
+        this.smoothing = smoothing;
+
+        return this;
+    }
+
+
+    /**
+     * Get the ratio by which the limit is multiplied when a call fails.
+     * The default value is 0.9.
+     *
+     * @return
+     *         The backoff ratio between 0.0 and 1.0.
+     */
+    public double getBackoffRatio()
+    {
+        return backoffRatio;
+    }
+
+
+    /**
+     * Set the ratio by which the limit is multiplied when a call fails
+     * with an I/O error or a 5xx response.
+     *
+     * @param ratio
+     *         The backoff ratio. Must be greater than 0.0 and equal to or
+     *         less than 1.0.
+     *
+     * @return
+     *         {@code this} object.
+     *
+     * @throws IllegalArgumentException
+     *         The given value is out of the range.
+     */
+    public ConcurrencyLimitPolicy setBackoffRatio(double ratio)
+    {
+        if (!(0.0 < ratio && ratio <= 1.0))
+        {
+            throw new IllegalArgumentException("ratio must be greater than 0.0 and equal to or less than 1.0.");
+        }
+
+        this.backoffRatio = ratio;
+
+        return this;
+    }
+}
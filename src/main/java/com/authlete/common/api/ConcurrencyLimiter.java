@@ -0,0 +1,294 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+
+/**
+ * Adaptive limiter of the number of concurrent calls.
+ *
+ * <p>
+ * The number of calls in flight is counted without locking. The lock is
+ * taken only to update the limit with a sample and by callers which wait
+ * in the queue.
+ * </p>
+ *
+ * @see ConcurrencyLimitPolicy
+ */
+class ConcurrencyLimiter
+{
+    // The number of samples over which the long-term RTT is averaged.
+    private static final int LONG_RTT_WINDOW = 500;
+
+    // The minimum ratio of the new limit to the current limit.
+    private static final double MIN_GRADIENT = 0.5;
+
+
+    private final ConcurrencyLimitPolicy mPolicy;
+    private final ReentrantLock mLock = new ReentrantLock();
+    private final Condition mReleased = mLock.newCondition();
+    private final int mMinLimit;
+    private final int mMaxLimit;
+    private final AtomicInteger mInFlight = new AtomicInteger();
+    private volatile double mLimit;
+    private volatile int mWaiters;
+    private double mLongRtt;
+    private long mSamples;
+
+
+    ConcurrencyLimiter(ConcurrencyLimitPolicy policy)
+    {
+        mPolicy   = policy;
+        mMinLimit = policy.getMinLimit();
+        mMaxLimit = Math.max(mMinLimit, policy.getMaxLimit());
+        mLimit    = clamp(policy.getInitialLimit());
+    }
+
+
+    ConcurrencyLimitPolicy policy()
+    {
+        return mPolicy;
+    }
+
+
+    /**
+     * Try to start a call, waiting up to the maximum queue time of the
+     * policy if the limit has been reached.
+     *
+     * @return
+     *         {@code true} if the call can be started. In that case,
+     *         either {@link #release(boolean)} or {@link #cancel()} has to
+     *         be called when the call completes.
+     */
+    boolean acquire()
+    {
+        if (tryIncrement())
+        {
+            return true;
+        }
+
+        long wait = TimeUnit.MILLISECONDS.toNanos(mPolicy.getMaxQueueTime());
+
+        if (wait <= 0)
+        {
+            return false;
+        }
+
+        mLock.lock();
+        mWaiters++;
+
+        try
+        {
+            while (!tryIncrement())
+            {
+                if (wait <= 0)
+                {
+                    return false;
+                }
+
+                wait = mReleased.awaitNanos(wait);
+            }
+
+            return true;
+        }
+        catch (InterruptedException e)
+        {
+            // Give up waiting but keep the interrupted status.
+            Thread.currentThread().interrupt();
+
+            return false;
+        }
+        finally
+        {
+            mWaiters--;
+            mLock.unlock();
+        }
+    }
+
+
+    /**
+     * Try to start a call without waiting. Used by asynchronous calls,
+     * whose threads must not be parked.
+     *
+     * @return
+     *         {@code true} if the call can be started. In that case,
+     *         either {@link #release(boolean)} or {@link #cancel()} has to
+     *         be called when the call completes.
+     */
+    boolean tryAcquire()
+    {
+        return tryIncrement();
+    }
+
+
+    private boolean tryIncrement()
+    {
+        while (true)
+        {
+            int inFlight = mInFlight.get();
+
+            if (inFlight >= limit())
+            {
+                return false;
+            }
+
+            if (mInFlight.compareAndSet(inFlight, inFlight + 1))
+            {
+                return true;
+            }
+        }
+    }
+
+
+    /**
+     * Update the limit with the round-trip time of a request. A call
+     * gives one sample for each request sent to the server, measured from
+     * sending the request until receiving the response headers, so that
+     * waiting before a retry and processing the response do not count.
+     *
+     * @param rtt
+     *         The round-trip time of a request in nanoseconds.
+     */
+    void sample(long rtt)
+    {
+        mLock.lock();
+
+        try
+        {
+            update(Math.max(rtt, 1));
+
+            if (mWaiters > 0)
+            {
+                // The limit may have been raised.
+                mReleased.signalAll();
+            }
+        }
+        finally
+        {
+            mLock.unlock();
+        }
+    }
+
+
+    /**
+     * End a call.
+     *
+     * @param dropped
+     *         {@code true} if the call failed in a way which suggests that
+     *         the server is overloaded. The limit is lowered.
+     */
+    void release(boolean dropped)
+    {
+        if (dropped)
+        {
+            mLock.lock();
+
+            try
+            {
+                mLimit = clamp(mLimit * mPolicy.getBackoffRatio());
+            }
+            finally
+            {
+                mLock.unlock();
+            }
+        }
+
+        cancel();
+    }
+
+
+    /**
+     * End a call without updating the limit, e.g. when the call has been
+     * rejected by another guard before being sent.
+     */
+    void cancel()
+    {
+        mInFlight.decrementAndGet();
+
+        if (mWaiters == 0)
+        {
+            return;
+        }
+
+        mLock.lock();
+
+        try
+        {
+            mReleased.signal();
+        }
+        finally
+        {
+            mLock.unlock();
+        }
+    }
+
+
+    private void update(long rtt)
+    {
+        // Exponential moving average of RTTs, which serves as the baseline.
+        // A simple average is used until the window is filled so that the
+        // first samples do not dominate the baseline.
+        mSamples++;
+        double alpha = 1.0 / Math.min(mSamples, LONG_RTT_WINDOW);
+        mLongRtt = mLongRtt * (1 - alpha) + rtt * alpha;
+
+        // Let the baseline follow quickly when RTTs have dropped much,
+        // e.g. after the server has recovered.
+        if (mLongRtt > rtt * 2)
+        {
+            mLongRtt *= 0.95;
+        }
+
+        // The limit is not used up, so a larger one would not be tested.
+        if (mInFlight.get() < mLimit / 2)
+        {
+            return;
+        }
+
+        // 1.0 while the RTT is within the tolerance, smaller as it rises.
+        double gradient = Math.max(MIN_GRADIENT,
+                Math.min(1.0, mPolicy.getRttTolerance() * mLongRtt / rtt));
+
+        // Allow some queueing at the server so that the limit can grow.
+        double newLimit = mLimit * gradient + Math.sqrt(mLimit);
+        double smoothing = mPolicy.getSmoothing();
+
+        mLimit = clamp(mLimit * (1 - smoothing) + newLimit * smoothing);
+    }
+
+
+    private double clamp(double limit)
+    {
+        return Math.max(mMinLimit, Math.min(mMaxLimit, limit));
+    }
+
+
+    int limit()
+    {
+        return (int)mLimit;
+    }
+
+
+    int inFlight()
+    {
+        return mInFlight.get();
+    }
+}
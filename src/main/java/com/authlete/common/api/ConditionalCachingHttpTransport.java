@@ -0,0 +1,500 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import com.authlete.common.util.digest.Digest;
+
+
+/**
+ * An implementation of {@link HttpTransport} which caches responses to
+ * {@code GET} requests for the service JWKS and the service configuration
+ * (discovery document), and revalidates them with conditional requests.
+ *
+ * <p>
+ * A cached response is fresh for the period specified by {@code max-age}
+ * of the {@code Cache-Control} response header, or for the fresh TTL given
+ * to the constructor if the header does not specify it. A fresh response
+ * is served from memory without contacting the server.
+ * </p>
+ *
+ * <p>
+ * After that, the response is stale. For the period specified by {@code
+ * stale-while-revalidate} of the {@code Cache-Control} response header, or
+ * for the stale TTL given to the constructor, a stale response is still
+ * served from memory while it is revalidated in the background. After the
+ * period, the response is revalidated synchronously.
+ * </p>
+ *
+ * <p>
+ * Revalidation is a request with {@code If-None-Match} and/or {@code
+ * If-Modified-Since} headers built from the {@code ETag} and {@code
+ * Last-Modified} headers of the cached response. When the server answers
+ * {@code 304 Not Modified}, the cached response body is reused. Responses
+ * with {@code Cache-Control: no-store} are not cached. The request passed
+ * to {@link #execute(HttpTransportRequest) execute()} is not modified. A
+ * background revalidation sends a {@linkplain HttpTransportRequest#renew()
+ * renewed request}, which has its own DPoP proof and timeouts, because the
+ * API call which triggered it has already returned.
+ * </p>
+ *
+ * <pre style="border: 1px solid black; padding: 0.5em; margin: 0.5em;">
+ * api.getSettings().setHttpTransport(
+ *     new ConditionalCachingHttpTransport(new HttpUrlConnectionTransport(), 60000, 300000));
+ * </pre>
+ *
+ * @since 4.47
+ */
+public class ConditionalCachingHttpTransport implements HttpTransport
+{
+    private static class Entry
+    {
+        final Map<String, List<String>> headers;
+        final byte[] body;
+        final long freshUntil;
+        final long staleUntil;
+        final AtomicBoolean revalidating = new AtomicBoolean();
+
+
+        Entry(Map<String, List<String>> headers, byte[] body, long freshUntil, long staleUntil)
+        {
+            this.headers    = headers;
+            this.body       = body;
+            this.freshUntil = freshUntil;
+            this.staleUntil = staleUntil;
+        }
+    }
+
+
+    private static class CachedResponse implements HttpTransportResponse
+    {
+        private final Entry mEntry;
+
+
+        CachedResponse(Entry entry)
+        {
+            mEntry = entry;
+        }
+
+
+        @Override
+        public int getStatusCode()
+        {
+            return HttpURLConnection.HTTP_OK;
+        }
+
+
+        @Override
+        public String getStatusMessage()
+        {
+            return "OK";
+        }
+
+
+        @Override
+        public Map<String, List<String>> getHeaders()
+        {
+            return mEntry.headers;
+        }
+
+
+        @Override
+        public long getContentLength()
+        {
+            return mEntry.body.length;
+        }
+
+
+        @Override
+        public InputStream getBody()
+        {
+            return new ByteArrayInputStream(mEntry.body);
+        }
+
+
+        @Override
+        public void close()
+        {
+        }
+    }
+
+
+    /** Suffixes of path templates of APIs whose responses are cached. */
+    private static final String[] CACHEABLE_APIS = {
+        "/service/configuration",
+        "/service/jwks/get",
+    };
+
+
+    private static final Pattern MAX_AGE =
+            Pattern.compile("(?:^|[,\\s])max-age\\s*=\\s*\"?(\\d+)");
+    private static final Pattern STALE_WHILE_REVALIDATE =
+            Pattern.compile("(?:^|[,\\s])stale-while-revalidate\\s*=\\s*\"?(\\d+)");
+    private static final Pattern NO_STORE =
+            Pattern.compile("(?:^|[,\\s])no-store(?:$|[,\\s])");
+
+
+    private final HttpTransport mTransport;
+    private final long mFreshTtl;
+    private final long mStaleTtl;
+    private final Executor mExecutor;
+    private final SlruCache<String, Entry> mCache = new SlruCache<>(256);
+
+
+    /**
+     * Constructor. Background revalidation is executed on a shared executor
+     * with a bounded number of daemon threads.
+     *
+     * @param transport
+     *         The transport which actually sends requests.
+     *
+     * @param freshTtl
+     *         The period in milliseconds during which a cached response is
+     *         served without revalidation, used when the response does not
+     *         have {@code Cache-Control: max-age}.
+     *
+     * @param staleTtl
+     *         The period in milliseconds after {@code freshTtl} during which
+     *         a cached response is served while being revalidated in the
+     *         background, used when the response does not have {@code
+     *         Cache-Control: stale-while-revalidate}.
+     */
+    public ConditionalCachingHttpTransport(HttpTransport transport, long freshTtl, long staleTtl)
+    {
+        this(transport, freshTtl, staleTtl, null);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param transport
+     *         The transport which actually sends requests.
+     *
+     * @param freshTtl
+     *         The period in milliseconds during which a cached response is
+     *         served without revalidation, used when the response does not
+     *         have {@code Cache-Control: max-age}.
+     *
+     * @param staleTtl
+     *         The period in milliseconds after {@code freshTtl} during which
+     *         a cached response is served while being revalidated in the
+     *         background, used when the response does not have {@code
+     *         Cache-Control: stale-while-revalidate}.
+     *
+     * @param executor
+     *         The executor on which background revalidation is executed.
+     *         If {@code null} is given, a shared executor with a bounded
+     *         number of daemon threads is used.
+     */
+    public ConditionalCachingHttpTransport(
+            HttpTransport transport, long freshTtl, long staleTtl, Executor executor)
+    {
+        if (transport == null)
+        {
+            throw new IllegalArgumentException("transport is null.");
+        }
+
+        if (freshTtl < 0 || staleTtl < 0)
+        {
+            throw new IllegalArgumentException("TTL cannot be negative.");
+        }
+
+        mTransport = transport;
+        mFreshTtl  = freshTtl;
+        mStaleTtl  = staleTtl;
+        mExecutor  = (executor != null) ? executor : DefaultExecutors.workers();
+    }
+
+
+    @Override
+    public HttpTransportResponse execute(HttpTransportRequest request) throws IOException
+    {
+        if (!isCacheable(request))
+        {
+            return mTransport.execute(request);
+        }
+
+        String key  = computeKey(request);
+        long now    = System.currentTimeMillis();
+        Entry entry = mCache.get(key, Long.MIN_VALUE);
+
+        if (entry != null)
+        {
+            if (now < entry.freshUntil)
+            {
+                // Fresh.
+                return new CachedResponse(entry);
+            }
+
+            if (now < entry.staleUntil)
+            {
+                // Stale but usable. Only one revalidation runs at a time.
+                if (entry.revalidating.compareAndSet(false, true))
+                {
+                    revalidateInBackground(key, request, entry);
+                }
+
+                return new CachedResponse(entry);
+            }
+        }
+
+        return fetch(key, request, entry);
+    }
+
+
+    /**
+     * Remove all the cached responses.
+     */
+    public void invalidateAll()
+    {
+        mCache.clear();
+    }
+
+
+    private static boolean isCacheable(HttpTransportRequest request)
+    {
+        if (!"GET".equals(request.getMethod()))
+        {
+            return false;
+        }
+
+        String path = request.getUrl().getPath();
+
+        for (String api : CACHEABLE_APIS)
+        {
+            if (path.endsWith(api))
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+
+    private static String computeKey(HttpTransportRequest request)
+    {
+        // Responses depend on the credentials (which identify the service)
+        // and the accepted encodings as well as the URL.
+        return Digest.getInstanceSHA256()
+                .update(request.getUrl().toString())
+                .update(String.valueOf(header(request, "Authorization")))
+                .update(String.valueOf(header(request, "Accept-Encoding")))
+                .digestAsString();
+    }
+
+
+    private void revalidateInBackground(String key, HttpTransportRequest request, Entry entry)
+    {
+        HttpTransportRequest renewed;
+
+        try
+        {
+            // The request of the caller may be reused or retried by the
+            // caller after the cached response is returned.
+            renewed = request.renew();
+        }
+        catch (RuntimeException e)
+        {
+            // The next request tries again.
+            entry.revalidating.set(false);
+            return;
+        }
+
+        mExecutor.execute(() -> {
+            try
+            {
+                fetch(key, renewed, entry).close();
+            }
+            catch (IOException | RuntimeException e)
+            {
+                // The stale response continues to be served until it
+                // expires. The next request after that retries.
+            }
+            finally
+            {
+                entry.revalidating.set(false);
+            }
+        });
+    }
+
+
+    private HttpTransportResponse fetch(
+            String key, HttpTransportRequest request, Entry entry) throws IOException
+    {
+        if (entry != null)
+        {
+            // Make a conditional copy of the request.
+            request = request.copy();
+
+            String etag         = firstHeader(entry.headers, "ETag");
+            String lastModified = firstHeader(entry.headers, "Last-Modified");
+
+            if (etag != null)
+            {
+                request.setHeader("If-None-Match", etag);
+            }
+
+            if (lastModified != null)
+            {
+                request.setHeader("If-Modified-Since", lastModified);
+            }
+        }
+
+        HttpTransportResponse response = mTransport.execute(request);
+
+        if (entry != null && response.getStatusCode() == HttpURLConnection.HTTP_NOT_MODIFIED)
+        {
+            response.close();
+
+            // The cached response is still valid.
+            return new CachedResponse(store(key, entry.headers, entry.body, response.getHeaders()));
+        }
+
+        if (response.getStatusCode() != HttpURLConnection.HTTP_OK)
+        {
+            return response;
+        }
+
+        Map<String, List<String>> headers = response.getHeaders();
+        byte[] body;
+
+        try
+        {
+            body = readFully(response.getBody());
+        }
+        finally
+        {
+            response.close();
+        }
+
+        return new CachedResponse(store(key, headers, body, headers));
+    }
+
+
+    private Entry store(String key, Map<String, List<String>> headers, byte[] body,
+            Map<String, List<String>> latestHeaders)
+    {
+        String cacheControl = firstHeader(latestHeaders, "Cache-Control");
+        long now            = System.currentTimeMillis();
+        long freshUntil     = now + directive(cacheControl, MAX_AGE, mFreshTtl);
+        long staleUntil     = freshUntil + directive(cacheControl, STALE_WHILE_REVALIDATE, mStaleTtl);
+        Entry entry         = new Entry(headers, body, freshUntil, staleUntil);
+
+        if (cacheControl != null && NO_STORE.matcher(cacheControl).find())
+        {
+            mCache.remove(key);
+        }
+        else
+        {
+            mCache.put(key, entry, Long.MAX_VALUE);
+        }
+
+        return entry;
+    }
+
+
+    private static long directive(String cacheControl, Pattern pattern, long defaultValue)
+    {
+        if (cacheControl == null)
+        {
+            return defaultValue;
+        }
+
+        Matcher matcher = pattern.matcher(cacheControl);
+
+        if (!matcher.find())
+        {
+            return defaultValue;
+        }
+
+        try
+        {
+            // The value is in seconds.
+            return Long.parseLong(matcher.group(1)) * 1000;
+        }
+        catch (NumberFormatException e)
+        {
+            return defaultValue;
+        }
+    }
+
+
+    private static String header(HttpTransportRequest request, String name)
+    {
+        for (Map.Entry<String, String> e : request.getHeaders().entrySet())
+        {
+            if (name.equalsIgnoreCase(e.getKey()))
+            {
+                return e.getValue();
+            }
+        }
+
+        return null;
+    }
+
+
+    private static String firstHeader(Map<String, List<String>> headers, String name)
+    {
+        if (headers == null)
+        {
+            return null;
+        }
+
+        for (Map.Entry<String, List<String>> e : headers.entrySet())
+        {
+            if (name.equalsIgnoreCase(e.getKey()) && e.getValue() != null && !e.getValue().isEmpty())
+            {
+                return e.getValue().get(0);
+            }
+        }
+
+        return null;
+    }
+
+
+    private static byte[] readFully(InputStream in) throws IOException
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        if (in == null)
+        {
+            return out.toByteArray();
+        }
+
+        byte[] buffer = new byte[8192];
+        int length;
+
+        while ((length = in.read(buffer)) != -1)
+        {
+            out.write(buffer, 0, length);
+        }
+
+        return out.toByteArray();
+    }
+}
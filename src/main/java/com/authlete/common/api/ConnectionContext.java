@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2020 Authlete, Inc.
+ * Copyright (C) 2020-2026 Authlete, Inc.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,48 +16,62 @@
 package com.authlete.common.api;
 
 
-import java.io.Closeable;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
-import java.net.HttpURLConnection;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
 
 
 class ConnectionContext
 {
-    private final HttpURLConnection mCon;
+    private final HttpTransportResponse mResponse;
     private InputStream mIn;
-    private OutputStream mOut;
-    private InputStream mErr;
+    private CountingInputStream mBody;
+    private String mErrorData;
 
 
-    public ConnectionContext(HttpURLConnection connection)
+    public ConnectionContext(HttpTransportResponse response)
     {
-        mCon = connection;
+        mResponse = response;
     }
 
 
-    public HttpURLConnection connection()
+    public HttpTransportResponse response()
     {
-        return mCon;
+        return mResponse;
     }
 
 
-    public int contentLength()
+    public int statusCode()
     {
-        return mCon.getContentLength();
+        return mResponse.getStatusCode();
     }
 
 
-    public void property(String key, String value)
+    public String statusMessage()
     {
-        mCon.setRequestProperty(key, value);
+        return mResponse.getStatusMessage();
     }
 
 
-    public void doOutput(boolean dooutput)
+    public Map<String, List<String>> headers()
     {
-        mCon.setDoOutput(dooutput);
+        return mResponse.getHeaders();
+    }
+
+
+    public long contentLength()
+    {
+        if (contentEncoding() != null)
+        {
+            // The length of the decoded content is not known.
+            return -1;
+        }
+
+        return mResponse.getContentLength();
     }
 
 
@@ -65,57 +79,173 @@ class ConnectionContext
     {
         if (mIn == null)
         {
-            mIn = mCon.getInputStream();
+            InputStream in = mResponse.getBody();
+
+            if (in != null)
+            {
+                // Count the bytes before decoding.
+                mBody = new CountingInputStream(in);
+
+                // Decode the response body if it is compressed.
+                mIn = decode(mBody, contentEncoding());
+            }
         }
 
         return mIn;
     }
 
 
-    public OutputStream outputStream() throws IOException
+    private String contentEncoding()
     {
-        if (mOut == null)
+        Map<String, List<String>> headers = headers();
+
+        if (headers == null)
         {
-            mOut = mCon.getOutputStream();
+            return null;
         }
 
-        return mOut;
+        for (Map.Entry<String, List<String>> entry : headers.entrySet())
+        {
+            // The key for the status line is null.
+            if (!"Content-Encoding".equalsIgnoreCase(entry.getKey()))
+            {
+                continue;
+            }
+
+            List<String> values = entry.getValue();
+
+            if (values == null || values.isEmpty())
+            {
+                return null;
+            }
+
+            String value = values.get(0).trim().toLowerCase();
+
+            // 'identity' means no encoding.
+            return (value.isEmpty() || value.equals("identity")) ? null : value;
+        }
+
+        return null;
     }
 
 
-    public InputStream errorStream()
+    private static InputStream decode(InputStream in, String encoding) throws IOException
     {
-        if (mErr == null)
+        if (encoding == null)
         {
-            mErr = mCon.getErrorStream();
+            return in;
         }
 
-        return mErr;
+        switch (encoding)
+        {
+            case "gzip":
+            case "x-gzip":
+                return new GZIPInputStream(in, 8192);
+
+            case "deflate":
+                return new InflaterInputStream(in);
+
+            default:
+                // Unknown encoding. Pass the body as is.
+                return in;
+        }
     }
 
 
-    public void close()
+    /**
+     * Get the number of bytes read from the response body so far, before
+     * decoding.
+     */
+    public long bodyBytes()
     {
-        closeQuietly(mIn);
-        closeQuietly(mOut);
-        closeQuietly(mErr);
+        return (mBody == null) ? 0 : mBody.count;
     }
 
 
-    private static void closeQuietly(Closeable closeable)
+    public String errorData()
+    {
+        return mErrorData;
+    }
+
+
+    public void errorData(String data)
+    {
+        mErrorData = data;
+    }
+
+
+    public void close()
     {
-        if (closeable == null)
+        try
+        {
+            if (mIn != null)
+            {
+                // Release the resources of the decoder, if any.
+                mIn.close();
+            }
+        }
+        catch (IOException e)
         {
-            return;
+            // Ignored.
         }
 
         try
         {
-            closeable.close();
+            mResponse.close();
         }
         catch (IOException e)
         {
             // Ignored.
         }
     }
+
+
+    private static class CountingInputStream extends FilterInputStream
+    {
+        long count;
+
+
+        CountingInputStream(InputStream in)
+        {
+            super(in);
+        }
+
+
+        @Override
+        public int read() throws IOException
+        {
+            int b = super.read();
+
+            if (b >= 0)
+            {
+                count++;
+            }
+
+            return b;
+        }
+
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException
+        {
+            int n = super.read(b, off, len);
+
+            if (n > 0)
+            {
+                count += n;
+            }
+
+            return n;
+        }
+
+
+        @Override
+        public long skip(long n) throws IOException
+        {
+            long skipped = super.skip(n);
+            count += skipped;
+
+            return skipped;
+        }
+    }
 }
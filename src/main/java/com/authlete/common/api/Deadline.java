@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+import java.net.SocketTimeoutException;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * The point in time by which an API call has to complete.
+ *
+ * @see Options#setTimeout(long)
+ */
+final class Deadline
+{
+    private final long mTimeout;
+    private final long mStartedAt;
+
+
+    private Deadline(long timeout)
+    {
+        mTimeout   = timeout;
+        mStartedAt = System.nanoTime();
+    }
+
+
+    /**
+     * Start the timeout of the options.
+     *
+     * @return
+     *         A deadline. {@code null} if the options have no timeout.
+     */
+    static Deadline of(Options options)
+    {
+        if (options == null || options.getTimeout() <= 0)
+        {
+            return null;
+        }
+
+        return new Deadline(options.getTimeout());
+    }
+
+
+    /**
+     * Get the remaining time in milliseconds, which may be negative.
+     */
+    long remaining()
+    {
+        return mTimeout - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - mStartedAt);
+    }
+
+
+    /**
+     * Get the remaining time in milliseconds.
+     *
+     * @throws SocketTimeoutException
+     *         The deadline has passed.
+     */
+    int check() throws SocketTimeoutException
+    {
+        long remaining = remaining();
+
+        if (remaining <= 0)
+        {
+            throw expired();
+        }
+
+        return (int)Math.min(remaining, Integer.MAX_VALUE);
+    }
+
+
+    /**
+     * Create the exception which reports that the deadline has passed.
+     */
+    SocketTimeoutException expired()
+    {
+        return new SocketTimeoutException(
+                "The timeout of the API call (" + mTimeout + " ms) has expired.");
+    }
+}
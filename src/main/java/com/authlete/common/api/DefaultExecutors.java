@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * Executors shared by the classes of this package which run work in the
+ * background when the application does not give its own executor.
+ *
+ * <p>
+ * The worker pool has a fixed upper bound of threads. Tasks submitted while
+ * all the threads are busy wait in the queue instead of creating more
+ * threads. Idle threads are terminated after a minute. All the threads are
+ * daemon threads, so they do not prevent the JVM from exiting.
+ * </p>
+ */
+final class DefaultExecutors
+{
+    /**
+     * The maximum number of threads of the worker pool. The tasks mostly
+     * wait for I/O, so the bound is larger than the number of processors.
+     */
+    static final int MAX_WORKER_THREADS =
+            Math.max(16, Runtime.getRuntime().availableProcessors() * 4);
+
+
+    private static final long KEEP_ALIVE_SECONDS = 60;
+
+
+    private static class WorkerHolder
+    {
+        private static final ExecutorService INSTANCE = createWorkerPool();
+    }
+
+
+    private static class SchedulerHolder
+    {
+        private static final ScheduledExecutorService INSTANCE =
+                Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("authlete-scheduler-"));
+    }
+
+
+    /**
+     * A thread factory which creates daemon threads named with a prefix
+     * and a sequence number.
+     */
+    static class DaemonThreadFactory implements ThreadFactory
+    {
+        private final String mPrefix;
+        private final AtomicInteger mCount = new AtomicInteger();
+
+
+        DaemonThreadFactory(String prefix)
+        {
+            mPrefix = prefix;
+        }
+
+
+        @Override
+        public Thread newThread(Runnable runnable)
+        {
+            Thread thread = new Thread(runnable, mPrefix + mCount.incrementAndGet());
+            thread.setDaemon(true);
+
+            return thread;
+        }
+    }
+
+
+    private DefaultExecutors()
+    {
+    }
+
+
+    private static ExecutorService createWorkerPool()
+    {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                MAX_WORKER_THREADS, MAX_WORKER_THREADS, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), new DaemonThreadFactory("authlete-worker-"));
+
+        // Do not keep idle threads around.
+        executor.allowCoreThreadTimeOut(true);
+
+        return executor;
+    }
+
+
+    /**
+     * Get the shared pool for blocking work such as API calls.
+     */
+    static ExecutorService workers()
+    {
+        return WorkerHolder.INSTANCE;
+    }
+
+
+    /**
+     * Get the shared scheduler for timers. Tasks run on the scheduler must
+     * be short and must not block. Blocking work has to be handed over to
+     * {@link #workers()}.
+     */
+    static ScheduledExecutorService scheduler()
+    {
+        return SchedulerHolder.INSTANCE;
+    }
+}
@@ -0,0 +1,892 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+import java.util.Map;
+import com.authlete.common.dto.AttestationChallengeRequest;
+import com.authlete.common.dto.AttestationChallengeResponse;
+import com.authlete.common.dto.AuthorizationFailRequest;
+import com.authlete.common.dto.AuthorizationFailResponse;
+import com.authlete.common.dto.AuthorizationIssueRequest;
+import com.authlete.common.dto.AuthorizationIssueResponse;
+import com.authlete.common.dto.AuthorizationRequest;
+import com.authlete.common.dto.AuthorizationResponse;
+import com.authlete.common.dto.AuthorizationTicketInfoRequest;
+import com.authlete.common.dto.AuthorizationTicketInfoResponse;
+import com.authlete.common.dto.AuthorizationTicketUpdateRequest;
+import com.authlete.common.dto.AuthorizationTicketUpdateResponse;
+import com.authlete.common.dto.AuthorizedClientListResponse;
+import com.authlete.common.dto.BackchannelAuthenticationCompleteRequest;
+import com.authlete.common.dto.BackchannelAuthenticationCompleteResponse;
+import com.authlete.common.dto.BackchannelAuthenticationFailRequest;
+import com.authlete.common.dto.BackchannelAuthenticationFailResponse;
+import com.authlete.common.dto.BackchannelAuthenticationIssueRequest;
+import com.authlete.common.dto.BackchannelAuthenticationIssueResponse;
+import com.authlete.common.dto.BackchannelAuthenticationRequest;
+import com.authlete.common.dto.BackchannelAuthenticationResponse;
+import com.authlete.common.dto.BackchannelLogoutTokenRequest;
+import com.authlete.common.dto.BackchannelLogoutTokenResponse;
+import com.authlete.common.dto.Client;
+import com.authlete.common.dto.ClientAuthorizationGetListRequest;
+import com.authlete.common.dto.ClientAuthorizationUpdateRequest;
+import com.authlete.common.dto.ClientListResponse;
+import com.authlete.common.dto.ClientRegistrationRequest;
+import com.authlete.common.dto.ClientRegistrationResponse;
+import com.authlete.common.dto.ClientSecretRefreshResponse;
+import com.authlete.common.dto.ClientSecretUpdateResponse;
+import com.authlete.common.dto.CredentialBatchIssueRequest;
+import com.authlete.common.dto.CredentialBatchIssueResponse;
+import com.authlete.common.dto.CredentialBatchParseRequest;
+import com.authlete.common.dto.CredentialBatchParseResponse;
+import com.authlete.common.dto.CredentialDeferredIssueRequest;
+import com.authlete.common.dto.CredentialDeferredIssueResponse;
+import com.authlete.common.dto.CredentialDeferredParseRequest;
+import com.authlete.common.dto.CredentialDeferredParseResponse;
+import com.authlete.common.dto.CredentialIssuerJwksRequest;
+import com.authlete.common.dto.CredentialIssuerJwksResponse;
+import com.authlete.common.dto.CredentialIssuerMetadataRequest;
+import com.authlete.common.dto.CredentialIssuerMetadataResponse;
+import com.authlete.common.dto.CredentialJwtIssuerMetadataRequest;
+import com.authlete.common.dto.CredentialJwtIssuerMetadataResponse;
+import com.authlete.common.dto.CredentialNonceRequest;
+import com.authlete.common.dto.CredentialNonceResponse;
+import com.authlete.common.dto.CredentialOfferCreateRequest;
+import com.authlete.common.dto.CredentialOfferCreateResponse;
+import com.authlete.common.dto.CredentialOfferInfoRequest;
+import com.authlete.common.dto.CredentialOfferInfoResponse;
+import com.authlete.common.dto.CredentialSingleIssueRequest;
+import com.authlete.common.dto.CredentialSingleIssueResponse;
+import com.authlete.common.dto.CredentialSingleParseRequest;
+import com.authlete.common.dto.CredentialSingleParseResponse;
+import com.authlete.common.dto.DeviceAuthorizationRequest;
+import com.authlete.common.dto.DeviceAuthorizationResponse;
+import com.authlete.common.dto.DeviceCompleteRequest;
+import com.authlete.common.dto.DeviceCompleteResponse;
+import com.authlete.common.dto.DeviceVerificationRequest;
+import com.authlete.common.dto.DeviceVerificationResponse;
+import com.authlete.common.dto.FederationConfigurationRequest;
+import com.authlete.common.dto.FederationConfigurationResponse;
+import com.authlete.common.dto.FederationRegistrationRequest;
+import com.authlete.common.dto.FederationRegistrationResponse;
+import com.authlete.common.dto.GMRequest;
+import com.authlete.common.dto.GMResponse;
+import com.authlete.common.dto.GrantedScopesGetResponse;
+import com.authlete.common.dto.HskCreateRequest;
+import com.authlete.common.dto.HskListResponse;
+import com.authlete.common.dto.HskResponse;
+import com.authlete.common.dto.IDTokenReissueRequest;
+import com.authlete.common.dto.IDTokenReissueResponse;
+import com.authlete.common.dto.IntrospectionRequest;
+import com.authlete.common.dto.IntrospectionResponse;
+import com.authlete.common.dto.JoseVerifyRequest;
+import com.authlete.common.dto.JoseVerifyResponse;
+import com.authlete.common.dto.NativeSsoLogoutRequest;
+import com.authlete.common.dto.NativeSsoLogoutResponse;
+import com.authlete.common.dto.NativeSsoRequest;
+import com.authlete.common.dto.NativeSsoResponse;
+import com.authlete.common.dto.PushedAuthReqRequest;
+import com.authlete.common.dto.PushedAuthReqResponse;
+import com.authlete.common.dto.RevocationRequest;
+import com.authlete.common.dto.RevocationResponse;
+import com.authlete.common.dto.Service;
+import com.authlete.common.dto.ServiceConfigurationRequest;
+import com.authlete.common.dto.ServiceListResponse;
+import com.authlete.common.dto.StandardIntrospectionRequest;
+import com.authlete.common.dto.StandardIntrospectionResponse;
+import com.authlete.common.dto.TokenCreateBatchResponse;
+import com.authlete.common.dto.TokenCreateBatchStatusResponse;
+import com.authlete.common.dto.TokenCreateRequest;
+import com.authlete.common.dto.TokenCreateResponse;
+import com.authlete.common.dto.TokenFailRequest;
+import com.authlete.common.dto.TokenFailResponse;
+import com.authlete.common.dto.TokenIssueRequest;
+import com.authlete.common.dto.TokenIssueResponse;
+import com.authlete.common.dto.TokenListResponse;
+import com.authlete.common.dto.TokenRequest;
+import com.authlete.common.dto.TokenResponse;
+import com.authlete.common.dto.TokenRevokeRequest;
+import com.authlete.common.dto.TokenRevokeResponse;
+import com.authlete.common.dto.TokenUpdateRequest;
+import com.authlete.common.dto.TokenUpdateResponse;
+import com.authlete.common.dto.UserInfoIssueRequest;
+import com.authlete.common.dto.UserInfoIssueResponse;
+import com.authlete.common.dto.UserInfoRequest;
+import com.authlete.common.dto.UserInfoResponse;
+import com.authlete.common.types.TokenStatus;
+
+
+/**
+ * An implementation of {@link AuthleteApi} which forwards all method calls
+ * to another {@link AuthleteApi} instance.
+ *
+ * <p>
+ * This class is a base class of decorators. A subclass overrides methods
+ * whose behavior it wants to change (e.g. caching the responses of some
+ * APIs) and inherits the others.
+ * </p>
+ *
+ * <p>
+ * Only the methods that take an {@link Options} argument need to be
+ * overridden. The overloads without the argument are default methods of
+ * {@link AuthleteApi} and call the corresponding method with {@code null}.
+ * </p>
+ *
+ * @since 4.47
+ */
+public class DelegatingAuthleteApi implements AuthleteApi
+{
+    private final AuthleteApi mApi;
+
+
+    /**
+     * Constructor.
+     *
+     * @param api
+     *         The {@link AuthleteApi} instance to which method calls are
+     *         forwarded.
+     */
+    public DelegatingAuthleteApi(AuthleteApi api)
+    {
+        if (api == null)
+        {
+            throw new IllegalArgumentException("api is null.");
+        }
+
+        mApi = api;
+    }
+
+
+    /**
+     * Get the {@link AuthleteApi} instance to which method calls are
+     * forwarded.
+     *
+     * @return
+     *         The delegate.
+     */
+    public AuthleteApi getDelegate()
+    {
+        return mApi;
+    }
+
+
+    @Override
+    public Settings getSettings()
+    {
+        return mApi.getSettings();
+    }
+
+
+    @Override
+    @Deprecated
+    public Service createServie(Service service) throws AuthleteApiException
+    {
+        return createService(service);
+    }
+
+
+    @Override
+    public AuthorizationResponse authorization(AuthorizationRequest request, Options options) throws AuthleteApiException
+    {
+        return mApi.authorization(request, options);
+    }
+
+
+    @Override
+    public AuthorizationFailResponse authorizationFail(AuthorizationFailRequest request, Options options) throws AuthleteApiException
+    {
+        return mApi.authorizationFail(request, options);
+    }
+
+
+    @Override
+    public AuthorizationIssueResponse authorizationIssue(AuthorizationIssueRequest request, Options options) throws AuthleteApiException
+    {
+        return mApi.authorizationIssue(request, options);
+    }
+
+
+    @Override
+    public TokenResponse token(TokenRequest request, Options options) throws AuthleteApiException
+    {
+        return mApi.token(request, options);
+    }
+
+
+    @Override
+    public TokenCreateResponse tokenCreate(TokenCreateRequest request, Options options) throws AuthleteApiException
+    {
+        return mApi.tokenCreate(request, options);
+    }
+
+
+    @Override
+    public void tokenDelete(String token, Options options) throws AuthleteApiException
+    {
+        mApi.tokenDelete(token, options);
+    }
+
+
+    @Override
+    public TokenFailResponse tokenFail(TokenFailRequest request, Options options) throws AuthleteApiException
+    {
+        return mApi.tokenFail(request, options);
+    }
+
+
+    @Override
+    public TokenIssueResponse tokenIssue(TokenIssueRequest request, Options options) throws AuthleteApiException
+    {
+        return mApi.tokenIssue(request, options);
+    }
+
+
+    @Override
+    public TokenRevokeResponse tokenRevoke(TokenRevokeRequest request, Options options) throws AuthleteApiException
+    {
+        return mApi.tokenRevoke(request, options);
+    }
+
+
+    @Override
+    public TokenUpdateResponse tokenUpdate(TokenUpdateRequest request, Options options) throws AuthleteApiException
+    {
+        return mApi.tokenUpdate(request, options);
+    }
+
+
+    @Override
+    public TokenListResponse getTokenList(Options options) throws AuthleteApiException
+    {
+        return mApi.getTokenList(options);
+    }
+
+
+    @Override
+    public TokenListResponse getTokenList(TokenStatus tokenStatus, Options options) throws AuthleteApiException
+    {
+        return mApi.getTokenList(tokenStatus, options);
+    }
+
+
+    @Override
+    public TokenListResponse getTokenList(String clientIdentifier, String subject, Options options) throws AuthleteApiException
+    {
+        return mApi.getTokenList(clientIdentifier, subject, options);
+    }
+
+
+    @Override
+    public TokenListResponse getTokenList(String clientIdentifier, String subject, TokenStatus tokenStatus, Options options) throws AuthleteApiException
+    {
+        return mApi.getTokenList(clientIdentifier, subject, tokenStatus, options);
+    }
+
+
+    @Override
+    public TokenListResponse getTokenList(int start, int end, Options options) throws AuthleteApiException
+    {
+        return mApi.getTokenList(start, end, options);
+    }
+
+
+    @Override
+    public TokenListResponse getTokenList(int start, int end, TokenStatus tokenStatus, Options options) throws AuthleteApiException
+    {
+        return mApi.getTokenList(start, end, tokenStatus, options);
+    }
+
+
+    @Override
+    public TokenListResponse getTokenList(String clientIdentifier, String subject, int start, int end, Options options) throws AuthleteApiException
+    {
+        return mApi.getTokenList(clientIdentifier, subject, start, end, options);
+    }
+
+
+    @Override
+    public TokenListResponse getTokenList(String clientIdentifier, String subject, int start, int end, TokenStatus tokenStatus, Options options) throws AuthleteApiException
+    {
+        return mApi.getTokenList(clientIdentifier, subject, start, end, tokenStatus, options);
+    }
+
+
+    @Override
+    public RevocationResponse revocation(RevocationRequest request, Options options) throws AuthleteApiException
+    {
+        return mApi.revocation(request, options);
+    }
+
+
+    @Override
+    public UserInfoResponse userinfo(UserInfoRequest request, Options options) throws AuthleteApiException
+    {
+        return mApi.userinfo(request, options);
+    }
+
+
+    @Override
+    public UserInfoIssueResponse userinfoIssue(UserInfoIssueRequest request, Options options) throws AuthleteApiException
+    {
+        return mApi.userinfoIssue(request, options);
+    }
+
+
+    @Override
+    public IntrospectionResponse introspection(IntrospectionRequest request, Options options) throws AuthleteApiException
+    {
+        return mApi.introspection(request, options);
+    }
+
+
+    @Override
+    public StandardIntrospectionResponse standardIntrospection(StandardIntrospectionRequest request, Options options) throws AuthleteApiException
+    {
+        return mApi.standardIntrospection(request, options);
+    }
+
+
+    @Override
+    public Service createService(Service service, Options options) throws AuthleteApiException
+    {
+        return mApi.createService(service, options);
+    }
+
+
+    @Override
+    public void deleteService(long apiKey, Options options) throws AuthleteApiException
+    {
+        mApi.deleteService(apiKey, options);
+    }
+
+
+    @Override
+    public Service getService(long apiKey, Options options) throws AuthleteApiException
+    {
+        return mApi.getService(apiKey, options);
+    }
+
+
+    @Override
+    public ServiceListResponse getServiceList(Options options) throws AuthleteApiException
+    {
+        return mApi.getServiceList(options);
+    }
+
+
+    @Override
+    public ServiceListResponse getServiceList(int start, int end, Options options) throws AuthleteApiException
+    {
+        return mApi.getServiceList(start, end, options);
+    }
+
+
+    @Override
+    public Service updateService(Service service, Options options) throws AuthleteApiException
+    {
+        return mApi.updateService(service, options);
+    }
+
+
+    @Override
+    public String getServiceJwks(Options options) throws AuthleteApiException
+    {
+        return mApi.getServiceJwks(options);
+    }
+
+
+    @Override
+    public String getServiceJwks(boolean pretty, boolean includePrivateKeys, Options options) throws AuthleteApiException
+    {
+        return mApi.getServiceJwks(pretty, includePrivateKeys, options);
+    }
+
+
+    @Override
+    public String getServiceConfiguration(Options options) throws AuthleteApiException
+    {
+        return mApi.getServiceConfiguration(options);
+    }
+
+
+    @Override
+    public String getServiceConfiguration(boolean pretty, Options options) throws AuthleteApiException
+    {
+        return mApi.getServiceConfiguration(pretty, options);
+    }
+
+
+    @Override
+    public String getServiceConfiguration(ServiceConfigurationRequest request, Options options) throws AuthleteApiException
+    {
+        return mApi.getServiceConfiguration(request, options);
+    }
+
+
+    @Override
+    public Client createClient(Client client, Options options) throws AuthleteApiException
+    {
+        return mApi.createClient(client, options);
+    }
+
+
+    @Override
+    public ClientRegistrationResponse dynamicClientRegister(ClientRegistrationRequest request, Options options) throws AuthleteApiException
+    {
+        return mApi.dynamicClientRegister(request, options);
+    }
+
+
+    @Override
+    public ClientRegistrationResponse dynamicClientGet(ClientRegistrationRequest request, Options options) throws AuthleteApiException
+    {
+        return mApi.dynamicClientGet(request, options);
+    }
+
+
+    @Override
+    public ClientRegistrationResponse dynamicClientUpdate(ClientRegistrationRequest request, Options options) throws AuthleteApiException
+    {
+        return mApi.dynamicClientUpdate(request, options);
+    }
+
+
+    @Override
+    public ClientRegistrationResponse dynamicClientDelete(ClientRegistrationRequest request, Options options) throws AuthleteApiException
+    {
+        return mApi.dynamicClientDelete(request, options);
+    }
+
+
+    @Override
+    public void deleteClient(long clientId, Options options) throws AuthleteApiException
+    {
+        mApi.deleteClient(clientId, options);
+    }
+
+
+    @Override
+    public void deleteClient(String clientId, Options options) throws AuthleteApiException
+    {
+        mApi.deleteClient(clientId, options);
+    }
+
+
+    @Override
+    public Client getClient(long clientId, Options options) throws AuthleteApiException
+    {
+        return mApi.getClient(clientId, options);
+    }
+
+
+    @Override
+    public Client getClient(String clientId, Options options) throws AuthleteApiException
+    {
+        return mApi.getClient(clientId, options);
+    }
+
+
+    @Override
+    public ClientListResponse getClientList(Options options) throws AuthleteApiException
+    {
+        return mApi.getClientList(options);
+    }
+
+
+    @Override
+    public ClientListResponse getClientList(String developer, Options options) throws AuthleteApiException
+    {
+        return mApi.getClientList(developer, options);
+    }
+
+
+    @Override
+    public ClientListResponse getClientList(int start, int end, Options options) throws AuthleteApiException
+    {
+        return mApi.getClientList(start, end, options);
+    }
+
+
+    @Override
+    public ClientListResponse getClientList(String developer, int start, int end, Options options) throws AuthleteApiException
+    {
+        return mApi.getClientList(developer, start, end, options);
+    }
+
+
+    @Override
+    public Client updateClient(Client client, Options options) throws AuthleteApiException
+    {
+        return mApi.updateClient(client, options);
+    }
+
+
+    @Override
+    public String[] getRequestableScopes(long clientId, Options options) throws AuthleteApiException
+    {
+        return mApi.getRequestableScopes(clientId, options);
+    }
+
+
+    @Override
+    public String[] setRequestableScopes(long clientId, String[] scopes, Options options) throws AuthleteApiException
+    {
+        return mApi.setRequestableScopes(clientId, scopes, options);
+    }
+
+
+    @Override
+    public void deleteRequestableScopes(long clientId, Options options) throws AuthleteApiException
+    {
+        mApi.deleteRequestableScopes(clientId, options);
+    }
+
+
+    @Override
+    public GrantedScopesGetResponse getGrantedScopes(long clientId, String subject, Options options) throws AuthleteApiException
+    {
+        return mApi.getGrantedScopes(clientId, subject, options);
+    }
+
+
+    @Override
+    public void deleteGrantedScopes(long clientId, String subject, Options options) throws AuthleteApiException
+    {
+        mApi.deleteGrantedScopes(clientId, subject, options);
+    }
+
+
+    @Override
+    public void deleteClientAuthorization(long clientId, String subject, Options options) throws AuthleteApiException
+    {
+        mApi.deleteClientAuthorization(clientId, subject, options);
+    }
+
+
+    @Override
+    public AuthorizedClientListResponse getClientAuthorizationList(ClientAuthorizationGetListRequest request, Options options) throws AuthleteApiException
+    {
+        return mApi.getClientAuthorizationList(request, options);
+    }
+
+
+    @Override
+    public void updateClientAuthorization(long clientId, ClientAuthorizationUpdateRequest request, Options options) throws AuthleteApiException
+    {
+        mApi.updateClientAuthorization(clientId, request, options);
+    }
+
+
+    @Override
+    public ClientSecretRefreshResponse refreshClientSecret(long clientId, Options options) throws AuthleteApiException
+    {
+        return mApi.refreshClientSecret(clientId, options);
+    }
+
+
+    @Override
+    public ClientSecretRefreshResponse refreshClientSecret(String clientIdentifier, Options options) throws AuthleteApiException
+    {
+        return mApi.refreshClientSecret(clientIdentifier, options);
+    }
+
+
+    @Override
+    public ClientSecretUpdateResponse updateClientSecret(long clientId, String clientSecret, Options options) throws AuthleteApiException
+    {
+        return mApi.updateClientSecret(clientId, clientSecret, options);
+    }
+
+
+    @Override
+    public ClientSecretUpdateResponse updateClientSecret(String clientIdentifier, String clientSecret, Options options) throws AuthleteApiException
+    {
+        return mApi.updateClientSecret(clientIdentifier, clientSecret, options);
+    }
+
+
+    @Override
+    public JoseVerifyResponse verifyJose(JoseVerifyRequest request, Options options) throws AuthleteApiException
+    {
+        return mApi.verifyJose(request, options);
+    }
+
+
+    @Override
+    public BackchannelAuthenticationResponse backchannelAuthentication(BackchannelAuthenticationRequest request, Options options) throws AuthleteApiException
+    {
+        return mApi.backchannelAuthentication(request, options);
+    }
+
+
+    @Override
+    public BackchannelAuthenticationIssueResponse backchannelAuthenticationIssue(BackchannelAuthenticationIssueRequest request, Options options) throws AuthleteApiException
+    {
+        return mApi.backchannelAuthenticationIssue(request, options);
+    }
+
+
+    @Override
+    public BackchannelAuthenticationFailResponse backchannelAuthenticationFail(BackchannelAuthenticationFailRequest request, Options options) throws AuthleteApiException
+    {
+        return mApi.backchannelAuthenticationFail(request, options);
+    }
+
+
+    @Override
+    public BackchannelAuthenticationCompleteResponse backchannelAuthenticationComplete(BackchannelAuthenticationCompleteRequest request, Options options) throws AuthleteApiException
+    {
+        return mApi.backchannelAuthenticationComplete(request, options);
+    }
+
+
+    @Override
+    public DeviceAuthorizationResponse deviceAuthorization(DeviceAuthorizationRequest request, Options options) throws AuthleteApiException
+    {
+        return mApi.deviceAuthorization(request, options);
+    }
+
+
+    @Override
+    public DeviceCompleteResponse deviceComplete(DeviceCompleteRequest request, Options options) throws AuthleteApiException
+    {
+        return mApi.deviceComplete(request, options);
+    }
+
+
+    @Override
+    public DeviceVerificationResponse deviceVerification(DeviceVerificationRequest request, Options options) throws AuthleteApiException
+    {
+        return mApi.deviceVerification(request, options);
+    }
+
+
+    @Override
+    public PushedAuthReqResponse pushAuthorizationRequest(PushedAuthReqRequest request, Options options) throws AuthleteApiException
+    {
+        return mApi.pushAuthorizationRequest(request, options);
+    }
+
+
+    @Override
+    public HskResponse hskCreate(HskCreateRequest request, Options options) throws AuthleteApiException
+    {
+        return mApi.hskCreate(request, options);
+    }
+
+
+    @Override
+    public HskResponse hskDelete(String handle, Options options) throws AuthleteApiException
+    {
+        return mApi.hskDelete(handle, options);
+    }
+
+
+    @Override
+    public HskResponse hskGet(String handle, Options options) throws AuthleteApiException
+    {
+        return mApi.hskGet(handle, options);
+    }
+
+
+    @Override
+    public HskListResponse hskGetList(Options options) throws AuthleteApiException
+    {
+        return mApi.hskGetList(options);
+    }
+
+
+    @Override
+    public Map<String, String> echo(Map<String, String> parameters, Options option) throws AuthleteApiException
+    {
+        return mApi.echo(parameters, option);
+    }
+
+
+    @Override
+    public GMResponse gm(GMRequest request, Options options) throws AuthleteApiException
+    {
+        return mApi.gm(request, options);
+    }
+
+
+    @Override
+    public void updateClientLockFlag(String clientIdentifier, boolean clientLocked, Options options) throws AuthleteApiException
+    {
+        mApi.updateClientLockFlag(clientIdentifier, clientLocked, options);
+    }
+
+
+    @Override
+    public FederationConfigurationResponse federationConfiguration(FederationConfigurationRequest request, Options options) throws AuthleteApiException
+    {
+        return mApi.federationConfiguration(request, options);
+    }
+
+
+    @Override
+    public FederationRegistrationResponse federationRegistration(FederationRegistrationRequest request, Options options) throws AuthleteApiException
+    {
+        return mApi.federationRegistration(request, options);
+    }
+
+
+    @Override
+    public CredentialIssuerMetadataResponse credentialIssuerMetadata(CredentialIssuerMetadataRequest request, Options options) throws AuthleteApiException
+    {
+        return mApi.credentialIssuerMetadata(request, options);
+    }
+
+
+    @Override
+    public CredentialJwtIssuerMetadataResponse credentialJwtIssuerMetadata(CredentialJwtIssuerMetadataRequest request, Options options) throws AuthleteApiException
+    {
+        return mApi.credentialJwtIssuerMetadata(request, options);
+    }
+
+
+    @Override
+    public CredentialIssuerJwksResponse credentialIssuerJwks(CredentialIssuerJwksRequest request, Options options) throws AuthleteApiException
+    {
+        return mApi.credentialIssuerJwks(request, options);
+    }
+
+
+    @Override
+    public CredentialOfferCreateResponse credentialOfferCreate(CredentialOfferCreateRequest request, Options options) throws AuthleteApiException
+    {
+        return mApi.credentialOfferCreate(request, options);
+    }
+
+
+    @Override
+    public CredentialOfferInfoResponse credentialOfferInfo(CredentialOfferInfoRequest request, Options options) throws AuthleteApiException
+    {
+        return mApi.credentialOfferInfo(request, options);
+    }
+
+
+    @Override
+    public CredentialSingleParseResponse credentialSingleParse(CredentialSingleParseRequest request, Options options) throws AuthleteApiException
+    {
+        return mApi.credentialSingleParse(request, options);
+    }
+
+
+    @Override
+    public CredentialSingleIssueResponse credentialSingleIssue(CredentialSingleIssueRequest request, Options options) throws AuthleteApiException
+    {
+        return mApi.credentialSingleIssue(request, options);
+    }
+
+
+    @Override
+    public CredentialBatchParseResponse credentialBatchParse(CredentialBatchParseRequest request, Options options) throws AuthleteApiException
+    {
+        return mApi.credentialBatchParse(request, options);
+    }
+
+
+    @Override
+    public CredentialBatchIssueResponse credentialBatchIssue(CredentialBatchIssueRequest request, Options options) throws AuthleteApiException
+    {
+        return mApi.credentialBatchIssue(request, options);
+    }
+
+
+    @Override
+    public CredentialDeferredParseResponse credentialDeferredParse(CredentialDeferredParseRequest request, Options options) throws AuthleteApiException
+    {
+        return mApi.credentialDeferredParse(request, options);
+    }
+
+
+    @Override
+    public CredentialDeferredIssueResponse credentialDeferredIssue(CredentialDeferredIssueRequest request, Options options) throws AuthleteApiException
+    {
+        return mApi.credentialDeferredIssue(request, options);
+    }
+
+
+    @Override
+    public CredentialNonceResponse credentialNonce(CredentialNonceRequest request, Options options) throws AuthleteApiException
+    {
+        return mApi.credentialNonce(request, options);
+    }
+
+
+    @Override
+    public IDTokenReissueResponse idTokenReissue(IDTokenReissueRequest request, Options options) throws AuthleteApiException
+    {
+        return mApi.idTokenReissue(request, options);
+    }
+
+
+    @Override
+    public AuthorizationTicketInfoResponse authorizationTicketInfo(AuthorizationTicketInfoRequest request, Options opitons) throws AuthleteApiException
+    {
+        return mApi.authorizationTicketInfo(request, opitons);
+    }
+
+
+    @Override
+    public AuthorizationTicketUpdateResponse authorizationTicketUpdate(AuthorizationTicketUpdateRequest request, Options options) throws AuthleteApiException
+    {
+        return mApi.authorizationTicketUpdate(request, options);
+    }
+
+
+    @Override
+    public TokenCreateBatchResponse tokenCreateBatch(TokenCreateRequest[] request, boolean dryRun, Options options) throws AuthleteApiException
+    {
+        return mApi.tokenCreateBatch(request, dryRun, options);
+    }
+
+
+    @Override
+    public TokenCreateBatchStatusResponse getTokenCreateBatchStatus(String requestId, Options options) throws AuthleteApiException
+    {
+        return mApi.getTokenCreateBatchStatus(requestId, options);
+    }
+
+
+    @Override
+    public NativeSsoResponse nativeSso(NativeSsoRequest request, Options options) throws AuthleteApiException
+    {
+        return mApi.nativeSso(request, options);
+    }
+
+
+    @Override
+    public NativeSsoLogoutResponse nativeSsoLogout(NativeSsoLogoutRequest request, Options options) throws AuthleteApiException
+    {
+        return mApi.nativeSsoLogout(request, options);
+    }
+
+
+    @Override
+    public AttestationChallengeResponse attestationChallenge(AttestationChallengeRequest request, Options options) throws AuthleteApiException
+    {
+        return mApi.attestationChallenge(request, options);
+    }
+
+
+    @Override
+    public BackchannelLogoutTokenResponse backchannelLogoutToken(BackchannelLogoutTokenRequest request, Options options) throws AuthleteApiException
+    {
+        return mApi.backchannelLogoutToken(request, options);
+    }
+}
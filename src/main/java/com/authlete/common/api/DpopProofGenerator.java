@@ -0,0 +1,340 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.util.Date;
+import java.util.Deque;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import com.nimbusds.jose.Algorithm;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JOSEObjectType;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.crypto.factories.DefaultJWSSignerFactory;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.OctetKeyPair;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jwt.JWTClaimsSet;
+
+
+/**
+ * Generator of DPoP proofs which are sent to Authlete APIs.
+ *
+ * <p>
+ * The JWS header, which embeds the public key, is built and encoded only
+ * once. The signing algorithm is taken from the {@code alg} of the key,
+ * so EC keys ({@code ES256} etc.) and OKP keys ({@code EdDSA}) can be
+ * used instead of RSA keys, whose signing is much more expensive. Note
+ * that signing with OKP keys requires Google Tink on the classpath.
+ * </p>
+ *
+ * <p>
+ * Optionally, proofs can be signed in advance on the shared worker pool and
+ * kept in a small pool for each pair of {@code htm} and {@code htu}.
+ * Pooled proofs older than the maximum age are discarded so that their
+ * {@code iat} stays within the skew accepted by the server.
+ * </p>
+ */
+final class DpopProofGenerator
+{
+    private static final JOSEObjectType DPOP_TYPE = new JOSEObjectType("dpop+jwt");
+
+
+    // Pools are created per htu, which contains IDs for some APIs. Their
+    // number is limited so that they cannot grow without bound.
+    private static final int MAX_POOLS = 64;
+
+
+    private static class Proof
+    {
+        final String value;
+        final long issuedAt;
+
+
+        Proof(String value, long issuedAt)
+        {
+            this.value    = value;
+            this.issuedAt = issuedAt;
+        }
+    }
+
+
+    private static class Pool
+    {
+        final Deque<Proof> proofs = new ConcurrentLinkedDeque<>();
+        final AtomicBoolean refilling = new AtomicBoolean();
+    }
+
+
+    private final JWK mJwk;
+    private final JWSSigner mSigner;
+    private final JWSHeader mHeader;
+    private final String mEncodedHeader;
+    private final Executor mExecutor;
+    private final ConcurrentMap<String, Pool> mPools = new ConcurrentHashMap<>();
+
+
+    DpopProofGenerator(String jwk)
+    {
+        this(jwk, null);
+    }
+
+
+    DpopProofGenerator(String jwk, Executor executor)
+    {
+        try
+        {
+            mJwk = JWK.parse(jwk);
+        }
+        catch (ParseException e)
+        {
+            throw new IllegalArgumentException("DPoP JWK is not valid.");
+        }
+
+        if (!mJwk.isPrivate())
+        {
+            throw new IllegalArgumentException("DPoP JWK must contain a private key.");
+        }
+
+        mHeader        = new JWSHeader.Builder(determineAlgorithm(mJwk))
+                .type(DPOP_TYPE)
+                .jwk(mJwk.toPublicJWK())
+                .build();
+        mSigner        = createSigner(mJwk, mHeader.getAlgorithm());
+        mEncodedHeader = mHeader.toBase64URL().toString();
+        mExecutor      = (executor != null) ? executor : DefaultExecutors.workers();
+    }
+
+
+    /**
+     * Determine the signing algorithm. The {@code alg} of the key is used
+     * when it is present. Otherwise, the algorithm is inferred from the
+     * key type and the curve.
+     */
+    private static JWSAlgorithm determineAlgorithm(JWK jwk)
+    {
+        Algorithm alg = jwk.getAlgorithm();
+
+        if (alg != null)
+        {
+            return JWSAlgorithm.parse(alg.getName());
+        }
+
+        if (jwk instanceof RSAKey)
+        {
+            return JWSAlgorithm.RS256;
+        }
+
+        if (jwk instanceof ECKey)
+        {
+            Curve curve = ((ECKey)jwk).getCurve();
+
+            return Curve.P_256.equals(curve) ? JWSAlgorithm.ES256
+                 : Curve.P_384.equals(curve) ? JWSAlgorithm.ES384
+                 : Curve.P_521.equals(curve) ? JWSAlgorithm.ES512
+                 : JWSAlgorithm.ES256K;
+        }
+
+        if (jwk instanceof OctetKeyPair)
+        {
+            return JWSAlgorithm.EdDSA;
+        }
+
+        throw new IllegalArgumentException("DPoP JWK must contain an 'alg' field.");
+    }
+
+
+    private static JWSSigner createSigner(JWK jwk, JWSAlgorithm alg)
+    {
+        try
+        {
+            JWSSigner signer = new DefaultJWSSignerFactory().createJWSSigner(jwk, alg);
+
+            if (!signer.supportedJWSAlgorithms().contains(alg))
+            {
+                throw new IllegalArgumentException(
+                        "The algorithm '" + alg + "' is not supported by the DPoP JWK.");
+            }
+
+            return signer;
+        }
+        catch (JOSEException e)
+        {
+            throw new IllegalArgumentException("DPoP JWK is not valid.");
+        }
+        catch (LinkageError e)
+        {
+            // Ed25519 signing of Nimbus JOSE depends on Google Tink.
+            throw new IllegalArgumentException(
+                    "Signing with the DPoP JWK requires Google Tink on the classpath.");
+        }
+    }
+
+
+    JWK getJwk()
+    {
+        return mJwk;
+    }
+
+
+    JWSAlgorithm getAlgorithm()
+    {
+        return mHeader.getAlgorithm();
+    }
+
+
+    /**
+     * Generate a DPoP proof.
+     *
+     * @param htm
+     *         The HTTP method.
+     *
+     * @param htu
+     *         The HTTP URI.
+     *
+     * @param poolSize
+     *         The number of proofs which are signed in advance for the
+     *         pair of {@code htm} and {@code htu}. 0 disables pre-signing.
+     *
+     * @param maxAge
+     *         The maximum age of pre-signed proofs in milliseconds.
+     */
+    String generate(String htm, String htu, int poolSize, long maxAge) throws AuthleteApiException
+    {
+        if (poolSize <= 0)
+        {
+            return sign(htm, htu, System.currentTimeMillis());
+        }
+
+        Pool pool = getPool(htm, htu);
+
+        if (pool == null)
+        {
+            return sign(htm, htu, System.currentTimeMillis());
+        }
+
+        long now = System.currentTimeMillis();
+        Proof proof;
+
+        // Take the oldest proof which has not expired. Proofs are added at
+        // the head, so the tail is the oldest.
+        while ((proof = pool.proofs.pollLast()) != null && now - proof.issuedAt > maxAge)
+        {
+            // Discard the expired proof.
+        }
+
+        refill(pool, htm, htu, poolSize);
+
+        return (proof != null) ? proof.value : sign(htm, htu, now);
+    }
+
+
+    /**
+     * Get the number of pooled proofs for the pair of {@code htm} and
+     * {@code htu}.
+     */
+    int pooledProofs(String htm, String htu)
+    {
+        Pool pool = mPools.get(htm + " " + htu);
+
+        return (pool == null) ? 0 : pool.proofs.size();
+    }
+
+
+    private Pool getPool(String htm, String htu)
+    {
+        String key = htm + " " + htu;
+        Pool pool  = mPools.get(key);
+
+        if (pool != null || mPools.size() >= MAX_POOLS)
+        {
+            return pool;
+        }
+
+        return mPools.computeIfAbsent(key, k -> new Pool());
+    }
+
+
+    private void refill(Pool pool, String htm, String htu, int poolSize)
+    {
+        if (pool.proofs.size() >= poolSize || !pool.refilling.compareAndSet(false, true))
+        {
+            return;
+        }
+
+        try
+        {
+            mExecutor.execute(() -> {
+                try
+                {
+                    while (pool.proofs.size() < poolSize)
+                    {
+                        long now = System.currentTimeMillis();
+                        pool.proofs.addFirst(new Proof(sign(htm, htu, now), now));
+                    }
+                }
+                catch (RuntimeException e)
+                {
+                    // Proofs are signed on demand instead.
+                }
+                finally
+                {
+                    pool.refilling.set(false);
+                }
+            });
+        }
+        catch (RejectedExecutionException e)
+        {
+            pool.refilling.set(false);
+        }
+    }
+
+
+    private String sign(String htm, String htu, long now) throws AuthleteApiException
+    {
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .claim("htm", htm)
+                .claim("htu", htu)
+                .jwtID(UUID.randomUUID().toString())
+                .issueTime(new Date(now))
+                .build();
+
+        // The header has been encoded in advance.
+        String signingInput = mEncodedHeader + "." + claims.toPayload().toBase64URL();
+
+        try
+        {
+            return signingInput + "." + mSigner.sign(
+                    mHeader, signingInput.getBytes(StandardCharsets.US_ASCII));
+        }
+        catch (JOSEException e)
+        {
+            throw new AuthleteApiException("Failed to sign DPoP token.", e);
+        }
+    }
+}
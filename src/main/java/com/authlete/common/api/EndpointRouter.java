@@ -0,0 +1,343 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+
+/**
+ * Router which chooses one of multiple base URLs for each request.
+ *
+ * <p>
+ * The round-trip time of each endpoint is tracked by an exponentially
+ * weighted moving average (EWMA), and a request is routed to the endpoint
+ * with the lowest EWMA multiplied by the number of its requests in flight
+ * plus one. Endpoints which have not been used yet are preferred so that
+ * their latencies become known, and a failure ranks an endpoint below all
+ * the others until it succeeds again.
+ * </p>
+ *
+ * <p>
+ * An endpoint is ejected after consecutive failures. Once the ejection
+ * time has passed, the endpoint is probed in the background and brought
+ * back if the probe succeeds. When all endpoints are ejected, requests
+ * are routed to the endpoint which will be probed first rather than
+ * failing without trying.
+ * </p>
+ */
+class EndpointRouter
+{
+    // The weight of a new sample in the EWMA.
+    private static final double EWMA_ALPHA = 0.2;
+
+
+    /**
+     * An endpoint identified by its base URL.
+     */
+    static class Endpoint
+    {
+        private final String mBaseUrl;
+        private final AtomicInteger mInFlight = new AtomicInteger();
+        private final AtomicBoolean mProbing = new AtomicBoolean();
+        private volatile double mEwma;
+        private volatile boolean mEjected;
+        private volatile long mEjectedUntil;
+        private int mFailures;
+
+
+        Endpoint(String baseUrl)
+        {
+            mBaseUrl = baseUrl;
+        }
+
+
+        String baseUrl()
+        {
+            return mBaseUrl;
+        }
+
+
+        double ewma()
+        {
+            return mEwma;
+        }
+
+
+        boolean isEjected()
+        {
+            return mEjected;
+        }
+
+
+        private double score()
+        {
+            // 1 nanosecond is added so that requests in flight spread
+            // over endpoints whose latencies are not known yet.
+            return (mEwma + 1) * (mInFlight.get() + 1);
+        }
+    }
+
+
+    private final List<Endpoint> mEndpoints;
+    private final int mFailureThreshold;
+    private final long mEjectionTime;
+    private final Predicate<String> mProber;
+    private final Executor mExecutor;
+
+
+    /**
+     * Constructor.
+     *
+     * @param baseUrls
+     *         The base URLs.
+     *
+     * @param failureThreshold
+     *         The number of consecutive failures which eject an endpoint.
+     *
+     * @param ejectionTime
+     *         The time in milliseconds until an ejected endpoint is probed.
+     *
+     * @param prober
+     *         The function which tests whether the endpoint at the given
+     *         base URL is healthy.
+     *
+     * @param executor
+     *         The executor which runs probes. If {@code null}, the shared
+     *         pool with a bounded number of daemon threads is used.
+     */
+    EndpointRouter(
+            List<String> baseUrls, int failureThreshold, long ejectionTime,
+            Predicate<String> prober, Executor executor)
+    {
+        List<Endpoint> endpoints = new ArrayList<>();
+
+        for (String baseUrl : baseUrls)
+        {
+            endpoints.add(new Endpoint(baseUrl));
+        }
+
+        mEndpoints        = Collections.unmodifiableList(endpoints);
+        mFailureThreshold = failureThreshold;
+        mEjectionTime     = TimeUnit.MILLISECONDS.toNanos(ejectionTime);
+        mProber           = prober;
+        mExecutor         = (executor != null) ? executor : DefaultExecutors.workers();
+    }
+
+
+    /**
+     * Split a base URL configuration which may list multiple base URLs
+     * separated by commas.
+     */
+    static List<String> parseBaseUrls(String baseUrl)
+    {
+        List<String> baseUrls = new ArrayList<>();
+
+        if (baseUrl == null)
+        {
+            baseUrls.add(null);
+            return baseUrls;
+        }
+
+        for (String element : baseUrl.split(","))
+        {
+            String trimmed = element.trim();
+
+            if (!trimmed.isEmpty())
+            {
+                baseUrls.add(trimmed);
+            }
+        }
+
+        if (baseUrls.isEmpty())
+        {
+            baseUrls.add(baseUrl);
+        }
+
+        return baseUrls;
+    }
+
+
+    /**
+     * Choose an endpoint for a request. {@link #onComplete(Endpoint, long,
+     * boolean)} has to be called when the request completes.
+     */
+    Endpoint select()
+    {
+        long now = System.nanoTime();
+        Endpoint best = null;
+        Endpoint fallback = null;
+
+        for (Endpoint endpoint : mEndpoints)
+        {
+            if (endpoint.mEjected)
+            {
+                if (now - endpoint.mEjectedUntil >= 0)
+                {
+                    probe(endpoint);
+                }
+
+                if (fallback == null || endpoint.mEjectedUntil - fallback.mEjectedUntil < 0)
+                {
+                    fallback = endpoint;
+                }
+
+                continue;
+            }
+
+            if (best == null || endpoint.score() < best.score())
+            {
+                best = endpoint;
+            }
+        }
+
+        if (best == null)
+        {
+            // All the endpoints are ejected.
+            best = fallback;
+        }
+
+        best.mInFlight.incrementAndGet();
+
+        return best;
+    }
+
+
+    /**
+     * Record the outcome of a request.
+     *
+     * @param endpoint
+     *         The endpoint returned from {@link #select()}.
+     *
+     * @param rtt
+     *         The round-trip time in nanoseconds.
+     *
+     * @param failed
+     *         {@code true} if the request failed with an I/O error or a
+     *         5xx response.
+     */
+    void onComplete(Endpoint endpoint, long rtt, boolean failed)
+    {
+        endpoint.mInFlight.decrementAndGet();
+
+        synchronized (endpoint)
+        {
+            if (!failed)
+            {
+                endpoint.mFailures = 0;
+                endpoint.mEwma = (endpoint.mEwma == 0)
+                        ? rtt : endpoint.mEwma + EWMA_ALPHA * (rtt - endpoint.mEwma);
+                return;
+            }
+
+            // Rank the endpoint below all the others until it succeeds again.
+            endpoint.mEwma = Math.max(endpoint.mEwma, 2.0 * Math.max(rtt, maxEwma()));
+            endpoint.mFailures++;
+
+            if (!endpoint.mEjected && endpoint.mFailures >= mFailureThreshold)
+            {
+                eject(endpoint);
+            }
+        }
+    }
+
+
+    private double maxEwma()
+    {
+        double max = 0;
+
+        for (Endpoint endpoint : mEndpoints)
+        {
+            max = Math.max(max, endpoint.mEwma);
+        }
+
+        return max;
+    }
+
+
+    private void eject(Endpoint endpoint)
+    {
+        endpoint.mEjectedUntil = System.nanoTime() + mEjectionTime;
+        endpoint.mEjected      = true;
+    }
+
+
+    private void probe(Endpoint endpoint)
+    {
+        // Only one probe at a time for each endpoint.
+        if (!endpoint.mProbing.compareAndSet(false, true))
+        {
+            return;
+        }
+
+        mExecutor.execute(() -> {
+            try
+            {
+                boolean healthy = mProber.test(endpoint.mBaseUrl);
+
+                synchronized (endpoint)
+                {
+                    if (healthy)
+                    {
+                        // Bring the endpoint back. Its latency is measured anew.
+                        endpoint.mFailures = 0;
+                        endpoint.mEwma     = 0;
+                        endpoint.mEjected  = false;
+                    }
+                    else
+                    {
+                        eject(endpoint);
+                    }
+                }
+            }
+            finally
+            {
+                endpoint.mProbing.set(false);
+            }
+        });
+    }
+
+
+    List<Endpoint> endpoints()
+    {
+        return mEndpoints;
+    }
+
+
+    /**
+     * Get the availability of the endpoints.
+     */
+    Map<String, Boolean> availability()
+    {
+        Map<String, Boolean> map = new LinkedHashMap<>();
+
+        for (Endpoint endpoint : mEndpoints)
+        {
+            map.put(endpoint.mBaseUrl, !endpoint.mEjected);
+        }
+
+        return map;
+    }
+}
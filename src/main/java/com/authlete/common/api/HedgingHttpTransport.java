@@ -0,0 +1,405 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * An implementation of {@link HttpTransport} which sends hedged requests.
+ *
+ * <p>
+ * This transport wraps another transport. When a read-only request (e.g.
+ * requests to the introspection API, the client get API and the service
+ * get API) has not been answered within the hedging delay, a copy of the
+ * request is sent again through the wrapped transport. Hedging cuts the
+ * tail latency caused by occasional slow connections at the cost of a
+ * small amount of extra load, which is limited by the budget described in
+ * {@link HedgingPolicy}.
+ * </p>
+ *
+ * <p>
+ * Requests which change the state on the server side are never hedged.
+ * Neither are requests with a {@code DPoP} header because a DPoP proof
+ * cannot be used twice.
+ * </p>
+ *
+ * <pre style="border: 1px solid black; padding: 0.5em; margin: 0.5em;">
+ * api.getSettings().setHttpTransport(
+ *     new HedgingHttpTransport(new HttpUrlConnectionTransport(), new HedgingPolicy()));
+ * </pre>
+ *
+ * <p>
+ * Both requests are sent by {@link HttpTransport#executeAsync(
+ * HttpTransportRequest, Executor) executeAsync()} of the wrapped transport,
+ * and the response which arrives first is used. {@link
+ * #execute(HttpTransportRequest) execute()} sends them on the executor given
+ * to the constructor and blocks the calling thread until the response is
+ * available. {@link #executeAsync(HttpTransportRequest, Executor)
+ * executeAsync()}, which {@link AuthleteAsyncApi} uses, sends the first
+ * request on the given executor and does not block. The other response is
+ * closed when it arrives.
+ * </p>
+ *
+ * <p>
+ * Only the latency of the response which is used is recorded to compute
+ * the hedging delay.
+ * </p>
+ *
+ * @since 4.47
+ */
+public class HedgingHttpTransport implements HttpTransport
+{
+    private static final String DPOP = "DPoP";
+
+
+    /**
+     * A request which may be hedged. The first successful response is
+     * used. The call fails when all the requests sent have failed.
+     */
+    private final class HedgedCall
+    {
+        private final HttpTransportRequest mHedge;
+        private final LatencyWindow mLatencies;
+        private final CompletableFuture<HttpTransportResponse> mResult = new CompletableFuture<>();
+        private int mInFlight = 1;
+        private boolean mHedgeDone;
+
+
+        HedgedCall(HttpTransportRequest request, LatencyWindow latencies)
+        {
+            // The hedged request has its own copy of the request.
+            mHedge     = request.copy();
+            mLatencies = latencies;
+
+            // Send the hedged request if no response has arrived by then.
+            DefaultExecutors.scheduler().schedule(
+                    this::sendHedge, computeDelay(latencies), TimeUnit.MILLISECONDS);
+        }
+
+
+        private void sendHedge()
+        {
+            synchronized (this)
+            {
+                if (mHedgeDone || mResult.isDone())
+                {
+                    return;
+                }
+
+                mHedgeDone = true;
+
+                if (!mBudget.withdraw(mPolicy.getHedgeBudgetCapacity()))
+                {
+                    // The hedge budget is exhausted.
+                    return;
+                }
+
+                mInFlight++;
+            }
+
+            long startedAt = System.nanoTime();
+
+            send(mHedge, mExecutor).whenComplete(
+                    (response, cause) -> onComplete(startedAt, response, cause));
+        }
+
+
+        void onComplete(long startedAt, HttpTransportResponse response, Throwable cause)
+        {
+            boolean last;
+
+            synchronized (this)
+            {
+                last = (--mInFlight == 0);
+
+                if (last)
+                {
+                    // No hedged request is sent after this point.
+                    mHedgeDone = true;
+                }
+            }
+
+            if (cause == null)
+            {
+                if (mResult.complete(response))
+                {
+                    mLatencies.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+                }
+                else
+                {
+                    // The other response has already been used.
+                    closeQuietly(response);
+                }
+            }
+            else if (last)
+            {
+                // All the requests sent have failed.
+                mResult.completeExceptionally(cause);
+            }
+        }
+    }
+
+
+    private final HttpTransport mTransport;
+    private final HedgingPolicy mPolicy;
+    private final Executor mExecutor;
+    private final TokenBudget mBudget = new TokenBudget();
+    private final ConcurrentMap<String, LatencyWindow> mLatencies = new ConcurrentHashMap<>();
+
+
+    /**
+     * Constructor. Requests are sent on the shared default executor.
+     *
+     * @param transport
+     *         The transport which actually sends requests.
+     *
+     * @param policy
+     *         The hedging policy.
+     */
+    public HedgingHttpTransport(HttpTransport transport, HedgingPolicy policy)
+    {
+        this(transport, policy, null);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param transport
+     *         The transport which actually sends requests.
+     *
+     * @param policy
+     *         The hedging policy.
+     *
+     * @param executor
+     *         The executor passed to the wrapped transport to send hedged
+     *         requests and the first requests of {@link
+     *         #execute(HttpTransportRequest) execute()}. If {@code null} is
+     *         given, a shared executor with a bounded number of daemon
+     *         threads is used.
+     */
+    public HedgingHttpTransport(HttpTransport transport, HedgingPolicy policy, Executor executor)
+    {
+        if (transport == null)
+        {
+            throw new IllegalArgumentException("transport is null.");
+        }
+
+        if (policy == null)
+        {
+            throw new IllegalArgumentException("policy is null.");
+        }
+
+        mTransport = transport;
+        mPolicy    = policy;
+        mExecutor  = (executor != null) ? executor : DefaultExecutors.workers();
+    }
+
+
+    @Override
+    public HttpTransportResponse execute(HttpTransportRequest request) throws IOException
+    {
+        HedgedCall call = hedge(request);
+
+        if (call == null)
+        {
+            return mTransport.execute(request);
+        }
+
+        long startedAt = System.nanoTime();
+
+        // The first request is sent asynchronously too so that the hedged
+        // request can win the race. It has its own copy because it may
+        // still be in flight when the response to the hedged request is
+        // used.
+        send(request.copy(), mExecutor).whenComplete(
+                (response, cause) -> call.onComplete(startedAt, response, cause));
+
+        return await(call.mResult);
+    }
+
+
+    @Override
+    public CompletionStage<HttpTransportResponse> executeAsync(HttpTransportRequest request, Executor executor)
+    {
+        HedgedCall call = hedge(request);
+
+        if (call == null)
+        {
+            return mTransport.executeAsync(request, executor);
+        }
+
+        long startedAt = System.nanoTime();
+
+        // The first request has its own copy because it may still be in
+        // flight when the response to the hedged request is used.
+        send(request.copy(), executor).whenComplete(
+                (response, cause) -> call.onComplete(startedAt, response, cause));
+
+        return call.mResult;
+    }
+
+
+    /**
+     * Start hedging the request.
+     *
+     * @return
+     *         The call, or {@code null} if the request is not hedgeable.
+     */
+    private HedgedCall hedge(HttpTransportRequest request)
+    {
+        String pathTemplate = PathTemplates.of(request.getUrl().getPath());
+
+        if (!isHedgeable(request, pathTemplate))
+        {
+            return null;
+        }
+
+        LatencyWindow latencies =
+                mLatencies.computeIfAbsent(pathTemplate, k -> new LatencyWindow());
+
+        // Every hedgeable request adds a fraction of a token to the budget.
+        mBudget.deposit(mPolicy.getHedgeBudgetRatio(), mPolicy.getHedgeBudgetCapacity());
+
+        return new HedgedCall(request, latencies);
+    }
+
+
+    private boolean isHedgeable(HttpTransportRequest request, String pathTemplate)
+    {
+        if (!PathTemplates.isReadOnly(request.getMethod(), pathTemplate))
+        {
+            return false;
+        }
+
+        for (String name : request.getHeaders().keySet())
+        {
+            if (DPOP.equalsIgnoreCase(name))
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+
+    private long computeDelay(LatencyWindow latencies)
+    {
+        long latency = latencies.percentile(mPolicy.getDelayPercentile());
+
+        if (latency < 0)
+        {
+            // Not enough latencies have been observed.
+            return mPolicy.getMaxDelay();
+        }
+
+        return Math.max(mPolicy.getMinDelay(), Math.min(latency, mPolicy.getMaxDelay()));
+    }
+
+
+    private CompletionStage<HttpTransportResponse> send(HttpTransportRequest request, Executor executor)
+    {
+        try
+        {
+            return mTransport.executeAsync(request, executor);
+        }
+        catch (RuntimeException | Error e)
+        {
+            CompletableFuture<HttpTransportResponse> future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+
+            return future;
+        }
+    }
+
+
+    private static HttpTransportResponse await(
+            CompletableFuture<HttpTransportResponse> future) throws IOException
+    {
+        try
+        {
+            return future.get();
+        }
+        catch (InterruptedException | ExecutionException e)
+        {
+            // Close the response if it arrives later.
+            future.thenAccept(HedgingHttpTransport::closeQuietly);
+
+            throw unwrap(e);
+        }
+    }
+
+
+    private static IOException unwrap(Exception exception)
+    {
+        if (exception instanceof InterruptedException)
+        {
+            Thread.currentThread().interrupt();
+
+            return new InterruptedIOException("Interrupted while waiting for a response.");
+        }
+
+        Throwable cause = exception.getCause();
+
+        // The cause may be wrapped by the wrapped transport.
+        while (cause instanceof CompletionException && cause.getCause() != null)
+        {
+            cause = cause.getCause();
+        }
+
+        if (cause instanceof IOException)
+        {
+            return (IOException)cause;
+        }
+
+        if (cause instanceof RuntimeException)
+        {
+            throw (RuntimeException)cause;
+        }
+
+        if (cause instanceof Error)
+        {
+            throw (Error)cause;
+        }
+
+        return new IOException(cause);
+    }
+
+
+    private static void closeQuietly(HttpTransportResponse response)
+    {
+        try
+        {
+            response.close();
+        }
+        catch (IOException e)
+        {
+            // Ignored.
+        }
+    }
+}
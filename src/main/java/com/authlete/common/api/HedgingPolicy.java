@@ -0,0 +1,241 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+/**
+ * Policy of hedged requests.
+ *
+ * <p>
+ * When a read-only request has not been answered within the hedging delay,
+ * {@link HedgingHttpTransport} sends the same request again and uses the
+ * response which arrives first. The hedging delay is the {@link
+ * #getDelayPercentile()} percentile of the latencies recently observed for
+ * the API, clamped between {@link #getMinDelay()} and {@link #getMaxDelay()}.
+ * Until enough latencies have been observed, {@link #getMaxDelay()} is used.
+ * </p>
+ *
+ * <p>
+ * The number of hedged requests is limited by a budget. Every hedgeable
+ * request adds {@link #getHedgeBudgetRatio()} tokens to the budget (up to
+ * {@link #getHedgeBudgetCapacity()}) and every hedged request consumes one
+ * token. With the default ratio 0.05, hedging adds at most 5 percent to
+ * the load in a steady state.
+ * </p>
+ *
+ * @since 4.47
+ *
+ * @see HedgingHttpTransport
+ */
+public class HedgingPolicy
+{
+    private double delayPercentile = 0.95;
+    private long minDelay = 5;
+    private long maxDelay = 1000;
+    private double hedgeBudgetRatio = 0.05;
+    private double hedgeBudgetCapacity = 10;
+
+
+    /**
+     * Get the percentile of observed latencies used as the hedging delay.
+     * The default value is 0.95.
+     *
+     * @return
+     *         The percentile between 0.0 and 1.0.
+     */
+    public double getDelayPercentile()
+    {
+        return delayPercentile;
+    }
+
+
+    /**
+     * Set the percentile of observed latencies used as the hedging delay.
+     *
+     * @param percentile
+     *         The percentile. Must be greater than 0.0 and less than 1.0.
+     *
+     * @return
+     *         {@code this} object.
+     *
+     * @throws IllegalArgumentException
+     *         The given value is out of the range.
+     */
+    public HedgingPolicy setDelayPercentile(double percentile)
+    {
+        if (!(0.0 < percentile && percentile < 1.0))
+        {
+            throw new IllegalArgumentException("percentile must be greater than 0.0 and less than 1.0.");
+        }
+
+        this.delayPercentile = percentile;
+
+        return this;
+    }
+
+
+    /**
+     * Get the lower limit of the hedging delay in milliseconds.
+     * The default value is 5.
+     *
+     * @return
+     *         The minimum hedging delay in milliseconds.
+     */
+    public long getMinDelay()
+    {
+        return minDelay;
+    }
+
+
+    /**
+     * Set the lower limit of the hedging delay in milliseconds.
+     *
+     * @param delay
+     *         The minimum hedging delay in milliseconds.
+     *
+     * @return
+     *         {@code this} object.
+     *
+     * @throws IllegalArgumentException
+     *         The given value is negative.
+     */
+    public HedgingPolicy setMinDelay(long delay)
+    {
+        if (delay < 0)
+        {
+            throw new IllegalArgumentException("delay cannot be negative.");
+        }
+
+        this.minDelay = delay;
+
+        return this;
+    }
+
+
+    /**
+     * Get the upper limit of the hedging delay in milliseconds.
+     * The default value is 1000.
+     *
+     * @return
+     *         The maximum hedging delay in milliseconds.
+     */
+    public long getMaxDelay()
+    {
+        return maxDelay;
+    }
+
+
+    /**
+     * Set the upper limit of the hedging delay in milliseconds.
+     *
+     * @param delay
+     *         The maximum hedging delay in milliseconds.
+     *
+     * @return
+     *         {@code this} object.
+     *
+     * @throws IllegalArgumentException
+     *         The given value is negative.
+     */
+    public HedgingPolicy setMaxDelay(long delay)
+    {
+        if (delay < 0)
+        {
+            throw new IllegalArgumentException("delay cannot be negative.");
+        }
+
+        this.maxDelay = delay;
+
+        return this;
+    }
+
+
+    /**
+     * Get the number of tokens added to the hedge budget by every hedgeable
+     * request. The default value is 0.05.
+     *
+     * @return
+     *         The hedge budget ratio.
+     */
+    public double getHedgeBudgetRatio()
+    {
+        return hedgeBudgetRatio;
+    }
+
+
+    /**
+     * Set the number of tokens added to the hedge budget by every hedgeable
+     * request.
+     *
+     * @param ratio
+     *         The hedge budget ratio. Must not be negative.
+     *
+     * @return
+     *         {@code this} object.
+     *
+     * @throws IllegalArgumentException
+     *         The given value is negative.
+     */
+    public HedgingPolicy setHedgeBudgetRatio(double ratio)
+    {
+        if (!(ratio >= 0.0))
+        {
+            throw new IllegalArgumentException("ratio cannot be negative.");
+        }
+
+        this.hedgeBudgetRatio = ratio;
+
+        return this;
+    }
+
+
+    /**
+     * Get the maximum number of tokens which the hedge budget can hold.
+     * The budget is full initially. The default value is 10.
+     *
+     * @return
+     *         The capacity of the hedge budget.
+     */
+    public double getHedgeBudgetCapacity()
+    {
+        return hedgeBudgetCapacity;
+    }
+
+
+    /**
+     * Set the maximum number of tokens which the hedge budget can hold.
+     *
+     * @param capacity
+     *         The capacity of the hedge budget. Must not be negative.
+     *
+     * @return
+     *         {@code this} object.
+     *
+     * @throws IllegalArgumentException
+     *         The given value is negative.
+     */
+    public HedgingPolicy setHedgeBudgetCapacity(double capacity)
+    {
+        if (!(capacity >= 0.0))
+        {
+            throw new IllegalArgumentException("capacity cannot be negative.");
+        }
+
+        this.hedgeBudgetCapacity = capacity;
+
+        return this;
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+
+/**
+ * HTTP transport used by the {@link AuthleteApi} implementations in this
+ * library ({@code AuthleteApiImpl} and {@link AuthleteApiImplV3}) to
+ * exchange HTTP requests and responses with Authlete APIs.
+ *
+ * <p>
+ * The default implementation is {@link HttpUrlConnectionTransport}, which
+ * uses {@link java.net.HttpURLConnection HttpURLConnection}. Another
+ * implementation can be set by {@link Settings#setHttpTransport(HttpTransport)}.
+ * For example, an implementation based on {@code java.net.http.HttpClient}
+ * (available since Java 11) can be used to multiplex concurrent API calls
+ * over a small number of HTTP/2 connections.
+ * </p>
+ *
+ * <pre style="border: 1px solid black; padding: 0.5em; margin: 0.5em;">
+ * AuthleteApi api = AuthleteApiFactory.create(configuration);
+ * api.getSettings().setHttpTransport(new MyHttpClientTransport());
+ * </pre>
+ *
+ * <p>
+ * Implementations must be thread-safe because a single instance is shared
+ * by all API calls made through an {@link AuthleteApi} instance.
+ * </p>
+ *
+ * <p>
+ * {@link AuthleteAsyncApiImpl} sends requests by {@link
+ * #executeAsync(HttpTransportRequest, Executor) executeAsync}. Its default
+ * implementation runs {@link #execute(HttpTransportRequest) execute} on the
+ * given executor. Implementations based on a non-blocking HTTP client should
+ * override it so that no thread waits for responses.
+ * </p>
+ *
+ * @since 4.47
+ */
+public interface HttpTransport
+{
+    /**
+     * Send an HTTP request and receive the HTTP response.
+     *
+     * <p>
+     * This method should return a response even when the status code of
+     * the response indicates an error (e.g. 4xx and 5xx). An exception
+     * should be thrown only when the HTTP exchange itself failed.
+     * </p>
+     *
+     * @param request
+     *         The HTTP request.
+     *
+     * @return
+     *         The HTTP response. The caller closes it after use.
+     *
+     * @throws IOException
+     *         The HTTP exchange failed.
+     */
+    HttpTransportResponse execute(HttpTransportRequest request) throws IOException;
+
+
+    /**
+     * Send an HTTP request and receive the HTTP response asynchronously.
+     *
+     * <p>
+     * The returned stage completes with a response in the same cases as
+     * {@link #execute(HttpTransportRequest)} returns one, and completes
+     * exceptionally with an {@link IOException} when the HTTP exchange
+     * failed. Because the response is processed on the thread completing
+     * the stage, implementations which do not block should buffer the
+     * response body before completing it.
+     * </p>
+     *
+     * <p>
+     * The default implementation runs {@link #execute(HttpTransportRequest)}
+     * on the given executor.
+     * </p>
+     *
+     * @param request
+     *         The HTTP request.
+     *
+     * @param executor
+     *         An executor on which blocking work can be done. Implementations
+     *         which do not block may ignore it.
+     *
+     * @return
+     *         A stage which completes with the HTTP response. The caller
+     *         closes the response after use.
+     */
+    default CompletionStage<HttpTransportResponse> executeAsync(
+            HttpTransportRequest request, Executor executor)
+    {
+        CompletableFuture<HttpTransportResponse> future = new CompletableFuture<>();
+
+        try
+        {
+            executor.execute(() -> {
+                try
+                {
+                    future.complete(execute(request));
+                }
+                catch (Throwable t)
+                {
+                    future.completeExceptionally(t);
+                }
+            });
+        }
+        catch (RuntimeException e)
+        {
+            // The executor rejected the task.
+            future.completeExceptionally(e);
+        }
+
+        return future;
+    }
+}
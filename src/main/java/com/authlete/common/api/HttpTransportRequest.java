@@ -0,0 +1,419 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+
+/**
+ * HTTP request passed to {@link HttpTransport#execute(HttpTransportRequest)}.
+ *
+ * @since 4.47
+ */
+public class HttpTransportRequest
+{
+    /**
+     * Writer of a request body which is generated while being sent.
+     *
+     * <p>
+     * A body writer may be invoked more than once when the same request
+     * is sent again (e.g. on retry), and it has to write the same content
+     * each time.
+     * </p>
+     */
+    public interface BodyWriter
+    {
+        /**
+         * Write the request body into the given stream.
+         *
+         * @param out
+         *         The stream connected to the HTTP request body. The
+         *         implementation should not close the stream.
+         *
+         * @throws IOException
+         *         Failed to write the request body.
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+
+    private String method;
+    private URL url;
+    private final Map<String, String> headers = new LinkedHashMap<>();
+    private byte[] body;
+    private BodyWriter bodyWriter;
+    private int connectionTimeout;
+    private int readTimeout;
+    private int totalTimeout;
+    private Consumer<HttpTransportRequest> renewer;
+
+
+    /**
+     * Get the HTTP method.
+     *
+     * @return
+     *         The HTTP method such as {@code "GET"} and {@code "POST"}.
+     */
+    public String getMethod()
+    {
+        return method;
+    }
+
+
+    /**
+     * Set the HTTP method.
+     *
+     * @param method
+     *         The HTTP method such as {@code "GET"} and {@code "POST"}.
+     *
+     * @return
+     *         {@code this} object.
+     */
+    public HttpTransportRequest setMethod(String method)
+    {
+        this.method = method;
+
+        return this;
+    }
+
+
+    /**
+     * Get the target URL including query parameters.
+     *
+     * @return
+     *         The target URL.
+     */
+    public URL getUrl()
+    {
+        return url;
+    }
+
+
+    /**
+     * Set the target URL including query parameters.
+     *
+     * @param url
+     *         The target URL.
+     *
+     * @return
+     *         {@code this} object.
+     */
+    public HttpTransportRequest setUrl(URL url)
+    {
+        this.url = url;
+
+        return this;
+    }
+
+
+    /**
+     * Get the request headers. The returned map is mutable.
+     *
+     * @return
+     *         The request headers.
+     */
+    public Map<String, String> getHeaders()
+    {
+        return headers;
+    }
+
+
+    /**
+     * Set a request header.
+     *
+     * @param name
+     *         The name of the header.
+     *
+     * @param value
+     *         The value of the header.
+     *
+     * @return
+     *         {@code this} object.
+     */
+    public HttpTransportRequest setHeader(String name, String value)
+    {
+        headers.put(name, value);
+
+        return this;
+    }
+
+
+    /**
+     * Get the request body.
+     *
+     * @return
+     *         The request body. {@code null} if the request does not have
+     *         a request body.
+     */
+    public byte[] getBody()
+    {
+        return body;
+    }
+
+
+    /**
+     * Set the request body.
+     *
+     * @param body
+     *         The request body.
+     *
+     * @return
+     *         {@code this} object.
+     */
+    public HttpTransportRequest setBody(byte[] body)
+    {
+        this.body = body;
+
+        return this;
+    }
+
+
+    /**
+     * Get the writer of the request body.
+     *
+     * @return
+     *         The writer of the request body. {@code null} if the request
+     *         body is not streamed.
+     */
+    public BodyWriter getBodyWriter()
+    {
+        return bodyWriter;
+    }
+
+
+    /**
+     * Set the writer of the request body.
+     *
+     * <p>
+     * When a body writer is set, the request body is generated while it is
+     * being sent and its length is not known in advance. Transports should
+     * use chunked transfer encoding (HTTP/1.1) or an equivalent mechanism.
+     * If both a body writer and a byte array body ({@link #setBody(byte[])})
+     * are set, the body writer takes precedence.
+     * </p>
+     *
+     * @param writer
+     *         The writer of the request body.
+     *
+     * @return
+     *         {@code this} object.
+     */
+    public HttpTransportRequest setBodyWriter(BodyWriter writer)
+    {
+        this.bodyWriter = writer;
+
+        return this;
+    }
+
+
+    /**
+     * Check whether the request has a request body.
+     *
+     * @return
+     *         {@code true} if either a byte array body or a body writer is set.
+     */
+    public boolean hasBody()
+    {
+        return body != null || bodyWriter != null;
+    }
+
+
+    /**
+     * Get the connection timeout in milliseconds. 0 means an infinite timeout.
+     *
+     * @return
+     *         The connection timeout in milliseconds.
+     */
+    public int getConnectionTimeout()
+    {
+        return connectionTimeout;
+    }
+
+
+    /**
+     * Set the connection timeout in milliseconds. 0 means an infinite timeout.
+     *
+     * @param timeout
+     *         The connection timeout in milliseconds.
+     *
+     * @return
+     *         {@code this} object.
+     */
+    public HttpTransportRequest setConnectionTimeout(int timeout)
+    {
+        this.connectionTimeout = timeout;
+
+        return this;
+    }
+
+
+    /**
+     * Get the read timeout in milliseconds. 0 means an infinite timeout.
+     *
+     * @return
+     *         The read timeout in milliseconds.
+     */
+    public int getReadTimeout()
+    {
+        return readTimeout;
+    }
+
+
+    /**
+     * Set the read timeout in milliseconds. 0 means an infinite timeout.
+     *
+     * @param timeout
+     *         The read timeout in milliseconds.
+     *
+     * @return
+     *         {@code this} object.
+     */
+    public HttpTransportRequest setReadTimeout(int timeout)
+    {
+        this.readTimeout = timeout;
+
+        return this;
+    }
+
+
+    /**
+     * Get the total timeout in milliseconds, which covers connecting,
+     * sending the request and receiving the response headers. 0 means
+     * that there is no total timeout.
+     *
+     * @return
+     *         The total timeout in milliseconds.
+     *
+     * @since 4.47
+     */
+    public int getTotalTimeout()
+    {
+        return totalTimeout;
+    }
+
+
+    /**
+     * Set the total timeout in milliseconds, which covers connecting,
+     * sending the request and receiving the response headers. 0 means
+     * that there is no total timeout.
+     *
+     * <p>
+     * The {@link AuthleteApi} implementations included in this library
+     * set the remaining time of the {@linkplain Options#setTimeout(long)
+     * per-call timeout} here. {@link HttpTransport} implementations should
+     * respect it as far as possible. The connection timeout and the read
+     * timeout are already capped by it.
+     * </p>
+     *
+     * @param timeout
+     *         The total timeout in milliseconds.
+     *
+     * @return
+     *         {@code this} object.
+     *
+     * @since 4.47
+     */
+    public HttpTransportRequest setTotalTimeout(int timeout)
+    {
+        this.totalTimeout = timeout;
+
+        return this;
+    }
+
+
+    /**
+     * Create a copy of this request. The copy has its own headers, so
+     * changes made to either request do not affect the other. The body
+     * and the body writer are shared.
+     *
+     * <p>
+     * Transports which send the same request more than once at the same
+     * time (e.g. {@link HedgingHttpTransport}) give each attempt a copy.
+     * </p>
+     *
+     * @return
+     *         A copy of this request.
+     *
+     * @since 4.47
+     */
+    public HttpTransportRequest copy()
+    {
+        HttpTransportRequest request = new HttpTransportRequest()
+                .setMethod(method)
+                .setUrl(url)
+                .setBody(body)
+                .setBodyWriter(bodyWriter)
+                .setConnectionTimeout(connectionTimeout)
+                .setReadTimeout(readTimeout)
+                .setTotalTimeout(totalTimeout);
+
+        request.headers.putAll(headers);
+        request.renewer = renewer;
+
+        return request;
+    }
+
+
+    /**
+     * Create a copy of this request to be sent independently of the API
+     * call which made this request, e.g. in the background after the call
+     * has returned.
+     *
+     * <p>
+     * Unlike {@link #copy()}, the copy does not inherit the total timeout
+     * of the API call. A {@code DPoP} header, whose proof cannot be used
+     * twice, is replaced with a new proof when this request was made by
+     * the {@link AuthleteApi} implementations included in this library, and
+     * removed otherwise. The connection timeout and the read timeout are
+     * reset to the values in {@link Settings} in the former case.
+     * </p>
+     *
+     * @return
+     *         A new request.
+     *
+     * @throws AuthleteApiException
+     *         Failed to generate a DPoP proof.
+     *
+     * @since 4.47
+     */
+    public HttpTransportRequest renew() throws AuthleteApiException
+    {
+        HttpTransportRequest request = copy().setTotalTimeout(0);
+        request.headers.keySet().removeIf("DPoP"::equalsIgnoreCase);
+
+        if (renewer != null)
+        {
+            renewer.accept(request);
+        }
+
+        return request;
+    }
+
+
+    /**
+     * Set the function which prepares a request created by {@link #renew()}.
+     */
+    void setRenewer(Consumer<HttpTransportRequest> renewer)
+    {
+        this.renewer = renewer;
+    }
+}
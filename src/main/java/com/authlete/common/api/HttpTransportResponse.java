@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * HTTP response returned from {@link HttpTransport#execute(HttpTransportRequest)}.
+ *
+ * @since 4.47
+ */
+public interface HttpTransportResponse extends Closeable
+{
+    /**
+     * Get the HTTP status code.
+     *
+     * @return
+     *         The HTTP status code.
+     */
+    int getStatusCode();
+
+
+    /**
+     * Get the HTTP status message (reason phrase).
+     *
+     * @return
+     *         The HTTP status message. May be {@code null}.
+     */
+    String getStatusMessage();
+
+
+    /**
+     * Get the HTTP response headers.
+     *
+     * @return
+     *         The HTTP response headers. May be {@code null}.
+     */
+    Map<String, List<String>> getHeaders();
+
+
+    /**
+     * Get the value of the {@code Content-Length} header.
+     *
+     * @return
+     *         The content length. -1 if not known.
+     */
+    long getContentLength();
+
+
+    /**
+     * Get the response body. Regardless of whether the status code indicates
+     * success or error, the stream returned by this method should provide
+     * the entity body of the response.
+     *
+     * @return
+     *         The response body. {@code null} if the response does not
+     *         have a response body.
+     *
+     * @throws IOException
+     *         Failed to open the response body.
+     */
+    InputStream getBody() throws IOException;
+
+
+    /**
+     * Get the time spent to establish the connection for the request.
+     *
+     * <p>
+     * The default implementation returns -1, which means that the time
+     * is not measured.
+     * </p>
+     *
+     * @return
+     *         The connect time in nanoseconds. -1 if not measured.
+     */
+    default long getConnectTime()
+    {
+        return -1;
+    }
+}
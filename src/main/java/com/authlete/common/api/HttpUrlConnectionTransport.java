@@ -0,0 +1,340 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.SocketTimeoutException;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * An implementation of {@link HttpTransport} using {@link HttpURLConnection}.
+ *
+ * <p>
+ * This is the default transport. Connections are kept alive and reused
+ * by the keep-alive cache of the JDK.
+ * </p>
+ *
+ * @since 4.47
+ */
+public class HttpUrlConnectionTransport implements HttpTransport
+{
+    /**
+     * The maximum number of bytes of an unread response body which are
+     * skipped to return the connection to the keep-alive cache. A longer
+     * body is not worth reading, so the connection is closed instead.
+     */
+    private static final int MAX_DRAIN_SIZE = 64 * 1024;
+
+
+    @Override
+    public HttpTransportResponse execute(HttpTransportRequest request) throws IOException
+    {
+        // Open a connection to the Authlete API.
+        HttpURLConnection con = openConnection(request);
+
+        if (request.getBodyWriter() != null)
+        {
+            // The length of the request body is not known in advance.
+            // Send the body with chunked transfer encoding so that
+            // HttpURLConnection does not buffer the entire body.
+            con.setDoOutput(true);
+            con.setChunkedStreamingMode(0);
+        }
+        else if (request.getBody() != null)
+        {
+            con.setDoOutput(true);
+        }
+
+        // Connect explicitly to measure the connect time. A connection
+        // kept alive from a previous request is reused if available.
+        long connectStart = System.nanoTime();
+        con.connect();
+        long connectTime = System.nanoTime() - connectStart;
+
+        OutputStream out = null;
+
+        try
+        {
+            // Stop if connecting has used up the total timeout.
+            checkTotalTimeout(con, request, connectStart);
+
+            if (request.getBodyWriter() != null)
+            {
+                out = con.getOutputStream();
+                request.getBodyWriter().writeTo(out);
+                out.flush();
+            }
+            else if (request.getBody() != null)
+            {
+                // Write the request body.
+                out = con.getOutputStream();
+                out.write(request.getBody());
+                out.flush();
+            }
+
+            checkTotalTimeout(con, request, connectStart);
+
+            // Wait for the status line of the response.
+            int statusCode = con.getResponseCode();
+
+            return new Response(con, statusCode, connectTime);
+        }
+        finally
+        {
+            closeQuietly(out);
+        }
+    }
+
+
+    /**
+     * Open a connection and set up the request properties of it.
+     *
+     * @param request
+     *         The HTTP request.
+     *
+     * @return
+     *         A connection which has not been connected yet.
+     *
+     * @throws IOException
+     *         Failed to open a connection.
+     */
+    protected HttpURLConnection openConnection(HttpTransportRequest request) throws IOException
+    {
+        HttpURLConnection con = (HttpURLConnection)request.getUrl().openConnection();
+
+        // Set HTTP method.
+        con.setRequestMethod(request.getMethod());
+
+        // Set request headers.
+        for (Entry<String, String> e : request.getHeaders().entrySet())
+        {
+            con.setRequestProperty(e.getKey(), e.getValue());
+        }
+
+        // Expect a response body.
+        con.setDoInput(true);
+
+        // Set a connection timeout in milliseconds. Neither of the timeouts
+        // can exceed the total timeout. HttpURLConnection does not allow
+        // changing the read timeout after connecting, so the total timeout
+        // is enforced only approximately.
+        con.setConnectTimeout(cap(request.getConnectionTimeout(), request.getTotalTimeout()));
+
+        // Set a read timeout in milliseconds.
+        con.setReadTimeout(cap(request.getReadTimeout(), request.getTotalTimeout()));
+
+        return con;
+    }
+
+
+    private static void checkTotalTimeout(
+            HttpURLConnection con, HttpTransportRequest request, long startTime) throws IOException
+    {
+        int totalTimeout = request.getTotalTimeout();
+
+        if (totalTimeout <= 0)
+        {
+            // No total timeout.
+            return;
+        }
+
+        long remaining = totalTimeout - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+
+        if (remaining <= 0)
+        {
+            con.disconnect();
+
+            throw new SocketTimeoutException(
+                    "The total timeout (" + totalTimeout + " ms) has expired.");
+        }
+    }
+
+
+    private static int cap(int timeout, int limit)
+    {
+        // 0 means an infinite timeout or no limit.
+        return (limit <= 0 || (0 < timeout && timeout <= limit)) ? timeout : limit;
+    }
+
+
+    private static void closeQuietly(Closeable closeable)
+    {
+        if (closeable == null)
+        {
+            return;
+        }
+
+        try
+        {
+            closeable.close();
+        }
+        catch (IOException e)
+        {
+            // Ignored.
+        }
+    }
+
+
+    private static class Response implements HttpTransportResponse
+    {
+        private final HttpURLConnection mCon;
+        private final int mStatusCode;
+        private final long mConnectTime;
+        private InputStream mBody;
+
+
+        Response(HttpURLConnection con, int statusCode, long connectTime)
+        {
+            mCon         = con;
+            mStatusCode  = statusCode;
+            mConnectTime = connectTime;
+        }
+
+
+        @Override
+        public long getConnectTime()
+        {
+            return mConnectTime;
+        }
+
+
+        @Override
+        public int getStatusCode()
+        {
+            return mStatusCode;
+        }
+
+
+        @Override
+        public String getStatusMessage()
+        {
+            try
+            {
+                return mCon.getResponseMessage();
+            }
+            catch (IOException e)
+            {
+                // Status message is not available.
+                return null;
+            }
+        }
+
+
+        @Override
+        public Map<String, List<String>> getHeaders()
+        {
+            return mCon.getHeaderFields();
+        }
+
+
+        @Override
+        public long getContentLength()
+        {
+            return mCon.getContentLengthLong();
+        }
+
+
+        @Override
+        public InputStream getBody() throws IOException
+        {
+            if (mBody == null)
+            {
+                // HttpURLConnection.getInputStream() throws an IOException
+                // when the status code is 4xx or 5xx. In that case, the
+                // entity body has to be read from the error stream.
+                mBody = (mStatusCode >= HttpURLConnection.HTTP_BAD_REQUEST)
+                      ? mCon.getErrorStream() : mCon.getInputStream();
+            }
+
+            return mBody;
+        }
+
+
+        @Override
+        public void close()
+        {
+            if (mBody == null && !drain())
+            {
+                // The connection cannot be reused.
+                mCon.disconnect();
+                return;
+            }
+
+            // Closing the stream (instead of disconnecting) allows the
+            // underlying connection to be reused.
+            closeQuietly(mBody);
+        }
+
+
+        /**
+         * Read the rest of the response body which the caller has not
+         * read, so that the connection can be reused by the next request.
+         * A connection whose response has not been consumed is neither
+         * returned to the keep-alive cache nor closed until GC.
+         *
+         * @return
+         *         {@code true} if the body has been read to the end.
+         */
+        private boolean drain()
+        {
+            try
+            {
+                InputStream body = getBody();
+
+                if (body == null)
+                {
+                    // No response body.
+                    return true;
+                }
+
+                long length = mCon.getContentLengthLong();
+
+                if (length > MAX_DRAIN_SIZE)
+                {
+                    return false;
+                }
+
+                byte[] buffer = new byte[4096];
+                long total = 0;
+
+                for (int n; (n = body.read(buffer)) != -1; )
+                {
+                    total += n;
+
+                    if (total > MAX_DRAIN_SIZE)
+                    {
+                        return false;
+                    }
+                }
+
+                return true;
+            }
+            catch (IOException e)
+            {
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,306 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import com.authlete.common.dto.IntrospectionRequest;
+import com.authlete.common.dto.IntrospectionResponse;
+import com.authlete.common.dto.StandardIntrospectionRequest;
+import com.authlete.common.dto.StandardIntrospectionResponse;
+import com.authlete.common.util.Utils;
+import com.authlete.common.util.digest.Digest;
+
+
+/**
+ * An {@link AuthleteApi} decorator which caches responses from the
+ * introspection API and the standard introspection API.
+ *
+ * <p>
+ * Only responses for valid access tokens are cached, i.e. responses whose
+ * {@code action} is {@code OK} (and, for the standard introspection API,
+ * whose content says {@code "active":true}). The content of a standard
+ * introspection response in the JWT form is read from the payload of the
+ * JWT. Responses whose content cannot be read, e.g. encrypted JWTs, are
+ * not cached. A cached response
+ * expires when the access token expires or when the maximum time-to-live
+ * given to the constructor elapses, whichever comes first. Revocation of
+ * an access token is not noticed until the cached response expires, so
+ * the maximum time-to-live should be short enough for the security
+ * requirements of the resource server.
+ * </p>
+ *
+ * <p>
+ * Cache keys are SHA-256 hashes of the JSON representation of requests,
+ * which include access tokens and the other parameters. Access tokens
+ * themselves are not kept by the cache. Requests with a DPoP proof or an
+ * HTTP message signature are not cached because such data differs for
+ * each request and must be verified by Authlete every time.
+ * </p>
+ *
+ * <p>
+ * Cached response instances are shared by all the callers which present
+ * the same access token. Callers must not modify them.
+ * </p>
+ *
+ * <pre style="border: 1px solid black; padding: 0.5em; margin: 0.5em;">
+ * AuthleteApi api = new IntrospectionCachingAuthleteApi(
+ *     AuthleteApiFactory.getDefaultApi(), 10000, 60000);
+ * </pre>
+ *
+ * @since 4.47
+ */
+public class IntrospectionCachingAuthleteApi extends DelegatingAuthleteApi
+{
+    private final SlruCache<String, Object> mCache;
+    private final long mMaxTtl;
+
+
+    /**
+     * Constructor.
+     *
+     * @param api
+     *         The {@link AuthleteApi} instance to which method calls are
+     *         forwarded.
+     *
+     * @param maximumSize
+     *         The maximum number of cached responses.
+     *
+     * @param maxTtl
+     *         The maximum time-to-live of cached responses in milliseconds.
+     */
+    public IntrospectionCachingAuthleteApi(AuthleteApi api, int maximumSize, long maxTtl)
+    {
+        super(api);
+
+        if (maxTtl < 0)
+        {
+            throw new IllegalArgumentException("maxTtl cannot be negative.");
+        }
+
+        mCache  = new SlruCache<>(maximumSize);
+        mMaxTtl = maxTtl;
+    }
+
+
+    @Override
+    public IntrospectionResponse introspection(
+            IntrospectionRequest request, Options options) throws AuthleteApiException
+    {
+        if (!isCacheable(request))
+        {
+            return super.introspection(request, options);
+        }
+
+        String key = computeKey("introspection", request);
+        long now   = System.currentTimeMillis();
+
+        IntrospectionResponse response = (IntrospectionResponse)mCache.get(key, now);
+
+        if (response != null)
+        {
+            return response;
+        }
+
+        response = super.introspection(request, options);
+
+        if (response != null && response.getAction() == IntrospectionResponse.Action.OK)
+        {
+            put(key, response, response.getExpiresAt(), now);
+        }
+
+        return response;
+    }
+
+
+    @Override
+    public StandardIntrospectionResponse standardIntrospection(
+            StandardIntrospectionRequest request, Options options) throws AuthleteApiException
+    {
+        if (request == null)
+        {
+            return super.standardIntrospection(request, options);
+        }
+
+        String key = computeKey("standardIntrospection", request);
+        long now   = System.currentTimeMillis();
+
+        StandardIntrospectionResponse response = (StandardIntrospectionResponse)mCache.get(key, now);
+
+        if (response != null)
+        {
+            return response;
+        }
+
+        response = super.standardIntrospection(request, options);
+
+        if (response != null && response.getAction() == StandardIntrospectionResponse.Action.OK)
+        {
+            Map<?, ?> content = parseContent(response.getResponseContent());
+
+            // Inactive tokens and unreadable content are not cached.
+            if (content != null && Boolean.TRUE.equals(content.get("active")))
+            {
+                put(key, response, extractExpiresAt(content), now);
+            }
+        }
+
+        return response;
+    }
+
+
+    /**
+     * Remove all the cached responses.
+     */
+    public void invalidateAll()
+    {
+        mCache.clear();
+    }
+
+
+    /**
+     * Get the number of cached responses, including expired ones which
+     * have not been removed yet.
+     *
+     * @return
+     *         The number of cached responses.
+     */
+    public int size()
+    {
+        return mCache.size();
+    }
+
+
+    private static boolean isCacheable(IntrospectionRequest request)
+    {
+        // DPoP proofs and HTTP message signatures differ for each request.
+        return request != null
+                && request.getDpop() == null
+                && request.getMessage() == null
+                && request.getHeaders() == null;
+    }
+
+
+    private static String computeKey(String api, Object request)
+    {
+        // The JSON contains the access token, so only its hash is kept.
+        return Digest.getInstanceSHA256()
+                .update(api).update(Utils.toJson(request)).digestAsString();
+    }
+
+
+    private void put(String key, Object response, long expiresAt, long now)
+    {
+        long expiry = now + mMaxTtl;
+
+        if (0 < expiresAt && expiresAt < expiry)
+        {
+            // The access token expires before the maximum time-to-live.
+            expiry = expiresAt;
+        }
+
+        if (now < expiry)
+        {
+            mCache.put(key, response, expiry);
+        }
+    }
+
+
+    private static Map<?, ?> parseContent(String content)
+    {
+        if (content == null)
+        {
+            return null;
+        }
+
+        if (content.startsWith("{"))
+        {
+            return parseJson(content);
+        }
+
+        // The content is a JWT when the response is signed or encrypted
+        // (RFC 9701). The payload of an encrypted JWT, which consists of
+        // five parts, cannot be read.
+        String[] parts = content.split("\\.", -1);
+
+        if (parts.length != 3)
+        {
+            return null;
+        }
+
+        Map<?, ?> claims;
+
+        try
+        {
+            claims = parseJson(new String(
+                    Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8));
+        }
+        catch (IllegalArgumentException e)
+        {
+            return null;
+        }
+
+        Object introspection = (claims == null) ? null : claims.get("token_introspection");
+
+        if (!(introspection instanceof Map))
+        {
+            return null;
+        }
+
+        Map<Object, Object> result = new HashMap<>((Map<?, ?>)introspection);
+
+        // The cached JWT must not be used after the JWT itself expires.
+        long tokenExpiresAt = extractExpiresAt(result);
+        long jwtExpiresAt   = extractExpiresAt(claims);
+
+        if (0 < jwtExpiresAt && (tokenExpiresAt <= 0 || jwtExpiresAt < tokenExpiresAt))
+        {
+            result.put("exp", claims.get("exp"));
+        }
+
+        return result;
+    }
+
+
+    private static Map<?, ?> parseJson(String json)
+    {
+        try
+        {
+            return Utils.fromJson(json, Map.class);
+        }
+        catch (RuntimeException e)
+        {
+            return null;
+        }
+    }
+
+
+    private static long extractExpiresAt(Map<?, ?> content)
+    {
+        Object exp = content.get("exp");
+
+        if (!(exp instanceof Number))
+        {
+            return 0;
+        }
+
+        // "exp" is in seconds.
+        return ((Number)exp).longValue() * 1000;
+    }
+}
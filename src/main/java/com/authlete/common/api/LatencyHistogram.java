@@ -0,0 +1,157 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * A lock-free histogram of non-negative values with log-linear buckets,
+ * in the style of HdrHistogram.
+ *
+ * <p>
+ * Values below 64 have their own buckets. Larger values are bucketed by
+ * their 6 most significant bits, so the relative error of percentiles is
+ * less than about 3% over the whole range of {@code long}, with a fixed
+ * memory footprint.
+ * </p>
+ */
+final class LatencyHistogram
+{
+    private static final int SUB_BUCKET_BITS  = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_LIMIT     = SUB_BUCKET_COUNT * 2;
+    private static final int BUCKET_COUNT     = index(Long.MAX_VALUE) + 1;
+
+
+    private final AtomicLongArray mCounts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder mCount = new LongAdder();
+    private final LongAdder mSum = new LongAdder();
+    private final LongAccumulator mMax = new LongAccumulator(Math::max, 0);
+
+
+    static int index(long value)
+    {
+        if (value < LINEAR_LIMIT)
+        {
+            return (int)value;
+        }
+
+        // The number of low-order bits dropped from the value.
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+
+        return shift * SUB_BUCKET_COUNT + (int)(value >>> shift);
+    }
+
+
+    /**
+     * Get the largest value which falls into the bucket.
+     */
+    static long highestValue(int index)
+    {
+        if (index < LINEAR_LIMIT)
+        {
+            return index;
+        }
+
+        int shift     = index / SUB_BUCKET_COUNT - 1;
+        long mantissa = index % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+
+        return ((mantissa + 1) << shift) - 1;
+    }
+
+
+    void record(long value)
+    {
+        if (value < 0)
+        {
+            value = 0;
+        }
+
+        mCounts.incrementAndGet(index(value));
+        mCount.increment();
+        mSum.add(value);
+        mMax.accumulate(value);
+    }
+
+
+    long count()
+    {
+        return mCount.sum();
+    }
+
+
+    double mean()
+    {
+        long count = mCount.sum();
+
+        return (count == 0) ? 0 : (double)mSum.sum() / count;
+    }
+
+
+    long max()
+    {
+        return mMax.get();
+    }
+
+
+    /**
+     * Get the value at the given percentile.
+     *
+     * @param percentile
+     *         A percentile between 0 and 100.
+     */
+    long percentile(double percentile)
+    {
+        long count = mCount.sum();
+
+        if (count == 0)
+        {
+            return 0;
+        }
+
+        long rank  = Math.max(1, (long)Math.ceil(count * percentile / 100.0));
+        long total = 0;
+
+        for (int i = 0; i < BUCKET_COUNT; i++)
+        {
+            total += mCounts.get(i);
+
+            if (total >= rank)
+            {
+                return Math.min(highestValue(i), max());
+            }
+        }
+
+        return max();
+    }
+
+
+    void reset()
+    {
+        for (int i = 0; i < BUCKET_COUNT; i++)
+        {
+            mCounts.set(i, 0);
+        }
+
+        mCount.reset();
+        mSum.reset();
+        mMax.reset();
+    }
+}
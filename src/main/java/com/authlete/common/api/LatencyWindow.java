@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+import java.util.Arrays;
+
+
+/**
+ * Recent latencies of an API.
+ */
+class LatencyWindow
+{
+    /** The number of latencies kept. */
+    private static final int SIZE = 256;
+
+
+    /** The number of latencies required before percentiles are computed. */
+    static final int MIN_SAMPLES = 20;
+
+
+    /** The number of records after which cached percentiles are discarded. */
+    private static final int RECOMPUTE_INTERVAL = 32;
+
+
+    private final long[] mLatencies = new long[SIZE];
+    private int mIndex;
+    private int mCount;
+    private int mRecordsSinceSort;
+    private long[] mSorted;
+
+
+    /**
+     * Record a latency.
+     *
+     * @param latency
+     *         The latency in milliseconds.
+     */
+    synchronized void record(long latency)
+    {
+        mLatencies[mIndex] = latency;
+        mIndex = (mIndex + 1) % SIZE;
+        mCount = Math.min(mCount + 1, SIZE);
+
+        if (++mRecordsSinceSort >= RECOMPUTE_INTERVAL)
+        {
+            mSorted = null;
+        }
+    }
+
+
+    /**
+     * Get a percentile of the recorded latencies.
+     *
+     * @param percentile
+     *         The percentile between 0.0 and 1.0.
+     *
+     * @return
+     *         The latency in milliseconds, or -1 if not enough latencies
+     *         have been recorded.
+     */
+    synchronized long percentile(double percentile)
+    {
+        if (mCount < MIN_SAMPLES)
+        {
+            return -1;
+        }
+
+        if (mSorted == null)
+        {
+            // Sorting is deferred until a percentile is requested and the
+            // result is reused for a while.
+            mSorted = Arrays.copyOf(mLatencies, mCount);
+            Arrays.sort(mSorted);
+            mRecordsSinceSort = 0;
+        }
+
+        int index = (int)Math.ceil(percentile * mSorted.length) - 1;
+
+        return mSorted[Math.max(0, Math.min(index, mSorted.length - 1))];
+    }
+}
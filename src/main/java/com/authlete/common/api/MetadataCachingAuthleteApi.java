@@ -0,0 +1,415 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import com.authlete.common.dto.Client;
+import com.authlete.common.dto.ClientRegistrationRequest;
+import com.authlete.common.dto.ClientRegistrationResponse;
+import com.authlete.common.dto.ClientSecretRefreshResponse;
+import com.authlete.common.dto.ClientSecretUpdateResponse;
+import com.authlete.common.dto.Service;
+
+
+/**
+ * An {@link AuthleteApi} decorator which caches clients and services
+ * returned from {@code getClient} and {@code getService}.
+ *
+ * <p>
+ * Cached clients are invalidated when they are modified through this
+ * instance, i.e. by {@code updateClient}, {@code deleteClient}, {@code
+ * refreshClientSecret}, {@code updateClientSecret}, {@code
+ * updateClientLockFlag}, {@code setRequestableScopes}, {@code
+ * deleteRequestableScopes}, {@code dynamicClientUpdate} and {@code
+ * dynamicClientDelete}. Because a client can be cached under both its
+ * client ID and its client ID alias, a modification of a client removes
+ * all the cached clients. Cached services are invalidated by {@code
+ * updateService} and {@code deleteService}.
+ * </p>
+ *
+ * <p>
+ * Modifications made through other instances (e.g. on other nodes of a
+ * cluster or in the Authlete console) are not noticed until cached
+ * entries expire. Applications can propagate such modifications by
+ * calling {@link #invalidateClients()}, {@link #invalidateService(long)}
+ * or {@link #invalidateAll()}.
+ * </p>
+ *
+ * <p>
+ * Cached instances are shared by all the callers. Callers must not modify
+ * them.
+ * </p>
+ *
+ * @since 4.47
+ */
+public class MetadataCachingAuthleteApi extends DelegatingAuthleteApi
+{
+    private final SlruCache<String, Client> mClients;
+    private final SlruCache<Long, Service> mServices;
+    private final long mTtl;
+
+    // Incremented on invalidation so that responses fetched before the
+    // invalidation are not cached after it.
+    private final AtomicLong mClientGeneration = new AtomicLong();
+    private final AtomicLong mServiceGeneration = new AtomicLong();
+
+
+    /**
+     * Constructor.
+     *
+     * @param api
+     *         The {@link AuthleteApi} instance to which method calls are
+     *         forwarded.
+     *
+     * @param maximumSize
+     *         The maximum number of cached clients. The same number of
+     *         services can be cached, too.
+     *
+     * @param ttl
+     *         The time-to-live of cached entries in milliseconds.
+     */
+    public MetadataCachingAuthleteApi(AuthleteApi api, int maximumSize, long ttl)
+    {
+        super(api);
+
+        if (ttl < 0)
+        {
+            throw new IllegalArgumentException("ttl cannot be negative.");
+        }
+
+        mClients  = new SlruCache<>(maximumSize);
+        mServices = new SlruCache<>(maximumSize);
+        mTtl      = ttl;
+    }
+
+
+    @Override
+    public Client getClient(long clientId, Options options) throws AuthleteApiException
+    {
+        return getClient(String.valueOf(clientId), () -> super.getClient(clientId, options));
+    }
+
+
+    @Override
+    public Client getClient(String clientId, Options options) throws AuthleteApiException
+    {
+        return getClient(clientId, () -> super.getClient(clientId, options));
+    }
+
+
+    private Client getClient(String key, Supplier<Client> call)
+    {
+        long now = System.currentTimeMillis();
+        Client client = mClients.get(key, now);
+
+        if (client != null)
+        {
+            return client;
+        }
+
+        long generation = mClientGeneration.get();
+
+        client = call.get();
+
+        if (client != null)
+        {
+            synchronized (mClientGeneration)
+            {
+                if (generation == mClientGeneration.get())
+                {
+                    mClients.put(key, client, now + mTtl);
+                }
+            }
+        }
+
+        return client;
+    }
+
+
+    @Override
+    public Service getService(long apiKey, Options options) throws AuthleteApiException
+    {
+        long now = System.currentTimeMillis();
+        Service service = mServices.get(apiKey, now);
+
+        if (service != null)
+        {
+            return service;
+        }
+
+        long generation = mServiceGeneration.get();
+
+        service = super.getService(apiKey, options);
+
+        if (service != null)
+        {
+            synchronized (mServiceGeneration)
+            {
+                if (generation == mServiceGeneration.get())
+                {
+                    mServices.put(apiKey, service, now + mTtl);
+                }
+            }
+        }
+
+        return service;
+    }
+
+
+    @Override
+    public Client updateClient(Client client, Options options) throws AuthleteApiException
+    {
+        try
+        {
+            return super.updateClient(client, options);
+        }
+        finally
+        {
+            invalidateClients();
+        }
+    }
+
+
+    @Override
+    public void deleteClient(long clientId, Options options) throws AuthleteApiException
+    {
+        try
+        {
+            super.deleteClient(clientId, options);
+        }
+        finally
+        {
+            invalidateClients();
+        }
+    }
+
+
+    @Override
+    public void deleteClient(String clientId, Options options) throws AuthleteApiException
+    {
+        try
+        {
+            super.deleteClient(clientId, options);
+        }
+        finally
+        {
+            invalidateClients();
+        }
+    }
+
+
+    @Override
+    public ClientSecretRefreshResponse refreshClientSecret(long clientId, Options options) throws AuthleteApiException
+    {
+        try
+        {
+            return super.refreshClientSecret(clientId, options);
+        }
+        finally
+        {
+            invalidateClients();
+        }
+    }
+
+
+    @Override
+    public ClientSecretRefreshResponse refreshClientSecret(String clientIdentifier, Options options) throws AuthleteApiException
+    {
+        try
+        {
+            return super.refreshClientSecret(clientIdentifier, options);
+        }
+        finally
+        {
+            invalidateClients();
+        }
+    }
+
+
+    @Override
+    public ClientSecretUpdateResponse updateClientSecret(long clientId, String clientSecret, Options options) throws AuthleteApiException
+    {
+        try
+        {
+            return super.updateClientSecret(clientId, clientSecret, options);
+        }
+        finally
+        {
+            invalidateClients();
+        }
+    }
+
+
+    @Override
+    public ClientSecretUpdateResponse updateClientSecret(String clientIdentifier, String clientSecret, Options options) throws AuthleteApiException
+    {
+        try
+        {
+            return super.updateClientSecret(clientIdentifier, clientSecret, options);
+        }
+        finally
+        {
+            invalidateClients();
+        }
+    }
+
+
+    @Override
+    public void updateClientLockFlag(String clientIdentifier, boolean clientLocked, Options options) throws AuthleteApiException
+    {
+        try
+        {
+            super.updateClientLockFlag(clientIdentifier, clientLocked, options);
+        }
+        finally
+        {
+            invalidateClients();
+        }
+    }
+
+
+    @Override
+    public String[] setRequestableScopes(long clientId, String[] scopes, Options options) throws AuthleteApiException
+    {
+        try
+        {
+            return super.setRequestableScopes(clientId, scopes, options);
+        }
+        finally
+        {
+            invalidateClients();
+        }
+    }
+
+
+    @Override
+    public void deleteRequestableScopes(long clientId, Options options) throws AuthleteApiException
+    {
+        try
+        {
+            super.deleteRequestableScopes(clientId, options);
+        }
+        finally
+        {
+            invalidateClients();
+        }
+    }
+
+
+    @Override
+    public ClientRegistrationResponse dynamicClientUpdate(ClientRegistrationRequest request, Options options) throws AuthleteApiException
+    {
+        try
+        {
+            return super.dynamicClientUpdate(request, options);
+        }
+        finally
+        {
+            invalidateClients();
+        }
+    }
+
+
+    @Override
+    public ClientRegistrationResponse dynamicClientDelete(ClientRegistrationRequest request, Options options) throws AuthleteApiException
+    {
+        try
+        {
+            return super.dynamicClientDelete(request, options);
+        }
+        finally
+        {
+            invalidateClients();
+        }
+    }
+
+
+    @Override
+    public Service updateService(Service service, Options options) throws AuthleteApiException
+    {
+        try
+        {
+            return super.updateService(service, options);
+        }
+        finally
+        {
+            if (service != null)
+            {
+                invalidateService(service.getApiKey());
+            }
+        }
+    }
+
+
+    @Override
+    public void deleteService(long apiKey, Options options) throws AuthleteApiException
+    {
+        try
+        {
+            super.deleteService(apiKey, options);
+        }
+        finally
+        {
+            invalidateService(apiKey);
+        }
+    }
+
+
+    /**
+     * Remove all the cached clients.
+     */
+    public void invalidateClients()
+    {
+        synchronized (mClientGeneration)
+        {
+            mClientGeneration.incrementAndGet();
+            mClients.clear();
+        }
+    }
+
+
+    /**
+     * Remove the cached service.
+     *
+     * @param apiKey
+     *         The API key of the service.
+     */
+    public void invalidateService(long apiKey)
+    {
+        synchronized (mServiceGeneration)
+        {
+            mServiceGeneration.incrementAndGet();
+            mServices.remove(apiKey);
+        }
+    }
+
+
+    /**
+     * Remove all the cached clients and services.
+     */
+    public void invalidateAll()
+    {
+        invalidateClients();
+
+        synchronized (mServiceGeneration)
+        {
+            mServiceGeneration.incrementAndGet();
+            mServices.clear();
+        }
+    }
+}
@@ -30,6 +30,7 @@ import java.util.Map;
 public class Options
 {
     Map<String, String> headers;
+    long timeout;
 
 
     /**
@@ -60,4 +61,65 @@ public class Options
 
         return this;
     }
+
+
+    /**
+     * Get the timeout of the API call in milliseconds.
+     *
+     * @return
+     *         The timeout in milliseconds. 0 means that the timeouts of
+     *         {@link Settings} are used alone.
+     *
+     * @since 4.47
+     */
+    public long getTimeout()
+    {
+        return timeout;
+    }
+
+
+    /**
+     * Set the timeout of the API call in milliseconds.
+     *
+     * <p>
+     * The timeout is a budget for the whole API call, covering connecting,
+     * sending the request and receiving the response, including retries
+     * and their backoff delays. Each attempt is given the remaining time
+     * as its connection timeout and read timeout unless the timeouts of
+     * {@link Settings} are shorter. A retry is not made if the budget
+     * would run out during its backoff delay; the result of the last
+     * attempt is reported instead. When an attempt runs out of the budget,
+     * the API call fails with an {@link AuthleteApiException} caused by a
+     * {@link java.net.SocketTimeoutException SocketTimeoutException}.
+     * </p>
+     *
+     * <p>
+     * This allows, for example, a short timeout for {@code introspection()}
+     * and a long one for {@code getTokenList()} with a single {@link
+     * AuthleteApi} instance.
+     * </p>
+     *
+     * @param timeout
+     *         The timeout in milliseconds. 0 means that the timeouts of
+     *         {@link Settings} are used alone.
+     *
+     * @return
+     *         {@code this} object.
+     *
+     * @throws IllegalArgumentException
+     *         The given value is negative.
+     *
+     * @since 4.47
+     */
+    public Options setTimeout(long timeout)
+    {
+        if (timeout < 0)
+        {
+            throw new IllegalArgumentException("timeout cannot be negative.");
+        }
+
+        this.timeout = timeout;
+
+        return this;
+    }
 }
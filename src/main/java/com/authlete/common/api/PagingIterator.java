@@ -0,0 +1,428 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import com.authlete.common.dto.AccessToken;
+import com.authlete.common.dto.Client;
+import com.authlete.common.dto.ClientListResponse;
+import com.authlete.common.dto.Service;
+import com.authlete.common.dto.ServiceListResponse;
+import com.authlete.common.dto.TokenListResponse;
+import com.authlete.common.types.TokenStatus;
+
+
+/**
+ * An iterator over the entries of a paginated list API, such as
+ * {@link AuthleteApi#getTokenList(String, String, int, int, TokenStatus)
+ * getTokenList}, {@link AuthleteApi#getClientList(String, int, int)
+ * getClientList} and {@link AuthleteApi#getServiceList(int, int)
+ * getServiceList}.
+ *
+ * <p>
+ * Pages are fetched lazily. After the first page, which tells the total
+ * number of entries, the next pages are prefetched concurrently. The
+ * number of pages fetched in advance is limited, so the memory usage is
+ * bounded by the page size multiplied by the number of prefetched pages
+ * plus one.
+ * </p>
+ *
+ * <pre style="border: 1px solid black; padding: 0.5em; margin: 0.5em;">
+ * <span style="color: green;">// Fetch 1000 tokens per page and up to 4 pages in advance.</span>
+ * try (Stream&lt;AccessToken&gt; tokens =
+ *         PagingIterator.ofTokens(api, null, null, TokenStatus.ALL, 1000, 4).stream())
+ * {
+ *     tokens.forEach(token -&gt; audit(token));
+ * }
+ * </pre>
+ *
+ * <p>
+ * Because pages are fetched at different moments, entries which are
+ * created or deleted during the iteration may be missed or returned
+ * twice. Instances of this class are not thread-safe.
+ * </p>
+ *
+ * @param <T>
+ *         The type of entries.
+ *
+ * @since 4.47
+ */
+public class PagingIterator<T> implements Iterator<T>, AutoCloseable
+{
+    /**
+     * A page of a list.
+     *
+     * @param <T>
+     *         The type of entries.
+     */
+    public static class Page<T>
+    {
+        private final T[] mEntries;
+        private final int mTotalCount;
+
+
+        /**
+         * Constructor.
+         *
+         * @param entries
+         *         The entries in the page. May be {@code null}.
+         *
+         * @param totalCount
+         *         The total number of entries in the list.
+         */
+        public Page(T[] entries, int totalCount)
+        {
+            mEntries    = entries;
+            mTotalCount = totalCount;
+        }
+
+
+        /**
+         * Get the entries in the page.
+         *
+         * @return
+         *         The entries in the page. May be {@code null}.
+         */
+        public T[] getEntries()
+        {
+            return mEntries;
+        }
+
+
+        /**
+         * Get the total number of entries in the list.
+         *
+         * @return
+         *         The total number of entries.
+         */
+        public int getTotalCount()
+        {
+            return mTotalCount;
+        }
+    }
+
+
+    /**
+     * A function which fetches a page of a list.
+     *
+     * @param <T>
+     *         The type of entries.
+     */
+    @FunctionalInterface
+    public interface PageFetcher<T>
+    {
+        /**
+         * Fetch a page.
+         *
+         * @param start
+         *         The start index (inclusive) of the page.
+         *
+         * @param end
+         *         The end index (exclusive) of the page.
+         *
+         * @return
+         *         The page.
+         *
+         * @throws AuthleteApiException
+         *         Failed to fetch the page.
+         */
+        Page<T> fetch(int start, int end) throws AuthleteApiException;
+    }
+
+
+    private final PageFetcher<T> mFetcher;
+    private final int mPageSize;
+    private final int mPrefetchPages;
+    private final Executor mExecutor;
+    private final Deque<CompletableFuture<Page<T>>> mPages = new ArrayDeque<>();
+    private T[] mEntries;
+    private int mIndex;
+    private int mNextStart;
+
+    // The total number of entries. -1 until the first page is fetched.
+    private int mTotalCount = -1;
+
+
+    /**
+     * Constructor.
+     *
+     * @param fetcher
+     *         The function which fetches a page.
+     *
+     * @param pageSize
+     *         The number of entries fetched by one API call.
+     *
+     * @param prefetchPages
+     *         The maximum number of pages fetched in advance. 0 means that
+     *         pages are fetched one by one when they are needed.
+     *
+     * @param executor
+     *         The executor which fetches pages in advance. If {@code null}
+     *         is given, a shared pool with a bounded number of daemon
+     *         threads is used.
+     */
+    public PagingIterator(PageFetcher<T> fetcher, int pageSize, int prefetchPages, Executor executor)
+    {
+        if (fetcher == null)
+        {
+            throw new IllegalArgumentException("fetcher is null.");
+        }
+
+        if (pageSize < 1)
+        {
+            throw new IllegalArgumentException("pageSize must be 1 or greater.");
+        }
+
+        if (prefetchPages < 0)
+        {
+            throw new IllegalArgumentException("prefetchPages cannot be negative.");
+        }
+
+        mFetcher       = fetcher;
+        mPageSize      = pageSize;
+        mPrefetchPages = prefetchPages;
+        mExecutor      = (executor != null) ? executor : DefaultExecutors.workers();
+    }
+
+
+    /**
+     * Create an iterator over access tokens.
+     *
+     * @param api
+     *         The {@link AuthleteApi} instance.
+     *
+     * @param clientIdentifier
+     *         The client ID or the client ID alias of the client whose
+     *         tokens are listed. May be {@code null}.
+     *
+     * @param subject
+     *         The subject of the resource owner whose tokens are listed.
+     *         May be {@code null}.
+     *
+     * @param tokenStatus
+     *         The status of the tokens. If {@code null} is given, {@link
+     *         TokenStatus#ALL} is used.
+     *
+     * @param pageSize
+     *         The number of tokens fetched by one API call.
+     *
+     * @param prefetchPages
+     *         The maximum number of pages fetched in advance.
+     *
+     * @return
+     *         An iterator over access tokens.
+     */
+    public static PagingIterator<AccessToken> ofTokens(
+            AuthleteApi api, String clientIdentifier, String subject, TokenStatus tokenStatus,
+            int pageSize, int prefetchPages)
+    {
+        TokenStatus status = (tokenStatus != null) ? tokenStatus : TokenStatus.ALL;
+
+        return new PagingIterator<>((start, end) -> {
+            TokenListResponse response = api.getTokenList(
+                    clientIdentifier, subject, start, end, status, null);
+            return new Page<>(response.getAccessTokens(), response.getTotalCount());
+        }, pageSize, prefetchPages, null);
+    }
+
+
+    /**
+     * Create an iterator over clients.
+     *
+     * @param api
+     *         The {@link AuthleteApi} instance.
+     *
+     * @param developer
+     *         The developer of the clients. May be {@code null}.
+     *
+     * @param pageSize
+     *         The number of clients fetched by one API call.
+     *
+     * @param prefetchPages
+     *         The maximum number of pages fetched in advance.
+     *
+     * @return
+     *         An iterator over clients.
+     */
+    public static PagingIterator<Client> ofClients(
+            AuthleteApi api, String developer, int pageSize, int prefetchPages)
+    {
+        return new PagingIterator<>((start, end) -> {
+            ClientListResponse response = api.getClientList(developer, start, end, null);
+            return new Page<>(response.getClients(), response.getTotalCount());
+        }, pageSize, prefetchPages, null);
+    }
+
+
+    /**
+     * Create an iterator over services.
+     *
+     * @param api
+     *         The {@link AuthleteApi} instance.
+     *
+     * @param pageSize
+     *         The number of services fetched by one API call.
+     *
+     * @param prefetchPages
+     *         The maximum number of pages fetched in advance.
+     *
+     * @return
+     *         An iterator over services.
+     */
+    public static PagingIterator<Service> ofServices(
+            AuthleteApi api, int pageSize, int prefetchPages)
+    {
+        return new PagingIterator<>((start, end) -> {
+            ServiceListResponse response = api.getServiceList(start, end, null);
+            return new Page<>(response.getServices(), response.getTotalCount());
+        }, pageSize, prefetchPages, null);
+    }
+
+
+    @Override
+    public boolean hasNext()
+    {
+        while (mEntries == null || mIndex >= mEntries.length)
+        {
+            if (mTotalCount < 0)
+            {
+                // The first page tells the total number of entries.
+                setPage(mFetcher.fetch(0, mPageSize));
+                mNextStart = mPageSize;
+                prefetch();
+                continue;
+            }
+
+            if (mPages.isEmpty())
+            {
+                if (mNextStart >= mTotalCount)
+                {
+                    return false;
+                }
+
+                // Prefetching is disabled.
+                setPage(fetch(mNextStart));
+                mNextStart += mPageSize;
+                continue;
+            }
+
+            setPage(await(mPages.poll()));
+            prefetch();
+        }
+
+        return true;
+    }
+
+
+    @Override
+    public T next()
+    {
+        if (!hasNext())
+        {
+            throw new NoSuchElementException();
+        }
+
+        return mEntries[mIndex++];
+    }
+
+
+    /**
+     * Get a sequential stream over the entries. Closing the stream closes
+     * this iterator.
+     *
+     * @return
+     *         A stream over the entries.
+     */
+    public Stream<T> stream()
+    {
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(this::close);
+    }
+
+
+    /**
+     * Discard pages fetched in advance. API calls in progress are not
+     * interrupted, but their results are discarded.
+     */
+    @Override
+    public void close()
+    {
+        for (CompletableFuture<Page<T>> page : mPages)
+        {
+            page.cancel(false);
+        }
+
+        mPages.clear();
+        mEntries    = null;
+        mTotalCount = 0;
+        mNextStart  = 0;
+    }
+
+
+    private void setPage(Page<T> page)
+    {
+        mEntries    = page.getEntries();
+        mIndex      = 0;
+        mTotalCount = page.getTotalCount();
+    }
+
+
+    private Page<T> fetch(int start)
+    {
+        return mFetcher.fetch(start, start + mPageSize);
+    }
+
+
+    private void prefetch()
+    {
+        while (mPages.size() < mPrefetchPages && mNextStart < mTotalCount)
+        {
+            int start = mNextStart;
+            mPages.add(CompletableFuture.supplyAsync(() -> fetch(start), mExecutor));
+            mNextStart += mPageSize;
+        }
+    }
+
+
+    private static <T> Page<T> await(CompletableFuture<Page<T>> page)
+    {
+        try
+        {
+            return page.join();
+        }
+        catch (CompletionException e)
+        {
+            if (e.getCause() instanceof RuntimeException)
+            {
+                throw (RuntimeException)e.getCause();
+            }
+
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+/**
+ * Utility to convert API paths into path templates.
+ *
+ * <p>
+ * A path template is an API path whose variable segments (service IDs,
+ * client IDs, client aliases, token identifiers and so on) are replaced
+ * with {@code "{}"}. For example, {@code "/api/1234/client/get/my-alias"}
+ * is converted into {@code "/api/{}/client/get/{}"}. Path templates
+ * identify API operations regardless of their arguments.
+ * </p>
+ */
+final class PathTemplates
+{
+    /** The placeholder of a variable segment. */
+    static final String PLACEHOLDER = "{}";
+
+
+    /**
+     * Suffixes of path templates of POST APIs which do not change any state
+     * on the server side.
+     */
+    private static final String[] READ_ONLY_POST_APIS = {
+        "/auth/authorization/ticket/info",
+        "/auth/introspection",
+        "/auth/introspection/standard",
+        "/client/registration/get",
+        "/federation/configuration",
+        "/jose/verify",
+        "/service/configuration",
+        "/vci/jwks",
+        "/vci/jwtissuer",
+        "/vci/metadata",
+        "/vci/offer/info",
+    };
+
+
+    private PathTemplates()
+    {
+    }
+
+
+    /**
+     * Convert an API path into a path template.
+     *
+     * @param path
+     *         An API path such as {@code "/api/1234/auth/token/delete/abc"}.
+     *         Query parameters must not be included.
+     *
+     * @return
+     *         The path template such as {@code "/api/{}/auth/token/delete/{}"}.
+     */
+    static String of(String path)
+    {
+        if (path == null)
+        {
+            return null;
+        }
+
+        String[] segments = path.split("/", -1);
+        StringBuilder sb  = new StringBuilder(path.length());
+
+        for (int i = 0; i < segments.length; i++)
+        {
+            if (i != 0)
+            {
+                sb.append('/');
+            }
+
+            if (isVariable(segments, i))
+            {
+                sb.append(PLACEHOLDER);
+            }
+            else
+            {
+                sb.append(segments[i]);
+            }
+        }
+
+        return sb.toString();
+    }
+
+
+    /**
+     * Check whether an API call does not change any state on the server
+     * side. {@code GET} requests and {@code POST} requests to some APIs
+     * such as the introspection API are read-only.
+     *
+     * @param method
+     *         The HTTP method.
+     *
+     * @param pathTemplate
+     *         The path template of the API.
+     *
+     * @return
+     *         {@code true} if the API call is read-only.
+     */
+    static boolean isReadOnly(String method, String pathTemplate)
+    {
+        if ("GET".equals(method))
+        {
+            return true;
+        }
+
+        if (!"POST".equals(method) || pathTemplate == null)
+        {
+            return false;
+        }
+
+        for (String api : READ_ONLY_POST_APIS)
+        {
+            if (pathTemplate.endsWith(api))
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+
+    private static boolean isVariable(String[] segments, int index)
+    {
+        String segment = segments[index];
+
+        if (segment.isEmpty())
+        {
+            return false;
+        }
+
+        // Numeric segments such as service IDs and client IDs.
+        if (isNumeric(segment))
+        {
+            return true;
+        }
+
+        // The last segment following a verb is an identifier such as
+        // a client alias or a token, e.g. "/client/get/{alias}", except
+        // "list" in "/get/list".
+        return index == segments.length - 1 && index > 0
+                && isVerb(segments[index - 1]) && !segment.equals("list");
+    }
+
+
+    private static boolean isNumeric(String segment)
+    {
+        for (int i = 0; i < segment.length(); i++)
+        {
+            if (!Character.isDigit(segment.charAt(i)))
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+
+    private static boolean isVerb(String segment)
+    {
+        switch (segment)
+        {
+            case "delete":
+            case "get":
+            case "refresh":
+            case "status":
+            case "update":
+                return true;
+
+            default:
+                return false;
+        }
+    }
+}
@@ -0,0 +1,509 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+
+/**
+ * Policy of retrying failed API calls.
+ *
+ * <p>
+ * A failed API call is retried when all of the following conditions are
+ * satisfied.
+ * </p>
+ *
+ * <ol>
+ * <li>The number of attempts has not reached {@link #getMaxAttempts()}.
+ * <li>The failure is retryable. A failure to establish a connection
+ *     ({@link java.net.ConnectException ConnectException}) is retryable
+ *     for any API call because the request has not reached the server.
+ *     Other I/O errors and responses whose status code is contained in
+ *     {@link #getRetryableStatusCodes()} are retryable only when the API
+ *     call is {@linkplain #isIdempotent(String, String) idempotent}.
+ * <li>The retry budget is not exhausted. Every API call adds {@link
+ *     #getRetryBudgetRatio()} tokens to the budget (up to {@link
+ *     #getRetryBudgetCapacity()}) and every retry consumes one token.
+ *     The budget is shared by all API calls made through the same {@link
+ *     AuthleteApi} instance, so retries cannot amplify the load on the
+ *     server by more than the ratio while the server is failing.
+ * </ol>
+ *
+ * <p>
+ * The delay before the n-th retry is {@code min(maxBackoff, initialBackoff
+ * * backoffMultiplier^(n-1))} reduced randomly by up to {@code jitter *
+ * 100} percent. When a response has a {@code Retry-After} header with
+ * delay seconds, the delay is at least the specified value. If the value
+ * exceeds {@link #getMaxBackoff()}, the API call is not retried.
+ * </p>
+ *
+ * <pre style="border: 1px solid black; padding: 0.5em; margin: 0.5em;">
+ * api.getSettings().setRetryPolicy(
+ *     new RetryPolicy().setMaxAttempts(3).setInitialBackoff(200));
+ * </pre>
+ *
+ * @since 4.47
+ *
+ * @see Settings#setRetryPolicy(RetryPolicy)
+ */
+public class RetryPolicy
+{
+    /**
+     * Classifier of API calls which tells whether an API call can be
+     * sent again safely.
+     */
+    public interface IdempotencyClassifier
+    {
+        /**
+         * Check whether an API call is idempotent.
+         *
+         * @param method
+         *         The HTTP method such as {@code "GET"} and {@code "POST"}.
+         *
+         * @param pathTemplate
+         *         The path of the API whose variable segments are replaced
+         *         with {@code "{}"}, e.g. {@code "/api/{}/client/get/{}"}.
+         *
+         * @return
+         *         {@code true} if the API call can be sent again safely.
+         */
+        boolean isIdempotent(String method, String pathTemplate);
+    }
+
+
+    private int maxAttempts = 3;
+    private long initialBackoff = 100;
+    private long maxBackoff = 5000;
+    private double backoffMultiplier = 2.0;
+    private double jitter = 1.0;
+    private Set<Integer> retryableStatusCodes =
+            Collections.unmodifiableSet(new HashSet<>(Arrays.asList(429, 502, 503, 504)));
+    private double retryBudgetRatio = 0.1;
+    private double retryBudgetCapacity = 10;
+    private IdempotencyClassifier idempotencyClassifier;
+
+
+    /**
+     * Get the maximum number of attempts including the first one.
+     * The default value is 3.
+     *
+     * @return
+     *         The maximum number of attempts.
+     */
+    public int getMaxAttempts()
+    {
+        return maxAttempts;
+    }
+
+
+    /**
+     * Set the maximum number of attempts including the first one.
+     * 1 means that API calls are never retried.
+     *
+     * @param attempts
+     *         The maximum number of attempts. Must be 1 or greater.
+     *
+     * @return
+     *         {@code this} object.
+     *
+     * @throws IllegalArgumentException
+     *         The given value is less than 1.
+     */
+    public RetryPolicy setMaxAttempts(int attempts)
+    {
+        if (attempts < 1)
+        {
+            throw new IllegalArgumentException("attempts must be 1 or greater.");
+        }
+
+        this.maxAttempts = attempts;
+
+        return this;
+    }
+
+
+    /**
+     * Get the delay in milliseconds before the first retry.
+     * The default value is 100.
+     *
+     * @return
+     *         The initial backoff in milliseconds.
+     */
+    public long getInitialBackoff()
+    {
+        return initialBackoff;
+    }
+
+
+    /**
+     * Set the delay in milliseconds before the first retry.
+     *
+     * @param backoff
+     *         The initial backoff in milliseconds.
+     *
+     * @return
+     *         {@code this} object.
+     *
+     * @throws IllegalArgumentException
+     *         The given value is negative.
+     */
+    public RetryPolicy setInitialBackoff(long backoff)
+    {
+        if (backoff < 0)
+        {
+            throw new IllegalArgumentException("backoff cannot be negative.");
+        }
+
+        this.initialBackoff = backoff;
+
+        return this;
+    }
+
+
+    /**
+     * Get the upper limit in milliseconds of the delay before a retry.
+     * The default value is 5000.
+     *
+     * @return
+     *         The maximum backoff in milliseconds.
+     */
+    public long getMaxBackoff()
+    {
+        return maxBackoff;
+    }
+
+
+    /**
+     * Set the upper limit in milliseconds of the delay before a retry.
+     *
+     * @param backoff
+     *         The maximum backoff in milliseconds.
+     *
+     * @return
+     *         {@code this} object.
+     *
+     * @throws IllegalArgumentException
+     *         The given value is negative.
+     */
+    public RetryPolicy setMaxBackoff(long backoff)
+    {
+        if (backoff < 0)
+        {
+            throw new IllegalArgumentException("backoff cannot be negative.");
+        }
+
+        this.maxBackoff = backoff;
+
+        return this;
+    }
+
+
+    /**
+     * Get the multiplier applied to the delay after each retry.
+     * The default value is 2.0.
+     *
+     * @return
+     *         The backoff multiplier.
+     */
+    public double getBackoffMultiplier()
+    {
+        return backoffMultiplier;
+    }
+
+
+    /**
+     * Set the multiplier applied to the delay after each retry.
+     *
+     * @param multiplier
+     *         The backoff multiplier. Must be 1.0 or greater.
+     *
+     * @return
+     *         {@code this} object.
+     *
+     * @throws IllegalArgumentException
+     *         The given value is less than 1.0.
+     */
+    public RetryPolicy setBackoffMultiplier(double multiplier)
+    {
+        if (!(multiplier >= 1.0))
+        {
+            throw new IllegalArgumentException("multiplier must be 1.0 or greater.");
+        }
+
+        this.backoffMultiplier = multiplier;
+
+        return this;
+    }
+
+
+    /**
+     * Get the jitter factor. The default value is 1.0, which means that
+     * the delay is chosen randomly between 0 and the computed backoff
+     * ("full jitter").
+     *
+     * @return
+     *         The jitter factor between 0.0 and 1.0.
+     */
+    public double getJitter()
+    {
+        return jitter;
+    }
+
+
+    /**
+     * Set the jitter factor. The computed backoff is reduced randomly by
+     * up to {@code jitter * 100} percent so that clients which failed at
+     * the same time do not retry at the same time.
+     *
+     * @param jitter
+     *         The jitter factor between 0.0 (no jitter) and 1.0.
+     *
+     * @return
+     *         {@code this} object.
+     *
+     * @throws IllegalArgumentException
+     *         The given value is out of the range.
+     */
+    public RetryPolicy setJitter(double jitter)
+    {
+        if (!(0.0 <= jitter && jitter <= 1.0))
+        {
+            throw new IllegalArgumentException("jitter must be between 0.0 and 1.0.");
+        }
+
+        this.jitter = jitter;
+
+        return this;
+    }
+
+
+    /**
+     * Get the HTTP status codes which are regarded as transient errors.
+     * The default set contains 429, 502, 503 and 504.
+     *
+     * @return
+     *         The retryable status codes.
+     */
+    public Set<Integer> getRetryableStatusCodes()
+    {
+        return retryableStatusCodes;
+    }
+
+
+    /**
+     * Set the HTTP status codes which are regarded as transient errors.
+     *
+     * @param statusCodes
+     *         The retryable status codes. {@code null} means an empty set.
+     *
+     * @return
+     *         {@code this} object.
+     */
+    public RetryPolicy setRetryableStatusCodes(Set<Integer> statusCodes)
+    {
+        this.retryableStatusCodes = (statusCodes == null)
+                ? Collections.<Integer>emptySet()
+                : Collections.unmodifiableSet(new HashSet<>(statusCodes));
+
+        return this;
+    }
+
+
+    /**
+     * Get the number of retry tokens added to the retry budget by every
+     * API call. The default value is 0.1, which allows retries to add at
+     * most 10 percent to the load in a steady state.
+     *
+     * @return
+     *         The retry budget ratio.
+     */
+    public double getRetryBudgetRatio()
+    {
+        return retryBudgetRatio;
+    }
+
+
+    /**
+     * Set the number of retry tokens added to the retry budget by every
+     * API call.
+     *
+     * @param ratio
+     *         The retry budget ratio. Must not be negative.
+     *
+     * @return
+     *         {@code this} object.
+     *
+     * @throws IllegalArgumentException
+     *         The given value is negative.
+     */
+    public RetryPolicy setRetryBudgetRatio(double ratio)
+    {
+        if (!(ratio >= 0.0))
+        {
+            throw new IllegalArgumentException("ratio cannot be negative.");
+        }
+
+        this.retryBudgetRatio = ratio;
+
+        return this;
+    }
+
+
+    /**
+     * Get the maximum number of retry tokens which the retry budget can
+     * hold. The budget is full initially. The default value is 10.
+     *
+     * @return
+     *         The capacity of the retry budget.
+     */
+    public double getRetryBudgetCapacity()
+    {
+        return retryBudgetCapacity;
+    }
+
+
+    /**
+     * Set the maximum number of retry tokens which the retry budget can
+     * hold.
+     *
+     * @param capacity
+     *         The capacity of the retry budget. Must not be negative.
+     *
+     * @return
+     *         {@code this} object.
+     *
+     * @throws IllegalArgumentException
+     *         The given value is negative.
+     */
+    public RetryPolicy setRetryBudgetCapacity(double capacity)
+    {
+        if (!(capacity >= 0.0))
+        {
+            throw new IllegalArgumentException("capacity cannot be negative.");
+        }
+
+        this.retryBudgetCapacity = capacity;
+
+        return this;
+    }
+
+
+    /**
+     * Get the custom classifier of API calls.
+     *
+     * @return
+     *         The custom classifier. {@code null} if the default
+     *         classification ({@link #isIdempotentByDefault(String, String)})
+     *         is used.
+     */
+    public IdempotencyClassifier getIdempotencyClassifier()
+    {
+        return idempotencyClassifier;
+    }
+
+
+    /**
+     * Set a custom classifier of API calls. A custom classifier can
+     * delegate to {@link #isIdempotentByDefault(String, String)} for API
+     * calls it does not have special knowledge about.
+     *
+     * @param classifier
+     *         The custom classifier. {@code null} to use the default
+     *         classification.
+     *
+     * @return
+     *         {@code this} object.
+     */
+    public RetryPolicy setIdempotencyClassifier(IdempotencyClassifier classifier)
+    {
+        this.idempotencyClassifier = classifier;
+
+        return this;
+    }
+
+
+    /**
+     * Check whether an API call is idempotent according to this policy.
+     *
+     * @param method
+     *         The HTTP method.
+     *
+     * @param pathTemplate
+     *         The path template of the API.
+     *
+     * @return
+     *         {@code true} if the API call can be sent again safely.
+     */
+    public boolean isIdempotent(String method, String pathTemplate)
+    {
+        if (idempotencyClassifier != null)
+        {
+            return idempotencyClassifier.isIdempotent(method, pathTemplate);
+        }
+
+        return isIdempotentByDefault(method, pathTemplate);
+    }
+
+
+    /**
+     * The default classification of API calls.
+     *
+     * <p>
+     * {@code GET} and {@code DELETE} requests are idempotent. {@code POST}
+     * requests are idempotent only when the API does not change any state
+     * on the server side, e.g. the introspection API and the JOSE
+     * verification API. APIs which issue or create something such as the
+     * token creation API are never regarded as idempotent.
+     * </p>
+     *
+     * @param method
+     *         The HTTP method.
+     *
+     * @param pathTemplate
+     *         The path template of the API.
+     *
+     * @return
+     *         {@code true} if the API call can be sent again safely.
+     */
+    public static boolean isIdempotentByDefault(String method, String pathTemplate)
+    {
+        return "DELETE".equals(method) || PathTemplates.isReadOnly(method, pathTemplate);
+    }
+
+
+    /**
+     * Compute the delay before a retry.
+     *
+     * @param retry
+     *         The sequence number of the retry. 1 for the first retry.
+     *
+     * @return
+     *         The delay in milliseconds.
+     */
+    public long computeBackoff(int retry)
+    {
+        double backoff = initialBackoff * Math.pow(backoffMultiplier, Math.max(retry - 1, 0));
+        double capped  = Math.min(backoff, maxBackoff);
+
+        // Reduce the delay randomly by up to (jitter * 100) percent.
+        return (long)(capped * (1.0 - jitter * ThreadLocalRandom.current().nextDouble()));
+    }
+}
@@ -17,6 +17,10 @@
 package com.authlete.common.api;
 
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Settings of {@link AuthleteApi} implementation.
  *
@@ -28,6 +32,19 @@ public class Settings
 {
     private int connectionTimeout;
     private int readTimeout;
+    private HttpTransport httpTransport;
+    private boolean requestBodyStreamingEnabled;
+    private boolean responseCompressionEnabled;
+    private int requestCompressionThreshold = -1;
+    private RetryPolicy retryPolicy;
+    private CircuitBreakerPolicy circuitBreakerPolicy;
+    private ConcurrencyLimitPolicy concurrencyLimitPolicy;
+    private int maxConcurrentCallsPerApi;
+    private boolean requestCoalescingEnabled;
+    private int dpopProofPoolSize;
+    private long dpopProofMaxAge = 10000;
+    private ApiCallListener apiCallListener;
+    private List<ApiInterceptor> apiInterceptors = Collections.emptyList();
 
 
     /**
@@ -130,4 +147,678 @@ public class Settings
 
         return this;
     }
+
+
+    /**
+     * Get the HTTP transport used to communicate with Authlete APIs.
+     *
+     * @return
+     *         The HTTP transport. {@code null} if the default transport
+     *         ({@link HttpUrlConnectionTransport}) is used.
+     *
+     * @since 4.47
+     */
+    public HttpTransport getHttpTransport()
+    {
+        return httpTransport;
+    }
+
+
+    /**
+     * Set the HTTP transport used to communicate with Authlete APIs.
+     *
+     * <p>
+     * This setting is used by the {@link AuthleteApi} implementations
+     * included in this library. Other implementations such as the ones
+     * in <a href="https://github.com/authlete/authlete-java-jaxrs"
+     * >authlete-java-jaxrs</a> have their own HTTP client and ignore
+     * this setting.
+     * </p>
+     *
+     * @param transport
+     *         The HTTP transport. {@code null} to use the default transport
+     *         ({@link HttpUrlConnectionTransport}).
+     *
+     * @return
+     *         {@code this} object.
+     *
+     * @since 4.47
+     */
+    public Settings setHttpTransport(HttpTransport transport)
+    {
+        this.httpTransport = transport;
+
+        return this;
+    }
+
+
+    /**
+     * Check whether request bodies are streamed.
+     *
+     * @return
+     *         {@code true} if request bodies are serialized directly into
+     *         the connection.
+     *
+     * @since 4.47
+     *
+     * @see #setRequestBodyStreamingEnabled(boolean)
+     */
+    public boolean isRequestBodyStreamingEnabled()
+    {
+        return requestBodyStreamingEnabled;
+    }
+
+
+    /**
+     * Enable or disable streaming of request bodies.
+     *
+     * <p>
+     * By default, a request body is converted into a JSON string and then
+     * into a byte array before being sent. When streaming is enabled, the
+     * JSON is written directly into the connection as UTF-8 and is sent with
+     * chunked transfer encoding. This reduces the memory footprint of large
+     * requests such as the ones of {@link AuthleteApi#updateService(com.authlete.common.dto.Service)
+     * updateService} and {@link AuthleteApi#tokenCreateBatch(com.authlete.common.dto.TokenCreateRequest[], boolean)
+     * tokenCreateBatch}.
+     * </p>
+     *
+     * <p>
+     * This setting is used by the {@link AuthleteApi} implementations
+     * included in this library.
+     * </p>
+     *
+     * @param enabled
+     *         {@code true} to stream request bodies.
+     *
+     * @return
+     *         {@code this} object.
+     *
+     * @since 4.47
+     */
+    public Settings setRequestBodyStreamingEnabled(boolean enabled)
+    {
+        this.requestBodyStreamingEnabled = enabled;
+
+        return this;
+    }
+
+
+    /**
+     * Check whether compressed responses are requested.
+     *
+     * @return
+     *         {@code true} if compressed responses are requested.
+     *
+     * @since 4.47
+     *
+     * @see #setResponseCompressionEnabled(boolean)
+     */
+    public boolean isResponseCompressionEnabled()
+    {
+        return responseCompressionEnabled;
+    }
+
+
+    /**
+     * Enable or disable compression of responses.
+     *
+     * <p>
+     * When enabled, API requests include {@code Accept-Encoding: gzip,
+     * deflate}. Responses with {@code Content-Encoding: gzip} or {@code
+     * deflate} are decompressed transparently regardless of this setting.
+     * </p>
+     *
+     * <p>
+     * This setting is used by the {@link AuthleteApi} implementations
+     * included in this library.
+     * </p>
+     *
+     * @param enabled
+     *         {@code true} to request compressed responses.
+     *
+     * @return
+     *         {@code this} object.
+     *
+     * @since 4.47
+     */
+    public Settings setResponseCompressionEnabled(boolean enabled)
+    {
+        this.responseCompressionEnabled = enabled;
+
+        return this;
+    }
+
+
+    /**
+     * Get the minimum size in bytes of request bodies to be compressed.
+     * The default value is -1, which means that request bodies are never
+     * compressed.
+     *
+     * @return
+     *         The threshold in bytes. A negative value means that
+     *         compression of request bodies is disabled.
+     *
+     * @since 4.47
+     */
+    public int getRequestCompressionThreshold()
+    {
+        return requestCompressionThreshold;
+    }
+
+
+    /**
+     * Set the minimum size in bytes of request bodies to be compressed.
+     *
+     * <p>
+     * A request body whose JSON representation is equal to or larger than
+     * the threshold is compressed with gzip and sent with {@code
+     * Content-Encoding: gzip}. A negative value disables compression of
+     * request bodies. When {@linkplain #setRequestBodyStreamingEnabled(boolean)
+     * request body streaming} is enabled, the size of a request body is not
+     * known in advance, so any non-negative threshold makes all request
+     * bodies compressed.
+     * </p>
+     *
+     * <p>
+     * This setting is used by the {@link AuthleteApi} implementations
+     * included in this library.
+     * </p>
+     *
+     * @param threshold
+     *         The threshold in bytes. A negative value disables compression.
+     *
+     * @return
+     *         {@code this} object.
+     *
+     * @since 4.47
+     */
+    public Settings setRequestCompressionThreshold(int threshold)
+    {
+        this.requestCompressionThreshold = threshold;
+
+        return this;
+    }
+
+
+    /**
+     * Get the policy of retrying failed API calls.
+     *
+     * @return
+     *         The retry policy. {@code null} if failed API calls are not
+     *         retried.
+     *
+     * @since 4.47
+     */
+    public RetryPolicy getRetryPolicy()
+    {
+        return retryPolicy;
+    }
+
+
+    /**
+     * Set the policy of retrying failed API calls. By default, failed API
+     * calls are not retried.
+     *
+     * <p>
+     * This setting is used by the {@link AuthleteApi} implementations
+     * included in this library.
+     * </p>
+     *
+     * @param policy
+     *         The retry policy. {@code null} to disable retries.
+     *
+     * @return
+     *         {@code this} object.
+     *
+     * @since 4.47
+     */
+    public Settings setRetryPolicy(RetryPolicy policy)
+    {
+        this.retryPolicy = policy;
+
+        return this;
+    }
+
+
+    /**
+     * Get the policy of circuit breakers.
+     *
+     * @return
+     *         The circuit breaker policy. {@code null} if circuit breakers
+     *         are disabled.
+     *
+     * @since 4.47
+     */
+    public CircuitBreakerPolicy getCircuitBreakerPolicy()
+    {
+        return circuitBreakerPolicy;
+    }
+
+
+    /**
+     * Set the policy of circuit breakers. By default, circuit breakers are
+     * disabled.
+     *
+     * <p>
+     * This setting is used by the {@link AuthleteApi} implementations
+     * included in this library. The states of the circuit breakers are
+     * available through {@link AuthleteApiBasicImpl#getCircuitBreakerStates()}.
+     * </p>
+     *
+     * @param policy
+     *         The circuit breaker policy. {@code null} to disable circuit
+     *         breakers.
+     *
+     * @return
+     *         {@code this} object.
+     *
+     * @since 4.47
+     */
+    public Settings setCircuitBreakerPolicy(CircuitBreakerPolicy policy)
+    {
+        this.circuitBreakerPolicy = policy;
+
+        return this;
+    }
+
+
+    /**
+     * Get the maximum number of concurrent calls of each API.
+     * The default value is 0, which means unlimited.
+     *
+     * @return
+     *         The maximum number of concurrent calls of each API.
+     *
+     * @since 4.47
+     */
+    public int getMaxConcurrentCallsPerApi()
+    {
+        return maxConcurrentCallsPerApi;
+    }
+
+
+    /**
+     * Set the maximum number of concurrent calls of each API.
+     *
+     * <p>
+     * Calls of an API beyond the limit fail immediately with {@link
+     * AuthleteApiBulkheadFullException}. APIs are distinguished by their
+     * path templates, so a slow API cannot occupy all the threads which
+     * call other APIs.
+     * </p>
+     *
+     * <p>
+     * This setting is used by the {@link AuthleteApi} implementations
+     * included in this library.
+     * </p>
+     *
+     * @param calls
+     *         The maximum number of concurrent calls of each API. 0 means
+     *         unlimited.
+     *
+     * @return
+     *         {@code this} object.
+     *
+     * @throws IllegalArgumentException
+     *         The given value is negative.
+     *
+     * @since 4.47
+     */
+    public Settings setMaxConcurrentCallsPerApi(int calls)
+    {
+        if (calls < 0)
+        {
+            throw new IllegalArgumentException("calls cannot be negative.");
+        }
+
+        this.maxConcurrentCallsPerApi = calls;
+
+        return this;
+    }
+
+
+    /**
+     * Get the policy of the adaptive limit of concurrent calls.
+     *
+     * @return
+     *         The policy. {@code null} if the limit is disabled.
+     *
+     * @since 4.47
+     */
+    public ConcurrencyLimitPolicy getConcurrencyLimitPolicy()
+    {
+        return concurrencyLimitPolicy;
+    }
+
+
+    /**
+     * Set the policy of the adaptive limit of concurrent calls.
+     *
+     * <p>
+     * The limit caps the number of calls in flight across all APIs and
+     * adapts itself to the observed round-trip times. Calls beyond the
+     * limit fail with {@link AuthleteApiConcurrencyLimitException}. See
+     * {@link ConcurrencyLimitPolicy} for details. The default value is
+     * {@code null}, which disables the limit.
+     * </p>
+     *
+     * <p>
+     * This setting is used by the {@link AuthleteApi} implementations
+     * included in this library.
+     * </p>
+     *
+     * @param policy
+     *         The policy. {@code null} to disable the limit.
+     *
+     * @return
+     *         {@code this} object.
+     *
+     * @since 4.47
+     */
+    public Settings setConcurrencyLimitPolicy(ConcurrencyLimitPolicy policy)
+    {
+        this.concurrencyLimitPolicy = policy;
+
+        return this;
+    }
+
+
+    /**
+     * Get the flag indicating whether identical concurrent GET calls are
+     * coalesced. The default value is {@code false}.
+     *
+     * @return
+     *         {@code true} if identical concurrent GET calls are coalesced.
+     *
+     * @since 4.47
+     */
+    public boolean isRequestCoalescingEnabled()
+    {
+        return requestCoalescingEnabled;
+    }
+
+
+    /**
+     * Set the flag indicating whether identical concurrent GET calls are
+     * coalesced.
+     *
+     * <p>
+     * When this flag is on, a GET call made while an identical call is in
+     * flight does not send a request. Instead, it waits for the in-flight
+     * call and returns the same response instance (or throws the same
+     * exception). Calls are identical when they have the same path, query
+     * parameters, credentials, response class and additional headers.
+     * This prevents bursts of identical requests, for example, when many
+     * threads miss an application-level cache of service metadata at the
+     * same moment.
+     * </p>
+     *
+     * <p>
+     * Because a response instance may be shared by multiple callers,
+     * callers must not modify it.
+     * </p>
+     *
+     * <p>
+     * Calls are coalesced after the {@linkplain #getApiInterceptors()
+     * interceptors}, so the interceptors of every call run, and the
+     * headers and parameters they set decide whether calls are identical.
+     * </p>
+     *
+     * <p>
+     * This setting is used by the {@link AuthleteApi} implementations
+     * included in this library.
+     * </p>
+     *
+     * @param enabled
+     *         {@code true} to coalesce identical concurrent GET calls.
+     *
+     * @return
+     *         {@code this} object.
+     *
+     * @since 4.47
+     */
+    public Settings setRequestCoalescingEnabled(boolean enabled)
+    {
+        this.requestCoalescingEnabled = enabled;
+
+        return this;
+    }
+
+
+    /**
+     * Get the number of DPoP proofs which are signed in advance for each
+     * pair of HTTP method and URL. The default value is 0, which means
+     * that DPoP proofs are signed when requests are sent.
+     *
+     * @return
+     *         The number of DPoP proofs signed in advance.
+     *
+     * @since 4.47
+     */
+    public int getDpopProofPoolSize()
+    {
+        return dpopProofPoolSize;
+    }
+
+
+    /**
+     * Set the number of DPoP proofs which are signed in advance for each
+     * pair of HTTP method and URL.
+     *
+     * <p>
+     * When a positive number is set, DPoP proofs for Authlete API calls
+     * are signed by background threads and kept in a pool for each pair
+     * of HTTP method and URL, so the calling thread does not have to sign
+     * them. Pooled proofs older than {@link #getDpopProofMaxAge()} are
+     * discarded. The pool for a pair is created when the pair is used for
+     * the first time.
+     * </p>
+     *
+     * <p>
+     * This setting is used by the {@link AuthleteApi} implementations
+     * included in this library when a DPoP key is configured.
+     * </p>
+     *
+     * @param size
+     *         The number of DPoP proofs signed in advance. 0 disables
+     *         pre-signing.
+     *
+     * @return
+     *         {@code this} object.
+     *
+     * @throws IllegalArgumentException
+     *         The given value is negative.
+     *
+     * @since 4.47
+     */
+    public Settings setDpopProofPoolSize(int size)
+    {
+        if (size < 0)
+        {
+            throw new IllegalArgumentException("size cannot be negative.");
+        }
+
+        this.dpopProofPoolSize = size;
+
+        return this;
+    }
+
+
+    /**
+     * Get the maximum age of DPoP proofs signed in advance in milliseconds.
+     * The default value is 10,000 (10 seconds).
+     *
+     * @return
+     *         The maximum age of DPoP proofs signed in advance.
+     *
+     * @since 4.47
+     */
+    public long getDpopProofMaxAge()
+    {
+        return dpopProofMaxAge;
+    }
+
+
+    /**
+     * Set the maximum age of DPoP proofs signed in advance in milliseconds.
+     *
+     * <p>
+     * The value should be smaller than the clock skew of the {@code iat}
+     * claim accepted by the Authlete server.
+     * </p>
+     *
+     * @param maxAge
+     *         The maximum age of DPoP proofs signed in advance.
+     *
+     * @return
+     *         {@code this} object.
+     *
+     * @throws IllegalArgumentException
+     *         The given value is negative.
+     *
+     * @since 4.47
+     */
+    public Settings setDpopProofMaxAge(long maxAge)
+    {
+        if (maxAge < 0)
+        {
+            throw new IllegalArgumentException("maxAge cannot be negative.");
+        }
+
+        this.dpopProofMaxAge = maxAge;
+
+        return this;
+    }
+
+
+    /**
+     * Get the listener of API calls.
+     *
+     * @return
+     *         The listener of API calls. {@code null} if not set.
+     *
+     * @since 4.47
+     */
+    public ApiCallListener getApiCallListener()
+    {
+        return apiCallListener;
+    }
+
+
+    /**
+     * Set the listener of API calls.
+     *
+     * <p>
+     * The listener is notified of every API call with its timings, byte
+     * counts and outcome. {@link ApiCallMetrics} is a built-in listener
+     * which aggregates them. The default value is {@code null}.
+     * </p>
+     *
+     * <p>
+     * This setting is used by the {@link AuthleteApi} implementations
+     * included in this library.
+     * </p>
+     *
+     * @param listener
+     *         The listener of API calls. {@code null} to disable.
+     *
+     * @return
+     *         {@code this} object.
+     *
+     * @since 4.47
+     */
+    public Settings setApiCallListener(ApiCallListener listener)
+    {
+        this.apiCallListener = listener;
+
+        return this;
+    }
+
+
+    /**
+     * Get the interceptors of API calls.
+     *
+     * @return
+     *         The unmodifiable list of interceptors. Empty if not set.
+     *
+     * @since 4.47
+     */
+    public List<ApiInterceptor> getApiInterceptors()
+    {
+        return apiInterceptors;
+    }
+
+
+    /**
+     * Set the interceptors of API calls.
+     *
+     * <p>
+     * The interceptors form a chain around every API call in the given
+     * order, i.e. the first interceptor is the outermost one. See {@link
+     * ApiInterceptor} for details. The default value is an empty list.
+     * </p>
+     *
+     * <p>
+     * This setting is used by the {@link AuthleteApi} implementations
+     * included in this library.
+     * </p>
+     *
+     * @param interceptors
+     *         The interceptors of API calls. {@code null} is regarded as
+     *         an empty list.
+     *
+     * @return
+     *         {@code this} object.
+     *
+     * @throws IllegalArgumentException
+     *         The list contains {@code null}.
+     *
+     * @since 4.47
+     */
+    public Settings setApiInterceptors(List<ApiInterceptor> interceptors)
+    {
+        if (interceptors == null)
+        {
+            this.apiInterceptors = Collections.emptyList();
+
+            return this;
+        }
+
+        if (interceptors.contains(null))
+        {
+            throw new IllegalArgumentException("interceptors contains null.");
+        }
+
+        this.apiInterceptors = Collections.unmodifiableList(new ArrayList<>(interceptors));
+
+        return this;
+    }
+
+
+    /**
+     * Add an interceptor of API calls to the end of the chain.
+     *
+     * @param interceptor
+     *         An interceptor of API calls.
+     *
+     * @return
+     *         {@code this} object.
+     *
+     * @throws IllegalArgumentException
+     *         {@code interceptor} is {@code null}.
+     *
+     * @since 4.47
+     */
+    public Settings addApiInterceptor(ApiInterceptor interceptor)
+    {
+        if (interceptor == null)
+        {
+            throw new IllegalArgumentException("interceptor is null.");
+        }
+
+        List<ApiInterceptor> list = new ArrayList<>(apiInterceptors);
+        list.add(interceptor);
+
+        return setApiInterceptors(list);
+    }
 }
@@ -0,0 +1,197 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+
+/**
+ * Coalescing of identical concurrent calls. While a call with a key is
+ * in flight, other calls with the same key wait for it and share its
+ * result or exception instead of executing themselves.
+ *
+ * <p>
+ * A follower waits only until its own deadline. When the deadline passes
+ * first, the follower fails in the same way as a call whose per-call
+ * timeout has expired, while the call in flight continues.
+ * </p>
+ */
+final class SingleFlight
+{
+    private final ConcurrentMap<String, CompletableFuture<Object>> mCalls = new ConcurrentHashMap<>();
+
+
+    @SuppressWarnings("unchecked")
+    <T> T execute(String key, Deadline deadline, Supplier<T> call)
+    {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = mCalls.putIfAbsent(key, future);
+
+        if (inFlight != null)
+        {
+            // Another thread is executing the same call.
+            return (T)await(inFlight, deadline);
+        }
+
+        try
+        {
+            T result = call.get();
+            future.complete(result);
+
+            return result;
+        }
+        catch (RuntimeException | Error e)
+        {
+            future.completeExceptionally(e);
+            throw e;
+        }
+        finally
+        {
+            // Calls made after this point are executed anew.
+            mCalls.remove(key, future);
+        }
+    }
+
+
+    /**
+     * The asynchronous version of {@link #execute(String, Deadline, Supplier)}.
+     * Followers get a future of the result of the call in flight.
+     */
+    @SuppressWarnings("unchecked")
+    <T> CompletableFuture<T> executeAsync(
+            String key, Deadline deadline, Supplier<CompletableFuture<T>> call)
+    {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = mCalls.putIfAbsent(key, future);
+
+        if (inFlight != null)
+        {
+            // Another call is executing the same call. A dependent future
+            // prevents followers from completing the shared one.
+            return (CompletableFuture<T>)follow(inFlight, deadline);
+        }
+
+        CompletableFuture<T> result;
+
+        try
+        {
+            result = call.get();
+        }
+        catch (RuntimeException | Error e)
+        {
+            mCalls.remove(key, future);
+            future.completeExceptionally(e);
+            throw e;
+        }
+
+        result.whenComplete((value, error) -> {
+            // Calls made after this point are executed anew.
+            mCalls.remove(key, future);
+
+            if (error != null)
+            {
+                future.completeExceptionally(error);
+            }
+            else
+            {
+                future.complete(value);
+            }
+        });
+
+        return result;
+    }
+
+
+    private static Object await(CompletableFuture<Object> future, Deadline deadline)
+    {
+        try
+        {
+            if (deadline == null)
+            {
+                return future.get();
+            }
+
+            return future.get(deadline.remaining(), TimeUnit.MILLISECONDS);
+        }
+        catch (TimeoutException e)
+        {
+            throw expired(deadline);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+
+            InterruptedIOException cause = new InterruptedIOException(
+                    "Interrupted while waiting for the identical call in flight.");
+
+            throw new AuthleteApiException(cause.getMessage(), cause);
+        }
+        catch (ExecutionException e)
+        {
+            Throwable cause = e.getCause();
+
+            if (cause instanceof RuntimeException)
+            {
+                throw (RuntimeException)cause;
+            }
+
+            if (cause instanceof Error)
+            {
+                throw (Error)cause;
+            }
+
+            throw new AuthleteApiException(cause.getMessage(), cause);
+        }
+    }
+
+
+    private static CompletableFuture<Object> follow(CompletableFuture<Object> inFlight, Deadline deadline)
+    {
+        CompletableFuture<Object> follower = inFlight.thenApply(result -> result);
+
+        if (deadline == null)
+        {
+            return follower;
+        }
+
+        ScheduledFuture<?> timer = DefaultExecutors.scheduler().schedule(
+                () -> follower.completeExceptionally(expired(deadline)),
+                Math.max(deadline.remaining(), 0), TimeUnit.MILLISECONDS);
+
+        follower.whenComplete((result, cause) -> timer.cancel(false));
+
+        return follower;
+    }
+
+
+    private static AuthleteApiException expired(Deadline deadline)
+    {
+        // The same exception as the one thrown when a call times out.
+        SocketTimeoutException cause = deadline.expired();
+
+        return new AuthleteApiException(cause.getMessage(), cause);
+    }
+}
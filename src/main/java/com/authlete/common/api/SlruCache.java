@@ -0,0 +1,193 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+/**
+ * Size-bounded cache with per-entry expiration and segmented LRU eviction.
+ *
+ * <p>
+ * A new entry is put into the probationary segment. An entry which is hit
+ * while in the probationary segment is promoted to the protected segment,
+ * which holds 80 percent of the capacity. When the protected segment is
+ * full, its least recently used entry is demoted to the probationary
+ * segment. When the cache is full, the least recently used entry of the
+ * probationary segment is evicted. Thus, entries used only once (e.g. a
+ * burst of tokens which are never presented again) cannot push frequently
+ * used entries out of the cache.
+ * </p>
+ */
+class SlruCache<K, V>
+{
+    private static class Entry<V>
+    {
+        final V value;
+        final long expiresAt;
+
+
+        Entry(V value, long expiresAt)
+        {
+            this.value     = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+
+    private final int mMaximumSize;
+    private final int mProtectedSize;
+
+    // Both maps are in access order. The first entry is the least recently used one.
+    private final LinkedHashMap<K, Entry<V>> mProbation = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<K, Entry<V>> mProtected = new LinkedHashMap<>(16, 0.75f, true);
+
+
+    SlruCache(int maximumSize)
+    {
+        if (maximumSize < 1)
+        {
+            throw new IllegalArgumentException("maximumSize must be 1 or greater.");
+        }
+
+        mMaximumSize   = maximumSize;
+        mProtectedSize = Math.max(1, maximumSize * 4 / 5);
+    }
+
+
+    /**
+     * Get the value of an entry which has not expired.
+     *
+     * @param key
+     *         The key.
+     *
+     * @param now
+     *         The current time in milliseconds.
+     *
+     * @return
+     *         The value, or {@code null} if not found.
+     */
+    synchronized V get(K key, long now)
+    {
+        Entry<V> entry = mProtected.get(key);
+
+        if (entry == null)
+        {
+            entry = mProbation.remove(key);
+
+            if (entry == null)
+            {
+                return null;
+            }
+
+            if (entry.expiresAt > now)
+            {
+                // The second hit. Promote the entry.
+                promote(key, entry);
+            }
+        }
+
+        if (entry.expiresAt <= now)
+        {
+            remove(key);
+            return null;
+        }
+
+        return entry.value;
+    }
+
+
+    /**
+     * Put an entry.
+     *
+     * @param key
+     *         The key.
+     *
+     * @param value
+     *         The value.
+     *
+     * @param expiresAt
+     *         The time in milliseconds at which the entry expires.
+     */
+    synchronized void put(K key, V value, long expiresAt)
+    {
+        Entry<V> entry = new Entry<>(value, expiresAt);
+
+        if (mProtected.containsKey(key))
+        {
+            mProtected.put(key, entry);
+            return;
+        }
+
+        mProbation.put(key, entry);
+
+        evict();
+    }
+
+
+    synchronized void remove(K key)
+    {
+        mProbation.remove(key);
+        mProtected.remove(key);
+    }
+
+
+    synchronized void clear()
+    {
+        mProbation.clear();
+        mProtected.clear();
+    }
+
+
+    synchronized int size()
+    {
+        return mProbation.size() + mProtected.size();
+    }
+
+
+    private void promote(K key, Entry<V> entry)
+    {
+        mProtected.put(key, entry);
+
+        if (mProtected.size() <= mProtectedSize)
+        {
+            return;
+        }
+
+        // Demote the least recently used entry of the protected segment.
+        Iterator<Map.Entry<K, Entry<V>>> it = mProtected.entrySet().iterator();
+        Map.Entry<K, Entry<V>> eldest = it.next();
+        it.remove();
+        mProbation.put(eldest.getKey(), eldest.getValue());
+
+        evict();
+    }
+
+
+    private void evict()
+    {
+        while (size() > mMaximumSize)
+        {
+            LinkedHashMap<K, Entry<V>> segment = mProbation.isEmpty() ? mProtected : mProbation;
+            Iterator<Map.Entry<K, Entry<V>>> it = segment.entrySet().iterator();
+            it.next();
+            it.remove();
+        }
+    }
+}
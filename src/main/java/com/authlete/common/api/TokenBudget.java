@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+/**
+ * Token bucket which limits the number of extra requests (retries and
+ * hedged requests) relative to the number of API calls.
+ *
+ * @see RetryPolicy#getRetryBudgetRatio()
+ * @see HedgingPolicy#getHedgeBudgetRatio()
+ */
+class TokenBudget
+{
+    private double mTokens = -1;
+
+
+    /**
+     * Add tokens for an API call.
+     *
+     * @param ratio
+     *         The number of tokens to add.
+     *
+     * @param capacity
+     *         The maximum number of tokens.
+     */
+    synchronized void deposit(double ratio, double capacity)
+    {
+        mTokens = Math.min(tokens(capacity) + ratio, capacity);
+    }
+
+
+    /**
+     * Consume one token for an extra request.
+     *
+     * @param capacity
+     *         The maximum number of tokens.
+     *
+     * @return
+     *         {@code true} if a token was available.
+     */
+    synchronized boolean withdraw(double capacity)
+    {
+        double tokens = tokens(capacity);
+
+        if (tokens < 1.0)
+        {
+            return false;
+        }
+
+        mTokens = tokens - 1.0;
+
+        return true;
+    }
+
+
+    private double tokens(double capacity)
+    {
+        // The budget is full initially.
+        return (mTokens < 0) ? capacity : mTokens;
+    }
+}
@@ -0,0 +1,518 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import com.authlete.common.dto.TokenBatchStatus;
+import com.authlete.common.dto.TokenCreateBatchStatusResponse;
+import com.authlete.common.dto.TokenCreateRequest;
+
+
+/**
+ * A batcher which folds individual token creation requests into calls of
+ * Authlete's {@code /auth/token/create/batch} API.
+ *
+ * <p>
+ * Requests given to {@link #submit(TokenCreateRequest)} are buffered and
+ * sent as one batch when the number of buffered requests reaches the
+ * maximum batch size or when the linger time has elapsed since the first
+ * request of the batch was buffered. Then, the status of the batch is
+ * polled by the {@code /auth/token/create/batch/status} API until the
+ * batch finishes.
+ * </p>
+ *
+ * <p>
+ * The future returned from {@code submit} is completed with the status
+ * of the batch which the request has joined. Because the batch API does
+ * not return tokens, this batcher is suitable for jobs which specify
+ * tokens in requests, such as migration of tokens from another system.
+ * Callers should check {@link TokenBatchStatus#getResult()} to know
+ * whether the batch has succeeded. The future is completed exceptionally
+ * when an API call for the batch fails, or with a {@link TimeoutException}
+ * when the batch does not finish within the {@linkplain
+ * #setMaxPollDuration(long) maximum poll duration}.
+ * </p>
+ *
+ * <p>
+ * The API calls, which block, are executed on an executor. The scheduler
+ * only keeps the timers of the linger time and the poll interval.
+ * </p>
+ *
+ * <pre style="border: 1px solid black; padding: 0.5em; margin: 0.5em;">
+ * <span style="color: green;">// Send up to 1000 requests per batch.</span>
+ * TokenCreateBatcher batcher = new TokenCreateBatcher(api, 1000, 100, 1000);
+ *
+ * for (TokenCreateRequest request : requests)
+ * {
+ *     batcher.submit(request);
+ * }
+ *
+ * <span style="color: green;">// Send the remaining requests and wait for all the batches.</span>
+ * batcher.close();
+ * </pre>
+ *
+ * @since 4.47
+ */
+public class TokenCreateBatcher implements Closeable
+{
+    /**
+     * The default value of the maximum poll duration (10 minutes).
+     */
+    public static final long DEFAULT_MAX_POLL_DURATION = 600000;
+
+
+    private static class Entry
+    {
+        final TokenCreateRequest request;
+        final CompletableFuture<TokenBatchStatus> future = new CompletableFuture<>();
+
+
+        Entry(TokenCreateRequest request)
+        {
+            this.request = request;
+        }
+    }
+
+
+    private final AuthleteApi mApi;
+    private final int mMaxBatchSize;
+    private final long mLingerTime;
+    private final long mPollInterval;
+    private final ScheduledExecutorService mScheduler;
+    private final Executor mExecutor;
+    private volatile long mMaxPollDuration = DEFAULT_MAX_POLL_DURATION;
+    private List<Entry> mBuffer = new ArrayList<>();
+    private ScheduledFuture<?> mLingerTask;
+    private boolean mClosed;
+    private int mInFlight;
+
+
+    /**
+     * Constructor with the shared scheduler and executor.
+     *
+     * @param api
+     *         The {@link AuthleteApi} instance used to call the APIs.
+     *
+     * @param maxBatchSize
+     *         The maximum number of requests in a batch.
+     *
+     * @param lingerTime
+     *         The maximum time in milliseconds that a request waits for
+     *         other requests before its batch is sent.
+     *
+     * @param pollInterval
+     *         The interval in milliseconds of polling the status of a
+     *         batch.
+     */
+    public TokenCreateBatcher(AuthleteApi api, int maxBatchSize, long lingerTime, long pollInterval)
+    {
+        this(api, maxBatchSize, lingerTime, pollInterval, null);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param api
+     *         The {@link AuthleteApi} instance used to call the APIs.
+     *
+     * @param maxBatchSize
+     *         The maximum number of requests in a batch.
+     *
+     * @param lingerTime
+     *         The maximum time in milliseconds that a request waits for
+     *         other requests before its batch is sent.
+     *
+     * @param pollInterval
+     *         The interval in milliseconds of polling the status of a
+     *         batch.
+     *
+     * @param scheduler
+     *         The scheduler which times sending batches and polling their
+     *         status. If {@code null} is given, a shared daemon thread is
+     *         used. The API calls are executed on the shared executor.
+     */
+    public TokenCreateBatcher(
+            AuthleteApi api, int maxBatchSize, long lingerTime, long pollInterval,
+            ScheduledExecutorService scheduler)
+    {
+        this(api, maxBatchSize, lingerTime, pollInterval, scheduler, null);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param api
+     *         The {@link AuthleteApi} instance used to call the APIs.
+     *
+     * @param maxBatchSize
+     *         The maximum number of requests in a batch.
+     *
+     * @param lingerTime
+     *         The maximum time in milliseconds that a request waits for
+     *         other requests before its batch is sent.
+     *
+     * @param pollInterval
+     *         The interval in milliseconds of polling the status of a
+     *         batch.
+     *
+     * @param scheduler
+     *         The scheduler which times sending batches and polling their
+     *         status. Tasks run on it do not block. If {@code null} is
+     *         given, a shared daemon thread is used.
+     *
+     * @param executor
+     *         The executor on which the APIs are called. If {@code null}
+     *         is given, a shared executor with a bounded number of daemon
+     *         threads is used.
+     */
+    public TokenCreateBatcher(
+            AuthleteApi api, int maxBatchSize, long lingerTime, long pollInterval,
+            ScheduledExecutorService scheduler, Executor executor)
+    {
+        if (api == null)
+        {
+            throw new IllegalArgumentException("api is null.");
+        }
+
+        if (maxBatchSize < 1)
+        {
+            throw new IllegalArgumentException("maxBatchSize must be 1 or greater.");
+        }
+
+        if (lingerTime < 0)
+        {
+            throw new IllegalArgumentException("lingerTime cannot be negative.");
+        }
+
+        if (pollInterval < 0)
+        {
+            throw new IllegalArgumentException("pollInterval cannot be negative.");
+        }
+
+        mApi          = api;
+        mMaxBatchSize = maxBatchSize;
+        mLingerTime   = lingerTime;
+        mPollInterval = pollInterval;
+        mScheduler    = (scheduler != null) ? scheduler : DefaultExecutors.scheduler();
+        mExecutor     = (executor  != null) ? executor  : DefaultExecutors.workers();
+    }
+
+
+    /**
+     * Get the maximum duration in milliseconds of polling the status of a
+     * batch. The default value is {@link #DEFAULT_MAX_POLL_DURATION}.
+     *
+     * @return
+     *         The maximum poll duration in milliseconds.
+     */
+    public long getMaxPollDuration()
+    {
+        return mMaxPollDuration;
+    }
+
+
+    /**
+     * Set the maximum duration in milliseconds of polling the status of a
+     * batch. When a batch has not finished after the duration since it was
+     * sent, the futures of its requests are completed exceptionally with a
+     * {@link TimeoutException}. The batch itself may still finish on the
+     * server.
+     *
+     * @param duration
+     *         The maximum poll duration in milliseconds.
+     *
+     * @return
+     *         {@code this} object.
+     */
+    public TokenCreateBatcher setMaxPollDuration(long duration)
+    {
+        if (duration < 0)
+        {
+            throw new IllegalArgumentException("duration cannot be negative.");
+        }
+
+        mMaxPollDuration = duration;
+
+        return this;
+    }
+
+
+    /**
+     * Submit a token creation request.
+     *
+     * @param request
+     *         A token creation request.
+     *
+     * @return
+     *         A future which is completed with the status of the batch
+     *         which the request has joined.
+     *
+     * @throws IllegalStateException
+     *         This batcher has been closed.
+     */
+    public CompletableFuture<TokenBatchStatus> submit(TokenCreateRequest request)
+    {
+        if (request == null)
+        {
+            throw new IllegalArgumentException("request is null.");
+        }
+
+        Entry entry = new Entry(request);
+        List<Entry> batch = null;
+
+        synchronized (this)
+        {
+            if (mClosed)
+            {
+                throw new IllegalStateException("The batcher has been closed.");
+            }
+
+            mBuffer.add(entry);
+
+            if (mBuffer.size() >= mMaxBatchSize)
+            {
+                batch = drain();
+            }
+            else if (mBuffer.size() == 1)
+            {
+                // The first request of a batch starts the linger timer.
+                mLingerTask = mScheduler.schedule(this::flush, mLingerTime, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        if (batch != null)
+        {
+            dispatch(batch);
+        }
+
+        return entry.future;
+    }
+
+
+    /**
+     * Send buffered requests immediately.
+     */
+    public void flush()
+    {
+        List<Entry> batch;
+
+        synchronized (this)
+        {
+            batch = drain();
+        }
+
+        if (batch != null)
+        {
+            dispatch(batch);
+        }
+    }
+
+
+    /**
+     * Send buffered requests, stop accepting new ones and wait until all
+     * the batches sent by this batcher have completed. The wait is bounded
+     * by the maximum poll duration. This method must not be called on the
+     * scheduler or the executor of this batcher.
+     */
+    @Override
+    public void close()
+    {
+        synchronized (this)
+        {
+            mClosed = true;
+        }
+
+        flush();
+
+        synchronized (this)
+        {
+            try
+            {
+                while (mInFlight > 0)
+                {
+                    wait();
+                }
+            }
+            catch (InterruptedException e)
+            {
+                // Stop waiting. The batches continue.
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+
+    private List<Entry> drain()
+    {
+        if (mBuffer.isEmpty())
+        {
+            return null;
+        }
+
+        if (mLingerTask != null)
+        {
+            mLingerTask.cancel(false);
+            mLingerTask = null;
+        }
+
+        List<Entry> batch = mBuffer;
+        mBuffer = new ArrayList<>();
+
+        return batch;
+    }
+
+
+    private void dispatch(List<Entry> batch)
+    {
+        synchronized (this)
+        {
+            mInFlight++;
+        }
+
+        execute(batch, () -> send(batch));
+    }
+
+
+    /**
+     * Execute a task which calls an API on the executor.
+     */
+    private void execute(List<Entry> batch, Runnable task)
+    {
+        try
+        {
+            mExecutor.execute(task);
+        }
+        catch (RejectedExecutionException e)
+        {
+            fail(batch, e);
+        }
+    }
+
+
+    /**
+     * Execute a task which calls an API on the executor after the delay.
+     */
+    private void schedule(List<Entry> batch, Runnable task, long delay)
+    {
+        try
+        {
+            // The scheduler only hands the task over to the executor.
+            mScheduler.schedule(() -> execute(batch, task), delay, TimeUnit.MILLISECONDS);
+        }
+        catch (RejectedExecutionException e)
+        {
+            fail(batch, e);
+        }
+    }
+
+
+    private void send(List<Entry> batch)
+    {
+        TokenCreateRequest[] requests = new TokenCreateRequest[batch.size()];
+
+        for (int i = 0; i < requests.length; i++)
+        {
+            requests[i] = batch.get(i).request;
+        }
+
+        String requestId;
+
+        try
+        {
+            requestId = mApi.tokenCreateBatch(requests, false).getRequestId();
+        }
+        catch (RuntimeException e)
+        {
+            fail(batch, e);
+            return;
+        }
+
+        // Polling gives up after the maximum poll duration.
+        long pollUntil = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(mMaxPollDuration);
+
+        schedule(batch, () -> poll(batch, requestId, pollUntil), mPollInterval);
+    }
+
+
+    private void poll(List<Entry> batch, String requestId, long pollUntil)
+    {
+        TokenBatchStatus status;
+
+        try
+        {
+            TokenCreateBatchStatusResponse response = mApi.getTokenCreateBatchStatus(requestId);
+            status = response.getStatus();
+        }
+        catch (RuntimeException e)
+        {
+            fail(batch, e);
+            return;
+        }
+
+        if (status == null || status.getResult() == null)
+        {
+            // The batch is still running.
+            if (System.nanoTime() - pollUntil >= 0)
+            {
+                fail(batch, new TimeoutException("The batch (" + requestId
+                        + ") has not finished in " + mMaxPollDuration + " ms."));
+                return;
+            }
+
+            schedule(batch, () -> poll(batch, requestId, pollUntil), mPollInterval);
+            return;
+        }
+
+        for (Entry entry : batch)
+        {
+            entry.future.complete(status);
+        }
+
+        finish();
+    }
+
+
+    private void fail(List<Entry> batch, Throwable cause)
+    {
+        for (Entry entry : batch)
+        {
+            entry.future.completeExceptionally(cause);
+        }
+
+        finish();
+    }
+
+
+    private synchronized void finish()
+    {
+        mInFlight--;
+
+        // Wake up close().
+        notifyAll();
+    }
+}
@@ -0,0 +1,445 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import com.authlete.common.dto.AccessToken;
+import com.authlete.common.dto.TokenListResponse;
+import com.authlete.common.types.TokenStatus;
+import com.authlete.common.util.Utils;
+
+
+/**
+ * An exporter which writes access tokens of a service as NDJSON (one JSON
+ * object per line).
+ *
+ * <p>
+ * The range of tokens is split into pages, which are fetched by {@link
+ * AuthleteApi#getTokenList(String, String, int, int, TokenStatus, Options)
+ * getTokenList} concurrently. The number of pages fetched at the same time
+ * is bounded by the parallelism, and pages are written in the order of
+ * their ranges, so the output is deterministic as long as the tokens are
+ * not modified during the export. Tokens are written one by one without
+ * building the entire output in memory.
+ * </p>
+ *
+ * <p>
+ * After each page is written, a checkpoint, which is the index of the
+ * next token, is reported. An interrupted export can be resumed from the
+ * last checkpoint. {@link #export(Path)} manages checkpoints in a file
+ * next to the output file automatically.
+ * </p>
+ *
+ * <pre style="border: 1px solid black; padding: 0.5em; margin: 0.5em;">
+ * <span style="color: green;">// Fetch 1000 tokens per call with 4 concurrent calls.</span>
+ * new TokenExporter(api, 1000, 4)
+ *     .setTokenStatus(TokenStatus.ALL)
+ *     .export(Paths.get("tokens.ndjson"));
+ * </pre>
+ *
+ * @since 4.47
+ */
+public class TokenExporter
+{
+    /**
+     * A listener of checkpoints.
+     */
+    @FunctionalInterface
+    public interface CheckpointListener
+    {
+        /**
+         * Called after a page has been written and flushed.
+         *
+         * @param next
+         *         The index of the next token. An export resumed from this
+         *         index continues the output.
+         *
+         * @throws IOException
+         *         Failed to record the checkpoint.
+         */
+        void onCheckpoint(int next) throws IOException;
+    }
+
+
+    private static final String CHECKPOINT_SUFFIX = ".checkpoint";
+
+
+    private final AuthleteApi mApi;
+    private final int mPageSize;
+    private final int mParallelism;
+    private final Executor mExecutor;
+    private String mClientIdentifier;
+    private String mSubject;
+    private TokenStatus mTokenStatus = TokenStatus.ALL;
+
+
+    /**
+     * Constructor with a shared pool of daemon threads, whose number is
+     * bounded.
+     *
+     * @param api
+     *         The {@link AuthleteApi} instance.
+     *
+     * @param pageSize
+     *         The number of tokens fetched by one API call.
+     *
+     * @param parallelism
+     *         The maximum number of concurrent API calls.
+     */
+    public TokenExporter(AuthleteApi api, int pageSize, int parallelism)
+    {
+        this(api, pageSize, parallelism, null);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param api
+     *         The {@link AuthleteApi} instance.
+     *
+     * @param pageSize
+     *         The number of tokens fetched by one API call.
+     *
+     * @param parallelism
+     *         The maximum number of concurrent API calls.
+     *
+     * @param executor
+     *         The executor which calls the API. If {@code null} is given,
+     *         a shared pool with a bounded number of daemon threads is
+     *         used.
+     */
+    public TokenExporter(AuthleteApi api, int pageSize, int parallelism, Executor executor)
+    {
+        if (api == null)
+        {
+            throw new IllegalArgumentException("api is null.");
+        }
+
+        if (pageSize < 1)
+        {
+            throw new IllegalArgumentException("pageSize must be 1 or greater.");
+        }
+
+        if (parallelism < 1)
+        {
+            throw new IllegalArgumentException("parallelism must be 1 or greater.");
+        }
+
+        mApi         = api;
+        mPageSize    = pageSize;
+        mParallelism = parallelism;
+        mExecutor    = (executor != null) ? executor : DefaultExecutors.workers();
+    }
+
+
+    /**
+     * Set the client whose tokens are exported.
+     *
+     * @param clientIdentifier
+     *         The client ID or the client ID alias. {@code null} to export
+     *         tokens of all clients.
+     *
+     * @return
+     *         {@code this} object.
+     */
+    public TokenExporter setClientIdentifier(String clientIdentifier)
+    {
+        mClientIdentifier = clientIdentifier;
+
+        return this;
+    }
+
+
+    /**
+     * Set the subject of the resource owner whose tokens are exported.
+     *
+     * @param subject
+     *         The subject. {@code null} to export tokens of all resource
+     *         owners.
+     *
+     * @return
+     *         {@code this} object.
+     */
+    public TokenExporter setSubject(String subject)
+    {
+        mSubject = subject;
+
+        return this;
+    }
+
+
+    /**
+     * Set the status of tokens which are exported.
+     *
+     * @param tokenStatus
+     *         The token status. The default value is {@link TokenStatus#ALL}.
+     *
+     * @return
+     *         {@code this} object.
+     */
+    public TokenExporter setTokenStatus(TokenStatus tokenStatus)
+    {
+        mTokenStatus = (tokenStatus != null) ? tokenStatus : TokenStatus.ALL;
+
+        return this;
+    }
+
+
+    /**
+     * Export tokens to a file. If a checkpoint file ({@code <file>.checkpoint})
+     * exists, the export is resumed from the checkpoint. Otherwise, the file
+     * is overwritten. The checkpoint file is deleted when the export
+     * completes.
+     *
+     * @param file
+     *         The output file.
+     *
+     * @return
+     *         The number of tokens written by this call.
+     *
+     * @throws IOException
+     *         Failed to write the file, or a checkpoint file exists but the
+     *         output file is missing or shorter than the checkpoint records.
+     *
+     * @throws AuthleteApiException
+     *         Failed to fetch tokens.
+     */
+    public int export(Path file) throws IOException
+    {
+        Path checkpointFile = file.resolveSibling(file.getFileName() + CHECKPOINT_SUFFIX);
+        int start   = 0;
+        long length = 0;
+
+        if (Files.exists(checkpointFile))
+        {
+            // "<index of the next token> <length of the output file>"
+            String[] checkpoint = new String(
+                    Files.readAllBytes(checkpointFile), StandardCharsets.US_ASCII).trim().split(" ");
+            start  = Integer.parseInt(checkpoint[0]);
+            length = Long.parseLong(checkpoint[1]);
+
+            // Resuming would silently produce a file without the tokens
+            // exported before the checkpoint.
+            if (!Files.exists(file) || Files.size(file) < length)
+            {
+                throw new IOException(String.format(
+                        "The output file %s is missing or shorter than the %d bytes recorded in " +
+                        "the checkpoint file %s. Delete the checkpoint file to start the export over.",
+                        file, length, checkpointFile));
+            }
+        }
+
+        try (FileOutputStream out = new FileOutputStream(file.toFile(), true))
+        {
+            FileChannel channel = out.getChannel();
+
+            // Discard tokens written after the last checkpoint.
+            channel.truncate(length);
+
+            int count = export(out, start, next -> {
+                String checkpoint = next + " " + channel.size();
+                Path temporary = checkpointFile.resolveSibling(checkpointFile.getFileName() + ".tmp");
+                Files.write(temporary, checkpoint.getBytes(StandardCharsets.US_ASCII));
+                Files.move(temporary, checkpointFile,
+                        StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            });
+
+            Files.deleteIfExists(checkpointFile);
+
+            return count;
+        }
+    }
+
+
+    /**
+     * Export tokens to a stream. The stream is flushed but not closed.
+     *
+     * <p>
+     * This method is an alias of {@link #export(OutputStream, int, int,
+     * CheckpointListener) export}{@code (out, start, Integer.MAX_VALUE,
+     * listener)}, which exports all the tokens after {@code start}.
+     * </p>
+     *
+     * @param out
+     *         The output stream. Tokens are written in UTF-8.
+     *
+     * @param start
+     *         The index of the first token to export. 0 to export all
+     *         tokens, or a checkpoint to resume an export.
+     *
+     * @param listener
+     *         The listener of checkpoints. May be {@code null}.
+     *
+     * @return
+     *         The number of tokens written.
+     *
+     * @throws IOException
+     *         Failed to write the stream.
+     *
+     * @throws AuthleteApiException
+     *         Failed to fetch tokens.
+     */
+    public int export(OutputStream out, int start, CheckpointListener listener) throws IOException
+    {
+        return export(out, start, Integer.MAX_VALUE, listener);
+    }
+
+
+    /**
+     * Export tokens in a range to a stream. The stream is flushed but not
+     * closed. Pages beyond the end of the range are not fetched, so a large
+     * export can be split into ranges exported separately.
+     *
+     * @param out
+     *         The output stream. Tokens are written in UTF-8.
+     *
+     * @param start
+     *         The index of the first token to export. 0 to export from the
+     *         first token, or a checkpoint to resume an export.
+     *
+     * @param end
+     *         The index of the token after the last one to export
+     *         (exclusive).
+     *
+     * @param listener
+     *         The listener of checkpoints. May be {@code null}.
+     *
+     * @return
+     *         The number of tokens written.
+     *
+     * @throws IOException
+     *         Failed to write the stream.
+     *
+     * @throws AuthleteApiException
+     *         Failed to fetch tokens.
+     */
+    public int export(OutputStream out, int start, int end, CheckpointListener listener) throws IOException
+    {
+        if (end <= start)
+        {
+            return 0;
+        }
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        Deque<CompletableFuture<TokenListResponse>> pages = new ArrayDeque<>();
+
+        // The first page tells the total number of tokens.
+        TokenListResponse page = fetch(start, end);
+        int limit     = Math.min(page.getTotalCount(), end);
+        int nextStart = start + mPageSize;
+        int count     = 0;
+
+        try
+        {
+            for (int pageStart = start; ; pageStart += mPageSize)
+            {
+                // Keep the pipeline full.
+                while (pages.size() < mParallelism && nextStart < limit)
+                {
+                    int s = nextStart;
+                    pages.add(CompletableFuture.supplyAsync(() -> fetch(s, end), mExecutor));
+                    nextStart += mPageSize;
+                }
+
+                count += write(page, writer);
+                writer.flush();
+
+                if (listener != null)
+                {
+                    listener.onCheckpoint((int)Math.min((long)pageStart + mPageSize, end));
+                }
+
+                if (pages.isEmpty())
+                {
+                    return count;
+                }
+
+                page = await(pages.poll());
+            }
+        }
+        finally
+        {
+            for (CompletableFuture<TokenListResponse> pending : pages)
+            {
+                pending.cancel(false);
+            }
+        }
+    }
+
+
+    private TokenListResponse fetch(int start, int end)
+    {
+        // The last page of the range may be shorter.
+        int pageEnd = (int)Math.min((long)start + mPageSize, end);
+
+        return mApi.getTokenList(
+                mClientIdentifier, mSubject, start, pageEnd, mTokenStatus, null);
+    }
+
+
+    private static int write(TokenListResponse page, Writer writer) throws IOException
+    {
+        AccessToken[] tokens = page.getAccessTokens();
+
+        if (tokens == null)
+        {
+            return 0;
+        }
+
+        for (AccessToken token : tokens)
+        {
+            Utils.toJson(token, writer);
+            writer.write('\n');
+        }
+
+        return tokens.length;
+    }
+
+
+    private static TokenListResponse await(CompletableFuture<TokenListResponse> page)
+    {
+        try
+        {
+            return page.join();
+        }
+        catch (CompletionException e)
+        {
+            if (e.getCause() instanceof RuntimeException)
+            {
+                throw (RuntimeException)e.getCause();
+            }
+
+            throw e;
+        }
+    }
+}
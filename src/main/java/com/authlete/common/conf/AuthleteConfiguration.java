@@ -31,6 +31,17 @@ public interface AuthleteConfiguration
 
     /**
      * Get the base URL.
+     *
+     * <p>
+     * Since version 4.47, multiple base URLs separated by commas, e.g.
+     * {@code "https://us.authlete.com, https://eu.authlete.com"}, are
+     * accepted by the {@link com.authlete.common.api.AuthleteApi
+     * AuthleteApi} implementations included in this library. They route
+     * each call to the base URL with the lowest latency and fail over to
+     * another base URL when one is failing. See {@link
+     * com.authlete.common.api.AuthleteApiBasicImpl#getEndpointAvailability()
+     * AuthleteApiBasicImpl.getEndpointAvailability()} for details.
+     * </p>
      */
     String getBaseUrl();
 
@@ -0,0 +1,355 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.util;
+
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+
+/**
+ * Base class of the Gson {@link TypeAdapterFactory} generated for a package
+ * of DTO classes at build time.
+ *
+ * <p>
+ * Without an adapter of its own, Gson binds a class by reflection. It looks
+ * up the declared fields of the class and its superclasses, and reads and
+ * writes every field through {@link java.lang.reflect.Field}. The {@code
+ * TypeAdapterGenerator} run in the {@code process-classes} step instead adds
+ * methods which read and write the fields directly to each DTO class, and
+ * generates a subclass of this class named {@value #GENERATED_CLASS_NAME} in
+ * the package, which creates the instances and dispatches to those methods.
+ * </p>
+ *
+ * <p>
+ * The adapters produce the same JSON as the reflective ones. Fields are
+ * written in the same order, {@code null} values are handled in the same
+ * way, and the values of fields whose type is not a primitive type or
+ * {@code String} are still converted by the adapters Gson has for their
+ * types.
+ * </p>
+ *
+ * @since 4.47
+ */
+public abstract class FieldTypeAdapterFactory implements TypeAdapterFactory
+{
+    /**
+     * The simple name of the class generated in each package.
+     */
+    public static final String GENERATED_CLASS_NAME = "GeneratedTypeAdapterFactory";
+
+
+    /**
+     * Load the factory generated for the package.
+     *
+     * @param packageName
+     *         The name of the package, e.g. {@code "com.authlete.common.dto"}.
+     *
+     * @return
+     *         The factory, or {@code null} if it has not been generated, for
+     *         example when the classes are compiled by an IDE.
+     */
+    public static TypeAdapterFactory load(String packageName)
+    {
+        try
+        {
+            return (TypeAdapterFactory)Class.forName(packageName + "." + GENERATED_CLASS_NAME)
+                    .getDeclaredConstructor().newInstance();
+        }
+        catch (ReflectiveOperationException | LinkageError e)
+        {
+            return null;
+        }
+    }
+
+
+    @Override
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type)
+    {
+        Class<? super T> rawType = type.getRawType();
+        int id = indexOf(rawType);
+
+        if (id < 0)
+        {
+            return null;
+        }
+
+        return new Adapter<T>(gson, rawType, id, new Fields(gson, fieldTypes(id)));
+    }
+
+
+    /**
+     * Get the ID of the class.
+     *
+     * @param klass
+     *         A class.
+     *
+     * @return
+     *         The ID of the class, or -1 if no adapter has been generated for
+     *         the class.
+     */
+    protected abstract int indexOf(Class<?> klass);
+
+
+    /**
+     * Get the types of the fields of the class, in the order Gson writes
+     * them. The type of a field which the generated code converts by itself
+     * is {@code null}.
+     */
+    protected abstract Type[] fieldTypes(int id);
+
+
+    /**
+     * Create an instance of the class by its no-argument constructor.
+     */
+    protected abstract Object newInstance(int id);
+
+
+    /**
+     * Write the name and the value of every field of the object.
+     */
+    protected abstract void writeFields(
+            int id, Object object, JsonWriter out, Fields fields) throws IOException;
+
+
+    /**
+     * Read the value of the field from the reader.
+     *
+     * @return
+     *         {@code false} if the class does not have the field.
+     */
+    protected abstract boolean readField(
+            int id, Object object, String name, JsonReader in, Fields fields) throws IOException;
+
+
+    private class Adapter<T> extends TypeAdapter<T>
+    {
+        private final Gson mGson;
+        private final Class<? super T> mType;
+        private final int mId;
+        private final Fields mFields;
+
+
+        Adapter(Gson gson, Class<? super T> type, int id, Fields fields)
+        {
+            mGson   = gson;
+            mType   = type;
+            mId     = id;
+            mFields = fields;
+        }
+
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void write(JsonWriter out, T value) throws IOException
+        {
+            if (value == null)
+            {
+                out.nullValue();
+                return;
+            }
+
+            if (value.getClass() != mType)
+            {
+                // A subclass which has no adapter of its own. Gson would
+                // use the reflective adapter of the subclass.
+                ((TypeAdapter<Object>)mGson.getAdapter(value.getClass())).write(out, value);
+                return;
+            }
+
+            out.beginObject();
+            writeFields(mId, value, out, mFields);
+            out.endObject();
+        }
+
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T read(JsonReader in) throws IOException
+        {
+            if (in.peek() == JsonToken.NULL)
+            {
+                in.nextNull();
+                return null;
+            }
+
+            Object instance = newInstance(mId);
+
+            try
+            {
+                in.beginObject();
+
+                while (in.hasNext())
+                {
+                    String name = in.nextName();
+
+                    if (!readField(mId, instance, name, in, mFields))
+                    {
+                        in.skipValue();
+                    }
+                }
+            }
+            catch (IllegalStateException e)
+            {
+                throw new JsonSyntaxException(e);
+            }
+
+            in.endObject();
+
+            return (T)instance;
+        }
+    }
+
+
+    /**
+     * The adapters for the fields of a class, and helpers which the
+     * generated code uses to read and write the fields.
+     */
+    public static final class Fields
+    {
+        private final Gson mGson;
+        private final Type[] mTypes;
+        private final TypeAdapter<?>[] mAdapters;
+
+
+        Fields(Gson gson, Type[] types)
+        {
+            mGson     = gson;
+            mTypes    = types;
+            mAdapters = new TypeAdapter<?>[types.length];
+
+            for (int i = 0; i < types.length; i++)
+            {
+                if (types[i] != null)
+                {
+                    mAdapters[i] = gson.getAdapter(TypeToken.get(types[i]));
+                }
+            }
+        }
+
+
+        /**
+         * Write the value of the field by the adapter for its type, or the
+         * adapter for the class of the value if it is a subclass, as Gson
+         * does for the fields it binds by reflection.
+         */
+        @SuppressWarnings("unchecked")
+        public void write(JsonWriter out, int index, Object value) throws IOException
+        {
+            TypeAdapter<?> adapter = mAdapters[index];
+
+            if (value != null && mTypes[index] instanceof Class && value.getClass() != mTypes[index])
+            {
+                adapter = mGson.getAdapter(value.getClass());
+            }
+
+            ((TypeAdapter<Object>)adapter).write(out, value);
+        }
+
+
+        /**
+         * Read the value of the field by the adapter for its type.
+         */
+        public Object read(JsonReader in, int index) throws IOException
+        {
+            return mAdapters[index].read(in);
+        }
+
+
+        /**
+         * Skip a JSON {@code null}. A JSON {@code null} leaves a field of a
+         * primitive type unchanged.
+         *
+         * @return
+         *         {@code true} if a {@code null} has been skipped.
+         */
+        public static boolean nextNull(JsonReader in) throws IOException
+        {
+            if (in.peek() != JsonToken.NULL)
+            {
+                return false;
+            }
+
+            in.nextNull();
+            return true;
+        }
+
+
+        public static boolean readBoolean(JsonReader in) throws IOException
+        {
+            // Gson accepts "true" and "false" as strings too.
+            if (in.peek() == JsonToken.STRING)
+            {
+                return Boolean.parseBoolean(in.nextString());
+            }
+
+            return in.nextBoolean();
+        }
+
+
+        public static int readInt(JsonReader in) throws IOException
+        {
+            try
+            {
+                return in.nextInt();
+            }
+            catch (NumberFormatException e)
+            {
+                throw new JsonSyntaxException(e);
+            }
+        }
+
+
+        public static long readLong(JsonReader in) throws IOException
+        {
+            try
+            {
+                return in.nextLong();
+            }
+            catch (NumberFormatException e)
+            {
+                throw new JsonSyntaxException(e);
+            }
+        }
+
+
+        public static String readString(JsonReader in) throws IOException
+        {
+            JsonToken token = in.peek();
+
+            if (token == JsonToken.NULL)
+            {
+                in.nextNull();
+                return null;
+            }
+
+            if (token == JsonToken.BOOLEAN)
+            {
+                return Boolean.toString(in.nextBoolean());
+            }
+
+            return in.nextString();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.util;
+
+
+import java.io.IOException;
+import java.io.Reader;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonIOException;
+import com.google.gson.ToNumberPolicy;
+import com.google.gson.TypeAdapterFactory;
+
+
+/**
+ * {@link JsonCodec} implementation using
+ * <a href="https://github.com/google/gson">Gson</a>, which is the default
+ * codec of {@link Utils}.
+ *
+ * <p>
+ * The DTO classes are converted by the type adapters generated for them at
+ * build time (see {@link FieldTypeAdapterFactory}), so that Gson does not
+ * have to bind them by reflection. Classes without a generated adapter are
+ * bound by reflection as usual.
+ * </p>
+ *
+ * @since 4.47
+ */
+public class GsonJsonCodec implements JsonCodec
+{
+    private static final TypeAdapterFactory DTO_TYPE_ADAPTERS =
+            FieldTypeAdapterFactory.load("com.authlete.common.dto");
+
+
+    private final Gson mGson;
+    private final Gson mPrettyGson;
+
+
+    public GsonJsonCodec()
+    {
+        mGson       = gsonBuilder().create();
+        mPrettyGson = gsonBuilder().setPrettyPrinting().create();
+    }
+
+
+    private static GsonBuilder gsonBuilder()
+    {
+        GsonBuilder builder = new GsonBuilder()
+                .serializeNulls()
+                .setObjectToNumberStrategy(ToNumberPolicy.LONG_OR_DOUBLE)
+                ;
+
+        if (DTO_TYPE_ADAPTERS != null)
+        {
+            builder.registerTypeAdapterFactory(DTO_TYPE_ADAPTERS);
+        }
+
+        return builder;
+    }
+
+
+    @Override
+    public String toJson(Object object, boolean pretty)
+    {
+        return pretty ? mPrettyGson.toJson(object) : mGson.toJson(object);
+    }
+
+
+    @Override
+    public void toJson(Object object, Appendable writer) throws IOException
+    {
+        try
+        {
+            mGson.toJson(object, writer);
+        }
+        catch (JsonIOException e)
+        {
+            // Unwrap the I/O error on the writer.
+            if (e.getCause() instanceof IOException)
+            {
+                throw (IOException)e.getCause();
+            }
+
+            throw e;
+        }
+    }
+
+
+    @Override
+    public <T> T fromJson(String json, Class<T> klass)
+    {
+        return mGson.fromJson(json, klass);
+    }
+
+
+    @Override
+    public <T> T fromJson(Reader reader, Class<T> klass)
+    {
+        return mGson.fromJson(reader, klass);
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.util;
+
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.Comparator;
+import java.util.List;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonSyntaxException;
+import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+
+
+/**
+ * {@link JsonCodec} implementation using
+ * <a href="https://github.com/FasterXML/jackson">Jackson</a>.
+ *
+ * <p>
+ * The mapper is configured to produce the same JSON as {@link GsonJsonCodec},
+ * except for the HTML escaping described below. Objects are bound through
+ * their non-static, non-transient fields only, and getters, setters and
+ * Jackson annotations are ignored. Fields are written in the order Gson
+ * uses, that is, the fields of a class before the fields it inherits, each
+ * class in declaration order. {@code null} fields are written, unknown
+ * properties and unknown enum names are ignored, and JSON integers read into
+ * {@code Object} become {@code Long}. Bindings are built once per class and
+ * cached by Jackson, so converting DTOs such as {@link
+ * com.authlete.common.dto.Service Service} and {@link
+ * com.authlete.common.dto.Client Client} is usually cheaper than with Gson.
+ * </p>
+ *
+ * <p>
+ * Unlike Gson, this codec does not escape HTML characters such as
+ * {@code <} and {@code >}, and it requires classes to have a no-argument
+ * constructor. Errors are reported by the same exceptions as Gson's, as
+ * described in {@link JsonCodec}.
+ * </p>
+ *
+ * <pre style="border: 1px solid black; padding: 0.5em; margin: 0.5em;">
+ * Utils.{@link Utils#setJsonCodec(JsonCodec) setJsonCodec}(new JacksonJsonCodec());
+ * </pre>
+ *
+ * @since 4.47
+ */
+public class JacksonJsonCodec implements JsonCodec
+{
+    private final ObjectMapper mMapper;
+    private final ObjectWriter mPrettyWriter;
+
+
+    public JacksonJsonCodec()
+    {
+        mMapper = JsonMapper.builder()
+                .disable(MapperFeature.USE_ANNOTATIONS)
+                .visibility(PropertyAccessor.ALL, Visibility.NONE)
+                .visibility(PropertyAccessor.FIELD, Visibility.ANY)
+                .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .enable(DeserializationFeature.READ_UNKNOWN_ENUM_VALUES_AS_NULL)
+                .enable(DeserializationFeature.USE_LONG_FOR_INTS)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .disable(JsonParser.Feature.AUTO_CLOSE_SOURCE)
+                .addModule(new SimpleModule().setSerializerModifier(new GsonFieldOrder()))
+                .build();
+
+        mPrettyWriter = mMapper.writerWithDefaultPrettyPrinter();
+    }
+
+
+    @Override
+    public String toJson(Object object, boolean pretty)
+    {
+        try
+        {
+            return pretty ? mPrettyWriter.writeValueAsString(object)
+                          : mMapper.writeValueAsString(object);
+        }
+        catch (IOException e)
+        {
+            throw new JsonIOException(e);
+        }
+    }
+
+
+    @Override
+    public void toJson(Object object, Appendable writer) throws IOException
+    {
+        try
+        {
+            if (writer instanceof Writer)
+            {
+                mMapper.writeValue((Writer)writer, object);
+                return;
+            }
+
+            StringWriter sw = new StringWriter();
+            mMapper.writeValue(sw, object);
+            writer.append(sw.getBuffer());
+        }
+        catch (JsonProcessingException e)
+        {
+            // The object cannot be serialized. An error of the writer is
+            // thrown as is.
+            throw new JsonIOException(e);
+        }
+    }
+
+
+    @Override
+    public <T> T fromJson(String json, Class<T> klass)
+    {
+        if (json == null || json.isEmpty())
+        {
+            return null;
+        }
+
+        try
+        {
+            return mMapper.readValue(json, klass);
+        }
+        catch (IOException e)
+        {
+            throw new JsonSyntaxException(e);
+        }
+    }
+
+
+    @Override
+    public <T> T fromJson(Reader reader, Class<T> klass)
+    {
+        try
+        {
+            return readValue(reader, klass);
+        }
+        catch (IOException e)
+        {
+            throw new JsonSyntaxException(e);
+        }
+    }
+
+
+    private <T> T readValue(Reader reader, Class<T> klass) throws IOException
+    {
+        // Return null for an empty input as Gson does, instead of failing
+        // with "No content to map due to end-of-input".
+        try (JsonParser parser = mMapper.createParser(reader))
+        {
+            if (parser.nextToken() == null)
+            {
+                return null;
+            }
+
+            return mMapper.readValue(parser, klass);
+        }
+    }
+
+
+    /**
+     * Puts the fields of a subclass before the inherited ones. Jackson lists
+     * inherited fields first, while Gson starts from the class itself and
+     * then walks up its superclasses.
+     */
+    private static class GsonFieldOrder extends BeanSerializerModifier
+    {
+        private static final long serialVersionUID = 1L;
+
+
+        @Override
+        public List<BeanPropertyWriter> orderProperties(
+                SerializationConfig config, BeanDescription description,
+                List<BeanPropertyWriter> properties)
+        {
+            // List.sort() is stable, so the declaration order within
+            // each class is kept.
+            properties.sort(Comparator.comparingInt(
+                    (BeanPropertyWriter property) -> -depth(property.getMember().getDeclaringClass())));
+
+            return properties;
+        }
+
+
+        private static int depth(Class<?> klass)
+        {
+            int depth = 0;
+
+            for (Class<?> c = klass; c != null; c = c.getSuperclass())
+            {
+                depth++;
+            }
+
+            return depth;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.util;
+
+
+import java.io.IOException;
+import java.io.Reader;
+
+
+/**
+ * Converter between Java objects and JSON, which is used by {@link
+ * Utils#toJson(Object) Utils.toJson} and {@link Utils#fromJson(String,
+ * Class) Utils.fromJson} and thus by the implementations of {@link
+ * com.authlete.common.api.AuthleteApi AuthleteApi} to write request bodies
+ * and read response bodies.
+ *
+ * <p>
+ * Implementations must map fields of objects to JSON properties of the same
+ * names, as <a href="https://github.com/google/gson">Gson</a> does, write
+ * {@code null} fields as {@code null}, and convert JSON numbers whose Java
+ * type is not specified into {@code Long} or {@code Double}. Implementations
+ * must be thread-safe.
+ * </p>
+ *
+ * <p>
+ * Implementations must report errors by the same exceptions as Gson, so that
+ * callers get the same exception for the same input whichever codec is used.
+ * Errors of {@code fromJson} methods, that is, malformed JSON, JSON which
+ * does not match the class and failures to read the input, are reported by
+ * {@link com.google.gson.JsonSyntaxException JsonSyntaxException}, and
+ * failures to serialize an object by {@link com.google.gson.JsonIOException
+ * JsonIOException}. Both are subclasses of
+ * {@link com.google.gson.JsonParseException JsonParseException}. Only
+ * {@link #toJson(Object, Appendable)} reports errors of the writer by
+ * {@code IOException}.
+ * </p>
+ *
+ * <p>
+ * {@link GsonJsonCodec} is used by default. {@link JacksonJsonCodec} can be
+ * used instead by {@link Utils#setJsonCodec(JsonCodec)}.
+ * </p>
+ *
+ * @since 4.47
+ */
+public interface JsonCodec
+{
+    /**
+     * Convert the given object into a JSON string.
+     *
+     * @param object
+     *         The input object. Not {@code null}.
+     *
+     * @param pretty
+     *         True for human-readable format.
+     *
+     * @return
+     *         A JSON string.
+     */
+    String toJson(Object object, boolean pretty);
+
+
+    /**
+     * Write the JSON representation of the given object into the given
+     * writer.
+     *
+     * @param object
+     *         The input object. If {@code null} is given, {@code null} is
+     *         written as JSON.
+     *
+     * @param writer
+     *         The destination of the JSON.
+     *
+     * @throws IOException
+     *         Failed to write the JSON into the writer.
+     */
+    void toJson(Object object, Appendable writer) throws IOException;
+
+
+    /**
+     * Convert the given JSON string into an object.
+     *
+     * @param json
+     *         The input JSON.
+     *
+     * @param klass
+     *         The class of the resultant object.
+     *
+     * @return
+     *         A new object generated based on the input JSON. If {@code
+     *         json} is {@code null} or empty, {@code null} is returned.
+     *
+     * @throws com.google.gson.JsonSyntaxException
+     *         The JSON is malformed or does not match the class.
+     */
+    <T> T fromJson(String json, Class<T> klass);
+
+
+    /**
+     * Convert the JSON read from the given reader into an object.
+     *
+     * @param reader
+     *         The reader from which the input JSON is read.
+     *
+     * @param klass
+     *         The class of the resultant object.
+     *
+     * @return
+     *         A new object generated based on the input JSON. If the reader
+     *         provides no data, {@code null} is returned.
+     *
+     * @throws com.google.gson.JsonSyntaxException
+     *         The JSON is malformed or does not match the class, or reading
+     *         from the reader failed.
+     */
+    <T> T fromJson(Reader reader, Class<T> klass);
+}
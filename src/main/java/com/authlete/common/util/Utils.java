@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2015-2024 Authlete, Inc.
+ * Copyright (C) 2015-2026 Authlete, Inc.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,18 +16,16 @@
 package com.authlete.common.util;
 
 
+import java.io.IOException;
+import java.io.Reader;
 import com.authlete.common.dto.Property;
 import com.authlete.common.dto.Scope;
 import com.authlete.common.types.Prompt;
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.ToNumberPolicy;
 
 
 public class Utils
 {
-    private static final Gson GSON = gsonBuilder().create();
-    private static final Gson PRETTY_GSON = gsonBuilder().setPrettyPrinting().create();
+    private static volatile JsonCodec sJsonCodec = new GsonJsonCodec();
 
 
     private Utils()
@@ -35,12 +33,38 @@ public class Utils
     }
 
 
-    private static GsonBuilder gsonBuilder()
+    /**
+     * Get the codec used by the {@code toJson} and {@code fromJson} methods.
+     *
+     * @return
+     *         The JSON codec. {@link GsonJsonCodec} by default.
+     *
+     * @since 4.47
+     */
+    public static JsonCodec getJsonCodec()
+    {
+        return sJsonCodec;
+    }
+
+
+    /**
+     * Set the codec used by the {@code toJson} and {@code fromJson} methods.
+     *
+     * <p>
+     * The codec is shared by the whole JVM, including the implementations of
+     * {@link com.authlete.common.api.AuthleteApi AuthleteApi}, so it should
+     * be set once at startup.
+     * </p>
+     *
+     * @param codec
+     *         The JSON codec. If {@code null} is given, the default codec
+     *         ({@link GsonJsonCodec}) is used.
+     *
+     * @since 4.47
+     */
+    public static void setJsonCodec(JsonCodec codec)
     {
-        return new GsonBuilder()
-                .serializeNulls()
-                .setObjectToNumberStrategy(ToNumberPolicy.LONG_OR_DOUBLE)
-                ;
+        sJsonCodec = (codec != null) ? codec : new GsonJsonCodec();
     }
 
 
@@ -98,7 +122,7 @@ public class Utils
 
     /**
      * Convert the given object into a JSON string using
-     * <a href="https://github.com/google/gson">Gson</a>.
+     * the {@link #getJsonCodec() JSON codec}.
      *
      * @param object
      *         The input object.
@@ -117,7 +141,7 @@ public class Utils
 
     /**
      * Convert the given object into a JSON string using
-     * <a href="https://github.com/google/gson">Gson</a>.
+     * the {@link #getJsonCodec() JSON codec}.
      *
      * @param object
      *         The input object.
@@ -138,20 +162,40 @@ public class Utils
             return null;
         }
 
-        if (pretty)
-        {
-            return PRETTY_GSON.toJson(object);
-        }
-        else
-        {
-            return GSON.toJson(object);
-        }
+        return sJsonCodec.toJson(object, pretty);
+    }
+
+
+    /**
+     * Write the JSON representation of the given object into the given
+     * writer using the {@link #getJsonCodec() JSON codec}.
+     *
+     * <p>
+     * Unlike {@link #toJson(Object)}, this method does not build the entire
+     * JSON as a string in memory.
+     * </p>
+     *
+     * @param object
+     *         The input object. If {@code null} is given, {@code null} is
+     *         written as JSON.
+     *
+     * @param writer
+     *         The destination of the JSON.
+     *
+     * @throws IOException
+     *         Writing to the writer failed.
+     *
+     * @since 4.47
+     */
+    public static void toJson(Object object, Appendable writer) throws IOException
+    {
+        sJsonCodec.toJson(object, writer);
     }
 
 
     /**
      * Convert the given JSON string into an object using
-     * <a href="https://github.com/google/gson">Gson</a>.
+     * the {@link #getJsonCodec() JSON codec}.
      *
      * @param json
      *         The input JSON.
@@ -166,7 +210,34 @@ public class Utils
      */
     public static <T> T fromJson(String json, Class<T> klass)
     {
-        return GSON.fromJson(json, klass);
+        return sJsonCodec.fromJson(json, klass);
+    }
+
+
+    /**
+     * Convert the JSON read from the given reader into an object using
+     * the {@link #getJsonCodec() JSON codec}.
+     *
+     * <p>
+     * Unlike {@link #fromJson(String, Class)}, this method does not require
+     * the entire JSON to be held in memory as a string before parsing.
+     * </p>
+     *
+     * @param reader
+     *         The reader from which the input JSON is read.
+     *
+     * @param klass
+     *         The class of the resultant object.
+     *
+     * @return
+     *         A new object generated based on the input JSON. If the reader
+     *         provides no data, {@code null} is returned.
+     *
+     * @since 4.47
+     */
+    public static <T> T fromJson(Reader reader, Class<T> klass)
+    {
+        return sJsonCodec.fromJson(reader, klass);
     }
 
 
@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.annotationprocessor;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import com.authlete.common.dto.ApiResponse;
+import com.authlete.common.dto.AuthorizationFailResponse;
+import com.authlete.common.dto.Pair;
+import com.authlete.common.dto.Scope;
+import com.authlete.common.dto.Service;
+import com.authlete.common.dto.ServiceListResponse;
+import com.authlete.common.types.GrantType;
+
+
+public class NativeImageConfigGeneratorTest
+{
+    @Test
+    public void testCollect_ReachableClasses()
+    {
+        Collection<Class<?>> classes = NativeImageConfigGenerator.collect(
+                Arrays.asList(ServiceListResponse.class, AuthorizationFailResponse.class));
+
+        // The roots, their superclasses, and classes reachable through arrays.
+        assertTrue(classes.contains(ServiceListResponse.class));
+        assertTrue(classes.contains(AuthorizationFailResponse.class));
+        assertTrue(classes.contains(ApiResponse.class));
+        assertTrue(classes.contains(Service.class));
+        assertTrue(classes.contains(Scope.class));
+        assertTrue(classes.contains(Pair.class));
+        assertTrue(classes.contains(GrantType.class));
+
+        // Classes outside the library are not registered.
+        assertFalse(classes.contains(String.class));
+        assertFalse(classes.contains(Object.class));
+    }
+
+
+    @Test
+    public void testBuildConfig()
+    {
+        List<Map<String, Object>> config = NativeImageConfigGenerator.buildConfig(
+                NativeImageConfigGenerator.collect(Collections.singletonList(Pair.class)));
+
+        assertEquals(1, config.size());
+        assertEquals(Pair.class.getName(), config.get(0).get("name"));
+        assertEquals(true, config.get(0).get("allDeclaredFields"));
+        assertEquals(true, config.get(0).get("allDeclaredConstructors"));
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.annotationprocessor;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import org.reflections.Reflections;
+import org.reflections.scanners.SubTypesScanner;
+import com.authlete.common.dto.ApiResponse;
+import com.authlete.common.dto.Pair;
+import com.authlete.common.dto.RevocationResponse;
+import com.authlete.common.dto.Service;
+import com.authlete.common.util.FieldTypeAdapterFactory;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+
+public class TypeAdapterGeneratorTest
+{
+    private static final String PACKAGE_NAME = "com.authlete.common.dto";
+
+    private static final Gson REFLECTIVE = new GsonBuilder().serializeNulls().create();
+
+    private static final Gson GENERATED = new GsonBuilder().serializeNulls()
+            .registerTypeAdapterFactory(FieldTypeAdapterFactory.load(PACKAGE_NAME)).create();
+
+
+    private static boolean isGenerated(Class<?> clazz)
+    {
+        return GENERATED.getAdapter(clazz).getClass().getEnclosingClass() == FieldTypeAdapterFactory.class;
+    }
+
+
+    @Test
+    public void testFactoryIsGenerated()
+    {
+        assertNotNull(FieldTypeAdapterFactory.load(PACKAGE_NAME));
+        assertNull(FieldTypeAdapterFactory.load("com.authlete.common.types"));
+
+        assertTrue(isGenerated(Service.class));
+        assertTrue(isGenerated(Pair.class));
+        assertTrue(isGenerated(RevocationResponse.class));
+        assertFalse(isGenerated(String.class));
+    }
+
+
+    @Test
+    public void testSameJsonAsReflection() throws Exception
+    {
+        int count = 0;
+
+        for (Class<?> clazz : new Reflections(PACKAGE_NAME, new SubTypesScanner(false)).getSubTypesOf(Object.class))
+        {
+            // Skip the test classes in the package.
+            if (!TypeAdapterGenerator.isSupported(clazz)
+                    || clazz.getProtectionDomain().getCodeSource().getLocation().getPath().contains("test-classes"))
+            {
+                continue;
+            }
+
+            assertTrue(clazz.getName(), isGenerated(clazz));
+
+            Object object = fill(clazz, 2);
+            String json = REFLECTIVE.toJson(object);
+
+            // The same fields in the same order, and the same values.
+            assertEquals(clazz.getName(), json, GENERATED.toJson(object));
+            assertEquals(clazz.getName(), json, REFLECTIVE.toJson(GENERATED.fromJson(json, clazz)));
+
+            count++;
+        }
+
+        assertTrue(count > 100);
+    }
+
+
+    @Test
+    public void testInheritedFields()
+    {
+        RevocationResponse response = new RevocationResponse();
+        response.setResultCode("A004001");
+        response.setAction(RevocationResponse.Action.OK);
+
+        String json = GENERATED.toJson(response);
+
+        // The fields of the class come before the inherited ones.
+        assertTrue(json.indexOf("\"action\"") < json.indexOf("\"resultCode\""));
+        assertEquals(REFLECTIVE.toJson(response), json);
+    }
+
+
+    @Test
+    public void testRead()
+    {
+        Service service = GENERATED.fromJson(
+                "{\"serviceName\":true,\"accessTokenDuration\":\"3600\",\"refreshTokenDuration\":null," +
+                "\"unknown\":{\"a\":[1,2]},\"directTokenEndpointEnabled\":\"true\"}", Service.class);
+
+        // Gson accepts a boolean for a string and a string for a number.
+        assertEquals("true", service.getServiceName());
+        assertEquals(3600, service.getAccessTokenDuration());
+        assertTrue(service.isDirectTokenEndpointEnabled());
+
+        // A null leaves a primitive field unchanged.
+        assertEquals(new Service().getRefreshTokenDuration(), service.getRefreshTokenDuration());
+
+        assertNull(GENERATED.fromJson("null", Service.class));
+    }
+
+
+    @Test
+    public void testSubclassWithoutAdapter()
+    {
+        // Gson binds a subclass defined outside the package by reflection.
+        Pair[] pairs = { new NamedPair() };
+
+        assertEquals(REFLECTIVE.toJson(pairs), GENERATED.toJson(pairs));
+        assertTrue(GENERATED.toJson(pairs).contains("\"name\""));
+    }
+
+
+    @Test
+    public void testSource()
+    {
+        List<String> write = TypeAdapterGenerator.writeMethods(ApiResponse.class);
+        List<String> read  = TypeAdapterGenerator.readMethods(RevocationResponse.class);
+
+        assertTrue(write.get(0).contains("out.name(\"resultCode\");out.value(o.resultCode);"));
+        assertTrue(read.get(read.size() - 1).contains(
+                "return com.authlete.common.dto.ApiResponse." + TypeAdapterGenerator.READ_METHOD));
+
+        // Large classes are split into several methods.
+        int chunks = (TypeAdapterGenerator.boundFields(Service.class).size() - 1) / TypeAdapterGenerator.CHUNK_SIZE + 1;
+
+        assertEquals(chunks + 1, TypeAdapterGenerator.writeMethods(Service.class).size());
+        assertEquals(chunks + 1, TypeAdapterGenerator.readMethods(Service.class).size());
+    }
+
+
+    /**
+     * Create an instance of the class with a value in every field.
+     */
+    private static Object fill(Class<?> clazz, int depth) throws Exception
+    {
+        Object object = clazz.getDeclaredConstructor().newInstance();
+        int index = 0;
+
+        for (Field field : TypeAdapterGenerator.boundFields(clazz))
+        {
+            field.setAccessible(true);
+            field.set(object, sample(field, field.getType(), depth, index++));
+        }
+
+        return object;
+    }
+
+
+    private static Object sample(Field field, Class<?> type, int depth, int index) throws Exception
+    {
+        if (type == boolean.class)
+        {
+            return index % 2 == 0;
+        }
+        else if (type == int.class)
+        {
+            return index + 1;
+        }
+        else if (type == long.class)
+        {
+            return 1000000000000L + index;
+        }
+        else if (type == String.class)
+        {
+            return field.getName() + "-" + index;
+        }
+        else if (type == URI.class)
+        {
+            return URI.create("https://example.com/" + field.getName());
+        }
+        else if (type.isEnum())
+        {
+            Object[] constants = type.getEnumConstants();
+
+            return constants[index % constants.length];
+        }
+        else if (type == Map.class)
+        {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("Content-Type", Collections.singletonList("application/json"));
+            map.put("Vary", Arrays.asList("Accept", "Origin"));
+
+            return map;
+        }
+        else if (type.isArray())
+        {
+            Object component = sample(field, type.getComponentType(), depth - 1, index);
+
+            if (component == null)
+            {
+                return null;
+            }
+
+            Object array = Array.newInstance(type.getComponentType(), 1);
+            Array.set(array, 0, component);
+
+            return array;
+        }
+        else if (type.getName().startsWith(PACKAGE_NAME) && depth > 0)
+        {
+            try
+            {
+                return fill(type, depth - 1);
+            }
+            catch (NoSuchMethodException e)
+            {
+                return null;
+            }
+        }
+
+        return null;
+    }
+
+
+    private static class NamedPair extends Pair
+    {
+        private static final long serialVersionUID = 1L;
+
+        private String name = "named";
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.junit.Test;
+import com.authlete.common.api.HttpTransportTest.StubTransport;
+import com.authlete.common.dto.IntrospectionRequest;
+
+
+public class ApiCallMetricsTest
+{
+    private static final String INTROSPECTION = "/api/{}/auth/introspection";
+
+
+    private static List<ApiCallEvent> listen(AuthleteApi api)
+    {
+        List<ApiCallEvent> events = new ArrayList<>();
+        api.getSettings().setApiCallListener(events::add);
+
+        return events;
+    }
+
+
+    private static void introspectQuietly(AuthleteApi api)
+    {
+        try
+        {
+            api.introspection(new IntrospectionRequest().setToken("at"));
+        }
+        catch (AuthleteApiException e)
+        {
+            // Expected for error responses.
+        }
+    }
+
+
+    @Test
+    public void testSuccessfulCall()
+    {
+        String body = "{\"action\":\"OK\"}";
+        StubTransport transport = new StubTransport(body);
+        AuthleteApi api = HttpTransportTest.createApi(transport);
+        List<ApiCallEvent> events = listen(api);
+
+        api.introspection(new IntrospectionRequest().setToken("at"));
+
+        assertEquals(1, events.size());
+        ApiCallEvent event = events.get(0);
+        assertEquals("POST", event.getMethod());
+        assertEquals(INTROSPECTION, event.getPathTemplate());
+        assertEquals(200, event.getStatusCode());
+        assertEquals(ApiCallEvent.Outcome.SUCCESS, event.getOutcome());
+        assertEquals(1, event.getAttempts());
+        assertEquals(transport.bodies.get(0).length(), event.getRequestBytes());
+        assertEquals(body.length(), event.getResponseBytes());
+        assertTrue(event.getTotalTime() > 0);
+        assertEquals(-1, event.getConnectTime());
+        assertTrue(event.getWaitTime() >= 0);
+        assertTrue(event.getProcessTime() >= 0);
+        assertNull(event.getFailure());
+    }
+
+
+    @Test
+    public void testStreamingRequestBodyIsCounted()
+    {
+        StubTransport transport = new StubTransport("{\"action\":\"OK\"}");
+        AuthleteApi api = HttpTransportTest.createApi(transport);
+        api.getSettings().setRequestBodyStreamingEnabled(true);
+        List<ApiCallEvent> events = listen(api);
+
+        api.introspection(new IntrospectionRequest().setToken("at"));
+
+        assertEquals(transport.bodies.get(0).length(), events.get(0).getRequestBytes());
+    }
+
+
+    @Test
+    public void testErrorOutcomes()
+    {
+        StubTransport transport = new StubTransport("{\"resultCode\":\"A001\"}");
+        AuthleteApi api = HttpTransportTest.createApi(transport);
+        List<ApiCallEvent> events = listen(api);
+
+        transport.statusCode = 400;
+        introspectQuietly(api);
+        transport.statusCode = 503;
+        introspectQuietly(api);
+
+        assertEquals(ApiCallEvent.Outcome.CLIENT_ERROR, events.get(0).getOutcome());
+        assertEquals(400, events.get(0).getStatusCode());
+        assertEquals(ApiCallEvent.Outcome.SERVER_ERROR, events.get(1).getOutcome());
+        assertEquals(503, events.get(1).getStatusCode());
+        assertTrue(events.get(1).getFailure() instanceof AuthleteApiException);
+    }
+
+
+    @Test
+    public void testRejectedCall()
+    {
+        StubTransport transport = new StubTransport("{}");
+        transport.statusCode = 503;
+        AuthleteApi api = HttpTransportTest.createApi(transport);
+        api.getSettings().setCircuitBreakerPolicy(new CircuitBreakerPolicy()
+                .setSlidingWindowSize(2).setMinimumNumberOfCalls(2).setOpenDuration(60000));
+        List<ApiCallEvent> events = listen(api);
+
+        for (int i = 0; i < 3; i++)
+        {
+            introspectQuietly(api);
+        }
+
+        ApiCallEvent event = events.get(2);
+        assertEquals(ApiCallEvent.Outcome.REJECTED, event.getOutcome());
+        assertEquals(0, event.getAttempts());
+        assertTrue(event.getFailure() instanceof AuthleteApiCircuitOpenException);
+    }
+
+
+    @Test
+    public void testBrokenListenerDoesNotBreakCall()
+    {
+        AuthleteApi api = HttpTransportTest.createApi(new StubTransport("{\"action\":\"OK\"}"));
+        api.getSettings().setApiCallListener(event -> { throw new IllegalStateException(); });
+
+        api.introspection(new IntrospectionRequest().setToken("at"));
+    }
+
+
+    @Test
+    public void testMetrics()
+    {
+        StubTransport transport = new StubTransport("{\"action\":\"OK\"}");
+        AuthleteApi api = HttpTransportTest.createApi(transport);
+        ApiCallMetrics metrics = new ApiCallMetrics();
+        api.getSettings().setApiCallListener(metrics);
+
+        for (int i = 0; i < 3; i++)
+        {
+            introspectQuietly(api);
+        }
+
+        transport.statusCode = 400;
+        introspectQuietly(api);
+
+        assertEquals(4, metrics.getTotalCount());
+
+        ApiCallStatistics statistics = metrics.getStatistics().get(0);
+        assertEquals("POST", statistics.getMethod());
+        assertEquals(INTROSPECTION, statistics.getPathTemplate());
+        assertEquals(4, statistics.getCount());
+        assertEquals(1, statistics.getErrorCount());
+        assertEquals(Long.valueOf(3), statistics.getStatusCodeCounts().get(200));
+        assertEquals(Long.valueOf(1), statistics.getStatusCodeCounts().get(400));
+        assertTrue(statistics.getP50Time() <= statistics.getP99Time());
+        assertTrue(statistics.getP99Time() <= statistics.getMaxTime());
+
+        metrics.reset();
+        assertEquals(0, metrics.getTotalCount());
+    }
+
+
+    @Test
+    public void testHistogramPercentiles()
+    {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        for (long i = 1; i <= 100000; i++)
+        {
+            histogram.record(i * 1000);
+        }
+
+        assertEquals(100000, histogram.count());
+        assertEquals(100000000, histogram.max());
+        assertEquals(50000000, histogram.percentile(50), 50000000 * 0.04);
+        assertEquals(99000000, histogram.percentile(99), 99000000 * 0.04);
+        assertEquals(50000500, histogram.mean(), 1);
+
+        // Small values are exact.
+        histogram.reset();
+        histogram.record(3);
+        histogram.record(7);
+        assertEquals(3, histogram.percentile(50));
+        assertEquals(7, histogram.percentile(100));
+    }
+
+
+    @Test
+    public void testJmxRegistration() throws Exception
+    {
+        ApiCallMetrics metrics = new ApiCallMetrics();
+        ObjectName name = metrics.register("test");
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        try
+        {
+            assertTrue(server.isRegistered(name));
+            assertEquals(0L, server.getAttribute(name, "TotalCount"));
+            server.getAttribute(name, "Statistics");
+        }
+        finally
+        {
+            metrics.unregister();
+        }
+
+        assertTrue(!server.isRegistered(name));
+    }
+}
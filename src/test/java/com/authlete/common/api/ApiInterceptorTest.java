@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Test;
+import com.authlete.common.api.HttpTransportTest.StubTransport;
+import com.authlete.common.dto.IntrospectionRequest;
+import com.authlete.common.dto.IntrospectionResponse;
+
+
+public class ApiInterceptorTest
+{
+    @Test
+    public void testInterceptorsRunInOrder()
+    {
+        StubTransport transport = new StubTransport("{\"action\":\"OK\"}");
+        transport.headers.put("X-Test", Collections.singletonList("value"));
+        AuthleteApi api = HttpTransportTest.createApi(transport);
+        List<String> trace = new ArrayList<>();
+
+        api.getSettings()
+            .addApiInterceptor(invocation -> {
+                trace.add("first:" + invocation.getMethod() + " " + invocation.getPathTemplate());
+                Object response = invocation.proceed();
+                trace.add("first:" + invocation.getStatusCode());
+                return response;
+            })
+            .addApiInterceptor(invocation -> {
+                trace.add("second");
+                invocation.getHeaders().put("traceparent", "00-abc-01");
+                Object response = invocation.proceed();
+                assertEquals(Arrays.asList("value"), invocation.getResponseHeaders().get("X-Test"));
+                return response;
+            });
+
+        IntrospectionResponse response = api.introspection(new IntrospectionRequest().setToken("at"));
+
+        assertEquals(IntrospectionResponse.Action.OK, response.getAction());
+        assertEquals(Arrays.asList("first:POST /api/{}/auth/introspection", "second", "first:200"), trace);
+        assertEquals("00-abc-01", transport.requests.get(0).getHeaders().get("traceparent"));
+    }
+
+
+    @Test
+    public void testShortCircuit()
+    {
+        StubTransport transport = new StubTransport("{\"action\":\"OK\"}");
+        AuthleteApi api = HttpTransportTest.createApi(transport);
+        IntrospectionResponse cached = new IntrospectionResponse();
+
+        api.getSettings().addApiInterceptor(invocation -> cached);
+
+        assertSame(cached, api.introspection(new IntrospectionRequest().setToken("at")));
+        assertTrue(transport.requests.isEmpty());
+    }
+
+
+    @Test
+    public void testModifyRequestBody()
+    {
+        StubTransport transport = new StubTransport("{\"action\":\"OK\"}");
+        AuthleteApi api = HttpTransportTest.createApi(transport);
+
+        api.getSettings().addApiInterceptor(invocation -> {
+            ((IntrospectionRequest)invocation.getRequestBody()).setToken("replaced");
+            return invocation.proceed();
+        });
+
+        api.introspection(new IntrospectionRequest().setToken("at"));
+
+        assertTrue(transport.bodies.get(0).contains("\"token\":\"replaced\""));
+    }
+
+
+    @Test
+    public void testReservedHeadersAreIgnored()
+    {
+        StubTransport transport = new StubTransport("{\"action\":\"OK\"}");
+        AuthleteApi api = HttpTransportTest.createApi(transport);
+
+        api.getSettings().addApiInterceptor(invocation -> {
+            invocation.getHeaders().put("Authorization", "Bearer other");
+            return invocation.proceed();
+        });
+
+        api.introspection(new IntrospectionRequest().setToken("at"));
+
+        assertEquals("Bearer token", transport.requests.get(0).getHeaders().get("Authorization"));
+    }
+
+
+    @Test
+    public void testInterceptorCanProceedTwice()
+    {
+        StubTransport transport = new StubTransport("{\"action\":\"OK\"}");
+        AuthleteApi api = HttpTransportTest.createApi(transport);
+        List<String> trace = new ArrayList<>();
+
+        api.getSettings()
+            .addApiInterceptor(invocation -> {
+                invocation.proceed();
+                return invocation.proceed();
+            })
+            .addApiInterceptor(invocation -> {
+                trace.add("inner");
+                return invocation.proceed();
+            });
+
+        api.introspection(new IntrospectionRequest().setToken("at"));
+
+        assertEquals(2, trace.size());
+        assertEquals(2, transport.requests.size());
+    }
+
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullInterceptor()
+    {
+        new Settings().addApiInterceptor(null);
+    }
+}
@@ -0,0 +1,356 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import com.authlete.common.api.HttpTransportTest.StubResponse;
+import com.authlete.common.api.HttpTransportTest.StubTransport;
+import com.authlete.common.dto.IntrospectionRequest;
+import com.authlete.common.dto.IntrospectionResponse;
+import com.authlete.common.dto.Service;
+
+
+public class AuthleteAsyncApiTest
+{
+    @Test
+    public void testCompletion() throws Exception
+    {
+        StubTransport transport = new StubTransport("{\"action\":\"OK\"}");
+        AuthleteAsyncApi api = AuthleteApiFactory.createAsync(
+                HttpTransportTest.createApi(transport), Runnable::run);
+
+        IntrospectionResponse response =
+                api.introspection(new IntrospectionRequest().setToken("at")).get();
+
+        assertEquals(IntrospectionResponse.Action.OK, response.getAction());
+    }
+
+
+    @Test
+    public void testExceptionalCompletion() throws Exception
+    {
+        StubTransport transport = new StubTransport(null);
+        transport.statusCode = 500;
+        AuthleteAsyncApi api = AuthleteApiFactory.createAsync(
+                HttpTransportTest.createApi(transport), null);
+
+        try
+        {
+            api.tokenDelete("at").get();
+            fail("The future should complete exceptionally.");
+        }
+        catch (ExecutionException e)
+        {
+            assertTrue(e.getCause() instanceof AuthleteApiException);
+            assertEquals(500, ((AuthleteApiException)e.getCause()).getStatusCode());
+        }
+    }
+
+
+    /**
+     * A transport whose asynchronous exchanges are completed by the test.
+     */
+    private static class AsyncTransport implements HttpTransport
+    {
+        final List<HttpTransportRequest> requests = new ArrayList<>();
+        final List<CompletableFuture<HttpTransportResponse>> responses = new ArrayList<>();
+
+
+        @Override
+        public HttpTransportResponse execute(HttpTransportRequest request) throws IOException
+        {
+            throw new AssertionError("The blocking method should not be used.");
+        }
+
+
+        @Override
+        public synchronized CompletionStage<HttpTransportResponse> executeAsync(
+                HttpTransportRequest request, Executor executor)
+        {
+            CompletableFuture<HttpTransportResponse> response = new CompletableFuture<>();
+            requests.add(request);
+            responses.add(response);
+
+            return response;
+        }
+
+
+        synchronized void respond(int index, int statusCode, String body)
+        {
+            responses.get(index).complete(new StubResponse(
+                    statusCode, Collections.emptyMap(), body.getBytes(StandardCharsets.UTF_8)));
+        }
+
+
+        synchronized int count()
+        {
+            return requests.size();
+        }
+    }
+
+
+    private static final Executor NO_EXECUTOR = task -> {
+        throw new AssertionError("The executor should not be used.");
+    };
+
+
+    @Test
+    public void testParity() throws Exception
+    {
+        for (Method method : AuthleteApi.class.getMethods())
+        {
+            // The misspelled alias of createService() is not carried over.
+            if (method.isAnnotationPresent(Deprecated.class))
+            {
+                continue;
+            }
+
+            Method async = AuthleteAsyncApi.class.getMethod(method.getName(), method.getParameterTypes());
+
+            // The settings are shared with the synchronous API.
+            if (method.getName().equals("getSettings"))
+            {
+                assertEquals(Settings.class, async.getReturnType());
+                continue;
+            }
+
+            assertEquals(method.toString(), CompletableFuture.class, async.getReturnType());
+
+            Type type = ((ParameterizedType)async.getGenericReturnType()).getActualTypeArguments()[0];
+
+            Type expected = method.getReturnType().isPrimitive()
+                    ? boxed(method.getReturnType()) : method.getGenericReturnType();
+
+            assertEquals(method.toString(), expected, type);
+        }
+    }
+
+
+    private static Class<?> boxed(Class<?> type)
+    {
+        if (type == void.class)
+        {
+            return Void.class;
+        }
+
+        if (type == boolean.class)
+        {
+            return Boolean.class;
+        }
+
+        if (type == long.class)
+        {
+            return Long.class;
+        }
+
+        if (type == int.class)
+        {
+            return Integer.class;
+        }
+
+        return type;
+    }
+
+
+    @Test
+    public void testAsyncTransport() throws Exception
+    {
+        AsyncTransport transport = new AsyncTransport();
+        AuthleteAsyncApi api = AuthleteApiFactory.createAsync(
+                HttpTransportTest.createApi(transport), NO_EXECUTOR);
+
+        CompletableFuture<IntrospectionResponse> future =
+                api.introspection(new IntrospectionRequest().setToken("at"));
+
+        // The request has been sent, and nothing waits for the response.
+        assertEquals(1, transport.count());
+        assertFalse(future.isDone());
+
+        transport.respond(0, 200, "{\"action\":\"OK\"}");
+
+        assertEquals(IntrospectionResponse.Action.OK, future.get(1, TimeUnit.SECONDS).getAction());
+    }
+
+
+    @Test
+    public void testAsyncTransportWithoutResponse() throws Exception
+    {
+        AsyncTransport transport = new AsyncTransport();
+        AuthleteAsyncApi api = AuthleteApiFactory.createAsync(
+                HttpTransportTest.createApi(transport), NO_EXECUTOR);
+
+        CompletableFuture<Void> future = api.deleteService(1);
+
+        assertEquals(1, transport.count());
+        transport.respond(0, 204, "");
+
+        future.get(1, TimeUnit.SECONDS);
+    }
+
+
+    @Test
+    public void testConvertingMethodsRunAsWhole() throws Exception
+    {
+        StubTransport transport = new StubTransport("{\"action\":\"OK\"}");
+        AuthleteApiBasicImpl sync = (AuthleteApiBasicImpl)HttpTransportTest.createApi(transport);
+        IntrospectionRequest request = new IntrospectionRequest().setToken("at");
+        Executor executor = task -> new Thread(task).start();
+
+        // A method which dereferences the response.
+        CompletableFuture<IntrospectionResponse.Action> dereferencing = sync.callAsync(
+                () -> sync.introspection(request).getAction(), IntrospectionResponse.Action.class, executor);
+
+        // A method which returns a value of another type.
+        CompletableFuture<List<IntrospectionResponse>> wrapping = sync.callAsync(
+                () -> Collections.singletonList(sync.introspection(request)), List.class, executor);
+
+        // A method which converts the response without dereferencing null.
+        CompletableFuture<String> converting = sync.callAsync(() -> {
+            IntrospectionResponse response = sync.introspection(request);
+            return (response == null) ? null : response.getAction().name();
+        }, String.class, executor);
+
+        assertEquals(IntrospectionResponse.Action.OK, dereferencing.get(1, TimeUnit.SECONDS));
+        assertEquals(IntrospectionResponse.Action.OK, wrapping.get(1, TimeUnit.SECONDS).get(0).getAction());
+        assertEquals("OK", converting.get(1, TimeUnit.SECONDS));
+        assertEquals(3, transport.requests.size());
+    }
+
+
+    @Test
+    public void testAsyncRetry() throws Exception
+    {
+        AsyncTransport transport = new AsyncTransport();
+        AuthleteApi sync = HttpTransportTest.createApi(transport);
+        sync.getSettings().setRetryPolicy(new RetryPolicy().setInitialBackoff(0).setMaxBackoff(0));
+        AuthleteAsyncApi api = AuthleteApiFactory.createAsync(sync, Runnable::run);
+
+        CompletableFuture<Service> future = api.getService(1);
+
+        // The retryable error is followed by the next attempt.
+        transport.respond(0, 503, "");
+
+        for (long end = System.currentTimeMillis() + 1000; transport.count() < 2; )
+        {
+            assertTrue(System.currentTimeMillis() < end);
+            Thread.sleep(1);
+        }
+
+        assertFalse(future.isDone());
+        transport.respond(1, 200, "{\"apiKey\":1}");
+
+        assertEquals(1, future.get(1, TimeUnit.SECONDS).getApiKey());
+    }
+
+
+    @Test
+    public void testAsyncCoalescing() throws Exception
+    {
+        AsyncTransport transport = new AsyncTransport();
+        AuthleteApi sync = HttpTransportTest.createApi(transport);
+        sync.getSettings().setRequestCoalescingEnabled(true);
+        AuthleteAsyncApi api = AuthleteApiFactory.createAsync(sync, NO_EXECUTOR);
+
+        CompletableFuture<Service> first  = api.getService(1);
+        CompletableFuture<Service> second = api.getService(1);
+
+        // The identical calls share one request.
+        assertEquals(1, transport.count());
+        transport.respond(0, 200, "{\"apiKey\":1}");
+
+        assertEquals(1, first.get(1, TimeUnit.SECONDS).getApiKey());
+        assertEquals(1, second.get(1, TimeUnit.SECONDS).getApiKey());
+    }
+
+
+    @Test
+    public void testInterceptorsOnCallingThread() throws Exception
+    {
+        StubTransport transport = new StubTransport("{\"action\":\"OK\"}");
+        AuthleteApi sync = HttpTransportTest.createApi(transport);
+        ThreadLocal<String> trace = new ThreadLocal<>();
+        List<Integer> statusCodes = Collections.synchronizedList(new ArrayList<>());
+
+        sync.getSettings().addApiInterceptor(invocation -> {
+            // Context bound to the calling thread is available.
+            invocation.getHeaders().put("traceparent", trace.get());
+            assertTrue(invocation.isAsynchronous());
+
+            // The response is inspected when it arrives.
+            return ((CompletionStage<?>)invocation.proceed()).thenApply(response -> {
+                statusCodes.add(invocation.getStatusCode());
+                return response;
+            });
+        });
+
+        // The executor runs tasks on other threads.
+        AuthleteAsyncApi api = AuthleteApiFactory.createAsync(sync, task -> new Thread(task).start());
+
+        trace.set("00-trace-01");
+
+        try
+        {
+            IntrospectionResponse response =
+                    api.introspection(new IntrospectionRequest().setToken("at")).get(1, TimeUnit.SECONDS);
+
+            assertEquals(IntrospectionResponse.Action.OK, response.getAction());
+        }
+        finally
+        {
+            trace.remove();
+        }
+
+        assertEquals("00-trace-01", transport.requests.get(0).getHeaders().get("traceparent"));
+        assertEquals(Collections.singletonList(200), statusCodes);
+    }
+
+
+    @Test
+    public void testInterceptorShortCircuit() throws Exception
+    {
+        StubTransport transport = new StubTransport("{\"action\":\"OK\"}");
+        AuthleteApi sync = HttpTransportTest.createApi(transport);
+        IntrospectionResponse cached = new IntrospectionResponse();
+
+        sync.getSettings().addApiInterceptor(invocation -> cached);
+
+        AuthleteAsyncApi api = AuthleteApiFactory.createAsync(sync, Runnable::run);
+
+        assertSame(cached, api.introspection(new IntrospectionRequest().setToken("at")).get());
+        assertEquals(0, transport.requests.size());
+    }
+}
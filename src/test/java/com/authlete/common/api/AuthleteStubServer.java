@@ -0,0 +1,360 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import com.authlete.common.conf.AuthleteSimpleConfiguration;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+
+/**
+ * A lightweight local stand-in for the Authlete API, for tests and
+ * benchmarks which must not depend on a live Authlete service.
+ *
+ * <p>
+ * Responses are registered per API by the path after the {@code /api}
+ * prefix and the service ID, e.g. {@code "/auth/introspection"}, so that
+ * both the V2 path {@code /api/auth/introspection} and the V3 path
+ * {@code /api/1234/auth/introspection} are served by the same response.
+ * The placeholder <code>${seq}</code> in a response body is replaced with
+ * a number unique to each request. Latency and errors can be injected.
+ * </p>
+ *
+ * <pre>
+ * try (AuthleteStubServer server = new AuthleteStubServer().start())
+ * {
+ *     AuthleteApi api = AuthleteStubServer.createApi(server.getBaseUrl(), "V3");
+ *     server.setLatency(5, 20).setErrorRate(0.01, 503);
+ *     ...
+ * }
+ * </pre>
+ */
+public class AuthleteStubServer implements AutoCloseable
+{
+    /**
+     * Producer of a response body from a request.
+     */
+    @FunctionalInterface
+    public interface Responder
+    {
+        String respond(String method, String path, String query, String requestBody);
+    }
+
+
+    private static class Route
+    {
+        final int status;
+        final Responder responder;
+
+
+        Route(int status, Responder responder)
+        {
+            this.status    = status;
+            this.responder = responder;
+        }
+    }
+
+
+    private final Map<String, Route> mRoutes = new ConcurrentHashMap<>();
+    private final AtomicLong mSequence = new AtomicLong();
+    private final AtomicLong mRequestCount = new AtomicLong();
+    private volatile long mMinLatency;
+    private volatile long mMaxLatency;
+    private volatile double mErrorRate;
+    private volatile int mErrorStatus = 503;
+    private HttpServer mServer;
+    private ExecutorService mExecutor;
+
+
+    /**
+     * Constructor. Responses for the authorization code flow, the
+     * introspection API and the echo API are registered by default.
+     */
+    public AuthleteStubServer()
+    {
+        respond("/auth/authorization", 200,
+                "{\"resultCode\":\"A004001\",\"action\":\"INTERACTION\",\"ticket\":\"ticket-${seq}\"," +
+                "\"client\":{\"clientId\":1,\"clientName\":\"stub\"},\"scopes\":[{\"name\":\"openid\"}]}");
+        respond("/auth/authorization/issue", 200,
+                "{\"resultCode\":\"A040001\",\"action\":\"LOCATION\",\"authorizationCode\":\"code-${seq}\"," +
+                "\"responseContent\":\"https://client.example.com/cb?code=code-${seq}\"}");
+        respond("/auth/token", 200,
+                "{\"resultCode\":\"A050001\",\"action\":\"OK\",\"accessToken\":\"at-${seq}\"," +
+                "\"accessTokenExpiresAt\":4102444800000,\"subject\":\"user\"," +
+                "\"responseContent\":\"{\\\"access_token\\\":\\\"at-${seq}\\\",\\\"token_type\\\":\\\"Bearer\\\"}\"}");
+        respond("/auth/introspection", 200,
+                "{\"resultCode\":\"A056001\",\"action\":\"OK\",\"usable\":true,\"subject\":\"user\"," +
+                "\"clientId\":1,\"scopes\":[\"openid\"],\"expiresAt\":4102444800000}");
+        respond("/misc/echo", (method, path, query, body) -> "{}");
+    }
+
+
+    /**
+     * Register a canned response of an API.
+     *
+     * @param api
+     *         The path of the API after {@code /api} and the service ID,
+     *         e.g. {@code "/auth/token"}.
+     *
+     * @param status
+     *         The HTTP status code.
+     *
+     * @param body
+     *         The response body, which may contain <code>${seq}</code>.
+     *
+     * @return
+     *         {@code this} object.
+     */
+    public AuthleteStubServer respond(String api, int status, String body)
+    {
+        mRoutes.put(api, new Route(status, (method, path, query, requestBody) -> body));
+
+        return this;
+    }
+
+
+    /**
+     * Register a templated response of an API, whose status is 200.
+     *
+     * @param api
+     *         The path of the API after {@code /api} and the service ID.
+     *
+     * @param responder
+     *         The producer of the response body, which may contain
+     *         <code>${seq}</code>.
+     *
+     * @return
+     *         {@code this} object.
+     */
+    public AuthleteStubServer respond(String api, Responder responder)
+    {
+        mRoutes.put(api, new Route(200, responder));
+
+        return this;
+    }
+
+
+    /**
+     * Delay each response by a random time in the range.
+     *
+     * @return
+     *         {@code this} object.
+     */
+    public AuthleteStubServer setLatency(long minMillis, long maxMillis)
+    {
+        mMinLatency = minMillis;
+        mMaxLatency = Math.max(minMillis, maxMillis);
+
+        return this;
+    }
+
+
+    /**
+     * Respond with the given status code to the given ratio of requests.
+     *
+     * @return
+     *         {@code this} object.
+     */
+    public AuthleteStubServer setErrorRate(double rate, int status)
+    {
+        mErrorRate   = rate;
+        mErrorStatus = status;
+
+        return this;
+    }
+
+
+    public synchronized AuthleteStubServer start() throws IOException
+    {
+        AtomicInteger count = new AtomicInteger();
+
+        mExecutor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "authlete-stub-" + count.incrementAndGet());
+            thread.setDaemon(true);
+
+            return thread;
+        });
+
+        mServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        mServer.createContext("/api", this::handle);
+        mServer.setExecutor(mExecutor);
+        mServer.start();
+
+        return this;
+    }
+
+
+    public String getBaseUrl()
+    {
+        return "http://127.0.0.1:" + mServer.getAddress().getPort();
+    }
+
+
+    public long getRequestCount()
+    {
+        return mRequestCount.get();
+    }
+
+
+    @Override
+    public synchronized void close()
+    {
+        if (mServer != null)
+        {
+            mServer.stop(0);
+            mExecutor.shutdownNow();
+            mServer = null;
+        }
+    }
+
+
+    /**
+     * Create an API client for the stub server.
+     *
+     * @param baseUrl
+     *         The base URL of the stub server.
+     *
+     * @param version
+     *         {@code "V2"} or {@code "V3"}.
+     */
+    public static AuthleteApi createApi(String baseUrl, String version)
+    {
+        AuthleteSimpleConfiguration conf = new AuthleteSimpleConfiguration()
+                .setApiVersion(version)
+                .setBaseUrl(baseUrl)
+                .setServiceApiKey("1234")
+                .setServiceApiSecret("secret")
+                .setServiceAccessToken("token");
+
+        return "V2".equals(version) ? new AuthleteApiImpl(conf) : new AuthleteApiImplV3(conf);
+    }
+
+
+    private void handle(HttpExchange exchange) throws IOException
+    {
+        try
+        {
+            mRequestCount.incrementAndGet();
+
+            String requestBody = read(exchange.getRequestBody());
+            sleep();
+
+            String path = exchange.getRequestURI().getPath();
+            Route route = mRoutes.get(api(path));
+
+            if (route == null)
+            {
+                send(exchange, 404, "{\"resultCode\":\"A001101\",\"resultMessage\":\"Not found.\"}");
+                return;
+            }
+
+            if (mErrorRate > 0 && ThreadLocalRandom.current().nextDouble() < mErrorRate)
+            {
+                send(exchange, mErrorStatus, "{\"resultCode\":\"A001201\",\"resultMessage\":\"Injected error.\"}");
+                return;
+            }
+
+            String body = route.responder.respond(
+                    exchange.getRequestMethod(), path, exchange.getRequestURI().getRawQuery(), requestBody);
+
+            send(exchange, route.status,
+                    body.replace("${seq}", String.valueOf(mSequence.incrementAndGet())));
+        }
+        finally
+        {
+            exchange.close();
+        }
+    }
+
+
+    /**
+     * Strip {@code /api} and the service ID (if any) from a request path.
+     */
+    private static String api(String path)
+    {
+        String template = PathTemplates.of(path);
+
+        if (template.startsWith("/api/{}/"))
+        {
+            return template.substring("/api/{}".length());
+        }
+
+        return template.substring("/api".length());
+    }
+
+
+    private void sleep()
+    {
+        long min = mMinLatency;
+        long max = mMaxLatency;
+
+        if (max <= 0)
+        {
+            return;
+        }
+
+        try
+        {
+            Thread.sleep((min == max) ? min : ThreadLocalRandom.current().nextLong(min, max + 1));
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+
+    private static String read(InputStream in) throws IOException
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+
+        for (int n; (n = in.read(buffer)) != -1; )
+        {
+            out.write(buffer, 0, n);
+        }
+
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+
+    private static void send(HttpExchange exchange, int status, String body) throws IOException
+    {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+
+        try (OutputStream out = exchange.getResponseBody())
+        {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import java.util.Map;
+import org.junit.Test;
+import com.authlete.common.dto.IntrospectionRequest;
+import com.authlete.common.dto.IntrospectionResponse;
+import com.authlete.common.dto.TokenRequest;
+import com.authlete.common.dto.TokenResponse;
+
+
+public class AuthleteStubServerTest
+{
+    @Test
+    public void testV2AndV3Paths() throws Exception
+    {
+        try (AuthleteStubServer server = new AuthleteStubServer().start())
+        {
+            for (String version : new String[] { "V2", "V3" })
+            {
+                AuthleteApi api = AuthleteStubServer.createApi(server.getBaseUrl(), version);
+
+                IntrospectionResponse introspection =
+                        api.introspection(new IntrospectionRequest().setToken("at"));
+                assertEquals(IntrospectionResponse.Action.OK, introspection.getAction());
+                assertEquals("user", introspection.getSubject());
+
+                TokenResponse token = api.token(new TokenRequest().setParameters("grant_type=authorization_code"));
+                assertTrue(token.getAccessToken().startsWith("at-"));
+            }
+
+            assertEquals(4, server.getRequestCount());
+        }
+    }
+
+
+    @Test
+    public void testTemplatedResponse() throws Exception
+    {
+        try (AuthleteStubServer server = new AuthleteStubServer().start())
+        {
+            server.respond("/auth/introspection", (method, path, query, body) ->
+                    "{\"action\":\"OK\",\"subject\":\"" + method + " " + path + "\"}");
+
+            AuthleteApi api = AuthleteStubServer.createApi(server.getBaseUrl(), "V3");
+
+            assertEquals("POST /api/1234/auth/introspection",
+                    api.introspection(new IntrospectionRequest().setToken("at")).getSubject());
+        }
+    }
+
+
+    @Test
+    public void testErrorInjection() throws Exception
+    {
+        try (AuthleteStubServer server = new AuthleteStubServer().start())
+        {
+            server.setErrorRate(1.0, 503);
+
+            try
+            {
+                AuthleteStubServer.createApi(server.getBaseUrl(), "V3")
+                    .introspection(new IntrospectionRequest().setToken("at"));
+                fail("AuthleteApiException should be thrown.");
+            }
+            catch (AuthleteApiException e)
+            {
+                assertEquals(503, e.getStatusCode());
+            }
+        }
+    }
+
+
+    @Test
+    public void testLoadDriver() throws Exception
+    {
+        try (AuthleteStubServer server = new AuthleteStubServer().start())
+        {
+            server.setLatency(1, 3);
+
+            Map<String, LoadDriver.Result> results =
+                    new LoadDriver(AuthleteStubServer.createApi(server.getBaseUrl(), "V3"))
+                        .setTargetRps(50).setDuration(400).setIntrospectionsPerFlow(2).run();
+
+            assertEquals(20, results.get("flow").getCount());
+            assertEquals(0, results.get("flow").getErrorCount());
+            assertEquals(40, results.get("introspection").getCount());
+            assertTrue(results.get("token").getPercentile(50) >= 1.0);
+            assertTrue(results.get("flow").getPercentile(99) >= results.get("flow").getPercentile(50));
+        }
+    }
+}
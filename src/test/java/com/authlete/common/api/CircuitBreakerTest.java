@@ -0,0 +1,205 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import com.authlete.common.api.HttpTransportTest.StubTransport;
+import com.authlete.common.dto.IntrospectionRequest;
+
+
+public class CircuitBreakerTest
+{
+    private static final String INTROSPECTION = "/api/{}/auth/introspection";
+
+
+    private static void introspect(AuthleteApi api)
+    {
+        api.introspection(new IntrospectionRequest().setToken("at"));
+    }
+
+
+    private static int introspectAndGetStatus(AuthleteApi api)
+    {
+        try
+        {
+            introspect(api);
+            return 200;
+        }
+        catch (AuthleteApiException e)
+        {
+            return e.getStatusCode();
+        }
+    }
+
+
+    @Test
+    public void testCircuitOpensAndRecovers() throws InterruptedException
+    {
+        StubTransport transport = new StubTransport("{\"action\":\"OK\"}");
+        transport.statusCode = 503;
+        AuthleteApi api = HttpTransportTest.createApi(transport);
+        api.getSettings().setCircuitBreakerPolicy(new CircuitBreakerPolicy()
+                .setSlidingWindowSize(4).setMinimumNumberOfCalls(4).setOpenDuration(50));
+
+        for (int i = 0; i < 4; i++)
+        {
+            assertEquals(503, introspectAndGetStatus(api));
+        }
+
+        AuthleteApiBasicImpl impl = (AuthleteApiBasicImpl)api;
+        assertEquals(CircuitBreakerState.OPEN, impl.getCircuitBreakerStates().get(INTROSPECTION));
+
+        try
+        {
+            introspect(api);
+            fail("AuthleteApiCircuitOpenException should be thrown.");
+        }
+        catch (AuthleteApiCircuitOpenException e)
+        {
+            assertEquals(INTROSPECTION, e.getPathTemplate());
+        }
+
+        // The circuit is open, so the transport was not used.
+        assertEquals(4, transport.requests.size());
+
+        // Other APIs are not affected.
+        transport.statusCode = 200;
+        api.getServiceConfiguration();
+
+        // After the open duration, a successful trial call closes the circuit.
+        Thread.sleep(60);
+        assertEquals(CircuitBreakerState.HALF_OPEN, impl.getCircuitBreakerStates().get(INTROSPECTION));
+        introspect(api);
+        assertEquals(CircuitBreakerState.CLOSED, impl.getCircuitBreakerStates().get(INTROSPECTION));
+    }
+
+
+    @Test
+    public void testClientErrorsDoNotOpenCircuit()
+    {
+        StubTransport transport = new StubTransport("{\"action\":\"BAD_REQUEST\"}");
+        transport.statusCode = 400;
+        AuthleteApi api = HttpTransportTest.createApi(transport);
+        api.getSettings().setCircuitBreakerPolicy(new CircuitBreakerPolicy()
+                .setSlidingWindowSize(2).setMinimumNumberOfCalls(2));
+
+        for (int i = 0; i < 4; i++)
+        {
+            introspectAndGetStatus(api);
+        }
+
+        assertEquals(CircuitBreakerState.CLOSED,
+                ((AuthleteApiBasicImpl)api).getCircuitBreakerStates().get(INTROSPECTION));
+    }
+
+
+    @Test
+    public void testBulkhead() throws Exception
+    {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        StubTransport transport = new StubTransport("{\"action\":\"OK\"}") {
+            @Override
+            public HttpTransportResponse execute(HttpTransportRequest request) throws IOException
+            {
+                entered.countDown();
+
+                try
+                {
+                    release.await(5, TimeUnit.SECONDS);
+                }
+                catch (InterruptedException e)
+                {
+                    throw new IOException(e);
+                }
+
+                return super.execute(request);
+            }
+        };
+
+        AuthleteApi api = HttpTransportTest.createApi(transport);
+        api.getSettings().setMaxConcurrentCallsPerApi(1);
+
+        Thread thread = new Thread(() -> introspect(api));
+        thread.start();
+        entered.await(5, TimeUnit.SECONDS);
+
+        try
+        {
+            introspect(api);
+            fail("AuthleteApiBulkheadFullException should be thrown.");
+        }
+        catch (AuthleteApiBulkheadFullException e)
+        {
+            assertEquals(INTROSPECTION, e.getPathTemplate());
+        }
+
+        assertEquals(Integer.valueOf(1),
+                ((AuthleteApiBasicImpl)api).getConcurrentCalls().get(INTROSPECTION));
+
+        release.countDown();
+        thread.join();
+
+        assertEquals(Integer.valueOf(0),
+                ((AuthleteApiBasicImpl)api).getConcurrentCalls().get(INTROSPECTION));
+        assertNull(((AuthleteApiBasicImpl)api).getCircuitBreakerStates().get(INTROSPECTION));
+    }
+
+
+    @Test
+    public void testConcurrentFirstCallsShareBreaker() throws Exception
+    {
+        int calls = 32;
+        ApiGuard guard = new ApiGuard();
+        Settings settings = new Settings().setCircuitBreakerPolicy(new CircuitBreakerPolicy()
+                .setSlidingWindowSize(calls).setMinimumNumberOfCalls(calls));
+        CyclicBarrier barrier = new CyclicBarrier(calls);
+        Thread[] threads = new Thread[calls];
+
+        for (int i = 0; i < calls; i++)
+        {
+            threads[i] = new Thread(() -> {
+                try
+                {
+                    barrier.await();
+                    guard.enter(INTROSPECTION, settings, true).exit(true);
+                }
+                catch (Exception e)
+                {
+                    throw new IllegalStateException(e);
+                }
+            });
+            threads[i].start();
+        }
+
+        for (Thread thread : threads)
+        {
+            thread.join();
+        }
+
+        // Every failure has been recorded by the same breaker.
+        assertEquals(CircuitBreakerState.OPEN, guard.circuitBreakerStates().get(INTROSPECTION));
+    }
+}
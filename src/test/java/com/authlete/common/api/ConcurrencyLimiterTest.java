@@ -0,0 +1,288 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import com.authlete.common.api.HttpTransportTest.StubTransport;
+import com.authlete.common.dto.IntrospectionRequest;
+
+
+public class ConcurrencyLimiterTest
+{
+    private static final long MILLI = 1000000L;
+
+
+    private static void fillAndRelease(ConcurrencyLimiter limiter, long rtt)
+    {
+        int n = limiter.limit();
+
+        for (int i = 0; i < n; i++)
+        {
+            assertTrue(limiter.acquire());
+        }
+
+        for (int i = 0; i < n; i++)
+        {
+            limiter.sample(rtt);
+            limiter.release(false);
+        }
+    }
+
+
+    @Test
+    public void testRejectBeyondLimit()
+    {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(new ConcurrencyLimitPolicy().setInitialLimit(2));
+
+        assertTrue(limiter.acquire());
+        assertTrue(limiter.acquire());
+        assertFalse(limiter.acquire());
+
+        limiter.cancel();
+        assertTrue(limiter.acquire());
+        assertEquals(2, limiter.inFlight());
+    }
+
+
+    @Test
+    public void testQueueing() throws Exception
+    {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(new ConcurrencyLimitPolicy()
+                .setInitialLimit(1).setMaxQueueTime(5000));
+
+        assertTrue(limiter.acquire());
+
+        CompletableFuture<Boolean> waiter = CompletableFuture.supplyAsync(limiter::acquire);
+        Thread.sleep(50);
+        assertFalse(waiter.isDone());
+
+        limiter.cancel();
+        assertTrue(waiter.get(5, TimeUnit.SECONDS));
+    }
+
+
+    @Test
+    public void testLimitAdapts()
+    {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(new ConcurrencyLimitPolicy()
+                .setInitialLimit(10).setMaxLimit(50));
+
+        // Stable RTTs let the limit grow up to the maximum.
+        for (int i = 0; i < 100; i++)
+        {
+            fillAndRelease(limiter, MILLI);
+        }
+
+        assertEquals(50, limiter.limit());
+
+        // RTTs far beyond the tolerance make the limit shrink.
+        fillAndRelease(limiter, 20 * MILLI);
+        fillAndRelease(limiter, 20 * MILLI);
+
+        assertTrue(limiter.limit() < 30);
+
+        // Failures back off multiplicatively.
+        int limit = limiter.limit();
+        assertTrue(limiter.acquire());
+        limiter.release(true);
+        assertEquals((int)(limit * 0.9), limiter.limit(), 1);
+    }
+
+
+    @Test
+    public void testUnusedLimitDoesNotGrow()
+    {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(new ConcurrencyLimitPolicy().setInitialLimit(10));
+
+        for (int i = 0; i < 100; i++)
+        {
+            assertTrue(limiter.acquire());
+            limiter.sample(MILLI);
+            limiter.release(false);
+        }
+
+        assertEquals(10, limiter.limit());
+    }
+
+
+    @Test
+    public void testApiCallBeyondLimit() throws Exception
+    {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+
+        StubTransport transport = new StubTransport("{\"action\":\"OK\"}")
+        {
+            @Override
+            public HttpTransportResponse execute(HttpTransportRequest request) throws IOException
+            {
+                entered.countDown();
+
+                try
+                {
+                    proceed.await(5, TimeUnit.SECONDS);
+                }
+                catch (InterruptedException e)
+                {
+                    throw new IOException(e);
+                }
+
+                return super.execute(request);
+            }
+        };
+
+        AuthleteApi api = HttpTransportTest.createApi(transport);
+        api.getSettings().setConcurrencyLimitPolicy(
+                new ConcurrencyLimitPolicy().setInitialLimit(1).setMaxLimit(1));
+
+        CompletableFuture<?> first = CompletableFuture.runAsync(
+                () -> api.introspection(new IntrospectionRequest().setToken("at")));
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+        try
+        {
+            api.introspection(new IntrospectionRequest().setToken("at"));
+            fail("AuthleteApiConcurrencyLimitException should be thrown.");
+        }
+        catch (AuthleteApiConcurrencyLimitException e)
+        {
+            assertEquals(1, e.getLimit());
+            assertEquals(0, e.getStatusCode());
+        }
+        finally
+        {
+            proceed.countDown();
+        }
+
+        first.get(5, TimeUnit.SECONDS);
+        assertEquals(1, ((AuthleteApiBasicImpl)api).getConcurrencyLimit());
+
+        // The permit has been returned.
+        api.introspection(new IntrospectionRequest().setToken("at"));
+        assertEquals(2, transport.requests.size());
+    }
+
+
+    @Test
+    public void testAsyncCallDoesNotWait() throws Exception
+    {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+
+        StubTransport transport = new StubTransport("{\"action\":\"OK\"}")
+        {
+            @Override
+            public HttpTransportResponse execute(HttpTransportRequest request) throws IOException
+            {
+                entered.countDown();
+
+                try
+                {
+                    proceed.await(5, TimeUnit.SECONDS);
+                }
+                catch (InterruptedException e)
+                {
+                    throw new IOException(e);
+                }
+
+                return super.execute(request);
+            }
+        };
+
+        AuthleteApi api = HttpTransportTest.createApi(transport);
+        api.getSettings().setConcurrencyLimitPolicy(
+                new ConcurrencyLimitPolicy().setInitialLimit(1).setMaxLimit(1).setMaxQueueTime(5000));
+
+        CompletableFuture<?> first = CompletableFuture.runAsync(
+                () -> api.introspection(new IntrospectionRequest().setToken("at")));
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+        try
+        {
+            long startedAt = System.currentTimeMillis();
+
+            // The asynchronous call fails at once instead of parking the
+            // calling thread for the maximum queue time.
+            CompletableFuture<?> second = AuthleteApiFactory.createAsync(api, null)
+                    .introspection(new IntrospectionRequest().setToken("at"));
+
+            assertTrue(System.currentTimeMillis() - startedAt < 1000);
+            assertTrue(second.isCompletedExceptionally());
+
+            try
+            {
+                second.get();
+                fail("AuthleteApiConcurrencyLimitException should be thrown.");
+            }
+            catch (ExecutionException e)
+            {
+                assertTrue(e.getCause() instanceof AuthleteApiConcurrencyLimitException);
+            }
+        }
+        finally
+        {
+            proceed.countDown();
+        }
+
+        first.get(5, TimeUnit.SECONDS);
+        assertEquals(1, transport.requests.size());
+    }
+
+
+    @Test
+    public void testConcurrentAcquireAndRelease() throws Exception
+    {
+        int limit = 8;
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(new ConcurrencyLimitPolicy()
+                .setInitialLimit(limit).setMaxLimit(limit).setMaxQueueTime(5000));
+        AtomicInteger peak = new AtomicInteger();
+        Thread[] threads = new Thread[32];
+
+        for (int i = 0; i < threads.length; i++)
+        {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 1000; j++)
+                {
+                    assertTrue(limiter.acquire());
+                    peak.accumulateAndGet(limiter.inFlight(), Math::max);
+                    limiter.sample(MILLI);
+                    limiter.release(false);
+                }
+            });
+            threads[i].start();
+        }
+
+        for (Thread thread : threads)
+        {
+            thread.join();
+        }
+
+        // The limit has never been exceeded and every permit is returned.
+        assertTrue(peak.get() <= limit);
+        assertEquals(0, limiter.inFlight());
+    }
+}
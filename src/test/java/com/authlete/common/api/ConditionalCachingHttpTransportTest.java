@@ -0,0 +1,178 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import java.io.IOException;
+import java.net.URL;
+import java.util.Arrays;
+import org.junit.Test;
+import com.authlete.common.api.HttpTransportTest.StubTransport;
+
+
+public class ConditionalCachingHttpTransportTest
+{
+    private static final String JWKS = "{\"keys\":[]}";
+
+
+    /**
+     * A transport which answers 304 to a request with the current ETag.
+     */
+    private static class ETagTransport extends StubTransport
+    {
+        ETagTransport()
+        {
+            super(JWKS);
+            headers.put("ETag", Arrays.asList("\"v1\""));
+        }
+
+
+        @Override
+        public synchronized HttpTransportResponse execute(HttpTransportRequest request) throws IOException
+        {
+            boolean notModified = "\"v1\"".equals(request.getHeaders().get("If-None-Match"));
+            HttpTransportResponse response = super.execute(request);
+
+            if (!notModified)
+            {
+                return response;
+            }
+
+            return new HttpTransportTest.StubResponse(304, headers, null);
+        }
+    }
+
+
+    @Test
+    public void testFreshResponseIsServedFromMemory()
+    {
+        ETagTransport transport = new ETagTransport();
+        AuthleteApi api = HttpTransportTest.createApi(
+                new ConditionalCachingHttpTransport(transport, 60000, 0));
+
+        assertEquals(JWKS, api.getServiceJwks());
+        assertEquals(JWKS, api.getServiceJwks());
+
+        assertEquals(1, transport.requests.size());
+    }
+
+
+    @Test
+    public void testStaleResponseIsRevalidated()
+    {
+        ETagTransport transport = new ETagTransport();
+        AuthleteApi api = HttpTransportTest.createApi(
+                new ConditionalCachingHttpTransport(transport, 0, 0));
+
+        assertEquals(JWKS, api.getServiceJwks());
+        assertNull(transport.requests.get(0).getHeaders().get("If-None-Match"));
+
+        // The server answers 304 and the cached body is used.
+        assertEquals(JWKS, api.getServiceJwks());
+        assertEquals(2, transport.requests.size());
+        assertEquals("\"v1\"", transport.requests.get(1).getHeaders().get("If-None-Match"));
+    }
+
+
+    @Test
+    public void testStaleWhileRevalidate() throws InterruptedException
+    {
+        ETagTransport transport = new ETagTransport();
+        AuthleteApi api = HttpTransportTest.createApi(
+                new ConditionalCachingHttpTransport(transport, 0, 60000, Runnable::run));
+
+        assertEquals(JWKS, api.getServiceJwks());
+
+        // The stale response is served and revalidated in the background,
+        // which is executed synchronously by the executor in this test.
+        assertEquals(JWKS, api.getServiceJwks());
+        assertEquals(2, transport.requests.size());
+        assertEquals("\"v1\"", transport.requests.get(1).getHeaders().get("If-None-Match"));
+    }
+
+
+    @Test
+    public void testNoStore()
+    {
+        ETagTransport transport = new ETagTransport();
+        transport.headers.put("Cache-Control", Arrays.asList("no-store"));
+        AuthleteApi api = HttpTransportTest.createApi(
+                new ConditionalCachingHttpTransport(transport, 60000, 60000));
+
+        api.getServiceJwks();
+        api.getServiceJwks();
+
+        assertEquals(2, transport.requests.size());
+        assertNull(transport.requests.get(1).getHeaders().get("If-None-Match"));
+    }
+
+
+    @Test
+    public void testOtherApisAreNotCached()
+    {
+        StubTransport transport = new StubTransport("{}");
+        AuthleteApi api = HttpTransportTest.createApi(
+                new ConditionalCachingHttpTransport(transport, 60000, 60000));
+
+        api.getService(1);
+        api.getService(1);
+
+        assertEquals(2, transport.requests.size());
+    }
+
+
+    @Test
+    public void testRevalidationInBackgroundUsesRenewedRequest() throws IOException
+    {
+        ETagTransport transport = new ETagTransport();
+        ConditionalCachingHttpTransport caching =
+                new ConditionalCachingHttpTransport(transport, 0, 60000, Runnable::run);
+
+        caching.execute(jwksRequest("proof1")).close();
+
+        HttpTransportRequest request = jwksRequest("proof2");
+        caching.execute(request).close();
+
+        // The request of the caller is left as it is.
+        assertEquals(2, transport.requests.size());
+        assertNotSame(request, transport.requests.get(1));
+        assertNull(request.getHeaders().get("If-None-Match"));
+
+        // The revalidation has its own proof and no deadline of the caller.
+        HttpTransportRequest revalidation = transport.requests.get(1);
+        assertEquals("\"v1\"", revalidation.getHeaders().get("If-None-Match"));
+        assertEquals("renewed", revalidation.getHeaders().get("DPoP"));
+        assertEquals(0, revalidation.getTotalTimeout());
+    }
+
+
+    private static HttpTransportRequest jwksRequest(String proof) throws IOException
+    {
+        HttpTransportRequest request = new HttpTransportRequest()
+                .setMethod("GET")
+                .setUrl(new URL("https://authlete.example.com/api/1/service/jwks/get"))
+                .setHeader("Authorization", "Bearer token")
+                .setHeader("DPoP", proof)
+                .setTotalTimeout(100);
+
+        request.setRenewer(renewed -> renewed.setHeader("DPoP", "renewed"));
+
+        return request;
+    }
+}
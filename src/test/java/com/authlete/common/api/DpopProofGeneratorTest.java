@@ -0,0 +1,153 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import com.authlete.common.api.HttpTransportTest.StubTransport;
+import com.authlete.common.conf.AuthleteSimpleConfiguration;
+import com.nimbusds.jose.JOSEObjectType;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.crypto.ECDSAVerifier;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.SignedJWT;
+
+
+public class DpopProofGeneratorTest
+{
+    private static final String HTU = "https://authlete.example.com/api/1/service/get";
+
+
+    private static void runAll(List<Runnable> tasks)
+    {
+        for (Runnable task : tasks)
+        {
+            task.run();
+        }
+
+        tasks.clear();
+    }
+
+
+    @Test
+    public void testEcKey() throws Exception
+    {
+        // The algorithm is inferred from the curve when 'alg' is absent.
+        ECKey key = new ECKeyGenerator(Curve.P_256).generate();
+        DpopProofGenerator generator = new DpopProofGenerator(key.toJSONString());
+
+        SignedJWT proof = SignedJWT.parse(generator.generate("GET", HTU, 0, 0));
+
+        assertEquals(JWSAlgorithm.ES256, proof.getHeader().getAlgorithm());
+        assertEquals(new JOSEObjectType("dpop+jwt"), proof.getHeader().getType());
+        assertFalse(proof.getHeader().getJWK().isPrivate());
+        assertEquals("GET", proof.getJWTClaimsSet().getStringClaim("htm"));
+        assertEquals(HTU, proof.getJWTClaimsSet().getStringClaim("htu"));
+        assertTrue(proof.verify(new ECDSAVerifier(key.toPublicJWK())));
+    }
+
+
+    @Test
+    public void testAlgorithmOfKeyIsUsed() throws Exception
+    {
+        RSAKey key = new RSAKeyGenerator(2048).algorithm(JWSAlgorithm.PS256).generate();
+        DpopProofGenerator generator = new DpopProofGenerator(key.toJSONString());
+
+        SignedJWT proof = SignedJWT.parse(generator.generate("POST", HTU, 0, 0));
+
+        assertEquals(JWSAlgorithm.PS256, proof.getHeader().getAlgorithm());
+        assertTrue(proof.verify(new RSASSAVerifier(key.toPublicJWK())));
+    }
+
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPublicKeyIsRejected() throws Exception
+    {
+        ECKey key = new ECKeyGenerator(Curve.P_256).generate();
+        new DpopProofGenerator(key.toPublicJWK().toJSONString());
+    }
+
+
+    @Test
+    public void testPreSigning() throws Exception
+    {
+        ECKey key = new ECKeyGenerator(Curve.P_256).generate();
+
+        // Refills of the pool are executed manually in this test.
+        List<Runnable> tasks = new ArrayList<>();
+        DpopProofGenerator generator = new DpopProofGenerator(key.toJSONString(), tasks::add);
+
+        // The first proof is signed on demand and the pool is refilled.
+        String first = generator.generate("GET", HTU, 2, 60000);
+        assertEquals(0, generator.pooledProofs("GET", HTU));
+        runAll(tasks);
+        assertEquals(2, generator.pooledProofs("GET", HTU));
+
+        // The next proof is taken from the pool.
+        String second = generator.generate("GET", HTU, 2, 60000);
+        assertEquals(1, generator.pooledProofs("GET", HTU));
+        runAll(tasks);
+        assertEquals(2, generator.pooledProofs("GET", HTU));
+
+        assertNotEquals(
+                SignedJWT.parse(first).getJWTClaimsSet().getJWTID(),
+                SignedJWT.parse(second).getJWTClaimsSet().getJWTID());
+
+        // Expired proofs are discarded.
+        Thread.sleep(20);
+        String third = generator.generate("GET", HTU, 2, 10);
+        assertEquals(0, generator.pooledProofs("GET", HTU));
+        assertTrue(SignedJWT.parse(third).verify(new ECDSAVerifier(key.toPublicJWK())));
+    }
+
+
+    @Test
+    public void testDpopHeaderIsSent() throws Exception
+    {
+        ECKey key = new ECKeyGenerator(Curve.P_256).generate();
+
+        AuthleteSimpleConfiguration conf = new AuthleteSimpleConfiguration()
+                .setApiVersion("V3")
+                .setBaseUrl("https://authlete.example.com")
+                .setServiceApiKey("1")
+                .setServiceAccessToken("token")
+                .setDpopKey(key.toJSONString());
+
+        StubTransport transport = new StubTransport("{}");
+        AuthleteApi api = new AuthleteApiImplV3(conf);
+        api.getSettings().setHttpTransport(transport);
+
+        api.getService(1);
+
+        HttpTransportRequest request = transport.requests.get(0);
+        SignedJWT proof = SignedJWT.parse(request.getHeaders().get("DPoP"));
+
+        assertEquals("DPoP token", request.getHeaders().get("Authorization"));
+        assertEquals(HTU, proof.getJWTClaimsSet().getStringClaim("htu"));
+        assertTrue(proof.verify(new ECDSAVerifier(key.toPublicJWK())));
+    }
+}
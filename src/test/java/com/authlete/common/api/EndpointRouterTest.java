@@ -0,0 +1,185 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.Test;
+import com.authlete.common.api.HttpTransportTest.StubResponse;
+import com.authlete.common.conf.AuthleteSimpleConfiguration;
+import com.authlete.common.dto.IntrospectionRequest;
+
+
+public class EndpointRouterTest
+{
+    private static final long MILLI = 1000000L;
+
+
+    private static EndpointRouter createRouter(long ejectionTime, AtomicBoolean healthy)
+    {
+        return new EndpointRouter(Arrays.asList("https://a", "https://b"),
+                3, ejectionTime, url -> healthy.get(), Runnable::run);
+    }
+
+
+    @Test
+    public void testParseBaseUrls()
+    {
+        assertEquals(Arrays.asList("https://a"), EndpointRouter.parseBaseUrls("https://a"));
+        assertEquals(Arrays.asList("https://a", "https://b"),
+                EndpointRouter.parseBaseUrls(" https://a , https://b,"));
+    }
+
+
+    @Test
+    public void testLowestLatencyIsPreferred()
+    {
+        EndpointRouter router = createRouter(30000, new AtomicBoolean(true));
+        EndpointRouter.Endpoint a = router.endpoints().get(0);
+        EndpointRouter.Endpoint b = router.endpoints().get(1);
+
+        // Unknown endpoints are tried first.
+        assertSame(a, router.select());
+        router.onComplete(a, 50 * MILLI, false);
+        assertSame(b, router.select());
+        router.onComplete(b, 10 * MILLI, false);
+
+        assertSame(b, router.select());
+        router.onComplete(b, 10 * MILLI, false);
+
+        // A failure ranks the endpoint below the other.
+        assertSame(b, router.select());
+        router.onComplete(b, 1 * MILLI, true);
+        assertSame(a, router.select());
+        router.onComplete(a, 50 * MILLI, false);
+    }
+
+
+    @Test
+    public void testEjectionAndProbe()
+    {
+        AtomicBoolean healthy = new AtomicBoolean(false);
+        EndpointRouter router = createRouter(0, healthy);
+        EndpointRouter.Endpoint a = router.endpoints().get(0);
+        EndpointRouter.Endpoint b = router.endpoints().get(1);
+
+        // Requests in flight to the endpoint fail one after another.
+        for (int i = 0; i < 3; i++)
+        {
+            router.onComplete(a, MILLI, true);
+        }
+
+        assertTrue(a.isEjected());
+        assertFalse(router.availability().get("https://a"));
+
+        // The probe fails, so the endpoint stays ejected.
+        assertSame(b, router.select());
+        router.onComplete(b, MILLI, false);
+        assertTrue(a.isEjected());
+
+        // The probe succeeds and the endpoint is brought back.
+        healthy.set(true);
+        router.select();
+        assertFalse(a.isEjected());
+        assertEquals(0, a.ewma(), 0);
+    }
+
+
+    @Test
+    public void testAllEjected()
+    {
+        EndpointRouter router = createRouter(60000, new AtomicBoolean(false));
+
+        for (EndpointRouter.Endpoint endpoint : router.endpoints())
+        {
+            for (int i = 0; i < 3; i++)
+            {
+                router.onComplete(endpoint, MILLI, true);
+            }
+        }
+
+        // A request is still routed somewhere rather than failing.
+        assertSame(router.endpoints().get(0), router.select());
+    }
+
+
+    @Test
+    public void testFailover()
+    {
+        List<String> urls = new ArrayList<>();
+
+        HttpTransport transport = request -> {
+            String url = request.getUrl().toString();
+
+            synchronized (urls)
+            {
+                urls.add(url);
+            }
+
+            int status = url.startsWith("https://a.example.com") ? 503 : 200;
+
+            return new StubResponse(status, new HashMap<>(),
+                    "{\"action\":\"OK\"}".getBytes(StandardCharsets.UTF_8));
+        };
+
+        AuthleteSimpleConfiguration conf = new AuthleteSimpleConfiguration()
+                .setApiVersion("V3")
+                .setBaseUrl("https://a.example.com, https://b.example.com")
+                .setServiceApiKey("1234")
+                .setServiceAccessToken("token");
+
+        AuthleteApiBasicImpl api = new AuthleteApiImplV3(conf);
+        api.getSettings().setHttpTransport(transport)
+            .setRetryPolicy(new RetryPolicy().setInitialBackoff(0).setMaxBackoff(0));
+
+        // The first attempt goes to the unknown first base URL, and the
+        // retry goes to the other one.
+        api.introspection(new IntrospectionRequest().setToken("at"));
+        assertEquals(Arrays.asList(
+                "https://a.example.com/api/1234/auth/introspection",
+                "https://b.example.com/api/1234/auth/introspection"), urls);
+
+        for (int i = 0; i < 5; i++)
+        {
+            api.introspection(new IntrospectionRequest().setToken("at"));
+        }
+
+        // The failing base URL is not used any more.
+        assertEquals(7, urls.size());
+        assertTrue(urls.get(6).startsWith("https://b.example.com"));
+        assertTrue(api.getEndpointAvailability().get("https://b.example.com"));
+    }
+
+
+    @Test
+    public void testSingleBaseUrl()
+    {
+        AuthleteApiBasicImpl api = (AuthleteApiBasicImpl)HttpTransportTest.createApi(
+                new HttpTransportTest.StubTransport("{}"));
+
+        assertEquals(null, api.router());
+        assertTrue(api.getEndpointAvailability().get("https://authlete.example.com"));
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import com.authlete.common.api.HttpTransportTest.StubTransport;
+import com.authlete.common.dto.IntrospectionRequest;
+import com.authlete.common.dto.IntrospectionResponse;
+import com.authlete.common.dto.TokenCreateRequest;
+
+
+public class HedgingHttpTransportTest
+{
+    /**
+     * A transport whose first request takes a long time.
+     */
+    private static class SlowFirstTransport extends StubTransport
+    {
+        final AtomicInteger count = new AtomicInteger();
+        final List<HttpTransportRequest> sent = new CopyOnWriteArrayList<>();
+        boolean firstFails;
+
+
+        SlowFirstTransport()
+        {
+            super("{\"action\":\"OK\"}");
+        }
+
+
+        @Override
+        public HttpTransportResponse execute(HttpTransportRequest request) throws IOException
+        {
+            sent.add(request);
+
+            if (count.incrementAndGet() == 1)
+            {
+                try
+                {
+                    Thread.sleep(500);
+                }
+                catch (InterruptedException e)
+                {
+                    throw new IOException(e);
+                }
+
+                if (firstFails)
+                {
+                    throw new IOException("The first request failed.");
+                }
+            }
+
+            return super.execute(request);
+        }
+    }
+
+
+    private static HedgingPolicy shortDelay()
+    {
+        return new HedgingPolicy().setMinDelay(0).setMaxDelay(20);
+    }
+
+
+    @Test
+    public void testSlowRequestIsHedged() throws Exception
+    {
+        SlowFirstTransport transport = new SlowFirstTransport();
+        AuthleteAsyncApi api = AuthleteApiFactory.createAsync(HttpTransportTest.createApi(
+                new HedgingHttpTransport(transport, shortDelay())), null);
+
+        long startedAt = System.currentTimeMillis();
+
+        IntrospectionResponse response =
+                api.introspection(new IntrospectionRequest().setToken("at")).get(1, TimeUnit.SECONDS);
+
+        // The response to the hedged request arrives first.
+        assertEquals(IntrospectionResponse.Action.OK, response.getAction());
+        assertEquals(2, transport.count.get());
+        assertTrue(System.currentTimeMillis() - startedAt < 400);
+    }
+
+
+    @Test
+    public void testSlowRequestIsHedgedOnSyncPath()
+    {
+        SlowFirstTransport transport = new SlowFirstTransport();
+        AuthleteApi api = HttpTransportTest.createApi(
+                new HedgingHttpTransport(transport, shortDelay()));
+
+        long startedAt = System.currentTimeMillis();
+
+        IntrospectionResponse response =
+                api.introspection(new IntrospectionRequest().setToken("at"));
+
+        // The synchronous call returns the response to the hedged request
+        // without waiting for the first request.
+        assertEquals(IntrospectionResponse.Action.OK, response.getAction());
+        assertEquals(2, transport.count.get());
+        assertTrue(System.currentTimeMillis() - startedAt < 400);
+    }
+
+
+    @Test
+    public void testRequestsSentOnExecutor()
+    {
+        Thread caller = Thread.currentThread();
+        AtomicInteger onCaller = new AtomicInteger();
+        AtomicInteger onExecutor = new AtomicInteger();
+        StubTransport transport = new StubTransport("{\"action\":\"OK\"}")
+        {
+            @Override
+            public synchronized HttpTransportResponse execute(HttpTransportRequest request) throws IOException
+            {
+                if (Thread.currentThread() == caller)
+                {
+                    onCaller.incrementAndGet();
+                }
+
+                return super.execute(request);
+            }
+        };
+
+        AuthleteApi api = HttpTransportTest.createApi(
+                new HedgingHttpTransport(transport, shortDelay(), task -> {
+                    onExecutor.incrementAndGet();
+                    new Thread(task).start();
+                }));
+
+        api.introspection(new IntrospectionRequest().setToken("at"));
+
+        // The first request is sent on the executor, not on the calling
+        // thread.
+        assertEquals(0, onCaller.get());
+        assertTrue(onExecutor.get() >= 1);
+        assertTrue(transport.requests.size() >= 1);
+    }
+
+
+    @Test
+    public void testHedgeReplacesFailedRequest()
+    {
+        SlowFirstTransport transport = new SlowFirstTransport();
+        transport.firstFails = true;
+        AuthleteApi api = HttpTransportTest.createApi(
+                new HedgingHttpTransport(transport, shortDelay()));
+
+        IntrospectionResponse response =
+                api.introspection(new IntrospectionRequest().setToken("at"));
+
+        // The first request failed after the hedged request was sent.
+        assertEquals(IntrospectionResponse.Action.OK, response.getAction());
+        assertEquals(2, transport.count.get());
+
+        // Each attempt has its own request.
+        assertNotSame(transport.sent.get(0), transport.sent.get(1));
+        assertEquals(transport.sent.get(0).getHeaders(), transport.sent.get(1).getHeaders());
+    }
+
+
+    @Test
+    public void testNonReadOnlyRequestIsNotHedged()
+    {
+        SlowFirstTransport transport = new SlowFirstTransport();
+        AuthleteApi api = HttpTransportTest.createApi(
+                new HedgingHttpTransport(transport, shortDelay()));
+
+        api.tokenCreate(new TokenCreateRequest());
+
+        assertEquals(1, transport.count.get());
+    }
+
+
+    @Test
+    public void testHedgeBudget()
+    {
+        SlowFirstTransport transport = new SlowFirstTransport();
+        AuthleteApi api = HttpTransportTest.createApi(new HedgingHttpTransport(
+                transport, shortDelay().setHedgeBudgetCapacity(0)));
+
+        api.introspection(new IntrospectionRequest().setToken("at"));
+
+        // No budget for a hedged request.
+        assertEquals(1, transport.count.get());
+    }
+}
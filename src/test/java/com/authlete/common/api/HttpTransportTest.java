@@ -0,0 +1,330 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import com.authlete.common.conf.AuthleteSimpleConfiguration;
+import com.authlete.common.dto.IntrospectionRequest;
+import com.authlete.common.dto.IntrospectionResponse;
+
+
+public class HttpTransportTest
+{
+    /**
+     * A transport which records requests and returns a canned response.
+     */
+    static class StubTransport implements HttpTransport
+    {
+        final List<HttpTransportRequest> requests = new ArrayList<>();
+        final List<String> bodies = new ArrayList<>();
+        final Map<String, List<String>> headers = new HashMap<>();
+        int statusCode = 200;
+        byte[] body;
+
+
+        StubTransport(String body)
+        {
+            this.body = (body == null) ? null : body.getBytes(StandardCharsets.UTF_8);
+        }
+
+
+        @Override
+        public synchronized HttpTransportResponse execute(HttpTransportRequest request) throws IOException
+        {
+            requests.add(request);
+            bodies.add(readBody(request));
+
+            return new StubResponse(statusCode, headers, body);
+        }
+    }
+
+
+    static String readBody(HttpTransportRequest request) throws IOException
+    {
+        if (request.getBodyWriter() != null)
+        {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            request.getBodyWriter().writeTo(out);
+
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        }
+
+        if (request.getBody() != null)
+        {
+            return new String(request.getBody(), StandardCharsets.UTF_8);
+        }
+
+        return null;
+    }
+
+
+    static class StubResponse implements HttpTransportResponse
+    {
+        private final int mStatusCode;
+        private final Map<String, List<String>> mHeaders;
+        private final byte[] mBody;
+
+
+        StubResponse(int statusCode, Map<String, List<String>> headers, byte[] body)
+        {
+            mStatusCode = statusCode;
+            mHeaders    = headers;
+            mBody       = body;
+        }
+
+
+        @Override
+        public int getStatusCode()
+        {
+            return mStatusCode;
+        }
+
+
+        @Override
+        public String getStatusMessage()
+        {
+            return "Stub";
+        }
+
+
+        @Override
+        public Map<String, List<String>> getHeaders()
+        {
+            return mHeaders;
+        }
+
+
+        @Override
+        public long getContentLength()
+        {
+            return (mBody == null) ? -1 : mBody.length;
+        }
+
+
+        @Override
+        public InputStream getBody()
+        {
+            return (mBody == null) ? null : new ByteArrayInputStream(mBody);
+        }
+
+
+        @Override
+        public void close()
+        {
+        }
+    }
+
+
+    static AuthleteApi createApi(HttpTransport transport)
+    {
+        AuthleteSimpleConfiguration conf = new AuthleteSimpleConfiguration()
+                .setApiVersion("V3")
+                .setBaseUrl("https://authlete.example.com")
+                .setServiceApiKey("1234")
+                .setServiceAccessToken("token");
+
+        AuthleteApi api = new AuthleteApiImplV3(conf);
+        api.getSettings().setHttpTransport(transport);
+
+        return api;
+    }
+
+
+    @Test
+    public void testRequestGoesThroughTransport()
+    {
+        StubTransport transport = new StubTransport("{\"action\":\"OK\",\"subject\":\"user\"}");
+        AuthleteApi api = createApi(transport);
+
+        IntrospectionResponse response =
+                api.introspection(new IntrospectionRequest().setToken("at"));
+
+        assertEquals(IntrospectionResponse.Action.OK, response.getAction());
+        assertEquals("user", response.getSubject());
+
+        HttpTransportRequest request = transport.requests.get(0);
+        assertEquals("POST", request.getMethod());
+        assertEquals("https://authlete.example.com/api/1234/auth/introspection",
+                request.getUrl().toString());
+        assertEquals("Bearer token", request.getHeaders().get("Authorization"));
+        assertEquals("application/json", request.getHeaders().get("Content-Type"));
+    }
+
+
+    @Test
+    public void testStreamingRequestBody()
+    {
+        StubTransport transport = new StubTransport("{\"action\":\"OK\"}");
+        AuthleteApi api = createApi(transport);
+        api.getSettings().setRequestBodyStreamingEnabled(true);
+
+        api.introspection(new IntrospectionRequest().setToken("\u00e9t"));
+
+        HttpTransportRequest request = transport.requests.get(0);
+        assertNull(request.getBody());
+        assertTrue(request.getBodyWriter() != null);
+        assertTrue(transport.bodies.get(0).contains("\"token\":\"\u00e9t\""));
+    }
+
+
+    private static byte[] gzip(String text) throws IOException
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out))
+        {
+            gzip.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+
+        return out.toByteArray();
+    }
+
+
+    private static String gunzip(byte[] bytes) throws IOException
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(bytes)))
+        {
+            byte[] buf = new byte[1024];
+            int len;
+
+            while ((len = gzip.read(buf)) != -1)
+            {
+                out.write(buf, 0, len);
+            }
+        }
+
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+
+    @Test
+    public void testCompressedResponse() throws IOException
+    {
+        StubTransport transport = new StubTransport(null);
+        transport.body = gzip("{\"action\":\"OK\",\"subject\":\"user\"}");
+        transport.headers.put("Content-Encoding", Arrays.asList("gzip"));
+        AuthleteApi api = createApi(transport);
+        api.getSettings().setResponseCompressionEnabled(true);
+
+        IntrospectionResponse response =
+                api.introspection(new IntrospectionRequest().setToken("at"));
+
+        assertEquals("user", response.getSubject());
+        assertEquals("gzip, deflate",
+                transport.requests.get(0).getHeaders().get("Accept-Encoding"));
+    }
+
+
+    @Test
+    public void testRequestCompression() throws IOException
+    {
+        StubTransport transport = new StubTransport("{\"action\":\"OK\"}");
+        AuthleteApi api = createApi(transport);
+        api.getSettings().setRequestCompressionThreshold(4096);
+
+        char[] token = new char[4096];
+        Arrays.fill(token, 'x');
+
+        // Smaller than the threshold.
+        api.introspection(new IntrospectionRequest());
+        assertNull(transport.requests.get(0).getHeaders().get("Content-Encoding"));
+
+        // Larger than the threshold.
+        api.introspection(new IntrospectionRequest().setToken(new String(token)));
+        HttpTransportRequest request = transport.requests.get(1);
+        assertEquals("gzip", request.getHeaders().get("Content-Encoding"));
+        assertTrue(gunzip(request.getBody()).contains(new String(token)));
+
+        // Streamed bodies are always compressed.
+        api.getSettings().setRequestBodyStreamingEnabled(true);
+        api.introspection(new IntrospectionRequest());
+        request = transport.requests.get(2);
+        assertEquals("gzip", request.getHeaders().get("Content-Encoding"));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        request.getBodyWriter().writeTo(out);
+        assertTrue(gunzip(out.toByteArray()).startsWith("{"));
+    }
+
+
+    @Test
+    public void testEmptyResponseBody()
+    {
+        StubTransport transport = new StubTransport("");
+        AuthleteApi api = createApi(transport);
+
+        assertNull(api.introspection(new IntrospectionRequest().setToken("at")));
+    }
+
+
+    @Test
+    public void testServerErrorIsReported()
+    {
+        StubTransport transport = new StubTransport("{\"resultCode\":\"A001\"}");
+        transport.statusCode = 503;
+        AuthleteApi api = createApi(transport);
+
+        try
+        {
+            api.introspection(new IntrospectionRequest().setToken("at"));
+            fail("AuthleteApiException should be thrown.");
+        }
+        catch (AuthleteApiException e)
+        {
+            assertEquals(503, e.getStatusCode());
+            assertEquals("{\"resultCode\":\"A001\"}", e.getResponseBody());
+        }
+    }
+
+
+    @Test
+    public void testErrorOnDeleteIsReported()
+    {
+        StubTransport transport = new StubTransport(null);
+        transport.statusCode = 500;
+        AuthleteApi api = createApi(transport);
+
+        try
+        {
+            api.tokenDelete("at");
+            fail("AuthleteApiException should be thrown.");
+        }
+        catch (AuthleteApiException e)
+        {
+            assertEquals(500, e.getStatusCode());
+            assertNull(e.getResponseBody());
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+
+public class HttpUrlConnectionTransportTest
+{
+    /**
+     * A minimal HTTP/1.1 server which answers every request on a connection
+     * with the same response and counts accepted connections.
+     */
+    private static class KeepAliveServer implements AutoCloseable
+    {
+        final ServerSocket serverSocket;
+        final AtomicInteger connections = new AtomicInteger();
+        final String response;
+
+
+        KeepAliveServer(int status, String body) throws IOException
+        {
+            serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+            response = "HTTP/1.1 " + status + " Status\r\n"
+                     + "Content-Type: text/plain\r\n"
+                     + "Content-Length: " + body.length() + "\r\n\r\n" + body;
+
+            Thread thread = new Thread(this::accept);
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+
+        URL url() throws IOException
+        {
+            return new URL("http://127.0.0.1:" + serverSocket.getLocalPort() + "/api/test");
+        }
+
+
+        private void accept()
+        {
+            while (!serverSocket.isClosed())
+            {
+                try
+                {
+                    Socket socket = serverSocket.accept();
+                    connections.incrementAndGet();
+
+                    Thread thread = new Thread(() -> serve(socket));
+                    thread.setDaemon(true);
+                    thread.start();
+                }
+                catch (IOException e)
+                {
+                    return;
+                }
+            }
+        }
+
+
+        private void serve(Socket socket)
+        {
+            try (Socket s = socket)
+            {
+                BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(s.getInputStream(), StandardCharsets.ISO_8859_1));
+                OutputStream out = s.getOutputStream();
+
+                for (String line; (line = reader.readLine()) != null; )
+                {
+                    if (line.isEmpty())
+                    {
+                        // The end of the request headers.
+                        out.write(response.getBytes(StandardCharsets.ISO_8859_1));
+                        out.flush();
+                    }
+                }
+            }
+            catch (IOException e)
+            {
+                // The client closed the connection.
+            }
+        }
+
+
+        @Override
+        public void close() throws IOException
+        {
+            serverSocket.close();
+        }
+    }
+
+
+    private static HttpTransportRequest request(URL url)
+    {
+        return new HttpTransportRequest().setMethod("GET").setUrl(url)
+                .setConnectionTimeout(5000).setReadTimeout(5000);
+    }
+
+
+    @Test
+    public void test_close_unread_error_response_reuses_connection() throws Exception
+    {
+        HttpUrlConnectionTransport transport = new HttpUrlConnectionTransport();
+
+        try (KeepAliveServer server = new KeepAliveServer(503, "Service Unavailable"))
+        {
+            for (int i = 0; i < 5; i++)
+            {
+                HttpTransportResponse response = transport.execute(request(server.url()));
+                assertEquals(503, response.getStatusCode());
+
+                // Close the response without reading the body.
+                response.close();
+            }
+
+            assertEquals(1, server.connections.get());
+        }
+    }
+
+
+    @Test
+    public void test_close_unread_success_response_reuses_connection() throws Exception
+    {
+        HttpUrlConnectionTransport transport = new HttpUrlConnectionTransport();
+
+        try (KeepAliveServer server = new KeepAliveServer(200, "{}"))
+        {
+            for (int i = 0; i < 5; i++)
+            {
+                transport.execute(request(server.url())).close();
+            }
+
+            assertEquals(1, server.connections.get());
+        }
+    }
+
+
+    @Test
+    public void test_executeAsync_default() throws Exception
+    {
+        HttpUrlConnectionTransport transport = new HttpUrlConnectionTransport();
+
+        try (KeepAliveServer server = new KeepAliveServer(200, "{}"))
+        {
+            HttpTransportResponse response = transport
+                    .executeAsync(request(server.url()), Runnable::run)
+                    .toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+            assertEquals(200, response.getStatusCode());
+            response.close();
+        }
+
+        // Failures complete the stage exceptionally.
+        URL closed;
+
+        try (ServerSocket socket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress()))
+        {
+            closed = new URL("http://127.0.0.1:" + socket.getLocalPort() + "/api/test");
+        }
+
+        try
+        {
+            transport.executeAsync(request(closed), Runnable::run).toCompletableFuture().get();
+        }
+        catch (ExecutionException e)
+        {
+            assertTrue(e.getCause() instanceof ConnectException);
+            return;
+        }
+
+        throw new AssertionError("The exchange should have failed.");
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.junit.Test;
+import com.authlete.common.api.HttpTransportTest.StubTransport;
+import com.authlete.common.dto.IntrospectionRequest;
+import com.authlete.common.dto.IntrospectionResponse;
+import com.authlete.common.dto.StandardIntrospectionRequest;
+
+
+public class IntrospectionCachingAuthleteApiTest
+{
+    private static IntrospectionCachingAuthleteApi createApi(StubTransport transport)
+    {
+        return new IntrospectionCachingAuthleteApi(
+                HttpTransportTest.createApi(transport), 100, 60000);
+    }
+
+
+    @Test
+    public void testValidTokenIsCached()
+    {
+        StubTransport transport = new StubTransport("{\"action\":\"OK\",\"subject\":\"user\"}");
+        IntrospectionCachingAuthleteApi api = createApi(transport);
+
+        IntrospectionResponse first  = api.introspection(new IntrospectionRequest().setToken("at"));
+        IntrospectionResponse second = api.introspection(new IntrospectionRequest().setToken("at"));
+        api.introspection(new IntrospectionRequest().setToken("at2"));
+
+        assertSame(first, second);
+        assertEquals(2, transport.requests.size());
+        assertEquals(2, api.size());
+
+        api.invalidateAll();
+        api.introspection(new IntrospectionRequest().setToken("at"));
+        assertEquals(3, transport.requests.size());
+    }
+
+
+    @Test
+    public void testInvalidTokenIsNotCached()
+    {
+        StubTransport transport = new StubTransport("{\"action\":\"UNAUTHORIZED\"}");
+        IntrospectionCachingAuthleteApi api = createApi(transport);
+
+        api.introspection(new IntrospectionRequest().setToken("at"));
+        api.introspection(new IntrospectionRequest().setToken("at"));
+
+        assertEquals(2, transport.requests.size());
+    }
+
+
+    @Test
+    public void testExpiredTokenIsNotCached()
+    {
+        long expiresAt = System.currentTimeMillis() - 1000;
+        StubTransport transport = new StubTransport(
+                "{\"action\":\"OK\",\"expiresAt\":" + expiresAt + "}");
+        IntrospectionCachingAuthleteApi api = createApi(transport);
+
+        api.introspection(new IntrospectionRequest().setToken("at"));
+        api.introspection(new IntrospectionRequest().setToken("at"));
+
+        assertEquals(2, transport.requests.size());
+    }
+
+
+    @Test
+    public void testDpopRequestIsNotCached()
+    {
+        StubTransport transport = new StubTransport("{\"action\":\"OK\"}");
+        IntrospectionCachingAuthleteApi api = createApi(transport);
+
+        api.introspection(new IntrospectionRequest().setToken("at").setDpop("proof"));
+        api.introspection(new IntrospectionRequest().setToken("at").setDpop("proof"));
+
+        assertEquals(2, transport.requests.size());
+        assertEquals(0, api.size());
+    }
+
+
+    @Test
+    public void testInactiveTokenIsNotCachedByStandardIntrospection()
+    {
+        StubTransport transport = new StubTransport(
+                "{\"action\":\"OK\",\"responseContent\":\"{\\\"active\\\":false}\"}");
+        IntrospectionCachingAuthleteApi api = createApi(transport);
+
+        StandardIntrospectionRequest request =
+                new StandardIntrospectionRequest().setParameters("token=at");
+        api.standardIntrospection(request);
+        api.standardIntrospection(request);
+        assertEquals(2, transport.requests.size());
+
+        transport.body = "{\"action\":\"OK\",\"responseContent\":\"{\\\"active\\\":true}\"}"
+                .getBytes(StandardCharsets.UTF_8);
+        api.standardIntrospection(request);
+        api.standardIntrospection(request);
+        assertEquals(3, transport.requests.size());
+    }
+
+
+    private static String jwt(String payload)
+    {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+
+        return encoder.encodeToString("{\"alg\":\"ES256\"}".getBytes(StandardCharsets.UTF_8))
+                + "." + encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8))
+                + ".signature";
+    }
+
+
+    private static void setContent(StubTransport transport, String content)
+    {
+        transport.body = ("{\"action\":\"OK\",\"responseContent\":\"" + content + "\"}")
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+
+    @Test
+    public void testJwtContentByStandardIntrospection()
+    {
+        StubTransport transport = new StubTransport(null);
+        IntrospectionCachingAuthleteApi api = createApi(transport);
+        StandardIntrospectionRequest request =
+                new StandardIntrospectionRequest().setParameters("token=at");
+
+        // The payload of a signed JWT says that the token is inactive.
+        setContent(transport, jwt("{\"token_introspection\":{\"active\":false}}"));
+        api.standardIntrospection(request);
+        api.standardIntrospection(request);
+        assertEquals(2, transport.requests.size());
+
+        // The payload of an encrypted JWT cannot be read.
+        setContent(transport, "a.b.c.d.e");
+        api.standardIntrospection(request);
+        api.standardIntrospection(request);
+        assertEquals(4, transport.requests.size());
+
+        // The JWT has expired.
+        long exp = System.currentTimeMillis() / 1000 - 10;
+        setContent(transport, jwt("{\"exp\":" + exp + ",\"token_introspection\":{\"active\":true}}"));
+        api.standardIntrospection(request);
+        api.standardIntrospection(request);
+        assertEquals(6, transport.requests.size());
+
+        setContent(transport, jwt("{\"token_introspection\":{\"active\":true}}"));
+        api.standardIntrospection(request);
+        api.standardIntrospection(request);
+        assertEquals(7, transport.requests.size());
+    }
+
+
+    @Test
+    public void testSegmentedLru()
+    {
+        SlruCache<String, String> cache = new SlruCache<>(5);
+
+        // "hot" is used twice and promoted to the protected segment.
+        cache.put("hot", "v", Long.MAX_VALUE);
+        cache.get("hot", 0);
+
+        // A burst of entries used only once.
+        for (int i = 0; i < 10; i++)
+        {
+            cache.put("cold" + i, "v", Long.MAX_VALUE);
+        }
+
+        assertEquals("v", cache.get("hot", 0));
+        assertNull(cache.get("cold0", 0));
+        assertEquals(5, cache.size());
+
+        // Expired entries are not returned.
+        cache.put("expiring", "v", 100);
+        assertNull(cache.get("expiring", 100));
+        assertFalse(cache.size() > 5);
+    }
+}
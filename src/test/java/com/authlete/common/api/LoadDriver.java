@@ -0,0 +1,285 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import com.authlete.common.dto.AuthorizationIssueRequest;
+import com.authlete.common.dto.AuthorizationIssueResponse;
+import com.authlete.common.dto.AuthorizationRequest;
+import com.authlete.common.dto.AuthorizationResponse;
+import com.authlete.common.dto.IntrospectionRequest;
+import com.authlete.common.dto.TokenRequest;
+import com.authlete.common.dto.TokenResponse;
+
+
+/**
+ * Load driver which runs a mixed workload against an {@link AuthleteApi}
+ * at a target rate and reports latency percentiles.
+ *
+ * <p>
+ * Each flow runs the authorization code flow (authorization, authorization
+ * issue and token) followed by a number of introspections of the issued
+ * access token. Flows are started at fixed intervals regardless of how
+ * long earlier flows take (open-loop), and latencies are measured from
+ * the scheduled start time, so queueing delays caused by a slow client
+ * are not hidden (no coordinated omission).
+ * </p>
+ *
+ * <p>
+ * {@link #main(String[])} runs the driver against {@link AuthleteStubServer}
+ * from the test classpath, e.g.
+ * </p>
+ *
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.authlete.common.api.LoadDriver \
+ *     -Dexec.args="V3 200 30 5"
+ * </pre>
+ */
+public class LoadDriver
+{
+    /**
+     * Statistics of an operation.
+     */
+    public static class Result
+    {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        final LongAdder errors = new LongAdder();
+
+
+        public long getCount()
+        {
+            return histogram.count();
+        }
+
+
+        public long getErrorCount()
+        {
+            return errors.sum();
+        }
+
+
+        /**
+         * Get the latency in milliseconds at the percentile (0-100).
+         */
+        public double getPercentile(double percentile)
+        {
+            return histogram.percentile(percentile) / 1000000.0;
+        }
+
+
+        @Override
+        public String toString()
+        {
+            return String.format("count=%d errors=%d p50=%.2fms p90=%.2fms p99=%.2fms max=%.2fms",
+                    getCount(), getErrorCount(), getPercentile(50), getPercentile(90),
+                    getPercentile(99), histogram.max() / 1000000.0);
+        }
+    }
+
+
+    private final AuthleteApi mApi;
+    private int mTargetRps = 100;
+    private long mDuration = 10000;
+    private int mIntrospectionsPerFlow = 5;
+    private int mThreads = 64;
+    private final Map<String, Result> mResults = new LinkedHashMap<>();
+
+
+    public LoadDriver(AuthleteApi api)
+    {
+        mApi = api;
+
+        for (String name : new String[] { "authorization", "authorization/issue", "token", "introspection", "flow" })
+        {
+            mResults.put(name, new Result());
+        }
+    }
+
+
+    /**
+     * Set the number of flows started per second.
+     */
+    public LoadDriver setTargetRps(int rps)
+    {
+        mTargetRps = rps;
+
+        return this;
+    }
+
+
+    /**
+     * Set the duration in milliseconds for which flows are started.
+     */
+    public LoadDriver setDuration(long duration)
+    {
+        mDuration = duration;
+
+        return this;
+    }
+
+
+    public LoadDriver setIntrospectionsPerFlow(int count)
+    {
+        mIntrospectionsPerFlow = count;
+
+        return this;
+    }
+
+
+    /**
+     * Set the maximum number of flows which run concurrently.
+     */
+    public LoadDriver setThreads(int threads)
+    {
+        mThreads = threads;
+
+        return this;
+    }
+
+
+    /**
+     * Run the workload and wait for all the flows to complete.
+     *
+     * @return
+     *         The results keyed by operation names. {@code "flow"} is the
+     *         whole flow measured from its scheduled start time.
+     */
+    public Map<String, Result> run() throws InterruptedException
+    {
+        AtomicInteger count = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(mThreads, runnable -> {
+            Thread thread = new Thread(runnable, "authlete-load-" + count.incrementAndGet());
+            thread.setDaemon(true);
+
+            return thread;
+        });
+
+        long interval = TimeUnit.SECONDS.toNanos(1) / mTargetRps;
+        long flows    = mDuration * mTargetRps / 1000;
+        long start    = System.nanoTime();
+
+        try
+        {
+            for (long i = 0; i < flows; i++)
+            {
+                long scheduledAt = start + i * interval;
+                long delay = scheduledAt - System.nanoTime();
+
+                if (delay > 0)
+                {
+                    TimeUnit.NANOSECONDS.sleep(delay);
+                }
+
+                executor.execute(() -> runFlow(scheduledAt));
+            }
+        }
+        finally
+        {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+
+        return mResults;
+    }
+
+
+    private void runFlow(long scheduledAt)
+    {
+        try
+        {
+            AuthorizationResponse authorization = measure("authorization", api -> api.authorization(
+                    new AuthorizationRequest().setParameters(
+                            "response_type=code&client_id=1&scope=openid&redirect_uri=https://client.example.com/cb")));
+
+            AuthorizationIssueResponse issue = measure("authorization/issue", api -> api.authorizationIssue(
+                    new AuthorizationIssueRequest().setTicket(authorization.getTicket()).setSubject("user")));
+
+            TokenResponse token = measure("token", api -> api.token(
+                    new TokenRequest().setParameters("grant_type=authorization_code&code="
+                            + issue.getAuthorizationCode() + "&redirect_uri=https://client.example.com/cb")));
+
+            for (int i = 0; i < mIntrospectionsPerFlow; i++)
+            {
+                measure("introspection", api -> api.introspection(
+                        new IntrospectionRequest().setToken(token.getAccessToken())));
+            }
+
+            mResults.get("flow").histogram.record(System.nanoTime() - scheduledAt);
+        }
+        catch (RuntimeException e)
+        {
+            mResults.get("flow").errors.increment();
+        }
+    }
+
+
+    private <T> T measure(String name, Function<AuthleteApi, T> operation)
+    {
+        Result result = mResults.get(name);
+        long start = System.nanoTime();
+
+        try
+        {
+            T response = operation.apply(mApi);
+            result.histogram.record(System.nanoTime() - start);
+
+            return response;
+        }
+        catch (RuntimeException e)
+        {
+            result.errors.increment();
+            throw e;
+        }
+    }
+
+
+    /**
+     * Run the driver against a local stub server.
+     *
+     * @param args
+     *         API version ({@code V2} or {@code V3}), target flows per
+     *         second, duration in seconds and stub latency in milliseconds.
+     */
+    public static void main(String[] args) throws Exception
+    {
+        String version = (args.length > 0) ? args[0] : "V3";
+        int rps        = (args.length > 1) ? Integer.parseInt(args[1]) : 100;
+        int seconds    = (args.length > 2) ? Integer.parseInt(args[2]) : 10;
+        int latency    = (args.length > 3) ? Integer.parseInt(args[3]) : 0;
+
+        try (AuthleteStubServer server = new AuthleteStubServer().start())
+        {
+            server.setLatency(latency, latency);
+
+            Map<String, Result> results = new LoadDriver(AuthleteStubServer.createApi(server.getBaseUrl(), version))
+                    .setTargetRps(rps).setDuration(seconds * 1000L).run();
+
+            for (Map.Entry<String, Result> entry : results.entrySet())
+            {
+                System.out.println(String.format("%-20s %s", entry.getKey(), entry.getValue()));
+            }
+        }
+    }
+}
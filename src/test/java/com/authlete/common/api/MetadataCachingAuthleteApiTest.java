@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import org.junit.Test;
+import com.authlete.common.api.HttpTransportTest.StubTransport;
+import com.authlete.common.dto.Client;
+import com.authlete.common.dto.Service;
+
+
+public class MetadataCachingAuthleteApiTest
+{
+    @Test
+    public void testClientIsCachedAndInvalidatedOnUpdate()
+    {
+        StubTransport transport = new StubTransport("{\"clientId\":1,\"clientName\":\"c\"}");
+        MetadataCachingAuthleteApi api = new MetadataCachingAuthleteApi(
+                HttpTransportTest.createApi(transport), 100, 60000);
+
+        Client first = api.getClient(1);
+        assertSame(first, api.getClient(1));
+        assertEquals(1, transport.requests.size());
+
+        // The alias is cached separately.
+        api.getClient("alias");
+        api.getClient("alias");
+        assertEquals(2, transport.requests.size());
+
+        api.updateClient(first);
+        assertEquals(3, transport.requests.size());
+
+        api.getClient(1);
+        api.getClient("alias");
+        assertEquals(5, transport.requests.size());
+    }
+
+
+    @Test
+    public void testServiceIsCachedAndInvalidatedManually()
+    {
+        StubTransport transport = new StubTransport("{\"apiKey\":1,\"serviceName\":\"s\"}");
+        MetadataCachingAuthleteApi api = new MetadataCachingAuthleteApi(
+                HttpTransportTest.createApi(transport), 100, 60000);
+
+        Service service = api.getService(1);
+        assertSame(service, api.getService(1));
+        assertEquals(1, transport.requests.size());
+
+        api.invalidateService(1);
+        api.getService(1);
+        assertEquals(2, transport.requests.size());
+
+        api.invalidateAll();
+        api.getService(1);
+        assertEquals(3, transport.requests.size());
+    }
+
+
+    @Test
+    public void testClientIsInvalidatedEvenIfUpdateFails()
+    {
+        StubTransport transport = new StubTransport("{\"clientId\":1}");
+        MetadataCachingAuthleteApi api = new MetadataCachingAuthleteApi(
+                HttpTransportTest.createApi(transport), 100, 60000);
+
+        api.getClient(1);
+
+        transport.statusCode = 500;
+
+        try
+        {
+            api.refreshClientSecret(1);
+        }
+        catch (AuthleteApiException e)
+        {
+            // The secret may or may not have been refreshed.
+        }
+
+        transport.statusCode = 200;
+        api.getClient(1);
+        assertEquals(3, transport.requests.size());
+    }
+}
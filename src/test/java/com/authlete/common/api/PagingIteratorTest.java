@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.Test;
+import com.authlete.common.api.HttpTransportTest.StubTransport;
+import com.authlete.common.api.PagingIterator.Page;
+import com.authlete.common.api.PagingIterator.PageFetcher;
+import com.authlete.common.dto.Service;
+
+
+public class PagingIteratorTest
+{
+    /**
+     * A fetcher over the integers from 0 to 9 which records requested
+     * start indexes.
+     */
+    private static class NumberFetcher implements PageFetcher<Integer>
+    {
+        final List<Integer> starts = new ArrayList<>();
+
+
+        @Override
+        public synchronized Page<Integer> fetch(int start, int end)
+        {
+            starts.add(start);
+
+            List<Integer> entries = new ArrayList<>();
+
+            for (int i = start; i < Math.min(end, 10); i++)
+            {
+                entries.add(i);
+            }
+
+            return new Page<>(entries.toArray(new Integer[0]), 10);
+        }
+    }
+
+
+    @Test
+    public void testAllEntriesAreReturnedInOrder()
+    {
+        NumberFetcher fetcher = new NumberFetcher();
+        PagingIterator<Integer> iterator = new PagingIterator<>(fetcher, 3, 2, null);
+
+        List<Integer> entries = iterator.stream().collect(Collectors.toList());
+
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), entries);
+        assertEquals(4, fetcher.starts.size());
+    }
+
+
+    @Test
+    public void testPrefetchIsBounded()
+    {
+        NumberFetcher fetcher = new NumberFetcher();
+
+        // Prefetches are executed manually in this test.
+        List<Runnable> tasks = new ArrayList<>();
+        PagingIterator<Integer> iterator = new PagingIterator<>(fetcher, 3, 2, tasks::add);
+
+        assertEquals(Integer.valueOf(0), iterator.next());
+        assertEquals(Arrays.asList(0), fetcher.starts);
+        assertEquals(2, tasks.size());
+
+        tasks.forEach(Runnable::run);
+        assertEquals(Arrays.asList(0, 3, 6), fetcher.starts);
+
+        iterator.next();
+        iterator.next();
+
+        // The second page is consumed and the fourth page is requested.
+        assertEquals(Integer.valueOf(3), iterator.next());
+        assertEquals(3, tasks.size());
+
+        iterator.close();
+        assertFalse(iterator.hasNext());
+    }
+
+
+    @Test
+    public void testWithoutPrefetch()
+    {
+        NumberFetcher fetcher = new NumberFetcher();
+        PagingIterator<Integer> iterator = new PagingIterator<>(fetcher, 4, 0, null);
+
+        assertEquals(10, iterator.stream().count());
+        assertEquals(Arrays.asList(0, 4, 8), fetcher.starts);
+    }
+
+
+    @Test(expected = AuthleteApiException.class)
+    public void testErrorIsPropagated()
+    {
+        PagingIterator<Integer> iterator = new PagingIterator<>((start, end) -> {
+            if (start > 0)
+            {
+                throw new AuthleteApiException("error");
+            }
+            return new Page<>(new Integer[] { 0 }, 10);
+        }, 1, 2, null);
+
+        assertTrue(iterator.hasNext());
+        iterator.next();
+        iterator.next();
+    }
+
+
+    @Test
+    public void testServices()
+    {
+        StubTransport transport = new StubTransport(
+                "{\"totalCount\":2,\"services\":[{\"apiKey\":1},{\"apiKey\":2}]}");
+        AuthleteApi api = HttpTransportTest.createApi(transport);
+
+        List<Service> services = PagingIterator.ofServices(api, 5, 2)
+                .stream().collect(Collectors.toList());
+
+        assertEquals(2, services.size());
+        assertEquals(2, services.get(1).getApiKey());
+        assertEquals(1, transport.requests.size());
+        assertTrue(transport.requests.get(0).getUrl().getQuery().contains("end=5"));
+    }
+}
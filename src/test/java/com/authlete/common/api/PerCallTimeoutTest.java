@@ -0,0 +1,193 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.net.URL;
+import org.junit.Test;
+import com.authlete.common.api.HttpTransportTest.StubTransport;
+import com.authlete.common.dto.IntrospectionRequest;
+import com.sun.net.httpserver.HttpServer;
+
+
+public class PerCallTimeoutTest
+{
+    private static void introspect(AuthleteApi api, long timeout)
+    {
+        api.introspection(new IntrospectionRequest().setToken("at"),
+                new Options().setTimeout(timeout));
+    }
+
+
+    @Test
+    public void testTimeoutCapsTransportTimeouts()
+    {
+        StubTransport transport = new StubTransport("{\"action\":\"OK\"}");
+        AuthleteApi api = HttpTransportTest.createApi(transport);
+        api.getSettings().setConnectionTimeout(5000).setReadTimeout(50);
+
+        introspect(api, 300);
+
+        HttpTransportRequest request = transport.requests.get(0);
+        assertTrue(0 < request.getConnectionTimeout() && request.getConnectionTimeout() <= 300);
+        assertTrue(0 < request.getTotalTimeout() && request.getTotalTimeout() <= 300);
+
+        // A shorter timeout of Settings is kept.
+        assertEquals(50, request.getReadTimeout());
+    }
+
+
+    @Test
+    public void testNoTimeout()
+    {
+        StubTransport transport = new StubTransport("{\"action\":\"OK\"}");
+        AuthleteApi api = HttpTransportTest.createApi(transport);
+        api.getSettings().setConnectionTimeout(5000);
+
+        introspect(api, 0);
+
+        assertEquals(5000, transport.requests.get(0).getConnectionTimeout());
+        assertEquals(0, transport.requests.get(0).getTotalTimeout());
+    }
+
+
+    @Test
+    public void testNoRetryBeyondTimeout()
+    {
+        StubTransport transport = new StubTransport("{}");
+        transport.statusCode = 503;
+        AuthleteApi api = HttpTransportTest.createApi(transport);
+        api.getSettings().setRetryPolicy(new RetryPolicy()
+                .setMaxAttempts(10).setInitialBackoff(200).setMaxBackoff(200).setJitter(0));
+
+        try
+        {
+            introspect(api, 300);
+            fail("AuthleteApiException should be thrown.");
+        }
+        catch (AuthleteApiException e)
+        {
+            assertEquals(503, e.getStatusCode());
+        }
+
+        // The second backoff would exceed the timeout.
+        assertEquals(2, transport.requests.size());
+    }
+
+
+    @Test
+    public void testTimeoutRunsOutBeforeRetry()
+    {
+        StubTransport transport = new StubTransport("{}")
+        {
+            @Override
+            public HttpTransportResponse execute(HttpTransportRequest request) throws IOException
+            {
+                super.execute(request);
+
+                try
+                {
+                    Thread.sleep(100);
+                }
+                catch (InterruptedException e)
+                {
+                    throw new IOException(e);
+                }
+
+                throw new ConnectException("Connection refused");
+            }
+        };
+
+        AuthleteApi api = HttpTransportTest.createApi(transport);
+        api.getSettings().setRetryPolicy(new RetryPolicy()
+                .setMaxAttempts(10).setInitialBackoff(0).setMaxBackoff(0));
+
+        try
+        {
+            introspect(api, 150);
+            fail("AuthleteApiException should be thrown.");
+        }
+        catch (AuthleteApiException e)
+        {
+            // The error of the last attempt.
+            assertTrue(e.getCause() instanceof ConnectException);
+        }
+
+        assertEquals(2, transport.requests.size());
+    }
+
+
+    @Test
+    public void testTotalTimeoutOfHttpUrlConnectionTransport() throws Exception
+    {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            try
+            {
+                Thread.sleep(3000);
+            }
+            catch (InterruptedException e)
+            {
+                // Ignored.
+            }
+
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.start();
+
+        try
+        {
+            HttpTransportRequest request = new HttpTransportRequest()
+                    .setMethod("GET")
+                    .setUrl(new URL("http://127.0.0.1:" + server.getAddress().getPort() + "/"))
+                    .setTotalTimeout(200);
+
+            long start = System.nanoTime();
+
+            try
+            {
+                new HttpUrlConnectionTransport().execute(request);
+                fail("SocketTimeoutException should be thrown.");
+            }
+            catch (SocketTimeoutException e)
+            {
+                // Expected.
+            }
+
+            long elapsed = (System.nanoTime() - start) / 1000000;
+            assertTrue("elapsed = " + elapsed, elapsed < 2000);
+        }
+        finally
+        {
+            server.stop(0);
+        }
+    }
+
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeTimeout()
+    {
+        new Options().setTimeout(-1);
+    }
+}
@@ -0,0 +1,341 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import com.authlete.common.api.HttpTransportTest.StubTransport;
+import com.authlete.common.dto.Service;
+
+
+public class RequestCoalescingTest
+{
+    /**
+     * A transport which blocks requests until it is released.
+     */
+    private static class BlockingTransport extends StubTransport
+    {
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch entered = new CountDownLatch(1);
+
+
+        BlockingTransport(String body)
+        {
+            super(body);
+        }
+
+
+        @Override
+        public HttpTransportResponse execute(HttpTransportRequest request) throws IOException
+        {
+            entered.countDown();
+
+            try
+            {
+                release.await();
+            }
+            catch (InterruptedException e)
+            {
+                throw new IOException(e);
+            }
+
+            return super.execute(request);
+        }
+    }
+
+
+    private static List<Object> callConcurrently(
+            BlockingTransport transport, List<Callable<Object>> calls) throws Exception
+    {
+        ExecutorService executor = Executors.newFixedThreadPool(calls.size());
+        List<Thread> threads = new ArrayList<>();
+
+        try
+        {
+            List<Future<Object>> futures = new ArrayList<>();
+
+            for (Callable<Object> call : calls)
+            {
+                futures.add(executor.submit(() -> {
+                    synchronized (threads)
+                    {
+                        threads.add(Thread.currentThread());
+                    }
+                    return call.call();
+                }));
+            }
+
+            // Wait until all the calls are blocked, either in the transport
+            // or waiting for an in-flight call.
+            while (!allWaiting(threads, calls.size()))
+            {
+                Thread.sleep(10);
+            }
+
+            transport.release.countDown();
+
+            List<Object> results = new ArrayList<>();
+
+            for (Future<Object> future : futures)
+            {
+                results.add(future.get());
+            }
+
+            return results;
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+
+    private static boolean allWaiting(List<Thread> threads, int count)
+    {
+        synchronized (threads)
+        {
+            if (threads.size() < count)
+            {
+                return false;
+            }
+
+            for (Thread thread : threads)
+            {
+                if (thread.getState() != Thread.State.WAITING)
+                {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+    }
+
+
+    private static AuthleteApi createApi(StubTransport transport)
+    {
+        AuthleteApi api = HttpTransportTest.createApi(transport);
+        api.getSettings().setRequestCoalescingEnabled(true);
+
+        return api;
+    }
+
+
+    @Test
+    public void testIdenticalCallsAreCoalesced() throws Exception
+    {
+        BlockingTransport transport = new BlockingTransport("{\"apiKey\":1}");
+        AuthleteApi api = createApi(transport);
+
+        List<Callable<Object>> calls = new ArrayList<>();
+
+        for (int i = 0; i < 5; i++)
+        {
+            calls.add(() -> api.getService(1));
+        }
+
+        List<Object> results = callConcurrently(transport, calls);
+
+        assertEquals(1, transport.requests.size());
+
+        for (Object result : results)
+        {
+            assertSame(results.get(0), result);
+        }
+
+        // Calls made after the in-flight call has finished are sent.
+        Service service = api.getService(1);
+        assertEquals(2, transport.requests.size());
+        assertEquals(1, service.getApiKey());
+    }
+
+
+    @Test
+    public void testDifferentCallsAreNotCoalesced() throws Exception
+    {
+        BlockingTransport transport = new BlockingTransport("{\"apiKey\":1}");
+        AuthleteApi api = createApi(transport);
+
+        List<Callable<Object>> calls = new ArrayList<>();
+        calls.add(() -> api.getService(1));
+        calls.add(() -> api.getService(2));
+        calls.add(() -> api.getService(1, new Options().setHeaders(
+                Collections.singletonMap("X-Test", "1"))));
+
+        callConcurrently(transport, calls);
+
+        assertEquals(3, transport.requests.size());
+    }
+
+
+    @Test
+    public void testInterceptorsRunBeforeCoalescing() throws Exception
+    {
+        BlockingTransport transport = new BlockingTransport("{\"apiKey\":1}");
+        AuthleteApi api = createApi(transport);
+        List<Integer> statusCodes = Collections.synchronizedList(new ArrayList<>());
+
+        api.getSettings().addApiInterceptor(invocation -> {
+            invocation.getHeaders().put("X-Tenant", "acme");
+            Object response = invocation.proceed();
+            statusCodes.add(invocation.getStatusCode());
+            return response;
+        });
+
+        List<Callable<Object>> calls = new ArrayList<>();
+
+        for (int i = 0; i < 3; i++)
+        {
+            calls.add(() -> api.getService(1));
+        }
+
+        callConcurrently(transport, calls);
+
+        // The interceptors of every call ran, and the calls are coalesced
+        // by the request the interceptors have built.
+        assertEquals(1, transport.requests.size());
+        assertEquals("acme", transport.requests.get(0).getHeaders().get("X-Tenant"));
+        assertEquals(Arrays.asList(200, 200, 200), statusCodes);
+    }
+
+
+    @Test
+    public void testHeadersAddedByInterceptorsAreInKey() throws Exception
+    {
+        BlockingTransport transport = new BlockingTransport("{\"apiKey\":1}");
+        AuthleteApi api = createApi(transport);
+        AtomicInteger sequence = new AtomicInteger();
+
+        // Each call gets its own trace.
+        api.getSettings().addApiInterceptor(invocation -> {
+            invocation.getHeaders().put("traceparent", String.valueOf(sequence.incrementAndGet()));
+            return invocation.proceed();
+        });
+
+        List<Callable<Object>> calls = new ArrayList<>();
+
+        for (int i = 0; i < 3; i++)
+        {
+            calls.add(() -> api.getService(1));
+        }
+
+        callConcurrently(transport, calls);
+
+        assertEquals(3, transport.requests.size());
+    }
+
+
+    @Test
+    public void testFailureIsShared() throws Exception
+    {
+        BlockingTransport transport = new BlockingTransport("{}");
+        transport.statusCode = 500;
+        AuthleteApi api = createApi(transport);
+
+        List<Callable<Object>> calls = new ArrayList<>();
+
+        for (int i = 0; i < 3; i++)
+        {
+            calls.add(() -> {
+                try
+                {
+                    return api.getService(1);
+                }
+                catch (AuthleteApiException e)
+                {
+                    return e;
+                }
+            });
+        }
+
+        List<Object> results = callConcurrently(transport, calls);
+
+        assertEquals(1, transport.requests.size());
+        assertEquals(500, ((AuthleteApiException)results.get(0)).getStatusCode());
+        assertSame(results.get(0), results.get(1));
+        assertSame(results.get(0), results.get(2));
+    }
+
+
+    @Test
+    public void testFollowerWaitsUntilItsOwnTimeout() throws Exception
+    {
+        BlockingTransport transport = new BlockingTransport("{\"apiKey\":1}");
+        AuthleteApi api = createApi(transport);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try
+        {
+            // The leader has no timeout and is blocked in the transport.
+            Future<Service> leader = executor.submit(() -> api.getService(1));
+
+            assertTrue(transport.entered.await(1, TimeUnit.SECONDS));
+
+            long startedAt = System.currentTimeMillis();
+
+            try
+            {
+                api.getService(1, new Options().setTimeout(100));
+                fail("The follower should time out.");
+            }
+            catch (AuthleteApiException e)
+            {
+                assertTrue(e.getCause() instanceof SocketTimeoutException);
+                assertTrue(System.currentTimeMillis() - startedAt < 1000);
+            }
+
+            // The asynchronous follower times out in the same way.
+            AuthleteAsyncApi async = AuthleteApiFactory.createAsync(api, null);
+
+            try
+            {
+                async.getService(1, new Options().setTimeout(100)).get(1, TimeUnit.SECONDS);
+                fail("The follower should time out.");
+            }
+            catch (ExecutionException e)
+            {
+                assertTrue(e.getCause().getCause() instanceof SocketTimeoutException);
+            }
+
+            // The call in flight continues.
+            transport.release.countDown();
+            assertEquals(1, leader.get().getApiKey());
+            assertEquals(1, transport.requests.size());
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+}
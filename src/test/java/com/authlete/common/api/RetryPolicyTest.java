@@ -0,0 +1,246 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import com.authlete.common.dto.IntrospectionRequest;
+import com.authlete.common.dto.IntrospectionResponse;
+import com.authlete.common.dto.TokenCreateRequest;
+
+
+public class RetryPolicyTest
+{
+    /**
+     * A transport which plays back a sequence of outcomes. An outcome is
+     * either a status code (Integer) or an exception to throw.
+     */
+    private static class ScriptedTransport implements HttpTransport
+    {
+        final Deque<Object> outcomes = new ArrayDeque<>();
+        final Map<String, List<String>> headers = new HashMap<>();
+        int count;
+
+
+        ScriptedTransport(Object... outcomes)
+        {
+            this.outcomes.addAll(Arrays.asList(outcomes));
+        }
+
+
+        @Override
+        public HttpTransportResponse execute(HttpTransportRequest request) throws IOException
+        {
+            count++;
+
+            Object outcome = outcomes.isEmpty() ? 200 : outcomes.poll();
+
+            if (outcome instanceof IOException)
+            {
+                throw (IOException)outcome;
+            }
+
+            return new HttpTransportTest.StubResponse((Integer)outcome, headers,
+                    "{\"action\":\"OK\"}".getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+
+    private static AuthleteApi createApi(HttpTransport transport, RetryPolicy policy)
+    {
+        AuthleteApi api = HttpTransportTest.createApi(transport);
+        api.getSettings().setRetryPolicy(policy);
+
+        return api;
+    }
+
+
+    private static RetryPolicy noDelay()
+    {
+        return new RetryPolicy().setInitialBackoff(0).setMaxBackoff(0);
+    }
+
+
+    @Test
+    public void testPathTemplate()
+    {
+        assertEquals("/api/{}/auth/introspection",
+                PathTemplates.of("/api/1234/auth/introspection"));
+        assertEquals("/api/{}/client/get/{}",
+                PathTemplates.of("/api/1234/client/get/my-alias"));
+        assertEquals("/api/{}/client/get/list",
+                PathTemplates.of("/api/1234/client/get/list"));
+        assertEquals("/api/{}/auth/token/delete/{}",
+                PathTemplates.of("/api/1234/auth/token/delete/abc"));
+    }
+
+
+    @Test
+    public void testDefaultClassification()
+    {
+        assertTrue(RetryPolicy.isIdempotentByDefault("GET", "/api/{}/service/get"));
+        assertTrue(RetryPolicy.isIdempotentByDefault("DELETE", "/api/{}/client/delete/{}"));
+        assertTrue(RetryPolicy.isIdempotentByDefault("POST", "/api/{}/auth/introspection"));
+        assertTrue(RetryPolicy.isIdempotentByDefault("POST", "/api/auth/introspection/standard"));
+        assertFalse(RetryPolicy.isIdempotentByDefault("POST", "/api/{}/auth/token/create"));
+        assertFalse(RetryPolicy.isIdempotentByDefault("POST", "/api/{}/auth/token"));
+    }
+
+
+    @Test
+    public void testBackoff()
+    {
+        RetryPolicy policy = new RetryPolicy()
+                .setInitialBackoff(100).setMaxBackoff(300).setJitter(0);
+
+        assertEquals(100, policy.computeBackoff(1));
+        assertEquals(200, policy.computeBackoff(2));
+        assertEquals(300, policy.computeBackoff(3));
+
+        policy.setJitter(1.0);
+
+        for (int i = 0; i < 100; i++)
+        {
+            long backoff = policy.computeBackoff(2);
+            assertTrue(0 <= backoff && backoff <= 200);
+        }
+    }
+
+
+    @Test
+    public void testIdempotentCallIsRetried()
+    {
+        ScriptedTransport transport = new ScriptedTransport(
+                503, new SocketTimeoutException("Read timed out"), 200);
+        AuthleteApi api = createApi(transport, noDelay());
+
+        IntrospectionResponse response =
+                api.introspection(new IntrospectionRequest().setToken("at"));
+
+        assertEquals(IntrospectionResponse.Action.OK, response.getAction());
+        assertEquals(3, transport.count);
+    }
+
+
+    @Test
+    public void testNonIdempotentCallIsNotRetried()
+    {
+        ScriptedTransport transport = new ScriptedTransport(503, 200);
+        AuthleteApi api = createApi(transport, noDelay());
+
+        try
+        {
+            api.tokenCreate(new TokenCreateRequest());
+            fail("AuthleteApiException should be thrown.");
+        }
+        catch (AuthleteApiException e)
+        {
+            assertEquals(503, e.getStatusCode());
+        }
+
+        assertEquals(1, transport.count);
+    }
+
+
+    @Test
+    public void testConnectFailureIsAlwaysRetried()
+    {
+        ScriptedTransport transport = new ScriptedTransport(
+                new ConnectException("Connection refused"), 200);
+        AuthleteApi api = createApi(transport, noDelay());
+
+        api.tokenCreate(new TokenCreateRequest());
+
+        assertEquals(2, transport.count);
+    }
+
+
+    @Test
+    public void testMaxAttempts()
+    {
+        ScriptedTransport transport = new ScriptedTransport(503, 503, 503, 200);
+        AuthleteApi api = createApi(transport, noDelay().setMaxAttempts(3));
+
+        try
+        {
+            api.introspection(new IntrospectionRequest().setToken("at"));
+            fail("AuthleteApiException should be thrown.");
+        }
+        catch (AuthleteApiException e)
+        {
+            assertEquals(503, e.getStatusCode());
+        }
+
+        assertEquals(3, transport.count);
+    }
+
+
+    @Test
+    public void testRetryBudget()
+    {
+        ScriptedTransport transport = new ScriptedTransport(503, 503, 503, 503, 200);
+        AuthleteApi api = createApi(transport,
+                noDelay().setRetryBudgetCapacity(1).setRetryBudgetRatio(0));
+
+        try
+        {
+            api.introspection(new IntrospectionRequest().setToken("at"));
+            fail("AuthleteApiException should be thrown.");
+        }
+        catch (AuthleteApiException e)
+        {
+            assertEquals(503, e.getStatusCode());
+        }
+
+        // Only one retry was allowed by the budget.
+        assertEquals(2, transport.count);
+    }
+
+
+    @Test
+    public void testRetryAfterLongerThanMaxBackoff()
+    {
+        ScriptedTransport transport = new ScriptedTransport(429, 200);
+        transport.headers.put("Retry-After", Arrays.asList("120"));
+        AuthleteApi api = createApi(transport, noDelay());
+
+        try
+        {
+            api.introspection(new IntrospectionRequest().setToken("at"));
+            fail("AuthleteApiException should be thrown.");
+        }
+        catch (AuthleteApiException e)
+        {
+            assertEquals(429, e.getStatusCode());
+        }
+
+        assertEquals(1, transport.count);
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.After;
+import org.junit.Test;
+import com.authlete.common.api.HttpTransportTest.StubTransport;
+import com.authlete.common.dto.TokenBatchStatus;
+import com.authlete.common.dto.TokenCreateRequest;
+
+
+public class TokenCreateBatcherTest
+{
+    private static final String SUCCEEDED = "{\"status\":{\"requestId\":\"r1\",\"result\":\"SUCCEEDED\",\"tokenCount\":3}}";
+    private static final String RUNNING   = "{\"status\":{\"requestId\":\"r1\"}}";
+
+
+    /**
+     * A transport which accepts batches and answers queued statuses.
+     */
+    private static class BatchTransport extends StubTransport
+    {
+        final Queue<String> statuses = new LinkedList<>();
+        final List<Thread> threads = new ArrayList<>();
+        int batches;
+
+
+        BatchTransport(String... statuses)
+        {
+            super(null);
+
+            for (String status : statuses)
+            {
+                this.statuses.add(status);
+            }
+        }
+
+
+        @Override
+        public synchronized HttpTransportResponse execute(HttpTransportRequest request) throws IOException
+        {
+            String path = request.getUrl().getPath();
+            threads.add(Thread.currentThread());
+
+            if (path.contains("/status/"))
+            {
+                body = statuses.poll().getBytes(StandardCharsets.UTF_8);
+            }
+            else
+            {
+                batches++;
+                body = "{\"requestId\":\"r1\"}".getBytes(StandardCharsets.UTF_8);
+            }
+
+            return super.execute(request);
+        }
+    }
+
+
+    private final ScheduledExecutorService mScheduler = Executors.newSingleThreadScheduledExecutor(
+            runnable -> new Thread(runnable, "test-scheduler"));
+
+
+    @After
+    public void shutdown()
+    {
+        mScheduler.shutdownNow();
+    }
+
+
+    private static List<CompletableFuture<TokenBatchStatus>> submit(TokenCreateBatcher batcher, int count)
+    {
+        List<CompletableFuture<TokenBatchStatus>> futures = new ArrayList<>();
+
+        for (int i = 0; i < count; i++)
+        {
+            futures.add(batcher.submit(new TokenCreateRequest().setSubject("user" + i)));
+        }
+
+        return futures;
+    }
+
+
+    private static TokenBatchStatus get(CompletableFuture<TokenBatchStatus> future) throws Exception
+    {
+        return future.get(5, TimeUnit.SECONDS);
+    }
+
+
+    @Test
+    public void testBatchIsSentWhenFull() throws Exception
+    {
+        BatchTransport transport = new BatchTransport(SUCCEEDED);
+        TokenCreateBatcher batcher = new TokenCreateBatcher(
+                HttpTransportTest.createApi(transport), 3, 60000, 0, mScheduler);
+
+        List<CompletableFuture<TokenBatchStatus>> futures = submit(batcher, 3);
+
+        for (CompletableFuture<TokenBatchStatus> future : futures)
+        {
+            assertEquals(TokenBatchStatus.Result.SUCCEEDED, get(future).getResult());
+        }
+
+        assertEquals(1, transport.batches);
+        assertTrue(transport.bodies.get(0).startsWith("[{"));
+        assertTrue(transport.bodies.get(0).contains("user2"));
+    }
+
+
+    @Test
+    public void testBatchIsSentAfterLingerTime() throws Exception
+    {
+        BatchTransport transport = new BatchTransport(RUNNING, RUNNING, SUCCEEDED);
+        TokenCreateBatcher batcher = new TokenCreateBatcher(
+                HttpTransportTest.createApi(transport), 100, 10, 0, mScheduler);
+
+        List<CompletableFuture<TokenBatchStatus>> futures = submit(batcher, 2);
+
+        // The status is polled until the batch finishes.
+        assertEquals(TokenBatchStatus.Result.SUCCEEDED, get(futures.get(0)).getResult());
+        assertEquals(TokenBatchStatus.Result.SUCCEEDED, get(futures.get(1)).getResult());
+        assertEquals(1, transport.batches);
+        assertEquals(4, transport.requests.size());
+    }
+
+
+    @Test
+    public void testFailureOfBatch() throws Exception
+    {
+        BatchTransport transport = new BatchTransport();
+        transport.statusCode = 400;
+        TokenCreateBatcher batcher = new TokenCreateBatcher(
+                HttpTransportTest.createApi(transport), 100, 60000, 0, mScheduler);
+
+        List<CompletableFuture<TokenBatchStatus>> futures = submit(batcher, 2);
+        batcher.close();
+
+        try
+        {
+            get(futures.get(1));
+            fail();
+        }
+        catch (ExecutionException e)
+        {
+            assertTrue(e.getCause() instanceof AuthleteApiException);
+        }
+
+        try
+        {
+            batcher.submit(new TokenCreateRequest());
+            fail();
+        }
+        catch (IllegalStateException e)
+        {
+            // Expected.
+        }
+    }
+
+
+    @Test
+    public void testCloseWaitsForBatches() throws Exception
+    {
+        BatchTransport transport = new BatchTransport(RUNNING, RUNNING, SUCCEEDED);
+        TokenCreateBatcher batcher = new TokenCreateBatcher(
+                HttpTransportTest.createApi(transport), 100, 60000, 10, mScheduler);
+
+        List<CompletableFuture<TokenBatchStatus>> futures = submit(batcher, 2);
+        batcher.close();
+
+        for (CompletableFuture<TokenBatchStatus> future : futures)
+        {
+            assertTrue(future.isDone());
+            assertEquals(TokenBatchStatus.Result.SUCCEEDED, future.get().getResult());
+        }
+
+        // The API calls are not made on the scheduler.
+        for (Thread thread : transport.threads)
+        {
+            assertNotEquals("test-scheduler", thread.getName());
+        }
+    }
+
+
+    @Test
+    public void testMaxPollDuration() throws Exception
+    {
+        BatchTransport transport = new BatchTransport();
+
+        for (int i = 0; i < 1000; i++)
+        {
+            transport.statuses.add(RUNNING);
+        }
+
+        TokenCreateBatcher batcher = new TokenCreateBatcher(
+                HttpTransportTest.createApi(transport), 100, 60000, 5, mScheduler)
+                .setMaxPollDuration(50);
+
+        List<CompletableFuture<TokenBatchStatus>> futures = submit(batcher, 2);
+        batcher.close();
+
+        try
+        {
+            get(futures.get(0));
+            fail();
+        }
+        catch (ExecutionException e)
+        {
+            assertTrue(e.getCause() instanceof TimeoutException);
+        }
+    }
+}
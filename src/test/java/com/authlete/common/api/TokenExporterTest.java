@@ -0,0 +1,229 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.api;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import com.authlete.common.api.HttpTransportTest.StubTransport;
+import com.authlete.common.dto.AccessToken;
+import com.authlete.common.util.Utils;
+
+
+public class TokenExporterTest
+{
+    private static final Pattern RANGE = Pattern.compile("start=(\\d+)&end=(\\d+)");
+
+
+    /**
+     * A transport which serves 7 tokens by range. A page can be made to
+     * fail once.
+     */
+    private static class TokenTransport extends StubTransport
+    {
+        int failingStart = -1;
+
+
+        TokenTransport()
+        {
+            super(null);
+        }
+
+
+        @Override
+        public synchronized HttpTransportResponse execute(HttpTransportRequest request) throws IOException
+        {
+            Matcher matcher = RANGE.matcher(request.getUrl().getQuery());
+            matcher.find();
+            int start = Integer.parseInt(matcher.group(1));
+            int end   = Math.min(Integer.parseInt(matcher.group(2)), 7);
+
+            StringBuilder tokens = new StringBuilder();
+
+            for (int i = start; i < end; i++)
+            {
+                tokens.append(i == start ? "" : ",").append("{\"subject\":\"t").append(i).append("\"}");
+            }
+
+            statusCode = (start == failingStart) ? 500 : 200;
+            body = ("{\"totalCount\":7,\"accessTokens\":[" + tokens + "]}").getBytes(StandardCharsets.UTF_8);
+
+            if (start == failingStart)
+            {
+                failingStart = -1;
+            }
+
+            return super.execute(request);
+        }
+    }
+
+
+    private static final List<String> ALL_SUBJECTS = Arrays.asList("t0", "t1", "t2", "t3", "t4", "t5", "t6");
+
+
+    private static List<String> subjects(List<String> lines)
+    {
+        List<String> subjects = new ArrayList<>();
+
+        for (String line : lines)
+        {
+            subjects.add(Utils.fromJson(line, AccessToken.class).getSubject());
+        }
+
+        return subjects;
+    }
+
+
+    @Rule
+    public TemporaryFolder mFolder = new TemporaryFolder();
+
+
+    @Test
+    public void testExportToStream() throws IOException
+    {
+        TokenTransport transport = new TokenTransport();
+        TokenExporter exporter = new TokenExporter(HttpTransportTest.createApi(transport), 2, 3);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        List<Integer> checkpoints = new ArrayList<>();
+
+        int count = exporter.export(out, 0, checkpoints::add);
+
+        assertEquals(7, count);
+        assertEquals(ALL_SUBJECTS, subjects(Arrays.asList(new String(out.toByteArray(), StandardCharsets.UTF_8).split("\n"))));
+        assertEquals(Arrays.asList(2, 4, 6, 8), checkpoints);
+        assertEquals(4, transport.requests.size());
+    }
+
+
+    @Test
+    public void testExportRange() throws IOException
+    {
+        TokenTransport transport = new TokenTransport();
+        TokenExporter exporter = new TokenExporter(HttpTransportTest.createApi(transport), 2, 3);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        List<Integer> checkpoints = new ArrayList<>();
+
+        int count = exporter.export(out, 1, 4, checkpoints::add);
+
+        // Paging stops at the end of the range.
+        assertEquals(3, count);
+        assertEquals(Arrays.asList("t1", "t2", "t3"),
+                subjects(Arrays.asList(new String(out.toByteArray(), StandardCharsets.UTF_8).split("\n"))));
+        assertEquals(Arrays.asList(3, 4), checkpoints);
+        assertEquals(2, transport.requests.size());
+        assertTrue(transport.requests.get(1).getUrl().getQuery().contains("start=3&end=4"));
+    }
+
+
+    @Test
+    public void testExportToFileIsResumed() throws IOException
+    {
+        TokenTransport transport = new TokenTransport();
+        transport.failingStart = 4;
+        TokenExporter exporter = new TokenExporter(HttpTransportTest.createApi(transport), 2, 1);
+
+        Path file = mFolder.getRoot().toPath().resolve("tokens.ndjson");
+        Path checkpoint = mFolder.getRoot().toPath().resolve("tokens.ndjson.checkpoint");
+
+        try
+        {
+            exporter.export(file);
+            fail();
+        }
+        catch (AuthleteApiException e)
+        {
+            assertEquals(500, e.getStatusCode());
+        }
+
+        assertEquals(ALL_SUBJECTS.subList(0, 4), subjects(Files.readAllLines(file)));
+        assertTrue(Files.exists(checkpoint));
+
+        // Output after the last checkpoint is discarded.
+        Files.write(file, "{\"partial".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        assertEquals(3, exporter.export(file));
+        assertEquals(ALL_SUBJECTS, subjects(Files.readAllLines(file)));
+        assertFalse(Files.exists(checkpoint));
+    }
+
+
+    @Test
+    public void testResumeFailsForTruncatedFile() throws IOException
+    {
+        TokenTransport transport = new TokenTransport();
+        transport.failingStart = 4;
+        TokenExporter exporter = new TokenExporter(HttpTransportTest.createApi(transport), 2, 1);
+
+        Path file = mFolder.getRoot().toPath().resolve("tokens.ndjson");
+        Path checkpoint = mFolder.getRoot().toPath().resolve("tokens.ndjson.checkpoint");
+
+        try
+        {
+            exporter.export(file);
+            fail();
+        }
+        catch (AuthleteApiException e)
+        {
+            assertEquals(500, e.getStatusCode());
+        }
+
+        // The tokens before the checkpoint have been lost.
+        Files.write(file, new byte[0]);
+
+        try
+        {
+            exporter.export(file);
+            fail();
+        }
+        catch (IOException e)
+        {
+            assertTrue(e.getMessage().contains("shorter"));
+        }
+
+        Files.delete(file);
+
+        try
+        {
+            exporter.export(file);
+            fail();
+        }
+        catch (IOException e)
+        {
+            assertFalse(Files.exists(file));
+        }
+
+        // The checkpoint is kept so that nothing is overwritten.
+        assertTrue(Files.exists(checkpoint));
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright (C) 2026 Authlete, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.authlete.common.util;
+
+
+import static org.junit.Assert.*;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Map;
+import org.junit.Test;
+import com.authlete.common.dto.Client;
+import com.authlete.common.dto.Pair;
+import com.authlete.common.dto.RevocationResponse;
+import com.authlete.common.dto.Service;
+import com.authlete.common.types.ClientAuthMethod;
+import com.authlete.common.types.GrantType;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonSyntaxException;
+
+
+public class JsonCodecTest
+{
+    private static final String SERVICE_JSON =
+            "{\"serviceName\":\"My Service\",\"issuer\":\"https://as.example.com\"," +
+            "\"supportedScopes\":[{\"name\":\"openid\",\"defaultEntry\":true}]," +
+            "\"supportedGrantTypes\":[\"AUTHORIZATION_CODE\",\"REFRESH_TOKEN\"]," +
+            "\"accessTokenDuration\":3600," +
+            "\"attributes\":[{\"key\":\"tenant\",\"value\":\"a\"}]}";
+
+    private static final String CLIENT_JSON =
+            "{\"clientId\":1234567890,\"clientName\":\"My Client\"," +
+            "\"redirectUris\":[\"https://client.example.com/cb\"]," +
+            "\"tokenAuthMethod\":\"PRIVATE_KEY_JWT\",\"unknownProperty\":[1,2,3]}";
+
+
+    private static final JsonCodec GSON    = new GsonJsonCodec();
+    private static final JsonCodec JACKSON = new JacksonJsonCodec();
+
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> toMap(String json)
+    {
+        return GSON.fromJson(json, Map.class);
+    }
+
+
+    private static void assertSameJson(Object object)
+    {
+        assertEquals(toMap(GSON.toJson(object, false)), toMap(JACKSON.toJson(object, false)));
+    }
+
+
+    @Test
+    public void test_service()
+    {
+        Service service = JACKSON.fromJson(SERVICE_JSON, Service.class);
+
+        assertEquals("My Service", service.getServiceName());
+        assertEquals(3600, service.getAccessTokenDuration());
+        assertEquals("openid", service.getSupportedScopes()[0].getName());
+        assertTrue(service.getSupportedScopes()[0].isDefaultEntry());
+        assertArrayEquals(new GrantType[] { GrantType.AUTHORIZATION_CODE, GrantType.REFRESH_TOKEN },
+                service.getSupportedGrantTypes());
+
+        assertSameJson(service);
+        assertSameJson(GSON.fromJson(SERVICE_JSON, Service.class));
+    }
+
+
+    @Test
+    public void test_client()
+    {
+        // Unknown properties are ignored.
+        Client client = JACKSON.fromJson(CLIENT_JSON, Client.class);
+
+        assertEquals(1234567890L, client.getClientId());
+        assertEquals(ClientAuthMethod.PRIVATE_KEY_JWT, client.getTokenAuthMethod());
+
+        assertSameJson(client);
+    }
+
+
+    @Test
+    public void test_field_order()
+    {
+        // Gson writes the fields of a subclass before the inherited ones.
+        RevocationResponse response = new RevocationResponse();
+        response.setResultCode("A004001");
+        response.setResultMessage("Revoked");
+        response.setAction(RevocationResponse.Action.OK);
+
+        assertEquals(GSON.toJson(response, false), JACKSON.toJson(response, false));
+
+        Service service = GSON.fromJson(SERVICE_JSON, Service.class);
+
+        assertEquals(GSON.toJson(service, false), JACKSON.toJson(service, false));
+    }
+
+
+    @Test
+    public void test_nulls()
+    {
+        String json = JACKSON.toJson(new Pair(), false);
+
+        assertEquals("{\"key\":null,\"value\":null}", json);
+    }
+
+
+    @Test
+    public void test_unknown_enum()
+    {
+        Client client = JACKSON.fromJson("{\"tokenAuthMethod\":\"UNKNOWN\"}", Client.class);
+
+        assertNull(client.getTokenAuthMethod());
+    }
+
+
+    @Test
+    public void test_numbers()
+    {
+        @SuppressWarnings("unchecked")
+        Map<String, Object> map = JACKSON.fromJson("{\"a\":1,\"b\":1.5}", Map.class);
+
+        assertEquals(Long.valueOf(1), map.get("a"));
+        assertEquals(Double.valueOf(1.5), map.get("b"));
+    }
+
+
+    @Test
+    public void test_empty()
+    {
+        assertNull(JACKSON.fromJson((String)null, Service.class));
+        assertNull(JACKSON.fromJson("", Service.class));
+        assertNull(JACKSON.fromJson(new StringReader(""), Service.class));
+    }
+
+
+    @Test
+    public void test_writer() throws Exception
+    {
+        Service service = GSON.fromJson(SERVICE_JSON, Service.class);
+
+        StringWriter writer = new StringWriter();
+        JACKSON.toJson(service, writer);
+
+        assertEquals(JACKSON.toJson(service, false), writer.toString());
+    }
+
+
+    @Test
+    public void test_utils()
+    {
+        try
+        {
+            Utils.setJsonCodec(JACKSON);
+            assertSame(JACKSON, Utils.getJsonCodec());
+            assertEquals("My Service", Utils.fromJson(SERVICE_JSON, Service.class).getServiceName());
+        }
+        finally
+        {
+            Utils.setJsonCodec(null);
+        }
+
+        assertTrue(Utils.getJsonCodec() instanceof GsonJsonCodec);
+    }
+
+
+    @Test
+    public void test_utils_writer_error()
+    {
+        IOException failure = new IOException("Broken pipe");
+
+        Appendable writer = new Appendable() {
+            @Override
+            public Appendable append(CharSequence csq) throws IOException { throw failure; }
+            @Override
+            public Appendable append(CharSequence csq, int start, int end) throws IOException { throw failure; }
+            @Override
+            public Appendable append(char c) throws IOException { throw failure; }
+        };
+
+        try
+        {
+            Utils.toJson(new Pair("a", "b"), writer);
+            fail("An IOException should be thrown.");
+        }
+        catch (IOException e)
+        {
+            // The error of the writer is reported as is.
+            assertSame(failure, e);
+        }
+    }
+
+
+    @Test
+    public void test_errors()
+    {
+        // Every codec reports errors by the same exceptions as Gson.
+        for (JsonCodec codec : new JsonCodec[] { GSON, JACKSON })
+        {
+            assertFromJsonFails(codec, "{", JsonSyntaxException.class);
+            assertFromJsonFails(codec, "{\"accessTokenDuration\":\"abc\"}", JsonSyntaxException.class);
+            assertFromJsonFails(codec, new Reader() {
+                @Override
+                public int read(char[] buffer, int offset, int length) throws IOException { throw new IOException(); }
+                @Override
+                public void close() {}
+            }, JsonSyntaxException.class);
+        }
+    }
+
+
+    private static void assertFromJsonFails(JsonCodec codec, Object input, Class<? extends Exception> expected)
+    {
+        try
+        {
+            if (input instanceof String)
+            {
+                codec.fromJson((String)input, Service.class);
+            }
+            else
+            {
+                codec.fromJson((Reader)input, Service.class);
+            }
+
+            fail("An exception should be thrown.");
+        }
+        catch (JsonParseException e)
+        {
+            assertEquals(codec.getClass().getSimpleName(), expected, e.getClass());
+        }
+    }
+}